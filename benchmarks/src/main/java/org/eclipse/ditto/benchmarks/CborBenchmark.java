@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of decoding CBOR via {@link JacksonCborFactory#readFrom(byte[])} and of encoding JSON values via
+ * {@link JacksonCborFactory#toByteArray(JsonValue)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CborBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"SMALL", "MEDIUM", "LARGE", "VERY_LARGE"})
+    public ThingSize thingSize;
+
+    private JacksonCborFactory cborFactory;
+    private Thing thing;
+    private JsonObject thingJson;
+    private byte[] thingCborBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        cborFactory = new JacksonCborFactory();
+        thing = thingSize.createThing();
+        thingJson = thing.toJson();
+        thingCborBytes = cborFactory.toByteArray(thingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFrom() {
+        return cborFactory.readFrom(thingCborBytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readLazilyFrom() {
+        return cborFactory.readLazilyFrom(thingCborBytes);
+    }
+
+    /**
+     * JSON objects which are created from fields encode their CBOR representation on creation, thus every invocation
+     * encodes a freshly created JSON object of the thing like the services do when they send a thing.
+     * {@link JsonBenchmark#thingToJson()} is the baseline for this benchmark.
+     *
+     * @return the CBOR representation.
+     * @throws IOException if encoding failed.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] thingToByteArray() throws IOException {
+        return cborFactory.toByteArray(thing.toJson());
+    }
+
+    /**
+     * Encodes a JSON object which already knows its CBOR representation.
+     *
+     * @return the CBOR representation.
+     * @throws IOException if encoding failed.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] cachedRepresentationToByteArray() throws IOException {
+        return cborFactory.toByteArray(thingJson);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * JMH Benchmark of serializing thing events for sending them between cluster nodes via
+ * {@link CborJsonifiableSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CborJsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"THING_MODIFIED", "FEATURE_PROPERTY_MODIFIED"})
+    public ThingEventType eventType;
+
+    @Param({"SMALL", "MEDIUM", "LARGE", "VERY_LARGE"})
+    public ThingSize thingSize;
+
+    /**
+     * Whether deserialized JSON objects are decoded lazily; if so, the payloads of deserialized messages are passed
+     * through when they are serialized again, just like in the configuration of the Ditto services.
+     */
+    @Param({"false", "true"})
+    public boolean lazyJsonObjects;
+
+    private ActorSystem actorSystem;
+    private CborJsonifiableSerializer serializer;
+    private ThingEvent<?> event;
+    private String manifest;
+    private byte[] serializedEvent;
+
+    @Setup
+    public void setup() {
+        actorSystem = ActorSystem.create("benchmark", ConfigFactory.parseMap(Map.of(
+                "ditto.mapping-strategy.implementation", GlobalMappingStrategies.class.getName(),
+                "akka.actor.serializers-json.lazy-json-objects", lazyJsonObjects,
+                "akka.actor.serializers-json.pass-through-payloads-max-size", lazyJsonObjects ? "64 MiB" : "0")));
+        serializer = new CborJsonifiableSerializer((ExtendedActorSystem) actorSystem);
+        event = eventType.createEvent(thingSize);
+        manifest = serializer.manifest(event);
+        serializedEvent = serializer.toBinary(event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinary() {
+        return serializer.toBinary(event);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinary() {
+        return serializer.fromBinary(serializedEvent, manifest);
+    }
+
+    /**
+     * Deserializes an event and serializes it again like a node does which forwards a message it received.
+     *
+     * @return the serialized event.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] roundTrip() {
+        return serializer.toBinary(serializer.fromBinary(serializedEvent, manifest));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Ditto benchmarks.
+ * <p>
+ * All command line options of JMH are supported, e.g. {@code -p thingSize=SMALL,MEDIUM JsonBenchmark} only runs
+ * the JSON benchmarks with small and medium sized things.
+ * Unless a result format is given via {@code -rf}, the results are written as JSON to
+ * {@value #DEFAULT_RESULT_FILE} (or the file given via {@code -rff}) so that the results of different releases can
+ * be compared.
+ * </p>
+ */
+public final class DittoBenchmarks {
+
+    /**
+     * The file the results are written to if neither a result format nor a result file is given.
+     */
+    static final String DEFAULT_RESULT_FILE = "ditto-benchmarks-result.json";
+
+    private DittoBenchmarks() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Runs the benchmarks which are selected by the given JMH command line options.
+     *
+     * @param args the JMH command line options.
+     * @throws CommandLineOptionException if the command line options are invalid.
+     * @throws RunnerException if running a benchmark failed.
+     * @throws IOException if the help could not be printed.
+     */
+    public static void main(final String... args) throws CommandLineOptionException, RunnerException, IOException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+        } else if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+        } else {
+            final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+            if (!commandLineOptions.getResultFormat().hasValue()) {
+                optionsBuilder.resultFormat(ResultFormatType.JSON);
+                if (!commandLineOptions.getResult().hasValue()) {
+                    optionsBuilder.result(DEFAULT_RESULT_FILE);
+                }
+            }
+            new Runner(optionsBuilder.build()).run();
+        }
+    }
+
+}
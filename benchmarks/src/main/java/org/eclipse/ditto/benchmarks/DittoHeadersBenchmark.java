@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of building {@link DittoHeaders} as done for every signal which enters or leaves Ditto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DittoHeadersBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("nginx:benchmark-user"),
+                    AuthorizationSubject.newInstance("integration:benchmark-solution:connection"));
+
+    private DittoHeaders dittoHeaders;
+    private Map<String, String> headersMap;
+    private JsonObject headersJson;
+
+    @Setup
+    public void setup() {
+        dittoHeaders = buildWithBuilder();
+        headersMap = Map.copyOf(dittoHeaders);
+        headersJson = dittoHeaders.toJson();
+    }
+
+    /**
+     * Builds headers like an HTTP or WebSocket route does for an incoming request.
+     *
+     * @return the headers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders buildWithBuilder() {
+        return DittoHeaders.newBuilder()
+                .correlationId("benchmark-4b0d8b39-0ae4-4a8b-a3e4-5dbf1f1ce12c")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .contentType("application/json")
+                .responseRequired(true)
+                .timeout("10s")
+                .origin("gateway-6f4c9d8b5-x2v7q")
+                .putHeader("x-forwarded-for", "192.168.1.17")
+                .putHeader("user-agent", "benchmark-client/1.0")
+                .build();
+    }
+
+    /**
+     * Builds headers from a map of strings like protocol message mappings do.
+     *
+     * @return the headers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders buildFromMap() {
+        return DittoHeaders.of(headersMap);
+    }
+
+    /**
+     * Builds headers from JSON like the cluster serializers do.
+     *
+     * @return the headers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders buildFromJson() {
+        return DittoHeaders.newBuilder(headersJson).build();
+    }
+
+    /**
+     * Modifies existing headers like the services do when they forward a signal.
+     *
+     * @return the headers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders modifyExisting() {
+        return dittoHeaders.toBuilder()
+                .responseRequired(false)
+                .removeHeader("x-forwarded-for")
+                .build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject toJson() {
+        return dittoHeaders.toJson();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of mapping thing events to and from Ditto Protocol via {@link DittoProtocolAdapter}.
+ * Besides the adapter alone, the complete way between an event and the JSON string of a Ditto Protocol message is
+ * measured, as done for each event which is published to a WebSocket, SSE or connectivity client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProtocolAdapterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"THING_CREATED", "THING_MODIFIED", "FEATURE_PROPERTIES_MODIFIED", "FEATURE_PROPERTY_MODIFIED"})
+    public ThingEventType eventType;
+
+    @Param({"SMALL", "MEDIUM", "LARGE", "VERY_LARGE"})
+    public ThingSize thingSize;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private ThingEvent<?> event;
+    private Adaptable adaptable;
+    private String protocolMessage;
+
+    @Setup
+    public void setup() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        event = eventType.createEvent(thingSize);
+        adaptable = protocolAdapter.toAdaptable(event);
+        protocolMessage = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Adaptable toAdaptable() {
+        return protocolAdapter.toAdaptable(event);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromAdaptable() {
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String toProtocolMessage() {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(event)).toJsonString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromProtocolMessage() {
+        return protocolAdapter.fromAdaptable(
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(protocolMessage)));
+    }
+
+}
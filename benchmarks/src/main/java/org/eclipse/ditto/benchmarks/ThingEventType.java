@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Instant;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+
+/**
+ * Types of the thing events which are used by the benchmarks.
+ * The payload of the events is taken from a thing of a {@link ThingSize}.
+ */
+public enum ThingEventType {
+
+    /**
+     * A {@link ThingCreated} event containing the whole thing.
+     */
+    THING_CREATED {
+        @Override
+        public ThingEvent<?> createEvent(final ThingSize thingSize) {
+            return ThingCreated.of(thingSize.createThing(), REVISION, TIMESTAMP, ThingSize.DITTO_HEADERS);
+        }
+    },
+
+    /**
+     * A {@link ThingModified} event containing the whole thing.
+     */
+    THING_MODIFIED {
+        @Override
+        public ThingEvent<?> createEvent(final ThingSize thingSize) {
+            return ThingModified.of(thingSize.createThing(), REVISION, TIMESTAMP, ThingSize.DITTO_HEADERS);
+        }
+    },
+
+    /**
+     * A {@link FeaturePropertiesModified} event containing all properties of a single feature.
+     */
+    FEATURE_PROPERTIES_MODIFIED {
+        @Override
+        public ThingEvent<?> createEvent(final ThingSize thingSize) {
+            return FeaturePropertiesModified.of(ThingSize.THING_ID, ThingSize.FIRST_FEATURE_ID,
+                    thingSize.createFeatureProperties(0), REVISION, TIMESTAMP, ThingSize.DITTO_HEADERS);
+        }
+    },
+
+    /**
+     * A {@link FeaturePropertyModified} event containing a single property; this is the most frequent event of
+     * devices reporting their state.
+     */
+    FEATURE_PROPERTY_MODIFIED {
+        @Override
+        public ThingEvent<?> createEvent(final ThingSize thingSize) {
+            return FeaturePropertyModified.of(ThingSize.THING_ID, ThingSize.FIRST_FEATURE_ID,
+                    JsonPointer.of("property0"), thingSize.createFeatureProperties(0).getValue("property0")
+                            .orElseThrow(),
+                    REVISION, TIMESTAMP, ThingSize.DITTO_HEADERS);
+        }
+    };
+
+    private static final long REVISION = 43L;
+    private static final Instant TIMESTAMP = Instant.parse("2020-11-05T10:15:30.123Z");
+
+    /**
+     * Creates an event of this type.
+     *
+     * @param thingSize the size of the thing whose data is the payload of the event.
+     * @return the event.
+     */
+    public abstract ThingEvent<?> createEvent(ThingSize thingSize);
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureDefinition;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Features;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+
+/**
+ * Sizes of the things which are used by the benchmarks.
+ * The things resemble the digital twins of devices: a few descriptive attributes and features with a definition and
+ * properties which contain numbers, strings, booleans and nested objects.
+ * <p>
+ * The JSON representations are about 0.5 KiB ({@link #SMALL}), 4 KiB ({@link #MEDIUM}), 100 KiB ({@link #LARGE}) and
+ * 1 MiB ({@link #VERY_LARGE}).
+ * </p>
+ */
+public enum ThingSize {
+
+    /**
+     * A thing with one feature with 5 properties.
+     */
+    SMALL(1, 5),
+
+    /**
+     * A thing with 10 features with 10 properties each.
+     */
+    MEDIUM(10, 10),
+
+    /**
+     * A thing with 100 features with 30 properties each.
+     */
+    LARGE(100, 30),
+
+    /**
+     * A thing with 500 features with 60 properties each.
+     */
+    VERY_LARGE(500, 60);
+
+    /**
+     * The ID of the created things.
+     */
+    public static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.benchmark", "thing-4711");
+
+    /**
+     * The ID of the feature which exists in every created thing.
+     */
+    public static final String FIRST_FEATURE_ID = "feature0";
+
+    private static final FeatureDefinition FEATURE_DEFINITION =
+            ThingsModelFactory.newFeatureDefinitionBuilder("org.eclipse.ditto.benchmark:sensor:1.0.0").build();
+
+    /**
+     * The headers of the signals which are used by the benchmarks.
+     */
+    public static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("benchmark-4b0d8b39-0ae4-4a8b-a3e4-5dbf1f1ce12c")
+            .authorizationSubjects("integration:benchmark-solution:connection", "nginx:benchmark-user")
+            .contentType("application/json")
+            .responseRequired(false)
+            .build();
+
+    private final int featureCount;
+    private final int propertyCount;
+
+    ThingSize(final int featureCount, final int propertyCount) {
+        this.featureCount = featureCount;
+        this.propertyCount = propertyCount;
+    }
+
+    /**
+     * Creates a thing of this size.
+     * The created thing is always the same for the same size.
+     *
+     * @return the thing.
+     */
+    public Thing createThing() {
+        return Thing.newBuilder()
+                .setId(THING_ID)
+                .setPolicyId(PolicyId.of(THING_ID))
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setRevision(42L)
+                .setAttributes(createAttributes())
+                .setFeatures(createFeatures())
+                .build();
+    }
+
+    /**
+     * Creates the properties of a single feature of a thing of this size.
+     *
+     * @param featureIndex the index of the feature which determines the property values.
+     * @return the properties.
+     */
+    public FeatureProperties createFeatureProperties(final int featureIndex) {
+        final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            propertiesBuilder.set("property" + i, createPropertyValue(featureIndex, i));
+        }
+        return ThingsModelFactory.newFeatureProperties(propertiesBuilder.build());
+    }
+
+    private Features createFeatures() {
+        final List<Feature> features = new ArrayList<>(featureCount);
+        for (int i = 0; i < featureCount; i++) {
+            features.add(Feature.newBuilder()
+                    .definition(FEATURE_DEFINITION)
+                    .properties(createFeatureProperties(i))
+                    .withId("feature" + i)
+                    .build());
+        }
+        return ThingsModelFactory.newFeatures(features);
+    }
+
+    private static Attributes createAttributes() {
+        return ThingsModelFactory.newAttributesBuilder()
+                .set("manufacturer", "ACME Corporation")
+                .set("model", "Benchmark Sensor XL")
+                .set("serialNumber", "4711-0815-1234-5678")
+                .set("installed", true)
+                .set("location", JsonObject.newBuilder()
+                        .set("latitude", 47.682170)
+                        .set("longitude", 9.386372)
+                        .set("building", "B-17")
+                        .build())
+                .build();
+    }
+
+    private static JsonValue createPropertyValue(final int featureIndex, final int propertyIndex) {
+        switch (propertyIndex % 4) {
+            case 0:
+                return JsonValue.of(featureIndex * 100.0 + propertyIndex * 0.25);
+            case 1:
+                return JsonValue.of("status value " + featureIndex + "-" + propertyIndex);
+            case 2:
+                return JsonValue.of(0 == featureIndex % 2);
+            default:
+                return JsonObject.newBuilder()
+                        .set("value", featureIndex * 1000L + propertyIndex)
+                        .set("unit", "°C")
+                        .set("history", JsonArray.newBuilder().add(1, 2, 3).build())
+                        .build();
+        }
+    }
+
+}
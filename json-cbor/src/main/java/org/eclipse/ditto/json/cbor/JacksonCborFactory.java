@@ -48,6 +48,7 @@ import com.fasterxml.jackson.dataformat.cbor.CBORParser;
 public final class JacksonCborFactory implements CborFactory {
 
     private static final CBORFactory JACKSON_CBOR_FACTORY = new CBORFactory();
+    private static final int CBOR_MAJOR_TYPE_MAP = 0xA0; // major type 5 in the upper three bits
 
     /**
      * Constructs the JacksonCborFactory - must be public as loaded via {@link java.util.ServiceLoader}.
@@ -72,16 +73,24 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
+    @Override
+    public JsonValue readLazilyFrom(final byte[] bytes) {
+        if (0 < bytes.length && (bytes[0] & 0xE0) == CBOR_MAJOR_TYPE_MAP) {
+            return JsonFactory.createLazyJsonObject(bytes);
+        }
+        return readFrom(bytes);
+    }
+
     @Override
     public JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
+        // offsets determined by a CBORParser reading a byte array are indices of the whole array, thus they map
+        // directly to positions of a buffer wrapping the whole array.
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
             return parseValue(parser, byteBuffer);
         } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(byteBuffer, e);
+            throw createJsonParseException(ByteBuffer.wrap(bytes, offset, length).slice(), e);
         }
     }
 
@@ -100,6 +100,19 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readLazilyFromByteArray() {
+        final JsonValue result = cborFactory.readLazilyFrom(testBytes.clone());
+        assertThat(result).isEqualTo(testValue);
+        assertThat(result.toString()).isEqualTo(testValue.toString());
+    }
+
+    @Test
+    public void lazilyReadValueIsSerializedToReadBytes() throws IOException {
+        final JsonValue result = cborFactory.readLazilyFrom(testBytes.clone());
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests JSON objects which are decoded lazily from CBOR via {@link JacksonCborFactory#readLazilyFrom(byte[])}.
+ */
+public final class LazyCborJsonObjectTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":12345,\"ratio\":0.5," +
+            "\"tags\":[\"a\",{\"b\":true},null]},\"features\":{\"temperature\":{\"properties\":" +
+            "{\"value\":-23.5,\"unit\":\"°C\",\"max\":9223372036854775807}}},\"_revision\":42}");
+
+    private final JacksonCborFactory cborFactory = new JacksonCborFactory();
+
+    @Test
+    public void lazilyReadObjectEqualsEagerlyReadObject() throws IOException {
+        final byte[] cbor = cborFactory.toByteArray(THING);
+
+        final JsonValue lazyValue = cborFactory.readLazilyFrom(cbor);
+
+        assertThat(lazyValue).isEqualTo(THING);
+        assertThat(lazyValue.hashCode()).isEqualTo(THING.hashCode());
+        assertThat(lazyValue.toString()).isEqualTo(THING.toString());
+    }
+
+    @Test
+    public void nestedValuesAreAccessibleByPointer() throws IOException {
+        final JsonObject lazyObject = cborFactory.readLazilyFrom(cborFactory.toByteArray(THING)).asObject();
+
+        assertThat(lazyObject.getSize()).isEqualTo(4);
+        assertThat(lazyObject.contains("features")).isTrue();
+        assertThat(lazyObject.contains("policyId")).isFalse();
+        assertThat(lazyObject.getValue(JsonPointer.of("features/temperature/properties/unit")))
+                .contains(JsonValue.of("°C"));
+        assertThat(lazyObject.getValue(JsonPointer.of("attributes/tags")).map(JsonValue::asArray))
+                .contains(JsonArray.newBuilder().add("a").add(JsonObject.newBuilder().set("b", true).build())
+                        .add(JsonValue.nullLiteral()).build());
+        assertThat(lazyObject.getValue("_revision")).contains(JsonValue.of(42));
+    }
+
+    @Test
+    public void modifiedLazyObjectIsSerializedWithModification() throws IOException {
+        final JsonObject lazyObject = cborFactory.readLazilyFrom(cborFactory.toByteArray(THING)).asObject();
+
+        final JsonObject modified = lazyObject.setValue(JsonPointer.of("attributes/serial"), 4711);
+
+        assertThat(cborFactory.readFrom(cborFactory.toByteArray(modified)))
+                .isEqualTo(THING.setValue(JsonPointer.of("attributes/serial"), 4711));
+    }
+
+    @Test
+    public void mapWithReservedAdditionalInformationIsRejected() {
+        // {"a": <major type 0 with reserved additional information 28>}
+        final byte[] cbor = {(byte) 0xA1, 0x61, 'a', (byte) 0x1C};
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> cborFactory.readLazilyFrom(cbor));
+    }
+
+    @Test
+    public void truncatedMapIsRejected() throws IOException {
+        final byte[] cbor = cborFactory.toByteArray(THING);
+        final byte[] truncated = new byte[cbor.length - 3];
+        System.arraycopy(cbor, 0, truncated, 0, truncated.length);
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> cborFactory.readLazilyFrom(truncated));
+    }
+
+    @Test
+    public void indefiniteLengthMapIsIndexed() {
+        // {_ "a": 1, "b": {"c": "d"}}
+        final byte[] cbor = {(byte) 0xBF, 0x61, 'a', 0x01, 0x61, 'b', (byte) 0xA1, 0x61, 'c', 0x61, 'd',
+                (byte) 0xFF};
+
+        final JsonValue lazyValue = cborFactory.readLazilyFrom(cbor);
+
+        assertThat(lazyValue).isEqualTo(JsonFactory.newObject("{\"a\":1,\"b\":{\"c\":\"d\"}}"));
+    }
+
+    @Test
+    public void nestedMapIsSerializedLikeEagerlyReadMap() throws IOException {
+        final JsonObject lazyObject = cborFactory.readLazilyFrom(cborFactory.toByteArray(THING)).asObject();
+
+        final JsonValue nested = lazyObject.getValue("features").orElseThrow(AssertionError::new);
+
+        assertThat(nested).isEqualTo(THING.getValue("features").orElseThrow(AssertionError::new));
+        assertThat(cborFactory.readFrom(cborFactory.toByteArray(nested))).isEqualTo(nested);
+        assertThat(nested.toString()).isEqualTo(THING.getValue("features").map(JsonValue::toString).orElse(""));
+    }
+
+    @Test
+    public void nonMapIsReadEagerly() throws IOException {
+        final JsonArray array = JsonArray.newBuilder().add(1, 2, 3).build();
+
+        assertThat(cborFactory.readLazilyFrom(cborFactory.toByteArray(array))).isEqualTo(array);
+    }
+
+}
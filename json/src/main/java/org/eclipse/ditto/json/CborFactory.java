@@ -67,6 +67,19 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} from the passed {@code bytes} where maps are decoded lazily: only the keys of
+     * their fields are read and a value is decoded when it is accessed for the first time.
+     * Implementations may decode eagerly; this is what the default implementation does.
+     *
+     * @param bytes the CBOR bytes; they must not be modified afterwards as the returned value may reference them.
+     * @return the parsed JsonValue.
+     * @since 2.0.0
+     */
+    default JsonValue readLazilyFrom(final byte[] bytes) {
+        return readFrom(bytes);
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Scans a CBOR encoded map and builds a {@link LazyFieldIndex} of its top-level fields.
+ * The scanner only interprets the structure of the CBOR data items (RFC 7049) to skip over values; the values
+ * themselves are decoded by the {@link CborFactory} when they are accessed.
+ * Nested maps are again indexed lazily.
+ * <p>
+ * The bytes of an indexed map are at the same time its CBOR representation, thus an object which is not modified can
+ * be serialized again without encoding its fields.
+ * </p>
+ */
+@NotThreadSafe
+final class CborFieldIndexer {
+
+    private static final CborFactory CBOR_FACTORY;
+
+    static {
+        final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
+        CBOR_FACTORY = StreamSupport.stream(sl.spliterator(), false)
+                .findFirst()
+                .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
+    }
+
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+    private static final int ADDITIONAL_INFO_INDEFINITE = 31;
+    private static final int BREAK = 0xFF;
+
+    private final byte[] data;
+    private final int end;
+    private int pos;
+
+    private CborFieldIndexer(final byte[] data, final int offset, final int length) {
+        this.data = data;
+        end = offset + length;
+        pos = offset;
+    }
+
+    /**
+     * Indicates whether the given range of the given array starts with a CBOR map.
+     *
+     * @param data the array containing CBOR.
+     * @param offset the index of the first byte of the data item.
+     * @param length the number of bytes of the data item.
+     * @return {@code true} if the data item is a map.
+     */
+    static boolean isMap(final byte[] data, final int offset, final int length) {
+        return 0 < length && (data[offset] & 0xFF) >>> 5 == MAJOR_TYPE_MAP;
+    }
+
+    /**
+     * Indexes the CBOR map in the given range of the given array.
+     * <em>The returned object references {@code data} and thus the array must not be modified afterwards.</em>
+     *
+     * @param data the array containing the CBOR map.
+     * @param offset the index of the first byte of the map.
+     * @param length the number of bytes of the map.
+     * @return the lazily decoded JSON object.
+     * @throws JsonParseException if the range does not contain exactly one CBOR map with text string keys.
+     */
+    static ImmutableJsonObject readObject(final byte[] data, final int offset, final int length) {
+        final CborFieldIndexer indexer = new CborFieldIndexer(data, offset, length);
+        final LazyFieldIndex fieldIndex = indexer.indexMap();
+        if (indexer.pos != indexer.end) {
+            throw indexer.malformed("Unexpected data after CBOR map");
+        }
+        // nested maps reference their range of the array instead of copying it
+        return ImmutableJsonObject.of(fieldIndex, data, offset, length);
+    }
+
+    /**
+     * Decodes the CBOR data item in the given range of the given array; maps are decoded lazily.
+     *
+     * @param data the array containing the CBOR data item.
+     * @param offset the index of the first byte of the data item.
+     * @param length the number of bytes of the data item.
+     * @return the decoded JSON value.
+     * @throws JsonParseException if the range does not contain a valid data item.
+     */
+    static JsonValue readValue(final byte[] data, final int offset, final int length) {
+        if (isMap(data, offset, length)) {
+            return readObject(data, offset, length);
+        }
+        return CBOR_FACTORY.readFrom(data, offset, length);
+    }
+
+    private LazyFieldIndex indexMap() {
+        final int initialByte = readByte();
+        if (initialByte >>> 5 != MAJOR_TYPE_MAP) {
+            pos--;
+            throw malformed("Expected a CBOR map");
+        }
+        final LazyFieldIndex.Builder indexBuilder = LazyFieldIndex.newBuilder(data, CborFieldIndexer::readValue);
+        final int additionalInfo = initialByte & 0x1F;
+        if (ADDITIONAL_INFO_INDEFINITE == additionalInfo) {
+            while (!readBreak()) {
+                indexField(indexBuilder);
+            }
+        } else {
+            final long fieldCount = readArgument(additionalInfo);
+            for (long i = 0; i < fieldCount; i++) {
+                indexField(indexBuilder);
+            }
+        }
+        return indexBuilder.build();
+    }
+
+    private void indexField(final LazyFieldIndex.Builder indexBuilder) {
+        final JsonKey key = readKey();
+        final int valueStart = pos;
+        skipDataItem();
+        indexBuilder.add(key, valueStart, pos - valueStart);
+    }
+
+    private JsonKey readKey() {
+        final int initialByte = readByte();
+        if (initialByte >>> 5 != MAJOR_TYPE_TEXT_STRING) {
+            pos--;
+            throw malformed("Expected a text string as key of CBOR map");
+        }
+        final int additionalInfo = initialByte & 0x1F;
+        if (ADDITIONAL_INFO_INDEFINITE == additionalInfo) {
+            final StringBuilder keyBuilder = new StringBuilder();
+            while (!readBreak()) {
+                final int chunkStart = pos;
+                skipDataItem();
+                keyBuilder.append(CBOR_FACTORY.readFrom(data, chunkStart, pos - chunkStart).asString());
+            }
+            return JsonKey.of(keyBuilder.toString());
+        }
+        final int length = toLength(readArgument(additionalInfo));
+        final int start = pos;
+        skipBytes(length);
+        int hash = 0;
+        for (int i = start; i < pos; i++) {
+            hash = 31 * hash + data[i];
+        }
+        @Nullable final JsonKey knownKey = KnownJsonKeys.get(data, start, length, hash);
+        if (null != knownKey) {
+            return knownKey;
+        }
+        return JsonKey.of(new String(data, start, length, StandardCharsets.UTF_8));
+    }
+
+    private void skipDataItem() {
+        final int initialByte = readByte();
+        final int majorType = initialByte >>> 5;
+        final int additionalInfo = initialByte & 0x1F;
+        if (ADDITIONAL_INFO_INDEFINITE == additionalInfo) {
+            if (majorType < MAJOR_TYPE_BYTE_STRING || MAJOR_TYPE_MAP < majorType) {
+                pos--;
+                throw malformed("Unexpected indefinite length");
+            }
+            // chunks of strings are data items of their own, so are keys and values of maps
+            while (!readBreak()) {
+                skipDataItem();
+            }
+            return;
+        }
+        final long argument = readArgument(additionalInfo);
+        switch (majorType) {
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+                skipBytes(toLength(argument));
+                break;
+            case MAJOR_TYPE_ARRAY:
+                for (long i = 0; i < argument; i++) {
+                    skipDataItem();
+                }
+                break;
+            case MAJOR_TYPE_MAP:
+                for (long i = 0; i < argument; i++) {
+                    skipDataItem();
+                    skipDataItem();
+                }
+                break;
+            case MAJOR_TYPE_TAG:
+                skipDataItem();
+                break;
+            default:
+                // integers, simple values and floats consist of the argument only
+        }
+    }
+
+    private long readArgument(final int additionalInfo) {
+        if (additionalInfo < 24) {
+            return additionalInfo;
+        }
+        switch (additionalInfo) {
+            case 24:
+                return readUnsigned(1);
+            case 25:
+                return readUnsigned(2);
+            case 26:
+                return readUnsigned(4);
+            case 27:
+                return readUnsigned(8);
+            default:
+                pos--;
+                throw malformed("Reserved additional information <" + additionalInfo + ">");
+        }
+    }
+
+    private long readUnsigned(final int byteCount) {
+        long result = 0;
+        for (int i = 0; i < byteCount; i++) {
+            result = (result << 8) | readByte();
+        }
+        return result;
+    }
+
+    private int toLength(final long argument) {
+        if (argument < 0 || end - pos < argument) {
+            throw malformed("Unexpected end of CBOR input");
+        }
+        return (int) argument;
+    }
+
+    private void skipBytes(final int count) {
+        if (end - pos < count) {
+            throw malformed("Unexpected end of CBOR input");
+        }
+        pos += count;
+    }
+
+    private boolean readBreak() {
+        if (pos < end && (data[pos] & 0xFF) == BREAK) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private int readByte() {
+        if (pos >= end) {
+            throw malformed("Unexpected end of CBOR input");
+        }
+        return data[pos++] & 0xFF;
+    }
+
+    private JsonParseException malformed(final String reason) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("{0} at byte offset <{1}>!", reason, pos))
+                .build();
+    }
+
+}
@@ -122,6 +122,19 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
+    /**
+     * Returns a new JSON array which contains the given values which were parsed from the given UTF-8 encoded bytes.
+     * <em>The values list is taken over without copying it and thus must not be modified afterwards.</em>
+     *
+     * @param values the values of the new JSON array.
+     * @param utf8Representation the bytes the array was parsed from.
+     * @return a new JSON array.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ImmutableJsonArray of(final List<JsonValue> values, final Utf8JsonSlice utf8Representation) {
+        return new ImmutableJsonArray(SoftReferencedValueList.of(values, utf8Representation));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -297,26 +310,39 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
         private String jsonArrayStringRepresentation;
         private byte[] cborArrayRepresentation;
+        @Nullable private final Utf8JsonSlice utf8ArrayRepresentation;
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
 
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+
+            this(Collections.unmodifiableList(new ArrayList<>(jsonValueList)), stringRepresentation,
+                    cborArrayRepresentation, null);
+        }
+
+        private SoftReferencedValueList(final List<JsonValue> unmodifiableValueList,
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation,
+                @Nullable final Utf8JsonSlice utf8ArrayRepresentation) {
+
+            valuesReference = new SoftReference<>(unmodifiableValueList);
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
-            if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
+            this.utf8ArrayRepresentation = utf8ArrayRepresentation;
+            if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null &&
+                    utf8ArrayRepresentation == null) {
                 if (CBOR_FACTORY.isCborAvailable()) {
                     try {
-                        this.cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(jsonValueList,
+                        this.cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(unmodifiableValueList,
                                         guessSerializedSize());
                     } catch (final IOException e) {
                         assert false; // this should not happen, so assertions will throw during testing
-                        jsonArrayStringRepresentation = createStringRepresentation(jsonValueList);
+                        jsonArrayStringRepresentation = createStringRepresentation(unmodifiableValueList);
                     }
                 } else {
-                    jsonArrayStringRepresentation = createStringRepresentation(jsonValueList);
+                    jsonArrayStringRepresentation = createStringRepresentation(unmodifiableValueList);
                 }
             }
             hashCode = 0;
@@ -346,6 +372,15 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
         }
 
+        static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
+                final Utf8JsonSlice utf8Representation) {
+
+            requireNonNull(jsonValueList, ASSERTION_VALUES_OF_JSON_ARRAY);
+            requireNonNull(utf8Representation, "The UTF-8 representation must not be null!");
+            return new SoftReferencedValueList(Collections.unmodifiableList(jsonValueList), null, null,
+                    utf8Representation);
+        }
+
         private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('[');
@@ -403,6 +438,9 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation != null) {
                 return parseToList(cborArrayRepresentation);
             }
+            if (utf8ArrayRepresentation != null) {
+                return ((ImmutableJsonArray) utf8ArrayRepresentation.parse()).valueList.values();
+            }
             if (jsonArrayStringRepresentation != null) {
                 return parseToList(jsonArrayStringRepresentation);
             }
@@ -468,7 +506,11 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
         String asJsonArrayString() {
             if (jsonArrayStringRepresentation == null) {
-                jsonArrayStringRepresentation = createStringRepresentation(this.values());
+                if (utf8ArrayRepresentation != null && utf8ArrayRepresentation.isCanonical()) {
+                    jsonArrayStringRepresentation = utf8ArrayRepresentation.decode();
+                } else {
+                    jsonArrayStringRepresentation = createStringRepresentation(this.values());
+                }
             }
             return jsonArrayStringRepresentation;
         }
@@ -489,6 +531,9 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             if (cborArrayRepresentation != null) {
                 return cborArrayRepresentation.length;
             }
+            if (utf8ArrayRepresentation != null) {
+                return utf8ArrayRepresentation.getLength();
+            }
             return 512;
         }
 
@@ -499,6 +544,9 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             if (cborArrayRepresentation != null) {
                 return cborArrayRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
+            if (utf8ArrayRepresentation != null) {
+                return utf8ArrayRepresentation.getLength();
+            }
             assert false; // this should never happen
             return Long.MAX_VALUE;
         }
@@ -19,7 +19,6 @@ import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -115,6 +114,61 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which contains the given fields which were parsed from the
+     * given UTF-8 encoded bytes.
+     * <em>The fields map is taken over without copying it and thus must not be modified afterwards.</em>
+     *
+     * @param fields the fields of the new JSON object.
+     * @param utf8Representation the bytes the object was parsed from.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ImmutableJsonObject of(final Map<String, JsonField> fields, final Utf8JsonSlice utf8Representation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, utf8Representation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are decoded lazily from the given UTF-8 encoded
+     * bytes.
+     *
+     * @param lazyFieldIndex the index of the encoded fields.
+     * @param utf8Representation the bytes the fields were indexed from.
+     * @return a new JSON object containing the indexed fields.
+     */
+    static ImmutableJsonObject of(final LazyFieldIndex lazyFieldIndex, final Utf8JsonSlice utf8Representation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOf(lazyFieldIndex, utf8Representation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are decoded lazily from the given CBOR bytes.
+     * <em>The bytes are taken over without copying them and thus must not be modified afterwards.</em>
+     *
+     * @param lazyFieldIndex the index of the encoded fields.
+     * @param cborRepresentation the CBOR bytes the fields were indexed from.
+     * @return a new JSON object containing the indexed fields.
+     */
+    static ImmutableJsonObject of(final LazyFieldIndex lazyFieldIndex, final byte[] cborRepresentation) {
+        return of(lazyFieldIndex, cborRepresentation, 0, cborRepresentation.length);
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are decoded lazily from the given range of CBOR
+     * bytes.
+     * <em>The bytes are referenced without copying them and thus must not be modified afterwards.</em>
+     *
+     * @param lazyFieldIndex the index of the encoded fields.
+     * @param cborData the array containing the CBOR bytes the fields were indexed from.
+     * @param offset the index of the first byte of the CBOR map.
+     * @param length the number of bytes of the CBOR map.
+     * @return a new JSON object containing the indexed fields.
+     */
+    static ImmutableJsonObject of(final LazyFieldIndex lazyFieldIndex, final byte[] cborData, final int offset,
+            final int length) {
+
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOf(lazyFieldIndex, cborData, offset, length));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -555,32 +609,68 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
+        // nested CBOR maps share the array of their parent and thus only occupy a range of it
+        private int cborOffset;
+        private int cborLength;
+        @Nullable private final Utf8JsonSlice utf8ObjectRepresentation;
+        @Nullable private final LazyFieldIndex lazyFieldIndex;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
-            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            this(Collections.unmodifiableMap(
+                    new LinkedHashMap<>(requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!"))),
+                    stringRepresentation, cborObjectRepresentation, null);
+        }
+
+        private SoftReferencedFieldMap(final Map<String, JsonField> unmodifiableFieldMap,
+                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation,
+                @Nullable final Utf8JsonSlice utf8ObjectRepresentation) {
+
+            fieldsReference = new SoftReference<>(unmodifiableFieldMap);
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
-            if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
+            cborOffset = 0;
+            cborLength = null != cborObjectRepresentation ? cborObjectRepresentation.length : 0;
+            this.utf8ObjectRepresentation = utf8ObjectRepresentation;
+            lazyFieldIndex = null;
+            if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null &&
+                    utf8ObjectRepresentation == null) {
                 if (CBOR_FACTORY.isCborAvailable()) {
                     try {
-                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(jsonFieldMap,
+                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(unmodifiableFieldMap,
                                         guessSerializedSize());
+                        cborLength = this.cborObjectRepresentation.length;
                     } catch (final IOException e) {
                         assert false; // this should not happen, so assertions will throw during testing
-                        jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
+                        jsonObjectStringRepresentation = createStringRepresentation(unmodifiableFieldMap);
                     }
                 } else {
-                    jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
+                    jsonObjectStringRepresentation = createStringRepresentation(unmodifiableFieldMap);
                 }
             }
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final LazyFieldIndex lazyFieldIndex,
+                @Nullable final byte[] cborObjectRepresentation,
+                final int cborOffset,
+                final int cborLength,
+                @Nullable final Utf8JsonSlice utf8ObjectRepresentation) {
+
+            // the fields are decoded from the index on first access of the whole map
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = null;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            this.cborOffset = cborOffset;
+            this.cborLength = cborLength;
+            this.utf8ObjectRepresentation = utf8ObjectRepresentation;
+            this.lazyFieldIndex = lazyFieldIndex;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -605,6 +695,33 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+                final Utf8JsonSlice utf8ObjectRepresentation) {
+
+            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
+            requireNonNull(utf8ObjectRepresentation, "The UTF-8 representation must not be null!");
+            return new SoftReferencedFieldMap(Collections.unmodifiableMap(jsonFieldMap), null, null,
+                    utf8ObjectRepresentation);
+        }
+
+        static SoftReferencedFieldMap lazyOf(final LazyFieldIndex lazyFieldIndex,
+                final Utf8JsonSlice utf8ObjectRepresentation) {
+
+            requireNonNull(lazyFieldIndex, "The lazy field index must not be null!");
+            requireNonNull(utf8ObjectRepresentation, "The UTF-8 representation must not be null!");
+            return new SoftReferencedFieldMap(lazyFieldIndex, null, 0, 0, utf8ObjectRepresentation);
+        }
+
+        static SoftReferencedFieldMap lazyOf(final LazyFieldIndex lazyFieldIndex,
+                final byte[] cborData,
+                final int cborOffset,
+                final int cborLength) {
+
+            requireNonNull(lazyFieldIndex, "The lazy field index must not be null!");
+            requireNonNull(cborData, "The CBOR representation must not be null!");
+            return new SoftReferencedFieldMap(lazyFieldIndex, cborData, cborOffset, cborLength, null);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -620,19 +737,29 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
+            if (null != lazyFieldIndex) {
+                return lazyFieldIndex.getSize();
+            }
             return fields().size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
+            if (null != lazyFieldIndex) {
+                return lazyFieldIndex.containsKey(key);
+            }
             return fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
+            if (null != lazyFieldIndex) {
+                // only decodes the requested field
+                return lazyFieldIndex.get(key);
+            }
             return fields().get(key);
         }
 
@@ -676,8 +803,14 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
+            if (lazyFieldIndex != null) {
+                return lazyFieldIndex.toFieldMap();
+            }
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
+                return parseToMap(cborObjectRepresentation, cborOffset, cborLength);
+            }
+            if (utf8ObjectRepresentation != null) {
+                return ((ImmutableJsonObject) utf8ObjectRepresentation.parse()).fieldMap.fields();
             }
             if (jsonObjectStringRepresentation != null) {
                 return parseToMap(jsonObjectStringRepresentation);
@@ -691,8 +824,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return jsonHandler.getValue();
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
+        private static Map<String, JsonField> parseToMap(final byte[] cborData, final int offset, final int length) {
+            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborData, offset, length);
             final Map<String, JsonField> map = new LinkedHashMap<>();
             for (final JsonField jsonValue : jsonObject.asObject()) {
                 map.put(jsonValue.getKey().toString(), jsonValue);
@@ -719,12 +852,24 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return false;
             }
             if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
-                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
+                    cborRepresentationEquals(that)) {
                 return true;
             }
             return Objects.equals(fields(), that.fields());
         }
 
+        private boolean cborRepresentationEquals(final SoftReferencedFieldMap that) {
+            if (cborLength != that.cborLength) {
+                return false;
+            }
+            for (int i = 0; i < cborLength; i++) {
+                if (cborObjectRepresentation[cborOffset + i] != that.cborObjectRepresentation[that.cborOffset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         public int hashCode() {
             int result = hashCode;
@@ -737,7 +882,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
-                jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+                if (utf8ObjectRepresentation != null && utf8ObjectRepresentation.isCanonical()) {
+                    jsonObjectStringRepresentation = utf8ObjectRepresentation.decode();
+                } else {
+                    jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+                }
             }
             return jsonObjectStringRepresentation;
         }
@@ -745,8 +894,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+                cborOffset = 0;
+                cborLength = cborObjectRepresentation.length;
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
+            serializationContext.writeCachedElement(cborObjectRepresentation, cborOffset, cborLength);
         }
 
         private int guessSerializedSize() {
@@ -755,7 +906,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return jsonObjectStringRepresentation.length();
             }
             if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length;
+                return cborLength;
+            }
+            if (utf8ObjectRepresentation != null) {
+                return utf8ObjectRepresentation.getLength();
             }
             return 512;
         }
@@ -765,7 +919,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return jsonObjectStringRepresentation.length();
             }
             if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+                return cborLength * CBOR_MAX_COMPRESSION_RATIO;
+            }
+            if (utf8ObjectRepresentation != null) {
+                return utf8ObjectRepresentation.getLength();
             }
             assert false; // this should never happen
             return Long.MAX_VALUE;
@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -184,6 +183,46 @@ public final class JsonFactory {
         return JsonValueParser.fromString().apply(jsonString);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data. The bytes are parsed
+     * directly, i. e. without decoding them to a String first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        // the parsed value references the parsed array, so it must not be changed by the caller afterwards
+        return JsonValueParser.fromBytes().apply(jsonData.clone());
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The bytes are parsed directly, i. e. without decoding them to a String first. The position of the buffer is not
+     * changed.
+     *
+     * @param jsonData the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (!jsonData.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
     /**
      * Reads the entire input stream from the specified reader and parses it as JSON value. The input stream is expected
      * to contain a valid JSON value with optional whitespace padding.
@@ -280,8 +319,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData.clone());
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -291,6 +329,49 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given UTF-8 encoded byte array whose fields are parsed lazily.
+     * Initially only the keys of the top-level fields are read; the value of a field is parsed when it is accessed for
+     * the first time, e. g. by {@link JsonObject#getValue(JsonPointer)}.
+     * Nested objects are parsed lazily as well, thus accessing a nested value only parses the objects along its
+     * pointer.
+     * This pays off for big JSON objects of which only a few values are accessed.
+     * <p>
+     * The syntax of nested values is checked when they are parsed, i. e. the returned object might throw a
+     * {@code JsonParseException} on access of an invalid value.
+     * </p>
+     *
+     * @param jsonData the byte array that represents the JSON object.
+     * @return the lazily parsed JSON object.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonData} is empty.
+     * @throws JsonParseException if {@code jsonData} does not contain a JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newLazyObject(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to create a JSON object from must not be null!");
+        return parseObjectLazily(jsonData.clone());
+    }
+
+    private static JsonObject parseObjectLazily(final byte[] jsonData) {
+        if (jsonData.length == 0) {
+            throw new IllegalArgumentException("The JSON data to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralData(jsonData)) {
+            return nullObject();
+        }
+        try {
+            return Utf8JsonParser.parseObjectLazily(jsonData, 0, jsonData.length);
+        } catch (final IllegalArgumentException e) {
+            // thrown for empty keys
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON object from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return NULL_STRING.equals(s);
     }
@@ -856,6 +937,46 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} whose fields are decoded lazily from the passed CBOR representation of a map.
+     * The bytes remain the CBOR representation of the returned object.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the CBOR serialized map; the array is not copied and thus must not be modified
+     * afterwards.
+     * @return the lazily decoded JsonObject.
+     * @throws JsonParseException if the bytes do not contain exactly one CBOR map with text string keys.
+     * @since 2.0.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        requireNonNull(cborObjectRepresentation, "The CBOR representation must not be null!");
+        return CborFieldIndexer.readObject(cborObjectRepresentation, 0, cborObjectRepresentation.length);
+    }
+
+    /**
+     * Creates a {@link JsonObject} whose fields are parsed lazily from the passed UTF-8 encoded JSON like
+     * {@link #newLazyObject(byte[])} does, but without copying the array.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param jsonData the byte array that represents the JSON object; the array is not copied and thus must not be
+     * modified afterwards.
+     * @return the lazily parsed JSON object.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonData} is empty.
+     * @throws JsonParseException if {@code jsonData} does not contain a JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject createLazyJsonObjectFromUtf8(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to create a JSON object from must not be null!");
+        return parseObjectLazily(jsonData);
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,35 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     * The bytes are parsed directly without decoding them to a String first.
+     * <em>The parsed value may reference the given array, thus it must not be modified afterwards.</em>
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return JsonValueParser::tryToParseJsonValueFrom;
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}.
+     * The position of the buffer is not changed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return byteBuffer -> {
+            requireNonNull(byteBuffer, "The byte buffer to be parsed must not be null!");
+            final byte[] data = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(data);
+            return tryToParseJsonValueFrom(data);
+        };
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -114,6 +144,20 @@ final class JsonValueParser {
         }
     }
 
+    private static JsonValue tryToParseJsonValueFrom(final byte[] data) {
+        requireNonNull(data, "The JSON data to be parsed must not be null!");
+        try {
+            return Utf8JsonParser.parse(data, 0, data.length);
+        } catch (final StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static JsonValue readJsonValueFrom(final Reader reader) throws IOException {
         requireNonNull(reader, "The reader must not be null!");
         final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A small open-addressing hash table of keys which occur in nearly every Ditto JSON document (like {@code thingId} or
+ * {@code features}).
+ * Parsers which read UTF-8 encoded keys (JSON as well as CBOR) look up the raw key bytes in this table and share the
+ * returned {@link JsonKey} instead of decoding the key again.
+ * The table is probed with the hash of the raw key bytes which the parsers compute while scanning the key anyway.
+ */
+@Immutable
+final class KnownJsonKeys {
+
+    private static final int TABLE_SIZE = 128; // power of two, considerably bigger than the number of keys
+
+    private static final KnownJsonKeys INSTANCE = of("thingId", "policyId", "_policy", "features",
+            "properties", "desiredProperties", "attributes", "definition", "_revision", "_modified", "_created",
+            "_namespace", "_metadata", "topic", "headers", "path", "value", "status", "fields", "extra", "revision",
+            "timestamp", "correlation-id", "content-type", "type", "payload", "dittoHeaders", "subjects", "resources",
+            "entries", "grant", "revoke", "id", "name", "error", "message", "description");
+
+    private final byte[][] keyBytes;
+    private final JsonKey[] keys;
+
+    private KnownJsonKeys() {
+        keyBytes = new byte[TABLE_SIZE][];
+        keys = new JsonKey[TABLE_SIZE];
+    }
+
+    private static KnownJsonKeys of(final String... keyNames) {
+        final KnownJsonKeys result = new KnownJsonKeys();
+        for (final String keyName : keyNames) {
+            result.put(keyName);
+        }
+        return result;
+    }
+
+    private void put(final String keyName) {
+        // known keys are ASCII only, thus the String hash equals the hash computed over the bytes
+        final byte[] bytes = keyName.getBytes(StandardCharsets.US_ASCII);
+        int index = keyName.hashCode() & (TABLE_SIZE - 1);
+        while (null != keys[index]) {
+            index = (index + 1) & (TABLE_SIZE - 1);
+        }
+        keyBytes[index] = bytes;
+        keys[index] = JsonKey.of(keyName);
+    }
+
+    /**
+     * Looks up the key whose UTF-8 encoding is the given range of the given array.
+     *
+     * @param data the array containing the encoded key.
+     * @param offset the index of the first byte of the key.
+     * @param length the number of bytes of the key.
+     * @param hash the hash of the key bytes computed as {@code hash = 31 * hash + b} for each byte {@code b}.
+     * @return the shared key or {@code null} if the key is not known.
+     */
+    @Nullable
+    static JsonKey get(final byte[] data, final int offset, final int length, final int hash) {
+        return INSTANCE.lookUp(data, offset, length, hash);
+    }
+
+    @Nullable
+    private JsonKey lookUp(final byte[] data, final int offset, final int length, final int hash) {
+        int index = hash & (TABLE_SIZE - 1);
+        JsonKey candidate;
+        while (null != (candidate = keys[index])) {
+            if (equalBytes(keyBytes[index], data, offset, length)) {
+                return candidate;
+            }
+            index = (index + 1) & (TABLE_SIZE - 1);
+        }
+        return null;
+    }
+
+    private static boolean equalBytes(final byte[] expected, final byte[] data, final int offset, final int length) {
+        if (expected.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (expected[i] != data[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
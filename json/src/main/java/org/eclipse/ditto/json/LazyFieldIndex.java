@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An index of the top-level fields of a JSON object which is still encoded in a byte array (either as UTF-8 JSON or
+ * as CBOR).
+ * The index only knows the keys and the offsets of the encoded values; a value is decoded by the {@link ValueReader}
+ * when its field is accessed for the first time.
+ * Thus looking up a single field of a big object does neither decode the other fields nor the nested values of the
+ * accessed field.
+ * <p>
+ * Decoded fields are cached.
+ * As the cached fields are immutable and can be decoded again at any time, concurrent decoding of the same field is
+ * a harmless race.
+ * </p>
+ */
+@Immutable
+final class LazyFieldIndex {
+
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private final byte[] data;
+    private final ValueReader valueReader;
+    private final JsonKey[] keys;
+    private final int[] valueOffsets;
+    private final int[] valueLengths;
+    @Nullable private final Map<String, Integer> positions;
+    private final JsonField[] decodedFields;
+
+    private LazyFieldIndex(final Builder builder) {
+        data = builder.data;
+        valueReader = builder.valueReader;
+        keys = Arrays.copyOf(builder.keys, builder.size);
+        valueOffsets = Arrays.copyOf(builder.valueOffsets, builder.size);
+        valueLengths = Arrays.copyOf(builder.valueLengths, builder.size);
+        positions = builder.positions;
+        decodedFields = new JsonField[builder.size];
+    }
+
+    /**
+     * Returns a new builder for an index of an object which is encoded in the given array.
+     *
+     * @param data the array which contains the encoded object; it must not be modified afterwards.
+     * @param valueReader decodes the values of the object.
+     * @return the builder.
+     */
+    static Builder newBuilder(final byte[] data, final ValueReader valueReader) {
+        return new Builder(data, valueReader);
+    }
+
+    /**
+     * @return the number of fields of the object.
+     */
+    int getSize() {
+        return keys.length;
+    }
+
+    /**
+     * Indicates whether the object contains a field with the given key.
+     * The value of the field is not decoded.
+     *
+     * @param key the key to look up.
+     * @return {@code true} if the object contains the field.
+     */
+    boolean containsKey(final String key) {
+        return 0 <= indexOf(key);
+    }
+
+    /**
+     * Returns the field with the given key.
+     * The value of the field is decoded if it was not accessed before.
+     *
+     * @param key the key of the field to get.
+     * @return the field or {@code null} if the object contains no field with the given key.
+     */
+    @Nullable
+    JsonField get(final String key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : getField(index);
+    }
+
+    /**
+     * Decodes all fields of the object.
+     *
+     * @return an unmodifiable map of the fields in the order of the encoded object.
+     */
+    Map<String, JsonField> toFieldMap() {
+        final Map<String, JsonField> result = new LinkedHashMap<>(keys.length * 4 / 3 + 1);
+        for (int i = 0; i < keys.length; i++) {
+            final JsonField field = getField(i);
+            result.put(field.getKeyName(), field);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private JsonField getField(final int index) {
+        JsonField result = decodedFields[index];
+        if (null == result) {
+            result = ImmutableJsonField.newInstance(keys[index],
+                    valueReader.read(data, valueOffsets[index], valueLengths[index]));
+            decodedFields[index] = result;
+        }
+        return result;
+    }
+
+    private int indexOf(final String key) {
+        if (null != positions) {
+            final Integer position = positions.get(key);
+            return null != position ? position : -1;
+        }
+        return linearIndexOf(keys, keys.length, key);
+    }
+
+    private static int linearIndexOf(final JsonKey[] keys, final int size, final String key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].toString().equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes a single encoded value.
+     */
+    @FunctionalInterface
+    interface ValueReader {
+
+        /**
+         * Decodes the value which is encoded in the given range of the given array.
+         *
+         * @param data the array containing the encoded value.
+         * @param offset the index of the first byte of the value.
+         * @param length the number of bytes of the value.
+         * @return the decoded value.
+         * @throws JsonParseException if the range does not contain a valid value.
+         */
+        JsonValue read(byte[] data, int offset, int length);
+
+    }
+
+    /**
+     * Collects the fields of an encoded object while it is scanned.
+     */
+    @NotThreadSafe
+    static final class Builder {
+
+        private final byte[] data;
+        private final ValueReader valueReader;
+        private JsonKey[] keys;
+        private int[] valueOffsets;
+        private int[] valueLengths;
+        @Nullable private Map<String, Integer> positions;
+        private int size;
+
+        private Builder(final byte[] data, final ValueReader valueReader) {
+            this.data = data;
+            this.valueReader = valueReader;
+            keys = new JsonKey[LINEAR_SEARCH_THRESHOLD];
+            valueOffsets = new int[LINEAR_SEARCH_THRESHOLD];
+            valueLengths = new int[LINEAR_SEARCH_THRESHOLD];
+            positions = null;
+            size = 0;
+        }
+
+        /**
+         * Adds the field with the given key and the encoded value at the given range.
+         * If the key was added before, the value replaces the previous one at the position of the first occurrence.
+         *
+         * @param key the key of the field.
+         * @param valueOffset the index of the first byte of the encoded value.
+         * @param valueLength the number of bytes of the encoded value.
+         * @return {@code false} if the key was added before, {@code true} else.
+         */
+        boolean add(final JsonKey key, final int valueOffset, final int valueLength) {
+            final String keyName = key.toString();
+            final int existingIndex = null != positions ? positions.getOrDefault(keyName, -1)
+                    : linearIndexOf(keys, size, keyName);
+            if (0 <= existingIndex) {
+                valueOffsets[existingIndex] = valueOffset;
+                valueLengths[existingIndex] = valueLength;
+                return false;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                valueOffsets = Arrays.copyOf(valueOffsets, size * 2);
+                valueLengths = Arrays.copyOf(valueLengths, size * 2);
+            }
+            keys[size] = key;
+            valueOffsets[size] = valueOffset;
+            valueLengths[size] = valueLength;
+            if (null != positions) {
+                positions.put(keyName, size);
+            } else if (size == LINEAR_SEARCH_THRESHOLD) {
+                positions = new HashMap<>();
+                for (int i = 0; i <= size; i++) {
+                    positions.put(keys[i].toString(), i);
+                }
+            }
+            size++;
+            return true;
+        }
+
+        /**
+         * @return the index of the added fields.
+         */
+        LazyFieldIndex build() {
+            return new LazyFieldIndex(this);
+        }
+
+    }
+
+}
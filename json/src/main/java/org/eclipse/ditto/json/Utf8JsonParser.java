@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A streaming parser which reads a {@link JsonValue} directly from UTF-8 encoded bytes.
+ * <p>
+ * In contrast to the parser of the Minimal Json project this parser does not decode the input to a String first and
+ * does not create intermediate collections or string representations for each nesting level.
+ * The field maps and value lists are built in one pass and handed over to {@link ImmutableJsonObject} resp.
+ * {@link ImmutableJsonArray} together with a {@link Utf8JsonSlice} pointing into the input.
+ * Keys which occur in nearly every Ditto JSON document (like {@code thingId} or {@code features}) are not decoded but
+ * looked up in a table of shared {@link KnownJsonKeys} instances.
+ * </p>
+ * <p>
+ * Objects can also be parsed lazily: then only the top-level keys and the byte ranges of their values are indexed
+ * and each value is parsed when it is accessed for the first time.
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8JsonParser {
+
+    private final byte[] data;
+    private final int end;
+    private int pos;
+
+    // incremented for each input element which does not belong to the canonical string representation
+    private int nonCanonicalMarks;
+
+    private Utf8JsonParser(final byte[] data, final int offset, final int length) {
+        this.data = data;
+        end = offset + length;
+        pos = offset;
+        nonCanonicalMarks = 0;
+    }
+
+    /**
+     * Parses the given range of the given array to a JSON value.
+     * <em>The returned value references {@code data} and thus the array must not be modified afterwards.</em>
+     *
+     * @param data the array containing the UTF-8 encoded JSON.
+     * @param offset the index of the first byte to parse.
+     * @param length the number of bytes to parse.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     * @throws IllegalArgumentException if an object contains an empty key.
+     */
+    static JsonValue parse(final byte[] data, final int offset, final int length) {
+        final Utf8JsonParser parser = new Utf8JsonParser(data, offset, length);
+        parser.skipWhitespace();
+        final JsonValue result = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos < parser.end) {
+            throw parser.unexpectedCharacter();
+        }
+        return result;
+    }
+
+    /**
+     * Parses the given range of the given array to a JSON object whose fields are only indexed, see
+     * {@link LazyFieldIndex}.
+     * The values of the fields are parsed when they are accessed for the first time.
+     * <em>The returned object references {@code data} and thus the array must not be modified afterwards.</em>
+     * <p>
+     * The syntax of nested values is validated when the object is indexed, so that the indexed bytes can be used as
+     * string representation. Duplicate keys of nested objects are resolved and empty keys of nested objects are
+     * rejected when the values are parsed.
+     * </p>
+     *
+     * @param data the array containing the UTF-8 encoded JSON object.
+     * @param offset the index of the first byte to parse.
+     * @param length the number of bytes to parse.
+     * @return the indexed JSON object.
+     * @throws JsonParseException if the bytes are no valid JSON object.
+     * @throws IllegalArgumentException if the object contains an empty key.
+     */
+    static ImmutableJsonObject parseObjectLazily(final byte[] data, final int offset, final int length) {
+        final Utf8JsonParser parser = new Utf8JsonParser(data, offset, length);
+        parser.skipWhitespace();
+        if (parser.current() != '{') {
+            throw parser.unexpectedCharacter();
+        }
+        final ImmutableJsonObject result = parser.indexObject();
+        parser.skipWhitespace();
+        if (parser.pos < parser.end) {
+            throw parser.unexpectedCharacter();
+        }
+        return result;
+    }
+
+    /**
+     * Parses the given range of the given array to a JSON value; objects are parsed lazily.
+     *
+     * @param data the array containing the UTF-8 encoded JSON value without surrounding whitespace.
+     * @param offset the index of the first byte to parse.
+     * @param length the number of bytes to parse.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     * @see #parseObjectLazily(byte[], int, int)
+     */
+    static JsonValue parseLazily(final byte[] data, final int offset, final int length) {
+        if (0 < length && data[offset] == '{') {
+            return parseObjectLazily(data, offset, length);
+        }
+        return parse(data, offset, length);
+    }
+
+    private JsonValue readValue() {
+        switch (current()) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return readNumber();
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private ImmutableJsonObject readObject() {
+        final int start = pos;
+        final int marksBefore = nonCanonicalMarks;
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (current() != '}') {
+            do {
+                skipWhitespace();
+                final JsonKey key = readKey();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                final JsonValue value = readValue();
+                if (null != fields.put(key.toString(), ImmutableJsonField.newInstance(key, value))) {
+                    // the string representation of the object will not contain the overwritten field
+                    nonCanonicalMarks++;
+                }
+                skipWhitespace();
+            } while (readOptional(','));
+            expect('}');
+        } else {
+            pos++;
+        }
+        return ImmutableJsonObject.of(fields, slice(start, marksBefore));
+    }
+
+    private ImmutableJsonArray readArray() {
+        final int start = pos;
+        final int marksBefore = nonCanonicalMarks;
+        final List<JsonValue> values = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (current() != ']') {
+            do {
+                skipWhitespace();
+                values.add(readValue());
+                skipWhitespace();
+            } while (readOptional(','));
+            expect(']');
+        } else {
+            pos++;
+        }
+        return ImmutableJsonArray.of(values, slice(start, marksBefore));
+    }
+
+    private ImmutableJsonObject indexObject() {
+        final int start = pos;
+        final int marksBefore = nonCanonicalMarks;
+        final LazyFieldIndex.Builder indexBuilder = LazyFieldIndex.newBuilder(data, Utf8JsonParser::parseLazily);
+        pos++;
+        skipWhitespace();
+        if (current() != '}') {
+            do {
+                skipWhitespace();
+                final JsonKey key = readKey();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                final int valueStart = pos;
+                skipValue();
+                if (!indexBuilder.add(key, valueStart, pos - valueStart)) {
+                    nonCanonicalMarks++;
+                }
+                skipWhitespace();
+            } while (readOptional(','));
+            expect('}');
+        } else {
+            pos++;
+        }
+        return ImmutableJsonObject.of(indexBuilder.build(), slice(start, marksBefore));
+    }
+
+    /*
+     * Validates the syntax of the value at the current position like readValue does, but without building it.
+     */
+    private void skipValue() {
+        switch (current()) {
+            case '{':
+                skipObject();
+                break;
+            case '[':
+                skipArray();
+                break;
+            case '"':
+                skipString();
+                break;
+            case 't':
+                readLiteral("true");
+                break;
+            case 'f':
+                readLiteral("false");
+                break;
+            case 'n':
+                readLiteral("null");
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                skipNumber();
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private void skipObject() {
+        pos++;
+        skipWhitespace();
+        if (current() != '}') {
+            final Set<String> keys = new HashSet<>();
+            do {
+                skipWhitespace();
+                if (current() != '"') {
+                    throw unexpectedCharacter();
+                }
+                final int keyStart = pos;
+                skipString();
+                // keys with escape sequences already make the object non-canonical, so comparing bytes suffices
+                if (!keys.add(decode(keyStart, pos - keyStart, true))) {
+                    // the string representation of the parsed object will not contain the overwritten field
+                    nonCanonicalMarks++;
+                }
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                skipValue();
+                skipWhitespace();
+            } while (readOptional(','));
+            expect('}');
+        } else {
+            pos++;
+        }
+    }
+
+    private void skipArray() {
+        pos++;
+        skipWhitespace();
+        if (current() != ']') {
+            do {
+                skipWhitespace();
+                skipValue();
+                skipWhitespace();
+            } while (readOptional(','));
+            expect(']');
+        } else {
+            pos++;
+        }
+    }
+
+    private void skipString() {
+        pos++;
+        byte b;
+        while ((b = current()) != '"') {
+            if (b == '\\') {
+                nonCanonicalMarks++;
+                pos++;
+                readEscapedChar();
+            } else {
+                checkNoControlCharacter(b);
+                pos++;
+            }
+        }
+        pos++;
+    }
+
+    private void skipNumber() {
+        readOptional('-');
+        if (!readOptional('0')) {
+            readDigits();
+        }
+        if (readOptional('.')) {
+            readDigits();
+        }
+        if (pos < end && (data[pos] == 'e' || data[pos] == 'E')) {
+            pos++;
+            if (!readOptional('+')) {
+                readOptional('-');
+            }
+            readDigits();
+        }
+    }
+
+    private Utf8JsonSlice slice(final int start, final int marksBefore) {
+        return new Utf8JsonSlice(data, start, pos - start, marksBefore == nonCanonicalMarks);
+    }
+
+    private JsonKey readKey() {
+        if (current() != '"') {
+            throw unexpectedCharacter();
+        }
+        final int start = ++pos;
+        int hash = 0;
+        boolean ascii = true;
+        byte b;
+        while ((b = current()) != '"') {
+            if (b == '\\') {
+                pos = start - 1;
+                return JsonKey.of(readString());
+            }
+            checkNoControlCharacter(b);
+            ascii &= b >= 0;
+            hash = 31 * hash + b;
+            pos++;
+        }
+        final int length = pos - start;
+        pos++;
+        @Nullable final JsonKey knownKey = KnownJsonKeys.get(data, start, length, hash);
+        if (null != knownKey) {
+            return knownKey;
+        }
+        return JsonKey.of(decode(start, length, ascii));
+    }
+
+    private String readString() {
+        final int start = ++pos;
+        boolean ascii = true;
+        byte b;
+        while ((b = current()) != '"') {
+            if (b == '\\') {
+                return readEscapedString(start);
+            }
+            checkNoControlCharacter(b);
+            ascii &= b >= 0;
+            pos++;
+        }
+        pos++;
+        return decode(start, pos - start - 1, ascii);
+    }
+
+    private String readEscapedString(final int start) {
+        nonCanonicalMarks++;
+        final StringBuilder stringBuilder = new StringBuilder(pos - start + 16);
+        int segmentStart = start;
+        byte b;
+        while ((b = current()) != '"') {
+            if (b == '\\') {
+                stringBuilder.append(new String(data, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+                pos++;
+                stringBuilder.append(readEscapedChar());
+                segmentStart = pos;
+            } else {
+                checkNoControlCharacter(b);
+                pos++;
+            }
+        }
+        stringBuilder.append(new String(data, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+        pos++;
+        return stringBuilder.toString();
+    }
+
+    private char readEscapedChar() {
+        final byte b = current();
+        pos++;
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int result = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(current(), 16);
+                    if (digit < 0) {
+                        throw unexpectedCharacter();
+                    }
+                    result = (result << 4) | digit;
+                    pos++;
+                }
+                return (char) result;
+            default:
+                pos--;
+                throw unexpectedCharacter();
+        }
+    }
+
+    private String decode(final int start, final int length, final boolean ascii) {
+        if (ascii) {
+            // each byte is a char of its own
+            return new String(data, start, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(data, start, length, StandardCharsets.UTF_8);
+    }
+
+    private JsonNumber readNumber() {
+        final int start = pos;
+        final boolean negative = readOptional('-');
+        boolean decimal = false;
+        long value = 0;
+        int digits = 0;
+        if (readOptional('0')) {
+            digits = 1;
+        } else {
+            byte b = current();
+            if (!isDigit(b)) {
+                throw unexpectedCharacter();
+            }
+            do {
+                // accumulate negatively to be able to represent Long.MIN_VALUE
+                value = value * 10 - (b - '0');
+                digits++;
+                pos++;
+            } while (pos < end && isDigit(b = data[pos]));
+        }
+        if (readOptional('.')) {
+            decimal = true;
+            readDigits();
+        }
+        if (pos < end && (data[pos] == 'e' || data[pos] == 'E')) {
+            decimal = true;
+            pos++;
+            if (!readOptional('+')) {
+                readOptional('-');
+            }
+            readDigits();
+        }
+        if (decimal) {
+            return ImmutableJsonDouble.of(Double.parseDouble(decode(start, pos - start, true)));
+        }
+        if (digits > 18) {
+            // might have overflowed, let Long do the range check
+            value = Long.parseLong(decode(start, pos - start, true));
+        } else if (!negative) {
+            value = -value;
+        }
+        if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return ImmutableJsonInt.of((int) value);
+        }
+        return ImmutableJsonLong.of(value);
+    }
+
+    private void readDigits() {
+        if (!isDigit(current())) {
+            throw unexpectedCharacter();
+        }
+        do {
+            pos++;
+        } while (pos < end && isDigit(data[pos]));
+    }
+
+    private static boolean isDigit(final byte b) {
+        return '0' <= b && b <= '9';
+    }
+
+    private void readLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (current() != literal.charAt(i)) {
+                throw unexpectedCharacter();
+            }
+            pos++;
+        }
+    }
+
+    private void skipWhitespace() {
+        final int start = pos;
+        while (pos < end && isWhitespace(data[pos])) {
+            pos++;
+        }
+        if (pos != start) {
+            nonCanonicalMarks++;
+        }
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private boolean readOptional(final char c) {
+        if (pos < end && data[pos] == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (current() != c) {
+            throw unexpectedCharacter();
+        }
+        pos++;
+    }
+
+    private void checkNoControlCharacter(final byte b) {
+        if (0 <= b && b < 0x20) {
+            throw unexpectedCharacter();
+        }
+    }
+
+    private byte current() {
+        if (pos >= end) {
+            throw JsonParseException.newBuilder()
+                    .message("Unexpected end of JSON input!")
+                    .build();
+        }
+        return data[pos];
+    }
+
+    private JsonParseException unexpectedCharacter() {
+        final int codePoint = data[pos] & 0xFF;
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("Unexpected character <{0}> at byte offset <{1}>!",
+                        codePoint < 0x20 || codePoint > 0x7E ? String.format("0x%02X", codePoint) :
+                                String.valueOf((char) codePoint),
+                        pos))
+                .build();
+    }
+
+}
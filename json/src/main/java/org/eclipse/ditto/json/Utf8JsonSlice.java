@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A view on the UTF-8 encoded JSON representation of a single JSON object or array within a byte array which was
+ * parsed by {@link Utf8JsonParser}.
+ * The slice shares the byte array with the parser's input; nested values of a parsed document all point into the
+ * same array instead of copying their part of it.
+ * <p>
+ * A slice is <em>canonical</em> if its bytes are exactly the string representation Ditto JSON would create for the
+ * parsed value, i. e. it contains no insignificant whitespace, no escape sequences and no duplicate keys.
+ * Only then the bytes may be used as string representation directly.
+ * </p>
+ */
+@Immutable
+final class Utf8JsonSlice {
+
+    private final byte[] data;
+    private final int offset;
+    private final int length;
+    private final boolean canonical;
+
+    Utf8JsonSlice(final byte[] data, final int offset, final int length, final boolean canonical) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        this.canonical = canonical;
+    }
+
+    /**
+     * Indicates whether the bytes of this slice are the canonical string representation of the parsed value.
+     *
+     * @return {@code true} if the bytes can be used as string representation as they are.
+     */
+    boolean isCanonical() {
+        return canonical;
+    }
+
+    /**
+     * Returns the number of bytes of this slice.
+     * As each character of the string representation needs at least one byte in UTF-8 this is an upper bound for
+     * the length of the string representation.
+     *
+     * @return the number of bytes.
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Decodes the bytes of this slice to a String.
+     *
+     * @return the decoded string.
+     */
+    String decode() {
+        return new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the bytes of this slice again.
+     *
+     * @return the parsed JSON value.
+     */
+    JsonValue parse() {
+        return Utf8JsonParser.parse(data, offset, length);
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyFieldIndex} and the lazily parsed JSON objects which are backed by it.
+ */
+public final class LazyFieldIndexTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing\",\"policyId\":" +
+            "\"org.eclipse.ditto:policy\",\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":12345," +
+            "\"location\":{\"latitude\":47.68,\"longitude\":9.38},\"tags\":[\"a\",\"b\",null,true,false]}," +
+            "\"features\":{\"temperature\":{\"properties\":{\"value\":-23.5,\"unit\":\"°C\"," +
+            "\"text\":\"with \\\"quotes\\\" and {braces]\"}}},\"_revision\":42}";
+
+    @Test
+    public void lazyObjectEqualsEagerlyParsedObject() {
+        final JsonObject expected = JsonFactory.newObject(THING_JSON);
+
+        final JsonObject actual = newLazyObject(THING_JSON);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.getKeys()).isEqualTo(expected.getKeys());
+    }
+
+    @Test
+    public void nestedValuesAreAccessibleByPointer() {
+        final JsonObject lazyObject = newLazyObject(THING_JSON);
+
+        assertThat(lazyObject.getSize()).isEqualTo(5);
+        assertThat(lazyObject.contains("attributes")).isTrue();
+        assertThat(lazyObject.contains("definition")).isFalse();
+        assertThat(lazyObject.getValue(JsonPointer.of("features/temperature/properties/text")))
+                .contains(JsonValue.of("with \"quotes\" and {braces]"));
+        assertThat(lazyObject.getValue(JsonPointer.of("attributes/location/latitude")))
+                .contains(JsonValue.of(47.68));
+        assertThat(lazyObject.getValue("_revision")).contains(JsonValue.of(42));
+    }
+
+    @Test
+    public void valuesAreOnlyReadOnFirstAccess() {
+        final AtomicInteger readCount = new AtomicInteger();
+        final byte[] data = "{\"a\":1,\"b\":[2]}".getBytes(StandardCharsets.UTF_8);
+        final LazyFieldIndex.Builder builder = LazyFieldIndex.newBuilder(data, (bytes, offset, length) -> {
+            readCount.incrementAndGet();
+            return Utf8JsonParser.parse(bytes, offset, length);
+        });
+        builder.add(JsonKey.of("a"), 5, 1);
+        builder.add(JsonKey.of("b"), 11, 3);
+        final LazyFieldIndex underTest = builder.build();
+
+        assertThat(underTest.getSize()).isEqualTo(2);
+        assertThat(underTest.containsKey("b")).isTrue();
+        assertThat(readCount).hasValue(0);
+
+        assertThat(underTest.get("b")).isEqualTo(JsonField.newInstance("b", JsonArray.of(2)));
+        assertThat(underTest.get("b")).isEqualTo(JsonField.newInstance("b", JsonArray.of(2)));
+        assertThat(readCount).hasValue(1);
+
+        underTest.toFieldMap();
+        assertThat(readCount).hasValue(2);
+    }
+
+    @Test
+    public void syntaxErrorInNestedValueIsDetectedOnIndexing() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> newLazyObject("{\"valid\":true,\"invalid\":{\"a\":tru}}"));
+    }
+
+    @Test
+    public void malformedTopLevelObjectIsRejected() {
+        final String[] invalidJsons = {"{", "{\"a\":1,}", "{\"a\" 1}", "{\"a\":[1}", "{\"a\":\"b}", "{a:1}",
+                "{\"a\":1} {}", "[1]", "\"foo\""};
+
+        for (final String invalidJson : invalidJsons) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJson)
+                    .isThrownBy(() -> newLazyObject(invalidJson));
+        }
+    }
+
+    @Test
+    public void duplicateKeyKeepsPositionOfFirstAndValueOfLastOccurrence() {
+        final JsonObject lazyObject = newLazyObject("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(lazyObject).isEqualTo(JsonObject.newBuilder().set("a", 3).set("b", 2).build());
+        assertThat(lazyObject.toString()).isEqualTo("{\"a\":3,\"b\":2}");
+    }
+
+    @Test
+    public void whitespaceIsNotPartOfStringRepresentation() {
+        final JsonObject lazyObject = newLazyObject(" {\n  \"foo\" : [ 1 , 2 ],\r\n\t\"bar\" : { \"baz\" : null } } ");
+
+        assertThat(lazyObject.toString()).isEqualTo("{\"foo\":[1,2],\"bar\":{\"baz\":null}}");
+    }
+
+    @Test
+    public void manyFieldsAreLookedUpByHash() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.set("key" + i, i);
+        }
+        final JsonObject expected = builder.build();
+
+        final JsonObject lazyObject = newLazyObject(expected.toString());
+
+        assertThat(lazyObject.getSize()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(lazyObject.getValue("key" + i)).contains(JsonValue.of(i));
+        }
+        assertThat(lazyObject.getValue("key100")).isEmpty();
+        assertThat(lazyObject).isEqualTo(expected);
+    }
+
+    @Test
+    public void modificationsCreateRegularObjects() {
+        final JsonObject lazyObject = newLazyObject(THING_JSON);
+
+        final JsonObject modified = lazyObject.setValue(JsonPointer.of("attributes/serial"), 4711)
+                .remove("policyId");
+
+        assertThat(modified).isEqualTo(JsonFactory.newObject(THING_JSON)
+                .setValue(JsonPointer.of("attributes/serial"), 4711)
+                .remove("policyId"));
+    }
+
+    @Test
+    public void nullLiteralIsNullObject() {
+        assertThat(newLazyObject("null").isNull()).isTrue();
+    }
+
+    private static JsonObject newLazyObject(final String json) {
+        return JsonFactory.newLazyObject(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
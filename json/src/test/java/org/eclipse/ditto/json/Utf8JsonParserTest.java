@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing\",\"policyId\":" +
+            "\"org.eclipse.ditto:policy\",\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":12345," +
+            "\"location\":{\"latitude\":47.68,\"longitude\":9.38},\"tags\":[\"a\",\"b\",null,true,false]}," +
+            "\"features\":{\"temperature\":{\"properties\":{\"value\":-23.5,\"unit\":\"°C\"," +
+            "\"max\":9223372036854775807,\"min\":-9223372036854775808,\"count\":2147483648}}},\"_revision\":42}";
+
+    @Test
+    public void parseThingLikeObjectEqualsMinimalJsonResult() {
+        final JsonValue expected = JsonValueParser.fromString().apply(THING_JSON);
+
+        final JsonValue actual = parse(THING_JSON);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void parseLiterals() {
+        assertThat(parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("false")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("null")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(parse("\"foo\"")).isEqualTo(JsonValue.of("foo"));
+    }
+
+    @Test
+    public void parseNumbersToSameTypesAsMinimalJson() {
+        final String[] numbers = {"0", "-0", "42", "-42", "2147483647", "2147483648", "-2147483649",
+                "9223372036854775807", "-9223372036854775808", "1.5", "-0.25", "1e3", "1E-3", "2.5e+2"};
+
+        for (final String number : numbers) {
+            final JsonValue expected = JsonValueParser.fromString().apply(number);
+            final JsonValue actual = parse(number);
+
+            assertThat(actual).as(number).isEqualTo(expected);
+            assertThat(actual.isInt()).as(number).isEqualTo(expected.isInt());
+            assertThat(actual.isLong()).as(number).isEqualTo(expected.isLong());
+        }
+    }
+
+    @Test
+    public void parseNumberOutOfLongRangeFails() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("[9223372036854775808]"))
+                .withCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void parseEscapedStrings() {
+        final String json = "{\"k\\\"ey\":\"tab\\tnew\\nline\\u00e4\\/\\\\\"}";
+
+        final JsonValue actual = parse(json);
+
+        assertThat(actual).isEqualTo(JsonValueParser.fromString().apply(json));
+        assertThat(actual.asObject().getValue("k\"ey")).contains(JsonValue.of("tab\tnew\nline\u00e4/\\"));
+        assertThat(actual.toString()).isEqualTo("{\"k\\\"ey\":\"tab\\tnew\\nline\u00e4/\\\\\"}");
+    }
+
+    @Test
+    public void parseNonAsciiStrings() {
+        final String json = "{\"schlüssel\":\"wert \uD83D\uDE00\"}";
+
+        final JsonValue actual = parse(json);
+
+        assertThat(actual.asObject().getValue("schlüssel")).contains(JsonValue.of("wert \uD83D\uDE00"));
+        assertThat(actual.toString()).isEqualTo(json);
+    }
+
+    @Test
+    public void whitespaceIsNotPartOfStringRepresentation() {
+        final String json = " {\n  \"foo\" : [ 1 , 2 ],\r\n\t\"bar\" : { \"baz\" : null } } ";
+
+        final JsonValue actual = parse(json);
+
+        assertThat(actual.toString()).isEqualTo("{\"foo\":[1,2],\"bar\":{\"baz\":null}}");
+        assertThat(actual.asObject().getValue("foo").map(JsonValue::toString)).contains("[1,2]");
+    }
+
+    @Test
+    public void duplicateKeysAreNotPartOfStringRepresentation() {
+        final JsonValue actual = parse("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set("a", 3).set("b", 2).build());
+        assertThat(actual.toString()).isEqualTo("{\"a\":3,\"b\":2}");
+    }
+
+    @Test
+    public void parseEmptyContainers() {
+        assertThat(parse("{}")).isEqualTo(JsonObject.empty());
+        assertThat(parse("[]")).isEqualTo(JsonArray.empty());
+        assertThat(parse("{ }").toString()).isEqualTo("{}");
+        assertThat(parse("[ ]").toString()).isEqualTo("[]");
+    }
+
+    @Test
+    public void knownKeysAreShared() {
+        final JsonObject first = parse("{\"thingId\":\"a:b\"}").asObject();
+        final JsonObject second = parse("{\"thingId\":\"c:d\"}").asObject();
+
+        assertThat(first.getKeys().get(0)).isSameAs(second.getKeys().get(0));
+    }
+
+    @Test
+    public void parseByteBufferDoesNotChangeItsPosition() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(THING_JSON.getBytes(StandardCharsets.UTF_8));
+
+        final JsonValue actual = JsonValueParser.fromByteBuffer().apply(byteBuffer);
+
+        assertThat(actual).isEqualTo(JsonValueParser.fromString().apply(THING_JSON));
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void invalidJsonIsRejected() {
+        final String[] invalidJsons = {"", "{", "{\"a\":1,}", "[1,]", "[01]", "{\"a\" 1}", "tru", "nul",
+                "\"unterminated", "\"\\x\"", "\"\\u12g4\"", "1.", "-", "1e", "[1] [2]", "{\"\":1}", "{a:1}",
+                "\"control\u0001char\""};
+
+        for (final String invalidJson : invalidJsons) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJson)
+                    .isThrownBy(() -> parse(invalidJson));
+        }
+    }
+
+    @Test
+    public void invalidNestedValuesOfLazilyParsedObjectAreRejected() {
+        final String[] invalidJsons = {"{\"a\":{\"b\":tru}}", "{\"a\":[1,]}", "{\"a\":{\"b\" 1}}",
+                "{\"a\":[01]}", "{\"a\":{\"b\":\"\\x\"}}", "{\"a\":[1.]}", "{\"a\":{\"b\":[\"c\",}]}"};
+
+        for (final String invalidJson : invalidJsons) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJson)
+                    .isThrownBy(() -> parseLazily(invalidJson));
+        }
+    }
+
+    @Test
+    public void nestedDuplicateKeysAreNotPartOfStringRepresentationOfLazilyParsedObject() {
+        final JsonObject actual = parseLazily("{\"a\":{\"b\":1,\"b\":2},\"c\":[{\"d\":3,\"d\":4}]}");
+
+        assertThat(actual.toString()).isEqualTo("{\"a\":{\"b\":2},\"c\":[{\"d\":4}]}");
+        assertThat(actual.getValue("a/b")).contains(JsonValue.of(2));
+    }
+
+    @Test
+    public void fieldsAreRecoveredFromBytesAfterSoftReferenceWasCleared() throws Exception {
+        final JsonObject jsonObject = parse(THING_JSON).asObject();
+        final Field fieldMapField = ImmutableJsonObject.class.getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final Object fieldMap = fieldMapField.get(jsonObject);
+        final Field fieldsReferenceField = fieldMap.getClass().getDeclaredField("fieldsReference");
+        fieldsReferenceField.setAccessible(true);
+
+        ((SoftReference<?>) fieldsReferenceField.get(fieldMap)).clear();
+
+        assertThat(jsonObject.getValue("features/temperature/properties/unit")).contains(JsonValue.of("°C"));
+        assertThat(jsonObject).isEqualTo(JsonValueParser.fromString().apply(THING_JSON));
+    }
+
+    private static JsonValue parse(final String json) {
+        return JsonValueParser.fromBytes().apply(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonObject parseLazily(final String json) {
+        final byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        return Utf8JsonParser.parseObjectLazily(data, 0, data.length);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the parsing of UTF-8 encoded JSON via the Minimal Json based String parser with the
+ * streaming parser which reads the bytes directly, eagerly as well as lazily.
+ */
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JsonPointer SINGLE_VALUE_POINTER = JsonPointer.of("features/feature0/properties/property1");
+
+    /**
+     * The number of features of the parsed thing, each having 10 properties.
+     */
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private byte[] thingJsonBytes;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+            for (int j = 0; j < 10; j++) {
+                propertiesBuilder.set("property" + j, j % 2 == 0 ? JsonValue.of(i * j * 0.5) : JsonValue.of("v" + j));
+            }
+            featuresBuilder.set("feature" + i, JsonObject.newBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", propertiesBuilder.build())
+                    .build());
+        }
+        final JsonObject thingJson = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serialNumber", 1234567890L)
+                        .build())
+                .set("features", featuresBuilder.build())
+                .set("_revision", 42)
+                .build();
+        thingJsonBytes = thingJson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseDecodedString() {
+        return JsonFactory.readFrom(new String(thingJsonBytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseUtf8Bytes() {
+        return JsonFactory.readFrom(thingJsonBytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> parseUtf8BytesAndGetSingleValue() {
+        return JsonFactory.readFrom(thingJsonBytes).asObject().getValue(SINGLE_VALUE_POINTER);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> parseUtf8BytesLazilyAndGetSingleValue() {
+        return JsonFactory.newLazyObject(thingJsonBytes).getValue(SINGLE_VALUE_POINTER);
+    }
+
+}
@@ -295,7 +295,32 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      *
      * @since 1.5.0
      */
-    WEAK_ACK("ditto-weak-ack", boolean.class, false, true, HeaderValueValidators.getBooleanValidator());
+    WEAK_ACK("ditto-weak-ack", boolean.class, false, true, HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for answering a search query with the things stored in the search index instead of retrieving
+     * each found thing. The results are eventually consistent.
+     *
+     * <p>
+     * Key {@code "search-index-projection"}, Java type: {@link boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_INDEX_PROJECTION("search-index-projection", boolean.class, true, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for answering a count query with an estimation instead of an exact count.
+     *
+     * <p>
+     * Key {@code "search-count-approximate"}, Java type: {@link boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_COUNT_APPROXIMATE("search-count-approximate", boolean.class, true, false,
+            HeaderValueValidators.getBooleanValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
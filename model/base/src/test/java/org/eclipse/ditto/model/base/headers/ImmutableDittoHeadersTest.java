@@ -116,6 +116,8 @@ public final class ImmutableDittoHeadersTest {
     private static final MetadataHeaders KNOWN_METADATA_HEADERS;
     private static final boolean KNOWN_ALLOW_POLICY_LOCKOUT = true;
     private static final boolean KNOWN_IS_WEAK_ACK = false;
+    private static final boolean KNOWN_SEARCH_INDEX_PROJECTION = true;
+    private static final boolean KNOWN_SEARCH_COUNT_APPROXIMATE = true;
 
     static {
         KNOWN_METADATA_HEADERS = MetadataHeaders.newInstance();
@@ -168,6 +170,10 @@ public final class ImmutableDittoHeadersTest {
                 .expectedResponseTypes(KNOWN_EXPECTED_RESPONSE_TYPES)
                 .allowPolicyLockout(KNOWN_ALLOW_POLICY_LOCKOUT)
                 .putHeader(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK))
+                .putHeader(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(),
+                        String.valueOf(KNOWN_SEARCH_INDEX_PROJECTION))
+                .putHeader(DittoHeaderDefinition.SEARCH_COUNT_APPROXIMATE.getKey(),
+                        String.valueOf(KNOWN_SEARCH_COUNT_APPROXIMATE))
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -388,6 +394,8 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.PUT_METADATA.getKey(), KNOWN_METADATA_HEADERS.toJson())
                 .set(DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT.getKey(), KNOWN_ALLOW_POLICY_LOCKOUT)
                 .set(DittoHeaderDefinition.WEAK_ACK.getKey(), KNOWN_IS_WEAK_ACK)
+                .set(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(), KNOWN_SEARCH_INDEX_PROJECTION)
+                .set(DittoHeaderDefinition.SEARCH_COUNT_APPROXIMATE.getKey(), KNOWN_SEARCH_COUNT_APPROXIMATE)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -609,6 +617,10 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.PUT_METADATA.getKey(), KNOWN_METADATA_HEADERS.toJsonString());
         result.put(DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT.getKey(), String.valueOf(KNOWN_ALLOW_POLICY_LOCKOUT));
         result.put(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK));
+        result.put(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(),
+                String.valueOf(KNOWN_SEARCH_INDEX_PROJECTION));
+        result.put(DittoHeaderDefinition.SEARCH_COUNT_APPROXIMATE.getKey(),
+                String.valueOf(KNOWN_SEARCH_COUNT_APPROXIMATE));
 
         return result;
     }
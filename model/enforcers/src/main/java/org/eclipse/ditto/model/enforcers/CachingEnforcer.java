@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Decorates an {@link Enforcer} by memoizing the results of {@link #hasUnrestrictedPermissions} and
+ * {@link #hasPartialPermissions} per authorization subjects, resource key and permissions.
+ * <p>
+ * The decisions are only valid as long as the decorated enforcer does not change. As enforcers are immutable and
+ * rebuilt for each revision of a policy, a new instance of this class has to be created for each enforcer.
+ * All other methods are delegated without caching.
+ * <p>
+ * Memory is bounded by the maximum number of decisions: once it is reached, decisions are discarded by the size-based
+ * eviction of Caffeine, which takes both recency and frequency of use into account. Reading cached decisions does not
+ * block concurrent readers.
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class CachingEnforcer implements Enforcer {
+
+    private final Enforcer delegate;
+    private final int maxDecisions;
+    private final Runnable onHit;
+    private final Runnable onMiss;
+    private final Cache<Decision, Boolean> decisions;
+
+    private CachingEnforcer(final Enforcer delegate, final int maxDecisions, final Runnable onHit,
+            final Runnable onMiss) {
+
+        this.delegate = delegate;
+        this.maxDecisions = maxDecisions;
+        this.onHit = onHit;
+        this.onMiss = onMiss;
+        decisions = Caffeine.newBuilder()
+                .maximumSize(maxDecisions)
+                // evict in the calling thread instead of scheduling a task for each eviction
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Returns a new {@code CachingEnforcer} for the given enforcer.
+     *
+     * @param delegate the enforcer whose decisions are cached.
+     * @param maxDecisions the maximum number of decisions to keep.
+     * @param onHit called each time a decision is answered from the cache.
+     * @param onMiss called each time a decision is computed by {@code delegate}.
+     * @return the caching enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code maxDecisions} is not positive.
+     */
+    public static CachingEnforcer of(final Enforcer delegate, final int maxDecisions, final Runnable onHit,
+            final Runnable onMiss) {
+
+        checkNotNull(delegate, "delegate");
+        checkNotNull(onHit, "onHit");
+        checkNotNull(onMiss, "onMiss");
+        if (maxDecisions <= 0) {
+            throw new IllegalArgumentException("maxDecisions must be positive, but was <" + maxDecisions + ">!");
+        }
+        return new CachingEnforcer(delegate, maxDecisions, onHit, onMiss);
+    }
+
+    /**
+     * Returns a new {@code CachingEnforcer} for the given enforcer without hit or miss callbacks.
+     *
+     * @param delegate the enforcer whose decisions are cached.
+     * @param maxDecisions the maximum number of decisions to keep.
+     * @return the caching enforcer.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxDecisions} is not positive.
+     */
+    public static CachingEnforcer of(final Enforcer delegate, final int maxDecisions) {
+        return of(delegate, maxDecisions, () -> {}, () -> {});
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final Decision decision = new Decision(true, resourceKey, authorizationContext, permissions);
+        final Boolean cachedResult = decisions.getIfPresent(decision);
+        if (cachedResult != null) {
+            onHit.run();
+            return cachedResult;
+        }
+        onMiss.run();
+        final boolean result = delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        decisions.put(decision, result);
+        return result;
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final Decision decision = new Decision(false, resourceKey, authorizationContext, permissions);
+        final Boolean cachedResult = decisions.getIfPresent(decision);
+        if (cachedResult != null) {
+            onHit.run();
+            return cachedResult;
+        }
+        onMiss.run();
+        final boolean result = delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        decisions.put(decision, result);
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return delegate.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    /**
+     * Returns the approximate number of currently cached decisions.
+     *
+     * @return the number of cached decisions.
+     */
+    public int getCachedDecisionsCount() {
+        return (int) decisions.estimatedSize();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", maxDecisions=" + maxDecisions +
+                ", cachedDecisions=" + decisions.estimatedSize() +
+                "]";
+    }
+
+    /**
+     * Key of a cached decision. The hash code is computed once as it is needed both for lookup and insertion.
+     */
+    private static final class Decision {
+
+        private final boolean unrestricted;
+        private final ResourceKey resourceKey;
+        private final List<AuthorizationSubject> authorizationSubjects;
+        private final Permissions permissions;
+        private final int hashCode;
+
+        private Decision(final boolean unrestricted, final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+            this.unrestricted = unrestricted;
+            this.resourceKey = checkNotNull(resourceKey, "resource key");
+            authorizationSubjects = checkNotNull(authorizationContext, "authorization context")
+                    .getAuthorizationSubjects();
+            this.permissions = checkNotNull(permissions, "permissions");
+            hashCode = Objects.hash(unrestricted, resourceKey, authorizationSubjects, permissions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Decision that = (Decision) o;
+            return hashCode == that.hashCode &&
+                    unrestricted == that.unrestricted &&
+                    resourceKey.equals(that.resourceKey) &&
+                    authorizationSubjects.equals(that.authorizationSubjects) &&
+                    permissions.equals(that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.BitSetBasedPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -55,6 +56,21 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer which is optimized for Policies with many subjects, e.g. shared Policies with one subject per
+     * integrating service or user group. It evaluates like {@link #throughputOptimizedEvaluator(Policy)} but stores
+     * the subjects of each resource as bitsets, which speeds up permission checks and reduces memory when the Policy
+     * has hundreds of subjects.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized Enforcer optimized for many subjects.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Enforcer manySubjectsOptimizedEvaluator(final Policy policy) {
+        return BitSetBasedPolicyEnforcer.newInstance(policy);
+    }
+
     /**
      * Returns a Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
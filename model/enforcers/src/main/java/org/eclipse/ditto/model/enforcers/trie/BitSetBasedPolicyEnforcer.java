@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Variant of {@link TrieBasedPolicyEnforcer} for policies with many subjects.
+ * <p>
+ * The tries are built in the same way, but afterwards each subject of the policy is assigned a dense integer index
+ * and the granted and revoked subjects of each trie node are stored as bitsets of those indexes. Permission checks
+ * intersect the bitset of the authorization subjects with the bitsets of the trie node by word operations instead of
+ * intersecting sets of subject IDs. Nodes with equal grants and revokes share their bitsets, which keeps the memory
+ * footprint of the 3 tries small.
+ *
+ * @since 2.0.0
+ */
+public final class BitSetBasedPolicyEnforcer implements Enforcer {
+
+    private final SubjectIndex subjectIndex;
+
+    /**
+     * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
+     */
+    private final BitSetPolicyTrie inheritedTrie;
+
+    /**
+     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating grant sets up from descendants to ancestors.
+     */
+    private final BitSetPolicyTrie bottomUpGrantTrie;
+
+    /**
+     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating revoke sets up from descendants to ancestors.
+     */
+    private final BitSetPolicyTrie bottomUpRevokeTrie;
+
+    private BitSetBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        subjectIndex = SubjectIndex.fromPolicy(policy);
+        final PolicyTrie inherited = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final Map<GrantRevokeIndex, BitSetGrantRevokeIndex> convertedIndices = new HashMap<>();
+        inheritedTrie = BitSetPolicyTrie.of(inherited, subjectIndex, convertedIndices);
+        bottomUpGrantTrie = BitSetPolicyTrie.of(inherited.getBottomUpGrantTrie(), subjectIndex, convertedIndices);
+        bottomUpRevokeTrie = BitSetPolicyTrie.of(inherited.getBottomUpRevokeTrie(), subjectIndex, convertedIndices);
+    }
+
+    /**
+     * Constructs a bitset-based policy enforcer from a policy.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static BitSetBasedPolicyEnforcer newInstance(final Policy policy) {
+        return new BitSetBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
+        return policyTrie.getGrantRevokeIndex().hasPermissions(getSubjects(authorizationContext), permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
+        return policyTrie.getGrantRevokeIndex().hasPermissions(getSubjects(authorizationContext), permissions);
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        final BitSetGrantRevokeIndex grantRevokeIndex = seekToLeastAncestor(resourceKey, permissions);
+        return ImmutableEffectedSubjectIds.of(
+                subjectIndex.toSubjectIds(grantRevokeIndex.getGrantedSubjects(permissions)),
+                subjectIndex.toSubjectIds(grantRevokeIndex.getRevokedSubjects(permissions)));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        final BitSetGrantRevokeIndex grantRevokeIndex = seekToLeastAncestor(resourceKey, permissions);
+        return DefaultEffectedSubjects.of(
+                subjectIndex.toAuthorizationSubjects(grantRevokeIndex.getGrantedSubjects(permissions)),
+                subjectIndex.toAuthorizationSubjects(grantRevokeIndex.getRevokedSubjects(permissions)));
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
+        return subjectIndex.toSubjectIds(policyTrie.getGrantRevokeIndex().getGrantedSubjects(permissions));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
+        return subjectIndex.toAuthorizationSubjects(policyTrie.getGrantRevokeIndex().getGrantedSubjects(permissions));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final BitSetPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields, getSubjects(authorizationContext), permissions);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private BitSet getSubjects(final AuthorizationContext authorizationContext) {
+        return subjectIndex.toBitSet(authorizationContext.getAuthorizationSubjectIds());
+    }
+
+    private BitSetGrantRevokeIndex seekToLeastAncestor(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)).getGrantRevokeIndex();
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private static BitSetPolicyTrie seekWithFallback(final ResourceKey resourceKey, final BitSetPolicyTrie firstTry,
+            final BitSetPolicyTrie fallback) {
+
+        return firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Read-only form of a {@link GrantRevokeIndex} which stores the subjects of each permission as bitsets over the
+ * indexes of a {@link SubjectIndex}. Checks are done with word operations on the bitsets instead of set operations on
+ * subject IDs.
+ */
+@Immutable
+final class BitSetGrantRevokeIndex {
+
+    /**
+     * Marker of the absence of a weight.
+     */
+    private static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final Map<String, WeightedSubjects> grantMap;
+    private final Map<String, WeightedSubjects> revokeMap;
+
+    private BitSetGrantRevokeIndex(final Map<String, WeightedSubjects> grantMap,
+            final Map<String, WeightedSubjects> revokeMap) {
+
+        this.grantMap = grantMap;
+        this.revokeMap = revokeMap;
+    }
+
+    /**
+     * Converts a {@code GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to convert.
+     * @param subjectIndex the index of all subject IDs in {@code grantRevokeIndex}.
+     * @return the converted index.
+     * @throws IllegalStateException if {@code grantRevokeIndex} contains a subject ID not in {@code subjectIndex}.
+     */
+    static BitSetGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex, final SubjectIndex subjectIndex) {
+        return new BitSetGrantRevokeIndex(convert(grantRevokeIndex.getGranted(), subjectIndex),
+                convert(grantRevokeIndex.getRevoked(), subjectIndex));
+    }
+
+    private static Map<String, WeightedSubjects> convert(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectIndex subjectIndex) {
+
+        final Map<String, WeightedSubjects> result = new HashMap<>(permissionSubjectsMap.size() * 2);
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                result.put(permission, WeightedSubjects.of(subjectWeights, subjectIndex)));
+        return result;
+    }
+
+    /**
+     * Same as {@link GrantRevokeIndex#hasPermissions(Collection, Collection)} for the subjects of a bitset.
+     *
+     * @param subjects bitset of the authorization subjects to check.
+     * @param permissions permissions to check.
+     * @return result of the check.
+     */
+    boolean hasPermissions(final BitSet subjects, final Collection<String> permissions) {
+        if (permissions.isEmpty()) {
+            return false;
+        }
+        int grantWeight = NO_WEIGHT;
+        int revokeWeight = NO_WEIGHT;
+        for (final String permission : permissions) {
+            final int permissionGrantWeight = getMaxWeight(grantMap.get(permission), subjects);
+            if (NO_WEIGHT == permissionGrantWeight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, permissionGrantWeight);
+            revokeWeight = Math.max(revokeWeight, getMaxWeight(revokeMap.get(permission), subjects));
+        }
+        return NO_WEIGHT == revokeWeight || revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the bitset of subjects for whom <em>all</em> of the given permissions are granted. Permissions which are
+     * not mentioned at all are ignored like in {@link PermissionSubjectsMap#getSubjectIntersect(java.util.Set)}.
+     *
+     * @param permissions permissions to check.
+     * @return the granted subjects.
+     */
+    BitSet getGrantedSubjects(final Collection<String> permissions) {
+        BitSet result = null;
+        for (final String permission : permissions) {
+            final WeightedSubjects weightedSubjects = grantMap.get(permission);
+            if (null != weightedSubjects) {
+                if (null == result) {
+                    result = (BitSet) weightedSubjects.allSubjects.clone();
+                } else {
+                    result.and(weightedSubjects.allSubjects);
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    /**
+     * Returns the bitset of subjects for whom <em>any</em> of the given permissions are revoked.
+     *
+     * @param permissions permissions to check.
+     * @return the revoked subjects.
+     */
+    BitSet getRevokedSubjects(final Collection<String> permissions) {
+        final BitSet result = new BitSet();
+        for (final String permission : permissions) {
+            final WeightedSubjects weightedSubjects = revokeMap.get(permission);
+            if (null != weightedSubjects) {
+                result.or(weightedSubjects.allSubjects);
+            }
+        }
+        return result;
+    }
+
+    private static int getMaxWeight(@Nullable final WeightedSubjects weightedSubjects, final BitSet subjects) {
+        return null != weightedSubjects ? weightedSubjects.getMaxWeight(subjects) : NO_WEIGHT;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "grantMap=" + grantMap +
+                ", revokeMap=" + revokeMap +
+                "]";
+    }
+
+    /**
+     * Subjects related to one permission. Subjects of the same weight share one bitset; the bitsets are ordered by
+     * descending weight so that the maximum weight of a set of subjects is the weight of the first intersecting bitset.
+     */
+    @Immutable
+    private static final class WeightedSubjects {
+
+        private final int[] weights;
+        private final BitSet[] subjectsByWeight;
+        private final BitSet allSubjects;
+
+        private WeightedSubjects(final int[] weights, final BitSet[] subjectsByWeight, final BitSet allSubjects) {
+            this.weights = weights;
+            this.subjectsByWeight = subjectsByWeight;
+            this.allSubjects = allSubjects;
+        }
+
+        private static WeightedSubjects of(final Map<String, Integer> subjectWeights,
+                final SubjectIndex subjectIndex) {
+
+            final TreeMap<Integer, BitSet> layers = new TreeMap<>();
+            final BitSet allSubjects = new BitSet(subjectIndex.size());
+            subjectWeights.forEach((subjectId, weight) -> {
+                final int index = subjectIndex.getIndex(subjectId);
+                if (index < 0) {
+                    throw new IllegalStateException("Subject ID <" + subjectId + "> is not indexed!");
+                }
+                layers.computeIfAbsent(weight, w -> new BitSet(subjectIndex.size())).set(index);
+                allSubjects.set(index);
+            });
+
+            final int[] weights = new int[layers.size()];
+            final BitSet[] subjectsByWeight = new BitSet[layers.size()];
+            int i = 0;
+            for (final Map.Entry<Integer, BitSet> layer : layers.descendingMap().entrySet()) {
+                weights[i] = layer.getKey();
+                subjectsByWeight[i] = layer.getValue();
+                i++;
+            }
+            return new WeightedSubjects(weights, subjectsByWeight, allSubjects);
+        }
+
+        private int getMaxWeight(final BitSet subjects) {
+            if (allSubjects.intersects(subjects)) {
+                for (int i = 0; i < weights.length; i++) {
+                    if (subjectsByWeight[i].intersects(subjects)) {
+                        return weights[i];
+                    }
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "allSubjects=" + allSubjects +
+                    ", layers=" + weights.length +
+                    "]";
+        }
+
+    }
+
+}
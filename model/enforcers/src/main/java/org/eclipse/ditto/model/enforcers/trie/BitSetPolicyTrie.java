@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.model.policies.Permissions;
+
+/**
+ * Read-only copy of a {@link PolicyTrie} whose nodes hold {@link BitSetGrantRevokeIndex}es. Equal grant-revoke-indices
+ * are converted only once and shared between nodes and tries.
+ */
+@Immutable
+final class BitSetPolicyTrie {
+
+    private final BitSetGrantRevokeIndex grantRevokeIndex;
+    private final Map<JsonKey, BitSetPolicyTrie> children;
+
+    private BitSetPolicyTrie(final BitSetGrantRevokeIndex grantRevokeIndex,
+            final Map<JsonKey, BitSetPolicyTrie> children) {
+
+        this.grantRevokeIndex = grantRevokeIndex;
+        this.children = children;
+    }
+
+    /**
+     * Converts a {@code PolicyTrie}.
+     *
+     * @param policyTrie the trie to convert.
+     * @param subjectIndex the index of all subjects of the policy.
+     * @param convertedIndices already converted grant-revoke-indices to share.
+     * @return the converted trie.
+     */
+    static BitSetPolicyTrie of(final PolicyTrie policyTrie, final SubjectIndex subjectIndex,
+            final Map<GrantRevokeIndex, BitSetGrantRevokeIndex> convertedIndices) {
+
+        final BitSetGrantRevokeIndex grantRevokeIndex =
+                convertedIndices.computeIfAbsent(policyTrie.getGrantRevokeIndex(),
+                        index -> BitSetGrantRevokeIndex.of(index, subjectIndex));
+        final Map<JsonKey, PolicyTrie> oldChildren = policyTrie.getChildren();
+        final Map<JsonKey, BitSetPolicyTrie> newChildren;
+        if (oldChildren.isEmpty()) {
+            newChildren = Collections.emptyMap();
+        } else {
+            newChildren = new HashMap<>(oldChildren.size() * 2);
+            oldChildren.forEach((key, child) -> newChildren.put(key, of(child, subjectIndex, convertedIndices)));
+        }
+        return new BitSetPolicyTrie(grantRevokeIndex, newChildren);
+    }
+
+    /**
+     * Returns the {@link BitSetGrantRevokeIndex} at this node.
+     *
+     * @return The grant-revoke-index at this node.
+     */
+    BitSetGrantRevokeIndex getGrantRevokeIndex() {
+        return grantRevokeIndex;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey Key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path The path key to match.
+     * @return The best matched node.
+     */
+    BitSetPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        return seek(path, Function.identity(), Function.identity());
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path The resource path to match.
+     * @return The exactly matched trie node, or {@code Optional.empty()} if no trie node matches {@code path} exactly.
+     */
+    Optional<BitSetPolicyTrie> seekToExactNode(final Iterator<JsonKey> path) {
+        return seek(path, Optional::of, ancestor -> Optional.empty());
+    }
+
+    private <T> T seek(final Iterator<JsonKey> path, final Function<BitSetPolicyTrie, T> endOfPath,
+            final Function<BitSetPolicyTrie, T> endOfTrie) {
+
+        BitSetPolicyTrie current = this;
+        while (path.hasNext()) {
+            final BitSetPolicyTrie child = current.children.get(path.next());
+            if (null == child) {
+                return endOfTrie.apply(current);
+            }
+            current = child;
+        }
+        return endOfPath.apply(current);
+    }
+
+    /**
+     * Same as {@link PolicyTrie#buildJsonView(Iterable, Collection, Permissions)} for the subjects of a bitset.
+     *
+     * @param jsonFields the fields to filter.
+     * @param subjects bitset of the authorization subjects.
+     * @param permissions the required permissions.
+     * @return the JSON view.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjects,
+            final Permissions permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final BitSetPolicyTrie defaultPolicyTrie = new BitSetPolicyTrie(grantRevokeIndex, Collections.emptyMap());
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final BitSetPolicyTrie relevantTrie = children.getOrDefault(field.getKey(), defaultPolicyTrie);
+            final JsonValue jsonView = relevantTrie.getViewForJsonValueOrNull(field.getValue(), subjects, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final BitSet subjects,
+            final Permissions permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjects, permissions), subjects,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjects, permissions);
+        } else if (grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray, final BitSet subjects,
+            final Permissions permissions) {
+
+        final JsonArray candidate = jsonArray.stream()
+                .map(value -> getViewForJsonValueOrNull(value, subjects, permissions))
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+
+        return filterCandidate(candidate, subjects, permissions);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectId;
+
+/**
+ * Assigns each subject ID of a policy a dense integer index so that sets of subjects can be stored as bitsets.
+ */
+@Immutable
+final class SubjectIndex {
+
+    private final Map<String, Integer> indexes;
+    private final List<String> subjectIds;
+    private final List<AuthorizationSubject> authorizationSubjects;
+
+    private SubjectIndex(final List<String> subjectIds) {
+        this.subjectIds = subjectIds;
+        indexes = new HashMap<>(subjectIds.size() * 2);
+        authorizationSubjects = new ArrayList<>(subjectIds.size());
+        for (final String subjectId : subjectIds) {
+            indexes.put(subjectId, indexes.size());
+            authorizationSubjects.add(AuthorizationSubject.newInstance(subjectId));
+        }
+    }
+
+    /**
+     * Indexes all subject IDs of a policy in the order of their first appearance.
+     *
+     * @param policy the policy entries whose subjects to index.
+     * @return the subject index.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    static SubjectIndex fromPolicy(final Iterable<PolicyEntry> policy) {
+        checkNotNull(policy, "policy to index");
+        final Set<String> seen = new HashSet<>();
+        final List<String> subjectIds = new ArrayList<>();
+        policy.forEach(policyEntry -> policyEntry.getSubjects().stream()
+                .map(Subject::getId)
+                .map(SubjectId::toString)
+                .filter(seen::add)
+                .forEach(subjectIds::add));
+        return new SubjectIndex(subjectIds);
+    }
+
+    /**
+     * Returns the bitset of the given subject IDs. Subject IDs not mentioned in the policy are ignored as they are
+     * neither granted nor revoked anything.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the bitset of the indexes of the known subject IDs.
+     */
+    BitSet toBitSet(final Collection<String> subjectIds) {
+        final BitSet bitSet = new BitSet(indexes.size());
+        for (final String subjectId : subjectIds) {
+            final Integer index = indexes.get(subjectId);
+            if (null != index) {
+                bitSet.set(index);
+            }
+        }
+        return bitSet;
+    }
+
+    /**
+     * Returns the index of a subject ID.
+     *
+     * @param subjectId the subject ID.
+     * @return the index or -1 if the subject ID is not mentioned in the policy.
+     */
+    int getIndex(final String subjectId) {
+        return indexes.getOrDefault(subjectId, -1);
+    }
+
+    /**
+     * Returns the subject IDs of a bitset.
+     *
+     * @param bitSet the bitset of subject indexes.
+     * @return the subject IDs.
+     */
+    Set<String> toSubjectIds(final BitSet bitSet) {
+        final Set<String> result = new HashSet<>();
+        bitSet.stream().forEach(index -> result.add(subjectIds.get(index)));
+        return result;
+    }
+
+    /**
+     * Returns the authorization subjects of a bitset.
+     *
+     * @param bitSet the bitset of subject indexes.
+     * @return the authorization subjects.
+     */
+    Set<AuthorizationSubject> toAuthorizationSubjects(final BitSet bitSet) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        bitSet.stream().forEach(index -> result.add(authorizationSubjects.get(index)));
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed subjects.
+     *
+     * @return the number of subjects.
+     */
+    int size() {
+        return subjectIds.size();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subjectIds=" + subjectIds +
+                "]";
+    }
+
+}
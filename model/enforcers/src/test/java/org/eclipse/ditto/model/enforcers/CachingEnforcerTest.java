@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CachingEnforcer}.
+ */
+public final class CachingEnforcerTest {
+
+    private static final AuthorizationContext GRANTED_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("dummy:granted"));
+    private static final AuthorizationContext OTHER_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("dummy:other"));
+    private static final ResourceKey FEATURE = ResourceKey.newInstance("thing", "/features/lamp");
+    private static final ResourceKey REVOKED_FEATURE = ResourceKey.newInstance("thing", "/features/secret");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private Enforcer delegate;
+
+    @Before
+    public void setUp() {
+        delegate = PolicyEnforcers.defaultEvaluator(policy());
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxDecisions() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CachingEnforcer.of(delegate, 0));
+    }
+
+    @Test
+    public void repeatedDecisionsAreAnsweredFromCache() {
+        final CachingEnforcer underTest = CachingEnforcer.of(delegate, 100, hits::incrementAndGet,
+                misses::incrementAndGet);
+
+        assertThat(underTest.hasUnrestrictedPermissions(FEATURE, GRANTED_CONTEXT, WRITE)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(FEATURE, GRANTED_CONTEXT, WRITE)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(FEATURE, GRANTED_CONTEXT, WRITE)).isTrue();
+
+        assertThat(misses).hasValue(1);
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    public void decisionsAreKeyedBySubjectsResourceAndMethod() {
+        final CachingEnforcer underTest = CachingEnforcer.of(delegate, 100, hits::incrementAndGet,
+                misses::incrementAndGet);
+        final ResourceKey root = ResourceKey.newInstance("thing", JsonPointer.empty());
+
+        assertThat(underTest.hasUnrestrictedPermissions(FEATURE, GRANTED_CONTEXT, WRITE)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(FEATURE, OTHER_CONTEXT, WRITE)).isFalse();
+        assertThat(underTest.hasUnrestrictedPermissions(REVOKED_FEATURE, GRANTED_CONTEXT, WRITE)).isFalse();
+        assertThat(underTest.hasUnrestrictedPermissions(root, GRANTED_CONTEXT, WRITE)).isFalse();
+        assertThat(underTest.hasPartialPermissions(root, GRANTED_CONTEXT, WRITE)).isTrue();
+
+        assertThat(misses).hasValue(5);
+        assertThat(hits).hasValue(0);
+        assertThat(underTest.getCachedDecisionsCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void cachedDecisionsAreBounded() {
+        final CachingEnforcer underTest = CachingEnforcer.of(delegate, 2);
+
+        underTest.hasUnrestrictedPermissions(FEATURE, GRANTED_CONTEXT, WRITE);
+        underTest.hasUnrestrictedPermissions(FEATURE, OTHER_CONTEXT, WRITE);
+        assertThat(underTest.getCachedDecisionsCount()).isEqualTo(2);
+
+        underTest.hasUnrestrictedPermissions(REVOKED_FEATURE, GRANTED_CONTEXT, WRITE);
+        assertThat(underTest.getCachedDecisionsCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void concurrentlyCachedDecisionsEqualDecisionsOfDelegate() throws Exception {
+        final CachingEnforcer underTest = CachingEnforcer.of(delegate, 2, hits::incrementAndGet,
+                misses::incrementAndGet);
+        final ResourceKey[] resourceKeys = {FEATURE, REVOKED_FEATURE};
+        final AuthorizationContext[] contexts = {GRANTED_CONTEXT, OTHER_CONTEXT};
+        final int threads = 4;
+        final int decisionsPerThread = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; ++thread) {
+                results.add(executor.submit(() -> {
+                    boolean allEqual = true;
+                    for (int i = 0; i < decisionsPerThread; ++i) {
+                        final ResourceKey resourceKey = resourceKeys[i % resourceKeys.length];
+                        final AuthorizationContext context = contexts[(i / 2) % contexts.length];
+                        allEqual &= underTest.hasUnrestrictedPermissions(resourceKey, context, WRITE) ==
+                                delegate.hasUnrestrictedPermissions(resourceKey, context, WRITE);
+                    }
+                    return allEqual;
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                assertThat(result.get(10L, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(hits.get() + misses.get()).isEqualTo(threads * decisionsPerThread);
+        assertThat(underTest.getCachedDecisionsCount()).isLessThanOrEqualTo(2);
+    }
+
+    private static Policy policy() {
+        return PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("dummy:granted", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", JsonPointer.of("/features"), WRITE)
+                .setRevokedPermissions("thing", JsonPointer.of("/features/secret"), WRITE)
+                .setRevision(1L)
+                .build();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.algorithms;
+
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.trie.BitSetBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+
+public final class BitSetBasedPolicyAlgorithm implements PolicyAlgorithm {
+
+    private final BitSetBasedPolicyEnforcer bitSetBasedPolicyEvaluator;
+
+    public BitSetBasedPolicyAlgorithm(final Policy policy) {
+        bitSetBasedPolicyEvaluator = BitSetBasedPolicyEnforcer.newInstance(policy);
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+        return bitSetBasedPolicyEvaluator.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return bitSetBasedPolicyEvaluator.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return bitSetBasedPolicyEvaluator.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return bitSetBasedPolicyEvaluator.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return bitSetBasedPolicyEvaluator.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return bitSetBasedPolicyEvaluator.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+        return bitSetBasedPolicyEvaluator.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+}
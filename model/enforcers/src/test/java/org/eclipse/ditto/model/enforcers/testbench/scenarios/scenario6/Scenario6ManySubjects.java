@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.function.Function;
+
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+
+/**
+ * Shared policy of a multi-tenant setup with hundreds of subjects: one subject per integrating service which may
+ * only access its own feature, a large group of users which may read everything except a secret attribute and a
+ * group of admins.
+ */
+public interface Scenario6ManySubjects extends Scenario {
+
+    String SCENARIO_GROUP_NAME = Scenario6ManySubjects.class.getSimpleName();
+
+    int SERVICES = 100;
+    int USERS = 200;
+    int ADMINS = 20;
+
+    Policy POLICY = createPolicy();
+
+    static String service(final int i) {
+        return "sid_service_" + i;
+    }
+
+    static String user(final int i) {
+        return "uid_" + i;
+    }
+
+    static String admin(final int i) {
+        return "gid_admin_" + i;
+    }
+
+    static Policy createPolicy() {
+        PolicyBuilder builder = PoliciesModelFactory.newPolicyBuilder(
+                PolicyId.of("benchmark", Scenario6ManySubjects.class.getSimpleName()));
+        for (int i = 0; i < SERVICES; i++) {
+            builder = builder.forLabel("service_" + i)
+                    .setSubject(SubjectIssuer.GOOGLE, service(i))
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/service_" + i), "READ",
+                            "WRITE");
+        }
+        PolicyBuilder.LabelScoped users = builder.forLabel("users");
+        for (int i = 0; i < USERS; i++) {
+            users = users.setSubject(SubjectIssuer.GOOGLE, user(i));
+        }
+        builder = users.setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ");
+        PolicyBuilder.LabelScoped admins = builder.forLabel("admins");
+        for (int i = 0; i < ADMINS; i++) {
+            admins = admins.setSubject(SubjectIssuer.GOOGLE, admin(i));
+        }
+        return admins.setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE").build();
+    }
+
+    default Policy getPolicy() {
+        return POLICY;
+    }
+
+    @Override
+    default String getScenarioGroup() {
+        return SCENARIO_GROUP_NAME;
+    }
+
+    @Override
+    default Function<PolicyAlgorithm, Boolean> getApplyAlgorithmFunction() {
+        return algorithm -> algorithm.hasPermissionsOnResource(getSetup());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6;
+
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6ManySubjects2 implements Scenario6ManySubjects {
+
+    private final ScenarioSetup setup;
+
+    public Scenario6ManySubjects2() {
+        setup = Scenario.newScenarioSetup( //
+                false, //
+                "Service_42 has READ+WRITE granted on '/features/service_42'. " +
+                        "Is NOT able to WRITE '/features/service_43'", //
+                getPolicy(), //
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.service(42)), //
+                "/features/service_43", //
+                "WRITE");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6;
+
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6ManySubjects3 implements Scenario6ManySubjects {
+
+    private final ScenarioSetup setup;
+
+    public Scenario6ManySubjects3() {
+        setup = Scenario.newScenarioSetup( //
+                false, //
+                "Users have READ granted on '/'. Users have READ revoked on '/attributes/secret'. " +
+                        "User_150 is NOT able to READ '/attributes/secret'", //
+                getPolicy(), //
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.user(150)), //
+                "/attributes/secret", //
+                "READ");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BitSetBasedPolicyEnforcer}. Checks that it decides exactly like {@link TrieBasedPolicyEnforcer}.
+ */
+public final class BitSetBasedPolicyEnforcerTest {
+
+    private static final List<String> RESOURCES = List.of("/", "/attributes", "/attributes/nogo1",
+            "/attributes/nogo1/go1", "/attributes/nogo2/go2", "/attributes/read_write", "/attributes/secret",
+            "/attributes/unknown", "/features", "/features/foo1", "/features/foo3/properties",
+            "/features/lamp/properties/config/on", "/features/service_42", "/features/service_42/properties/x",
+            "/features/service_43", "/policy");
+
+    private static final List<Permissions> PERMISSIONS = List.of(Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"), Permissions.newInstance("READ", "WRITE"), Permissions.none());
+
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "benchmark:thing")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("nogo1", JsonObject.newBuilder().set("go1", 1).set("other", 2).build())
+                    .set("read_write", "rw")
+                    .set("secret", "s")
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("service_42", JsonObject.newBuilder().set("properties", JsonObject.newBuilder()
+                            .set("x", 42).build()).build())
+                    .set("foo1", JsonObject.newBuilder().set("properties", JsonObject.newBuilder()
+                            .set("y", 1).build()).build())
+                    .build())
+            .build();
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void decidesLikeTrieBasedPolicyEnforcerForMultipleSubjects() {
+        assertSameDecisions(Scenario4MultipleSubjects.POLICY, List.of(
+                Scenario.newAuthorizationContext(Scenario4MultipleSubjects.SUBJECT_1),
+                Scenario.newAuthorizationContext(Scenario4MultipleSubjects.SUBJECT_3),
+                Scenario.newAuthorizationContext(Scenario4MultipleSubjects.SUBJECT_3,
+                        Scenario4MultipleSubjects.SUBJECT_4),
+                Scenario.newAuthorizationContext(Scenario4MultipleSubjects.SUBJECT_5,
+                        Scenario4MultipleSubjects.SUBJECT_6),
+                Scenario.newAuthorizationContext(Scenario4MultipleSubjects.SUBJECT_1,
+                        Scenario4MultipleSubjects.SUBJECT_3, Scenario4MultipleSubjects.SUBJECT_5),
+                Scenario.newAuthorizationContext("unknown")));
+    }
+
+    @Test
+    public void decidesLikeTrieBasedPolicyEnforcerForManySubjects() {
+        assertSameDecisions(Scenario6ManySubjects.POLICY, List.of(
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.service(42)),
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.service(42), Scenario6ManySubjects.user(7)),
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.user(150)),
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.user(150), Scenario6ManySubjects.admin(3)),
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.admin(19), "unknown")));
+    }
+
+    @Test
+    public void subjectsAreIndexedInOrderOfAppearance() {
+        final SubjectIndex underTest = SubjectIndex.fromPolicy(Scenario6ManySubjects.POLICY);
+
+        assertThat(underTest.size())
+                .isEqualTo(Scenario6ManySubjects.SERVICES + Scenario6ManySubjects.USERS + Scenario6ManySubjects.ADMINS);
+        assertThat(underTest.getIndex("unknown")).isNegative();
+    }
+
+    private void assertSameDecisions(final Policy policy, final Iterable<AuthorizationContext> contexts) {
+        final Enforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final Enforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+
+        for (final ResourceKey resourceKey : getResourceKeys()) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final String description = resourceKey + " " + permissions;
+                softly.assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .as("getSubjectsWithPermission " + description)
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                softly.assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .as("getSubjectsWithPartialPermission " + description)
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+
+                for (final AuthorizationContext context : contexts) {
+                    final String contextDescription = description + " " + context.getAuthorizationSubjectIds();
+                    softly.assertThat(underTest.hasUnrestrictedPermissions(resourceKey, context, permissions))
+                            .as("hasUnrestrictedPermissions " + contextDescription)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, context, permissions));
+                    softly.assertThat(underTest.hasPartialPermissions(resourceKey, context, permissions))
+                            .as("hasPartialPermissions " + contextDescription)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, context, permissions));
+                    softly.assertThat(underTest.buildJsonView(resourceKey, THING, context, permissions))
+                            .as("buildJsonView " + contextDescription)
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING, context, permissions));
+                }
+            }
+        }
+    }
+
+    private static List<ResourceKey> getResourceKeys() {
+        final List<ResourceKey> resourceKeys = new ArrayList<>();
+        for (final String resource : RESOURCES) {
+            resourceKeys.add(ResourceKey.newInstance(Scenario.THING_TYPE, resource));
+            resourceKeys.add(ResourceKey.newInstance("policy", resource));
+        }
+        return resourceKeys;
+    }
+
+}
@@ -46,6 +46,19 @@ public interface ExpressionResolver {
      */
     PipelineElement resolveAsPipelineElement(String pipelineExpression);
 
+    /**
+     * Resolve a single placeholder without pipeline stages, e.g. {@code thing:id}.
+     *
+     * @param placeholder the placeholder consisting of prefix and name.
+     * @return the pipeline element containing the value of the placeholder, or an unresolved element if the
+     * placeholder has no value.
+     * @throws UnresolvedPlaceholderException if the placeholder is not supported.
+     * @since 2.0.0
+     */
+    default PipelineElement resolvePlaceholder(final String placeholder) {
+        return resolveAsPipelineElement(placeholder);
+    }
+
     /**
      * Resolves a complete expression template starting with a {@link Placeholder} followed by optional pipeline stages
      * (e.g. functions).
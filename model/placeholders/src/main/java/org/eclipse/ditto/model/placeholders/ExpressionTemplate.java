@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A template string which was parsed once into its literal parts and the pipeline expressions of its placeholders.
+ * Resolving an ExpressionTemplate does not parse the template again. Templates which are resolved for many messages,
+ * e.g. the target addresses or header mappings of a connection, should therefore be compiled once via
+ * {@link PlaceholderFactory#newExpressionTemplate(String)} and kept.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface ExpressionTemplate {
+
+    /**
+     * Returns the template string this ExpressionTemplate was compiled from.
+     *
+     * @return the template string.
+     */
+    String getTemplate();
+
+    /**
+     * Resolves the placeholders of this template and executes their pipeline stages. The result is the same as the
+     * one of {@link ExpressionResolver#resolve(String)} for the template string.
+     *
+     * @param expressionResolver the resolver used to resolve placeholders.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws UnresolvedPlaceholderException if a placeholder of this template is not supported by
+     * {@code expressionResolver}.
+     */
+    PipelineElement resolve(ExpressionResolver expressionResolver);
+
+}
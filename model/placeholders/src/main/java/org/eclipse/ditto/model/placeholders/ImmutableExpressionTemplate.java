@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+
+/**
+ * Immutable implementation of {@link ExpressionTemplate}. The template is split into literals and pipeline
+ * expressions which alternate, starting and ending with a possibly empty literal.
+ */
+@Immutable
+final class ImmutableExpressionTemplate implements ExpressionTemplate {
+
+    private final String template;
+    private final List<String> literals;
+    private final List<ImmutablePipelineExpression> pipelineExpressions;
+
+    private ImmutableExpressionTemplate(final String template, final List<String> literals,
+            final List<ImmutablePipelineExpression> pipelineExpressions) {
+
+        this.template = template;
+        this.literals = Collections.unmodifiableList(literals);
+        this.pipelineExpressions = Collections.unmodifiableList(pipelineExpressions);
+    }
+
+    /**
+     * Compiles a template string.
+     *
+     * @param template the template string.
+     * @return the compiled template.
+     * @throws UnresolvedPlaceholderException if a pipeline expression of the template is not well-formed.
+     * @throws PlaceholderFunctionTooComplexException if a pipeline expression of the template contains too many
+     * stages.
+     */
+    static ImmutableExpressionTemplate of(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<ImmutablePipelineExpression> pipelineExpressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(literalStart, matcher.start()));
+            pipelineExpressions.add(ImmutablePipelineExpression.of(getPipelineExpression(matcher)));
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+        return new ImmutableExpressionTemplate(template, literals, pipelineExpressions);
+    }
+
+    private static String getPipelineExpression(final Matcher matcher) {
+        return Placeholders.groupNames()
+                .stream()
+                .map(matcher::group)
+                .filter(Objects::nonNull)
+                .findAny()
+                .orElse("");
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        if (pipelineExpressions.isEmpty()) {
+            return PipelineElement.resolved(template);
+        }
+        final StringBuilder resultBuilder = new StringBuilder(literals.get(0));
+        for (int i = 0; i < pipelineExpressions.size(); i++) {
+            final PipelineElement element = pipelineExpressions.get(i).resolve(expressionResolver);
+            if (element.getType() != PipelineElement.Type.RESOLVED) {
+                // abort: resolution failed or the string has been deleted.
+                return element;
+            }
+            element.forEach(resultBuilder::append);
+            resultBuilder.append(literals.get(i + 1));
+        }
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableExpressionTemplate that = (ImmutableExpressionTemplate) o;
+        return Objects.equals(template, that.template) &&
+                Objects.equals(literals, that.literals) &&
+                Objects.equals(pipelineExpressions, that.pipelineExpressions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template, literals, pipelineExpressions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", literals=" + literals +
+                ", pipelineExpressions=" + pipelineExpressions +
+                "]";
+    }
+
+}
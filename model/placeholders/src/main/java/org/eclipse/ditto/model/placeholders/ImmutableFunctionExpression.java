@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.placeholders;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
@@ -58,27 +59,38 @@ final class ImmutableFunctionExpression implements FunctionExpression {
 
         // it is sufficient that the passed in name starts with the function name and an opening parentheses,
         // e.g.: default('foo'). the function validates itself whether the remaining part is valid.
-        return SUPPORTED.stream()
-                .map(PipelineFunction::getName)
-                .anyMatch(psfName -> expressionName.startsWith(psfName + "("));
+        return findFunction(expressionName).isPresent();
     }
 
     @Override
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
 
-        if (!supports(expression.replaceFirst(getPrefix() + ":", ""))) {
-            throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+        // resolution is done for each message, therefore the prefix is removed without regular expressions
+        final String prefixWithSeparator = getPrefix() + SEPARATOR;
+        final int prefixIndex = expression.indexOf(prefixWithSeparator);
+        final String expressionName = prefixIndex < 0 ? expression : expression.substring(0, prefixIndex) +
+                expression.substring(prefixIndex + prefixWithSeparator.length());
+        final PipelineFunction pipelineFunction = findFunction(expressionName)
+                .orElseThrow(() -> PlaceholderFunctionUnknownException.newBuilder(expression).build());
+
+        if (prefixIndex != 0) {
+            // only expressions starting with the prefix are functions
+            return PipelineElement.unresolved();
         }
+        return pipelineFunction.apply(resolvedInputValue,
+                expressionName.substring(pipelineFunction.getName().length()).trim(),
+                expressionResolver);
+    }
 
-        return SUPPORTED.stream()
-                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
-                .findFirst()
-                .orElse(PipelineElement.unresolved());
+    private static Optional<PipelineFunction> findFunction(final String expressionName) {
+        for (final PipelineFunction pipelineFunction : SUPPORTED) {
+            final String name = pipelineFunction.getName();
+            if (expressionName.startsWith(name) && expressionName.startsWith("(", name.length())) {
+                return Optional.of(pipelineFunction);
+            }
+        }
+        return Optional.empty();
     }
 
 }
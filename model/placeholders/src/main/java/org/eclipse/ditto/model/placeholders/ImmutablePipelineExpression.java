@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pipeline expression, i.e. the content of one placeholder {@code {{ ... }}}, split into its input placeholder and
+ * the function expressions of its pipeline stages, e.g. {@code thing:name | fn:substring-before(':')}.
+ */
+@Immutable
+final class ImmutablePipelineExpression {
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    @Nullable private final String placeholder;
+    private final Pipeline pipeline;
+
+    private ImmutablePipelineExpression(@Nullable final String placeholder, final Pipeline pipeline) {
+        this.placeholder = placeholder;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Parses a pipeline expression.
+     *
+     * @param pipelineExpression the pipeline expression.
+     * @return the parsed expression.
+     * @throws UnresolvedPlaceholderException if the pipeline expression is not well-formed.
+     * @throws PlaceholderFunctionTooComplexException if the pipeline expression contains too many stages.
+     */
+    static ImmutablePipelineExpression of(final String pipelineExpression) {
+        final List<String> pipelineStagesExpressions = getPipelineStagesExpressions(pipelineExpression);
+        final String firstExpressionInPipe =
+                pipelineStagesExpressions.isEmpty() ? "" : pipelineStagesExpressions.get(0);
+        if (isPlaceholderFunction(firstExpressionInPipe)) {
+            // the first expression of a pipeline can be a function which has no input
+            return new ImmutablePipelineExpression(null, newPipeline(pipelineStagesExpressions, 0));
+        } else {
+            return new ImmutablePipelineExpression(firstExpressionInPipe, newPipeline(pipelineStagesExpressions, 1));
+        }
+    }
+
+    /**
+     * Resolves the input placeholder of this expression and executes the pipeline stages.
+     *
+     * @param expressionResolver the resolver used to resolve placeholders.
+     * @return the pipeline element after evaluation.
+     * @throws UnresolvedPlaceholderException if the input placeholder is not supported by {@code expressionResolver}.
+     */
+    PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        final PipelineElement pipelineInput = null != placeholder
+                ? expressionResolver.resolvePlaceholder(placeholder)
+                : PipelineElement.unresolved();
+        return pipeline.execute(pipelineInput, expressionResolver);
+    }
+
+    private static List<String> getPipelineStagesExpressions(final String pipelineExpression) {
+        if (!PIPE_PATTERN.matcher(pipelineExpression).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(pipelineExpression).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(pipelineExpression);
+
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+        return pipelineStagesExpressions;
+    }
+
+    private static Pipeline newPipeline(final List<String> pipelineStagesExpressions, final int skip) {
+        final List<String> pipelineStages = pipelineStagesExpressions.stream()
+                .skip(skip) // ignore the input placeholder
+                .collect(Collectors.toList());
+        return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
+    }
+
+    private static boolean isPlaceholderFunction(final String expression) {
+        return expression.startsWith(FunctionExpression.PREFIX + SEPARATOR);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutablePipelineExpression that = (ImmutablePipelineExpression) o;
+        return Objects.equals(placeholder, that.placeholder) && Objects.equals(pipeline, that.pipeline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(placeholder, pipeline);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "placeholder=" + placeholder +
+                ", pipeline=" + pipeline +
+                "]";
+    }
+
+}
@@ -238,11 +238,11 @@ final class PipelineFunctionParameterResolverFactory {
 
     static class EmptyParameterResolver implements Predicate<String> {
 
-        private static final String EMPTY_PARENTHESES_PATTERN = "\\(\\s*+\\)";
+        private static final Pattern EMPTY_PARENTHESES_PATTERN = Pattern.compile("\\(\\s*+\\)");
 
         @Override
         public boolean test(final String paramsIncludingParentheses) {
-            return paramsIncludingParentheses.matches(EMPTY_PARENTHESES_PATTERN);
+            return EMPTY_PARENTHESES_PATTERN.matcher(paramsIncludingParentheses).matches();
         }
 
     }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.model.placeholders;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,7 +24,8 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 
 /**
- * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s and {@link ExpressionResolver}s.
+ * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s, {@link ExpressionResolver}s
+ * and {@link ExpressionTemplate}s.
  */
 public final class PlaceholderFactory {
 
@@ -168,6 +171,22 @@ public final class PlaceholderFactory {
         return new ImmutableExpressionResolver(placeholderResolvers, stringUsedInPlaceholderValidation);
     }
 
+    /**
+     * Compiles the passed in {@code template} into an {@link ExpressionTemplate} which can be resolved repeatedly
+     * without being parsed again.
+     *
+     * @param template the template string potentially containing placeholders.
+     * @return the compiled template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is not well-formed.
+     * @throws PlaceholderFunctionTooComplexException if a placeholder of the template contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     * @since 2.0.0
+     */
+    public static ExpressionTemplate newExpressionTemplate(final String template) {
+        return ImmutableExpressionTemplate.of(checkNotNull(template, "template"));
+    }
+
     /**
      * @return new instance of the {@link SourceAddressPlaceholder}
      * @since 1.4.0
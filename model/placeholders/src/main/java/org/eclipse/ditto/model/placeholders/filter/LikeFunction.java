@@ -12,8 +12,6 @@
  */
 package org.eclipse.ditto.model.placeholders.filter;
 
-import java.util.regex.Pattern;
-
 /**
  * Keeps the value if both passed parameters are equal to each other.
  */
@@ -29,15 +27,46 @@ final class LikeFunction implements FilterFunction {
         if (parameters.length != 2) {
             return false;
         }
-        final String toMatch = parameters[0];
-        final String patternString = toJavaRegex(parameters[1]);
-        return toMatch.matches(patternString);
+        return matches(parameters[0], parameters[1]);
+    }
+
+    /**
+     * Matches a string against a pattern in which {@code *} stands for any number of characters and {@code ?} for
+     * one character, line terminators excluded. The result is the same as matching the string against the regular
+     * expression with {@code .*} and {@code .} in place of the wildcards; as this is done for each message, no
+     * regular expression is compiled.
+     */
+    private static boolean matches(final String toMatch, final String pattern) {
+        int i = 0;
+        int p = 0;
+        int lastWildcard = -1;
+        int matchedByLastWildcard = 0;
+        while (i < toMatch.length()) {
+            if (p < pattern.length() && pattern.charAt(p) == '*') {
+                lastWildcard = p++;
+                matchedByLastWildcard = i;
+            } else if (p < pattern.length() && (pattern.charAt(p) == '?' ? !isLineTerminator(toMatch.charAt(i)) :
+                    pattern.charAt(p) == toMatch.charAt(i))) {
+                i++;
+                p++;
+            } else if (lastWildcard >= 0 && !isLineTerminator(toMatch.charAt(matchedByLastWildcard))) {
+                // let the last wildcard match one more character and retry the rest of the pattern
+                p = lastWildcard + 1;
+                i = ++matchedByLastWildcard;
+            } else {
+                // no wildcard can match a line terminator: the characters before it can be matched differently
+                // only by moving it into a wildcard
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+        return p == pattern.length();
     }
 
-    private static String toJavaRegex(final String patternString) {
-        return Pattern.quote(patternString)
-                .replaceAll("\\*", "\\\\E.*\\\\Q")
-                .replaceAll("\\?", "\\\\E.\\\\Q");
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.AllowedReason;
+import org.mutabilitydetector.unittesting.MutabilityAssert;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link ImmutableExpressionTemplate}.
+ */
+public final class ImmutableExpressionTemplateTest {
+
+    private static final String THING_NAME = "foobar199";
+    private static final String THING_NAMESPACE = "org.eclipse.ditto";
+    private static final ThingId THING_ID = ThingId.of(THING_NAMESPACE, THING_NAME);
+    private static final Map<String, String> KNOWN_HEADERS =
+            DittoHeaders.newBuilder().putHeader("one", "1").putHeader("two", "2").build();
+
+    private static ExpressionResolver expressionResolver;
+
+    @BeforeClass
+    public static void setupClass() {
+        final ImmutablePlaceholderResolver<Map<String, String>> headersResolver =
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newHeadersPlaceholder(), KNOWN_HEADERS);
+        final ImmutablePlaceholderResolver<CharSequence> thingResolver = new ImmutablePlaceholderResolver<>(
+                PlaceholderFactory.newThingPlaceholder(), THING_ID);
+
+        expressionResolver = new ImmutableExpressionResolver(Arrays.asList(headersResolver, thingResolver));
+    }
+
+    @Test
+    public void assertImmutability() {
+        MutabilityAssert.assertInstancesOf(ImmutableExpressionTemplate.class, MutabilityMatchers.areImmutable(),
+                AllowedReason.assumingFields("literals", "pipelineExpressions")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ImmutableExpressionTemplate.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void resolveTemplateWithoutPlaceholders() {
+        final String template = "no/placeholders/at/all";
+
+        assertThat(ImmutableExpressionTemplate.of(template).resolve(expressionResolver)).contains(template);
+    }
+
+    @Test
+    public void resolveLikeExpressionResolver() {
+        final String[] templates = {
+                "{{ header:one }}",
+                "{{header:one}}/{{ header:two }}",
+                "any/prefix/{{ thing:id | fn:substring-before(':') | fn:default('foo') }}/any/suffix",
+                "{{ header:unknown | fn:default(thing:name) | fn:upper() }}",
+                "{{ fn:default('constant') }}",
+                "{{ header:unknown }}",
+                "prefix/{{ header:one | fn:delete() }}/suffix"
+        };
+
+        for (final String template : templates) {
+            assertThat(ImmutableExpressionTemplate.of(template).resolve(expressionResolver))
+                    .describedAs(template)
+                    .isEqualTo(expressionResolver.resolve(template));
+        }
+    }
+
+    @Test
+    public void resolveTemplateTwice() {
+        final ExpressionTemplate underTest = ImmutableExpressionTemplate.of("{{ header:one }}-{{ header:two }}");
+
+        assertThat(underTest.resolve(expressionResolver)).contains("1-2");
+        assertThat(underTest.resolve(expressionResolver)).contains("1-2");
+    }
+
+    @Test
+    public void unresolvedPlaceholderAbortsResolution() {
+        assertThat(ImmutableExpressionTemplate.of("{{ header:one }}/{{ header:unknown }}").resolve(expressionResolver))
+                .isEqualTo(PipelineElement.unresolved());
+    }
+
+    @Test
+    public void deletedPipelineAbortsResolution() {
+        assertThat(ImmutableExpressionTemplate.of("{{ header:one | fn:delete() }}/{{ header:two }}")
+                .resolve(expressionResolver))
+                .isEqualTo(PipelineElement.deleted());
+    }
+
+    @Test
+    public void unsupportedPlaceholderFailsOnResolution() {
+        final ExpressionTemplate underTest = ImmutableExpressionTemplate.of("{{ thing:missing }}");
+
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> underTest.resolve(expressionResolver));
+    }
+
+    @Test
+    public void tooComplexPipelineFailsOnCompilation() {
+        final String template = "{{ header:one | fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() |" +
+                " fn:lower() | fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() }}";
+
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of(template));
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * A predicate of {@link Thing}s which was compiled once from {@link Criteria} and may be evaluated for any number of
+ * things by any number of threads.
+ * <p>
+ * In contrast to {@link ThingPredicateVisitor#apply(Criteria)}, {@code eq} and {@code ne} with {@code null} never
+ * match instead of throwing a {@code NullPointerException} and {@code exists} is resolved on the JSON of the thing
+ * containing all fields, e.g. {@code exists(features/id/desiredProperties)} checks the desired properties.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class CompiledThingPredicate implements Predicate<Thing> {
+
+    private final Criteria criteria;
+    private final Predicate<JsonObject> jsonObjectPredicate;
+
+    private CompiledThingPredicate(final Criteria criteria) {
+        this.criteria = criteria;
+        jsonObjectPredicate = ThingJsonPredicateVisitor.apply(criteria);
+    }
+
+    /**
+     * Compiles the given criteria to a predicate of things.
+     *
+     * @param criteria the criteria to compile.
+     * @return the compiled predicate.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static CompiledThingPredicate of(final Criteria criteria) {
+        return new CompiledThingPredicate(checkNotNull(criteria, "criteria"));
+    }
+
+    /**
+     * Returns the criteria this predicate was compiled from.
+     *
+     * @return the criteria.
+     */
+    public Criteria getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns the compiled predicate of the JSON representation of things containing all fields.
+     * Callers which already have that JSON representation should use this predicate in order to avoid converting the
+     * thing to JSON again.
+     *
+     * @return the predicate of thing JSON objects.
+     */
+    public Predicate<JsonObject> asJsonObjectPredicate() {
+        return jsonObjectPredicate;
+    }
+
+    @Override
+    public boolean test(final Thing thing) {
+        return jsonObjectPredicate.test(thing.toJson(field -> true));
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledThingPredicate that = (CompiledThingPredicate) o;
+        return Objects.equals(criteria, that.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(criteria);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "criteria=" + criteria +
+                "]";
+    }
+
+}
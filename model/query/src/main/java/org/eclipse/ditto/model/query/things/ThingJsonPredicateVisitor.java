@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+
+/**
+ * CriteriaVisitor which compiles {@link Criteria} to Java {@link Predicate}s of the JSON representation of things
+ * containing all fields.
+ * <p>
+ * In contrast to {@link ThingPredicateVisitor}, all work which does not depend on the tested thing is done once
+ * while visiting: the JSON pointers of the fields are resolved, the regular expressions of {@code like} are compiled
+ * and the values of comparisons are converted to the types they are compared with.
+ * Thus the created predicates are cheap to evaluate and may be reused for any number of things.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class ThingJsonPredicateVisitor implements CriteriaVisitor<Predicate<JsonObject>> {
+
+    private static final ThingJsonPredicateVisitor INSTANCE = new ThingJsonPredicateVisitor();
+
+    private ThingJsonPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Returns the instance of {@code ThingJsonPredicateVisitor}.
+     *
+     * @return the instance.
+     */
+    public static ThingJsonPredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compiles the given criteria to a predicate of the JSON representation of things.
+     *
+     * @param criteria the criteria to compile.
+     * @return the predicate which expects the JSON representation of a thing containing all fields.
+     */
+    public static Predicate<JsonObject> apply(final Criteria criteria) {
+        return criteria.accept(INSTANCE);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final List<Predicate<JsonObject>> conjuncts) {
+        final Predicate<JsonObject>[] predicates = toArray(conjuncts);
+        return thingJson -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (!predicate.test(thingJson)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAny() {
+        return thingJson -> true;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+        final JsonPointer pointer = fieldExpression.acceptExistsVisitor(ExistsPointerVisitor.INSTANCE);
+        return thingJson -> thingJson.getValue(pointer).isPresent();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+        final JsonPointer pointer = fieldExpression.acceptFilterVisitor(FilterPointerVisitor.INSTANCE);
+        return predicate.accept(ValuePredicateVisitor.INSTANCE).apply(pointer);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final List<Predicate<JsonObject>> negativeDisjoints) {
+        return visitOr(negativeDisjoints).negate();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final List<Predicate<JsonObject>> disjoints) {
+        final Predicate<JsonObject>[] predicates = toArray(disjoints);
+        return thingJson -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (predicate.test(thingJson)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<JsonObject>[] toArray(final List<Predicate<JsonObject>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * Compiles the predicates of fields to functions from the JSON pointer of the field to the predicate of the thing
+     * JSON.
+     * The semantics are the same as those of {@link ThingPredicatePredicateVisitor}.
+     */
+    private static final class ValuePredicateVisitor
+            implements PredicateVisitor<Function<JsonPointer, Predicate<JsonObject>>> {
+
+        private static final ValuePredicateVisitor INSTANCE = new ValuePredicateVisitor();
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitEq(@Nullable final Object value) {
+            final Predicate<JsonValue> isEqual = isEqualTo(value);
+            return pointer -> thingJson -> matches(thingJson.getValue(pointer), isEqual);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitNe(@Nullable final Object value) {
+            final Predicate<JsonValue> isEqual = isEqualTo(value);
+            return pointer -> thingJson -> !matches(thingJson.getValue(pointer), isEqual);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitGe(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison >= 0);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitGt(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison > 0);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitLe(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison <= 0);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitLt(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison < 0);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitIn(final List<?> values) {
+            @SuppressWarnings("unchecked") final Predicate<JsonValue>[] isEqualToAny = values.stream()
+                    .map(ValuePredicateVisitor::isEqualTo)
+                    .toArray(Predicate[]::new);
+            final Predicate<JsonValue> isIn = jsonValue -> {
+                for (final Predicate<JsonValue> isEqual : isEqualToAny) {
+                    if (isEqual.test(jsonValue)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+            return pointer -> thingJson -> matches(thingJson.getValue(pointer), isIn);
+        }
+
+        @Override
+        public Function<JsonPointer, Predicate<JsonObject>> visitLike(final String value) {
+            final Pattern pattern = Pattern.compile(value);
+            final Predicate<JsonValue> isLike =
+                    jsonValue -> jsonValue.isString() && pattern.matcher(jsonValue.asString()).matches();
+            return pointer -> thingJson -> matches(thingJson.getValue(pointer), isLike);
+        }
+
+        private static boolean matches(final Optional<JsonValue> jsonValue, final Predicate<JsonValue> predicate) {
+            return jsonValue.isPresent() && predicate.test(jsonValue.get());
+        }
+
+        /*
+         * Only strings, booleans and numbers are equal to a value, filtering null, arrays and objects is not supported.
+         * Integral numbers are Long values, other numbers are Double values.
+         */
+        private static Predicate<JsonValue> isEqualTo(@Nullable final Object value) {
+            final Predicate<JsonValue> result;
+            if (value instanceof String) {
+                result = jsonValue -> jsonValue.isString() && value.equals(jsonValue.asString());
+            } else if (value instanceof Boolean) {
+                final boolean booleanValue = (Boolean) value;
+                result = jsonValue -> jsonValue.isBoolean() && booleanValue == jsonValue.asBoolean();
+            } else if (value instanceof Long) {
+                final long longValue = (Long) value;
+                result = jsonValue -> jsonValue.isNumber() && jsonValue.isLong() && longValue == jsonValue.asLong();
+            } else if (value instanceof Double) {
+                final double doubleValue = (Double) value;
+                result = jsonValue -> jsonValue.isNumber() && !jsonValue.isLong() &&
+                        0 == Double.compare(doubleValue, jsonValue.asDouble());
+            } else if (null != value) {
+                result = jsonValue -> value.equals(toJava(jsonValue));
+            } else {
+                result = jsonValue -> false;
+            }
+            return result;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static Function<JsonPointer, Predicate<JsonObject>> compareTo(@Nullable final Object value,
+                final IntPredicate isExpectedComparison) {
+
+            if (!(value instanceof Comparable)) {
+                return pointer -> thingJson -> false;
+            }
+            final Comparable comparableValue = asNumber((Comparable) value);
+            @Nullable final BigDecimal valueAsNumber = comparableValue instanceof String
+                    ? parseBigDecimal((String) comparableValue)
+                    : null;
+            final Predicate<JsonValue> isComparable = jsonValue -> {
+                final Object obj = toJava(jsonValue);
+                if (obj instanceof Comparable) {
+                    final Comparable comparableObj = asNumber((Comparable) obj);
+                    @Nullable final BigDecimal objAsNumber =
+                            comparableValue instanceof BigDecimal && comparableObj instanceof String
+                                    ? parseBigDecimal((String) comparableObj)
+                                    : null;
+                    final int comparison;
+                    if (null != valueAsNumber && comparableObj instanceof BigDecimal) {
+                        // best effort try to convert both values to a BigDecimal in order to compare them:
+                        comparison = comparableObj.compareTo(valueAsNumber);
+                    } else if (null != objAsNumber) {
+                        comparison = objAsNumber.compareTo((BigDecimal) comparableValue);
+                    } else if (comparableValue.getClass().equals(comparableObj.getClass())) {
+                        // only compare same classes:
+                        comparison = comparableObj.compareTo(comparableValue);
+                    } else {
+                        // as a fallback, for different types, compare by their string representation:
+                        comparison = comparableObj.toString().compareTo(comparableValue.toString());
+                    }
+                    return isExpectedComparison.test(comparison);
+                }
+                return false;
+            };
+            return pointer -> thingJson -> matches(thingJson.getValue(pointer), isComparable);
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static Comparable asNumber(final Comparable comparable) {
+            if (comparable instanceof Long) {
+                return BigDecimal.valueOf((Long) comparable);
+            } else if (comparable instanceof Double) {
+                return BigDecimal.valueOf((Double) comparable);
+            } else if (comparable instanceof Number) {
+                return new BigDecimal(comparable.toString());
+            }
+            return comparable;
+        }
+
+        @Nullable
+        private static BigDecimal parseBigDecimal(final String string) {
+            try {
+                return new BigDecimal(string);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Nullable
+        private static Object toJava(final JsonValue jsonValue) {
+            final Object result;
+            if (jsonValue.isString()) {
+                result = jsonValue.asString();
+            } else if (jsonValue.isBoolean()) {
+                result = jsonValue.asBoolean();
+            } else if (jsonValue.isNumber()) {
+                result = jsonValue.isLong() ? (Object) jsonValue.asLong() : (Object) jsonValue.asDouble();
+            } else {
+                // filtering null, arrays and objects is not supported
+                result = null;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Resolves the JSON pointers of fields which are filtered.
+     */
+    private static final class FilterPointerVisitor implements FilterFieldExpressionVisitor<JsonPointer> {
+
+        private static final FilterPointerVisitor INSTANCE = new FilterPointerVisitor();
+
+        @Override
+        public JsonPointer visitAttribute(final String key) {
+            return JsonPointer.of("/attributes/" + key);
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+            return JsonPointer.of("/features/" + featureId + "/properties/" + property);
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return JsonPointer.of("/features/" + featureId + "/desiredProperties/" + desiredProperty);
+        }
+
+        @Override
+        public JsonPointer visitSimple(final String fieldName) {
+            return JsonPointer.of(fieldName);
+        }
+
+    }
+
+    /**
+     * Resolves the JSON pointers of fields whose existence is checked.
+     */
+    private static final class ExistsPointerVisitor implements ExistsFieldExpressionVisitor<JsonPointer> {
+
+        private static final ExistsPointerVisitor INSTANCE = new ExistsPointerVisitor();
+
+        @Override
+        public JsonPointer visitAttribute(final String key) {
+            return FilterPointerVisitor.INSTANCE.visitAttribute(key);
+        }
+
+        @Override
+        public JsonPointer visitFeature(final String featureId) {
+            return JsonPointer.of("/features/" + featureId);
+        }
+
+        @Override
+        public JsonPointer visitFeatureProperties(final CharSequence featureId) {
+            return JsonPointer.of("/features/" + featureId + "/properties");
+        }
+
+        @Override
+        public JsonPointer visitFeatureDesiredProperties(final CharSequence featureId) {
+            return JsonPointer.of("/features/" + featureId + "/desiredProperties");
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+            return FilterPointerVisitor.INSTANCE.visitFeatureIdProperty(featureId, property);
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return FilterPointerVisitor.INSTANCE.visitFeatureIdDesiredProperty(featureId, property);
+        }
+
+        @Override
+        public JsonPointer visitSimple(final String fieldName) {
+            return FilterPointerVisitor.INSTANCE.visitSimple(fieldName);
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+
+/**
+ * Cache of {@link CompiledThingPredicate}s by their RQL filter strings.
+ * Many sessions and connections use the same filters, thus each filter is parsed and compiled only once as long as
+ * it stays in the cache.
+ * If the cache is full, an arbitrary entry is evicted before adding a new one.
+ * Filters which cannot be parsed are not cached.
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class ThingPredicateCache {
+
+    /**
+     * The maximum number of filters the model-based cache holds.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final ThingPredicateCache MODEL_BASED =
+            new ThingPredicateCache(QueryFilterCriteriaFactory.modelBased(), DEFAULT_MAXIMUM_SIZE);
+
+    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final int maximumSize;
+    private final Map<String, CompiledThingPredicate> predicates;
+
+    private ThingPredicateCache(final QueryFilterCriteriaFactory queryFilterCriteriaFactory, final int maximumSize) {
+        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
+        this.maximumSize = maximumSize;
+        predicates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cache which is shared by all users of the model-based query filter criteria factory.
+     *
+     * @return the shared cache.
+     */
+    public static ThingPredicateCache modelBased() {
+        return MODEL_BASED;
+    }
+
+    /**
+     * Returns a new cache which parses filters with the given factory.
+     *
+     * @param queryFilterCriteriaFactory the factory to parse filters with.
+     * @param maximumSize the maximum number of filters to cache.
+     * @return the cache.
+     * @throws NullPointerException if {@code queryFilterCriteriaFactory} is {@code null}.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public static ThingPredicateCache of(final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
+            final int maximumSize) {
+
+        checkNotNull(queryFilterCriteriaFactory, "queryFilterCriteriaFactory");
+        checkArgument(maximumSize, size -> size > 0, () -> "The maximum size must be positive!");
+        return new ThingPredicateCache(queryFilterCriteriaFactory, maximumSize);
+    }
+
+    /**
+     * Returns the compiled predicate of the given filter, parsing and compiling it if it is not cached yet.
+     *
+     * @param filter the RQL filter string.
+     * @param dittoHeaders the headers of the command which contained the filter, used for error information.
+     * @return the compiled predicate.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws InvalidRqlExpressionException if the filter string cannot be mapped to a valid criterion.
+     */
+    public CompiledThingPredicate get(final String filter, final DittoHeaders dittoHeaders) {
+        checkNotNull(filter, "filter");
+        checkNotNull(dittoHeaders, "dittoHeaders");
+        final CompiledThingPredicate cached = predicates.get(filter);
+        if (null != cached) {
+            return cached;
+        }
+        final CompiledThingPredicate compiled =
+                CompiledThingPredicate.of(queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders));
+        evictIfFull();
+        final CompiledThingPredicate existing = predicates.putIfAbsent(filter, compiled);
+        return null != existing ? existing : compiled;
+    }
+
+    /**
+     * Returns the number of cached filters.
+     *
+     * @return the number of cached filters.
+     */
+    public int size() {
+        return predicates.size();
+    }
+
+    private void evictIfFull() {
+        final Iterator<String> filters = predicates.keySet().iterator();
+        while (predicates.size() >= maximumSize && filters.hasNext()) {
+            filters.next();
+            filters.remove();
+        }
+    }
+
+}
@@ -166,11 +166,12 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
         return fieldName ->
                 thing -> getThingField(fieldName, thing)
                         .filter(JsonValue::isString)
                         .map(JsonValue::asString)
-                        .filter(str -> Pattern.compile(value).matcher(str).matches())
+                        .filter(str -> pattern.matcher(str).matches())
                         .isPresent();
     }
 
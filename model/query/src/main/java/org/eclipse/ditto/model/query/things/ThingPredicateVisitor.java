@@ -32,6 +32,15 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
         // only internally instantiable
     }
 
+    /**
+     * Creates a predicate of things from the given criteria which interprets the criteria for each tested thing.
+     * See {@link CompiledThingPredicate} for a predicate which is cheaper to evaluate, but does not throw a
+     * {@code NullPointerException} for {@code eq} and {@code ne} with {@code null} and resolves {@code exists} on the
+     * JSON of things containing all fields.
+     *
+     * @param criteria the criteria.
+     * @return the predicate.
+     */
     public static Predicate<Thing> apply(final Criteria criteria) {
         return criteria.accept(new ThingPredicateVisitor());
     }
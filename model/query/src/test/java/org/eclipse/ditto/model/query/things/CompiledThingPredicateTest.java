@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setAttribute(JsonPointer.of("aLong"), JsonValue.of(42L))
+            .setAttribute(JsonPointer.of("aDouble"), JsonValue.of(22.26))
+            .setAttribute(JsonPointer.of("aBoolean"), JsonValue.of(true))
+            .setAttribute(JsonPointer.of("aString"), JsonValue.of("ccc_string"))
+            .setAttribute(JsonPointer.of("aNumericString"), JsonValue.of("17"))
+            .setAttribute(JsonPointer.of("anArray"), JsonArray.newBuilder().add(1, 2).build())
+            .setAttribute(JsonPointer.of("aNull"), JsonValue.nullLiteral())
+            .setFeature(Feature.newBuilder()
+                    .properties(FeatureProperties.newBuilder().set("temperature", 23.5).build())
+                    .desiredProperties(FeatureProperties.newBuilder().set("temperature", 21).build())
+                    .withId("sensor")
+                    .build())
+            .build();
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(attributes/aLong,42)",
+            "eq(attributes/aLong,42.0)",
+            "eq(attributes/aDouble,22.26)",
+            "eq(attributes/aBoolean,true)",
+            "eq(attributes/aString,\"ccc_string\")",
+            "eq(attributes/anArray,1)",
+            "ne(attributes/aString,\"ccc_string\")",
+            "ne(attributes/missing,\"ccc_string\")",
+            "ge(attributes/aLong,42)",
+            "gt(attributes/aLong,41.5)",
+            "le(attributes/aDouble,22.26)",
+            "lt(attributes/aDouble,30)",
+            "gt(attributes/aNumericString,16)",
+            "lt(attributes/aLong,\"43\")",
+            "gt(attributes/aString,\"bbb\")",
+            "lt(attributes/aString,5)",
+            "gt(attributes/missing,5)",
+            "in(attributes/aLong,1,42,3)",
+            "in(attributes/aString,\"a\",\"b\")",
+            "like(attributes/aString,\"ccc*\")",
+            "like(attributes/aString,\"c?c_*ing\")",
+            "like(attributes/aLong,\"4*\")",
+            "eq(features/sensor/properties/temperature,23.5)",
+            "gt(features/sensor/desiredProperties/temperature,20)",
+            "eq(thingId,\"org.eclipse.ditto:compiled\")",
+            "like(thingId,\"org.eclipse.ditto:*\")",
+            "exists(attributes/aString)",
+            "exists(attributes/missing)",
+            "exists(features/sensor)",
+            "exists(features/sensor/properties)",
+            "exists(features/sensor/desiredProperties/temperature)",
+            "exists(features/missing)",
+            "and(eq(attributes/aLong,42),exists(features/sensor))",
+            "and(eq(attributes/aLong,42),eq(attributes/aBoolean,false))",
+            "or(eq(attributes/aLong,43),eq(attributes/aBoolean,true))",
+            "or(eq(attributes/aLong,43),eq(attributes/aBoolean,false))",
+            "not(eq(attributes/aLong,42))",
+            "not(or(eq(attributes/aLong,43),like(attributes/aString,\"x*\")))"
+    );
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CompiledThingPredicate.class)
+                .usingGetClass()
+                .withIgnoredFields("jsonObjectPredicate")
+                .verify();
+    }
+
+    @Test
+    public void compiledPredicateMatchesInterpretedPredicate() {
+        for (final String filter : FILTERS) {
+            final Criteria criteria = parse(filter);
+            final boolean interpreted = criteria.accept(new InterpretingThingPredicateVisitor()).test(THING);
+
+            assertThat(CompiledThingPredicate.of(criteria).test(THING))
+                    .describedAs(filter)
+                    .isEqualTo(interpreted);
+        }
+    }
+
+    @Test
+    public void jsonObjectPredicateMatchesThingPredicate() {
+        for (final String filter : FILTERS) {
+            final CompiledThingPredicate underTest = CompiledThingPredicate.of(parse(filter));
+
+            assertThat(underTest.asJsonObjectPredicate().test(THING.toJson(field -> true)))
+                    .describedAs(filter)
+                    .isEqualTo(underTest.test(THING));
+        }
+    }
+
+    @Test
+    public void existsOfDesiredPropertiesChecksDesiredProperties() {
+        final Thing thingWithoutDesiredProperties = THING.setFeature(Feature.newBuilder()
+                .properties(FeatureProperties.newBuilder().set("temperature", 23.5).build())
+                .withId("sensor")
+                .build());
+
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(
+                parse("exists(features/sensor/desiredProperties)"));
+
+        assertThat(underTest.test(THING)).isTrue();
+        assertThat(underTest.test(thingWithoutDesiredProperties)).isFalse();
+    }
+
+    @Test
+    public void nullValuesAreNotFiltered() {
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(parse("eq(attributes/aNull,null)"));
+
+        assertThat(underTest.test(THING)).isFalse();
+    }
+
+    @Test
+    public void compiledPredicateIsReusable() {
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(parse("like(attributes/aString,\"a*\")"));
+
+        assertThat(underTest.test(THING)).isFalse();
+        assertThat(underTest.test(THING.setAttribute(JsonPointer.of("aString"), JsonValue.of("abc")))).isTrue();
+        assertThat(underTest.test(THING)).isFalse();
+    }
+
+    private static Criteria parse(final String filter) {
+        return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, DittoHeaders.empty());
+    }
+
+    /**
+     * Evaluates criteria by interpreting the predicates of fields for each thing, as done before compiling them.
+     */
+    private static final class InterpretingThingPredicateVisitor implements CriteriaVisitor<Predicate<Thing>> {
+
+        @Override
+        public Predicate<Thing> visitAnd(final List<Predicate<Thing>> conjuncts) {
+            return thing -> conjuncts.stream().allMatch(p -> p.test(thing));
+        }
+
+        @Override
+        public Predicate<Thing> visitAny() {
+            return thing -> true;
+        }
+
+        @Override
+        public Predicate<Thing> visitExists(final ExistsFieldExpression fieldExpression) {
+            return ExistsThingPredicateVisitor.apply(fieldExpression);
+        }
+
+        @Override
+        public Predicate<Thing> visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+            return FilterThingPredicateVisitor.apply(fieldExpression,
+                    predicate.accept(ThingPredicatePredicateVisitor.getInstance()));
+        }
+
+        @Override
+        public Predicate<Thing> visitNor(final List<Predicate<Thing>> negativeDisjoints) {
+            return thing -> negativeDisjoints.stream().noneMatch(p -> p.test(thing));
+        }
+
+        @Override
+        public Predicate<Thing> visitOr(final List<Predicate<Thing>> disjoints) {
+            return thing -> disjoints.stream().anyMatch(p -> p.test(thing));
+        }
+
+    }
+
+}
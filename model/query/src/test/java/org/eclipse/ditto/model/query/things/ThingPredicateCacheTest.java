@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingPredicateCache}.
+ */
+public final class ThingPredicateCacheTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("cache-test").build();
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ThingPredicateCache.of(QueryFilterCriteriaFactory.modelBased(), 0));
+    }
+
+    @Test
+    public void returnsCachedPredicateForSameFilter() {
+        final ThingPredicateCache underTest = ThingPredicateCache.of(QueryFilterCriteriaFactory.modelBased(), 10);
+
+        final CompiledThingPredicate first = underTest.get("eq(attributes/foo,\"bar\")", DITTO_HEADERS);
+        final CompiledThingPredicate second = underTest.get("eq(attributes/foo,\"bar\")", DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void compilesDifferentFiltersSeparately() {
+        final ThingPredicateCache underTest = ThingPredicateCache.of(QueryFilterCriteriaFactory.modelBased(), 10);
+
+        final CompiledThingPredicate first = underTest.get("eq(attributes/foo,\"bar\")", DITTO_HEADERS);
+        final CompiledThingPredicate second = underTest.get("eq(attributes/foo,\"baz\")", DITTO_HEADERS);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotGrowBeyondMaximumSize() {
+        final int maximumSize = 5;
+        final ThingPredicateCache underTest =
+                ThingPredicateCache.of(QueryFilterCriteriaFactory.modelBased(), maximumSize);
+
+        for (int i = 0; i < 3 * maximumSize; i++) {
+            underTest.get("eq(attributes/counter," + i + ")", DITTO_HEADERS);
+        }
+
+        assertThat(underTest.size()).isEqualTo(maximumSize);
+    }
+
+    @Test
+    public void invalidFilterIsRejectedAndNotCached() {
+        final ThingPredicateCache underTest = ThingPredicateCache.of(QueryFilterCriteriaFactory.modelBased(), 10);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.get("eq(attributes/foo", DITTO_HEADERS))
+                .satisfies(e -> assertThat(e.getDittoHeaders().getCorrelationId()).contains("cache-test"));
+        assertThat(underTest.size()).isZero();
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.model.query.things;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.util.function.Predicate;
 
@@ -410,6 +411,34 @@ public final class ThingPredicateVisitorTest {
                 .isEqualTo(false);
     }
 
+    @Test
+    public void testFilterFeatureDesiredPropertiesExistsChecksProperties() {
+        final Predicate<Thing> thingPredicate = createPredicate("exists(features/foo/desiredProperties)");
+        assertThat(thingPredicate.test(MATCHING_THING))
+                .as("Filtering 'exists(features/foo/desiredProperties)' should be true")
+                .isEqualTo(true);
+    }
+
+    @Test
+    public void testFilterHiddenFieldExistsIsFalse() {
+        final Predicate<Thing> thingPredicate = createPredicate("exists(_revision)");
+        assertThat(thingPredicate.test(MATCHING_THING.toBuilder().setRevision(1L).build()))
+                .as("Filtering 'exists(_revision)' should be false")
+                .isEqualTo(false);
+    }
+
+    @Test
+    public void testFilterWithEqNullFailsOnTest() {
+        final Predicate<Thing> thingPredicate = createPredicate("eq(attributes/aString,null)");
+        assertThatNullPointerException().isThrownBy(() -> thingPredicate.test(MATCHING_THING));
+    }
+
+    @Test
+    public void testFilterWithNeNullFailsOnTest() {
+        final Predicate<Thing> thingPredicate = createPredicate("ne(attributes/missing,null)");
+        assertThatNullPointerException().isThrownBy(() -> thingPredicate.test(MATCHING_THING));
+    }
+
     @Test
     public void testLogicalAndWith2queries() {
         final String filter = "and(exists(attributes/aBoolean),eq(thingId,\"" + MATCHING_THING_ID + "\"))";
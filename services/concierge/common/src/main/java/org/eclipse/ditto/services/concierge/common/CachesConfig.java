@@ -46,6 +46,21 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the maximum number of authorization decisions to remember per cached policy enforcer.
+     *
+     * @return the maximum number of decisions per enforcer or 0 if decisions should not be cached.
+     */
+    int getEnforcerDecisionCacheSize();
+
+    /**
+     * Returns the config of the warm-up of the policy enforcer cache.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    EnforcerCacheWarmUpConfig getEnforcerCacheWarmUpConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +70,12 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The maximum number of authorization decisions to remember per cached policy enforcer.
+         */
+        ENFORCER_DECISION_CACHE_SIZE("enforcer-decision-cache-size", 0);
 
         private final String path;
         private final Object defaultValue;
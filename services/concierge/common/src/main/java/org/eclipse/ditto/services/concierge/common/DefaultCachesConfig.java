@@ -35,11 +35,16 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final int enforcerDecisionCacheSize;
+    private final EnforcerCacheWarmUpConfig enforcerCacheWarmUpConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerDecisionCacheSize =
+                config.getNonNegativeIntOrThrow(CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE);
+        enforcerCacheWarmUpConfig = DefaultEnforcerCacheWarmUpConfig.of(config);
     }
 
     /**
@@ -68,6 +73,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public int getEnforcerDecisionCacheSize() {
+        return enforcerDecisionCacheSize;
+    }
+
+    @Override
+    public EnforcerCacheWarmUpConfig getEnforcerCacheWarmUpConfig() {
+        return enforcerCacheWarmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,14 +92,17 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return enforcerDecisionCacheSize == that.enforcerDecisionCacheSize &&
+                askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerCacheWarmUpConfig.equals(that.enforcerCacheWarmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerDecisionCacheSize,
+                enforcerCacheWarmUpConfig);
     }
 
     @Override
@@ -93,6 +111,8 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerDecisionCacheSize=" + enforcerDecisionCacheSize +
+                ", enforcerCacheWarmUpConfig=" + enforcerCacheWarmUpConfig +
                 "]";
     }
 
@@ -32,12 +32,14 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final boolean globalLiveResponseDispatching;
+    private final int schedulerStripes;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
+        schedulerStripes = configWithFallback.getNonNegativeIntOrThrow(EnforcementConfigValue.SCHEDULER_STRIPES);
     }
 
     /**
@@ -67,6 +69,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return globalLiveResponseDispatching;
     }
 
+    @Override
+    public int getSchedulerStripes() {
+        return schedulerStripes;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,12 +84,13 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout) &&
-                globalLiveResponseDispatching == that.globalLiveResponseDispatching;
+                globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
+                schedulerStripes == that.schedulerStripes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching);
+        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching, schedulerStripes);
     }
 
     @Override
@@ -91,6 +99,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
+                ", schedulerStripes=" + schedulerStripes +
                 "]";
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link EnforcerCacheWarmUpConfig}.
+ */
+@Immutable
+final class DefaultEnforcerCacheWarmUpConfig implements EnforcerCacheWarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final int hotSetSize;
+    private final int maxLoadsPerSecond;
+    private final int parallelism;
+    private final Duration timeout;
+    private final Duration publishInterval;
+
+    private DefaultEnforcerCacheWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(EnforcerCacheWarmUpConfigValue.ENABLED.getConfigPath());
+        hotSetSize = config.getNonNegativeIntOrThrow(EnforcerCacheWarmUpConfigValue.HOT_SET_SIZE);
+        maxLoadsPerSecond = config.getPositiveIntOrThrow(EnforcerCacheWarmUpConfigValue.MAX_LOADS_PER_SECOND);
+        parallelism = config.getPositiveIntOrThrow(EnforcerCacheWarmUpConfigValue.PARALLELISM);
+        timeout = config.getNonNegativeDurationOrThrow(EnforcerCacheWarmUpConfigValue.TIMEOUT);
+        publishInterval = config.getNonNegativeDurationOrThrow(EnforcerCacheWarmUpConfigValue.PUBLISH_INTERVAL);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultEnforcerCacheWarmUpConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static DefaultEnforcerCacheWarmUpConfig of(final Config config) {
+        return new DefaultEnforcerCacheWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EnforcerCacheWarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getHotSetSize() {
+        return hotSetSize;
+    }
+
+    @Override
+    public int getMaxLoadsPerSecond() {
+        return maxLoadsPerSecond;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public Duration getPublishInterval() {
+        return publishInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEnforcerCacheWarmUpConfig that = (DefaultEnforcerCacheWarmUpConfig) o;
+        return enabled == that.enabled &&
+                hotSetSize == that.hotSetSize &&
+                maxLoadsPerSecond == that.maxLoadsPerSecond &&
+                parallelism == that.parallelism &&
+                timeout.equals(that.timeout) &&
+                publishInterval.equals(that.publishInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, hotSetSize, maxLoadsPerSecond, parallelism, timeout, publishInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", hotSetSize=" + hotSetSize +
+                ", maxLoadsPerSecond=" + maxLoadsPerSecond +
+                ", parallelism=" + parallelism +
+                ", timeout=" + timeout +
+                ", publishInterval=" + publishInterval +
+                "]";
+    }
+
+}
@@ -32,11 +32,14 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
 
     private final Duration singleRetrieveThingTimeout;
     private final int maxParallelism;
+    private final boolean batchEnforcementEnabled;
 
     private DefaultThingsAggregatorConfig(final ScopedConfig config) {
         singleRetrieveThingTimeout =
                 config.getDuration(ThingsAggregatorConfigValue.SINGLE_RETRIEVE_THING_TIMEOUT.getConfigPath());
         maxParallelism = config.getInt(ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath());
+        batchEnforcementEnabled =
+                config.getBoolean(ThingsAggregatorConfigValue.BATCH_ENFORCEMENT_ENABLED.getConfigPath());
     }
 
     /**
@@ -61,6 +64,11 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return maxParallelism;
     }
 
+    @Override
+    public boolean isBatchEnforcementEnabled() {
+        return batchEnforcementEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +79,13 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         }
         final DefaultThingsAggregatorConfig that = (DefaultThingsAggregatorConfig) o;
         return maxParallelism == that.maxParallelism &&
+                batchEnforcementEnabled == that.batchEnforcementEnabled &&
                 singleRetrieveThingTimeout.equals(that.singleRetrieveThingTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(singleRetrieveThingTimeout, maxParallelism);
+        return Objects.hash(singleRetrieveThingTimeout, maxParallelism, batchEnforcementEnabled);
     }
 
     @Override
@@ -84,6 +93,7 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return getClass().getSimpleName() + " [" +
                 "singleRetrieveThingTimeout=" + singleRetrieveThingTimeout +
                 ", maxParallelism=" + maxParallelism +
+                ", batchEnforcementEnabled=" + batchEnforcementEnabled +
                 "]";
     }
 
@@ -45,6 +45,15 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns the number of stripes of the lock-free enforcement scheduler. If 0, enforcement tasks are scheduled by
+     * a single actor per enforcer actor instead.
+     *
+     * @return the number of scheduler stripes or 0.
+     * @since 2.0.0
+     */
+    int getSchedulerStripes();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +73,12 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * The number of stripes of the lock-free enforcement scheduler; 0 to schedule by an actor.
+         */
+        SCHEDULER_STRIPES("scheduler-stripes", 0);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warming up the policy enforcer cache of a starting Concierge instance with the
+ * policies which are accessed most often by the other Concierge instances.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface EnforcerCacheWarmUpConfig {
+
+    /**
+     * Indicates whether the enforcer cache should be warmed up before the instance reports readiness and whether
+     * the instance publishes its hottest policy IDs for others.
+     *
+     * @return {@code true} if warm-up is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many of its hottest policy IDs an instance publishes and how many policies are loaded at most
+     * during warm-up.
+     *
+     * @return the size of the hot set.
+     */
+    int getHotSetSize();
+
+    /**
+     * Returns how many policy enforcers may be loaded per second during warm-up. This protects the policies service
+     * from a burst of retrievals when many instances start at once.
+     *
+     * @return the maximum number of loads per second.
+     */
+    int getMaxLoadsPerSecond();
+
+    /**
+     * Returns how many policy enforcers may be loaded in parallel during warm-up.
+     *
+     * @return the parallelism of loads.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum duration of the warm-up. The instance reports readiness after this duration even if not
+     * all policies of the hot set are loaded.
+     *
+     * @return the warm-up timeout.
+     */
+    Duration getTimeout();
+
+    /**
+     * Returns how often an instance publishes its hottest policy IDs.
+     *
+     * @return the publish interval.
+     */
+    Duration getPublishInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EnforcerCacheWarmUpConfig}.
+     */
+    enum EnforcerCacheWarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The size of the hot set.
+         */
+        HOT_SET_SIZE("hot-set-size", 1000),
+
+        /**
+         * The maximum number of loads per second.
+         */
+        MAX_LOADS_PER_SECOND("max-loads-per-second", 100),
+
+        /**
+         * The parallelism of loads.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * The maximum duration of the warm-up.
+         */
+        TIMEOUT("timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * How often the hottest policy IDs are published.
+         */
+        PUBLISH_INTERVAL("publish-interval", Duration.ofMinutes(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        EnforcerCacheWarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
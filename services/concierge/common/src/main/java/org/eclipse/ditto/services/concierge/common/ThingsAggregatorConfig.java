@@ -39,6 +39,15 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Indicates whether the {@code RetrieveThing} commands of one aggregation should be enforced in a batch, i. e.
+     * once per policy instead of once per thing, and sent directly to the "things" service.
+     *
+     * @return {@code true} if batch enforcement is enabled, {@code false} else.
+     * @since 2.0.0
+     */
+    boolean isBatchEnforcementEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +62,14 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * Determines whether the retrieved things are enforced once per policy.
+         *
+         * @since 2.0.0
+         */
+        BATCH_ENFORCEMENT_ENABLED("batch-enforcement-enabled", true);
 
         private final String path;
         private final Object defaultValue;
@@ -62,6 +62,10 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getEnforcerDecisionCacheSize())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -72,6 +76,10 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.getEnforcerDecisionCacheSize())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(512);
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultEnforcerCacheWarmUpConfig}.
+ */
+public final class DefaultEnforcerCacheWarmUpConfigTest {
+
+    private static final Config CACHES_TEST_CONF = ConfigFactory.load("caches-test");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEnforcerCacheWarmUpConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEnforcerCacheWarmUpConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final EnforcerCacheWarmUpConfig underTest = DefaultEnforcerCacheWarmUpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getHotSetSize())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.HOT_SET_SIZE.getConfigPath())
+                .isEqualTo(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.HOT_SET_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getTimeout())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.TIMEOUT.getConfigPath())
+                .isEqualTo(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final EnforcerCacheWarmUpConfig underTest =
+                DefaultCachesConfig.of(CACHES_TEST_CONF).getEnforcerCacheWarmUpConfig();
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getHotSetSize())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.HOT_SET_SIZE.getConfigPath())
+                .isEqualTo(2000);
+
+        softly.assertThat(underTest.getMaxLoadsPerSecond())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.MAX_LOADS_PER_SECOND.getConfigPath())
+                .isEqualTo(50);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(8);
+
+        softly.assertThat(underTest.getTimeout())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(45L));
+
+        softly.assertThat(underTest.getPublishInterval())
+                .as(EnforcerCacheWarmUpConfig.EnforcerCacheWarmUpConfigValue.PUBLISH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2L));
+    }
+
+}
@@ -146,6 +146,16 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     @Override
     protected abstract Sink<Contextual<WithDittoHeaders>, ?> createSink();
 
+    /**
+     * Returns the enforcement config of this actor.
+     *
+     * @return the enforcement config.
+     * @since 2.0.0
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
     @Override
     protected int getBufferSize() {
         return enforcementConfig.getBufferSize();
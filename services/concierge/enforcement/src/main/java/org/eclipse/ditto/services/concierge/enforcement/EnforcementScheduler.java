@@ -34,6 +34,7 @@ import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
+import scala.concurrent.ExecutionContextExecutor;
 
 /**
  * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
@@ -98,7 +99,15 @@ final class EnforcementScheduler extends AbstractActor {
         completedEnforcementTasks.increment();
     }
 
-    private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
+    /**
+     * Dispatch the result of an enforcement task to its receiver.
+     *
+     * @param enforcementResult the result of the enforcement task.
+     * @param dispatcher executor to pipe ask-futures with.
+     * @return nothing.
+     */
+    static Void dispatchEnforcedMessage(final Contextual<?> enforcementResult,
+            final ExecutionContextExecutor dispatcher) {
         final Optional<? extends WithDittoHeaders> messageOpt = enforcementResult.getMessageOptional();
         if (messageOpt.isPresent()) {
             final WithDittoHeaders<?> message = messageOpt.get();
@@ -112,7 +121,7 @@ final class EnforcementScheduler extends AbstractActor {
                 // It does not disrupt command order guarantee to run the ask-future here if the ask-future
                 // is initiated by a call to Patterns.ask(), because Patterns.ask() calls ActorRef.tell()
                 // in the calling thread.
-                Patterns.pipe(askFutureOpt.get().get(), getContext().dispatcher()).to(receiver);
+                Patterns.pipe(askFutureOpt.get().get(), dispatcher).to(receiver);
             } else if (receiverOpt.isPresent()) {
                 final ActorRef receiver = receiverOpt.get();
                 final Object wrappedMsg =
@@ -140,10 +149,12 @@ final class EnforcementScheduler extends AbstractActor {
      * @return the next in-flight enforcement tasks, including the scheduled task.
      */
     private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
+        final ExecutionContextExecutor dispatcher = getContext().dispatcher();
         final CompletionStage<?> taskFuture =
                 previousFutures.beforeStartFuture.thenCompose(authChangeComplete ->
                         previousFutures.beforeCompleteFuture.thenCombine(task.start(),
-                                (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
+                                (previousTaskComplete, enforcementResult) ->
+                                        dispatchEnforcedMessage(enforcementResult, dispatcher)
                         )
                 ).handle((result, error) -> sendFutureComplete(task, error));
         return task.changesAuthorization()
@@ -187,13 +198,13 @@ final class EnforcementScheduler extends AbstractActor {
      * Cache entry for 1 entity including: its last scheduled authorization-changing task, its last scheduled
      * non-authorization-changing task, and the amount of in-flight enforcement tasks.
      */
-    private static final class Futures {
+    static final class Futures {
 
         private static final Futures INITIAL_FUTURES =
                 new Futures(CompletableFuture.completedStage(null), CompletableFuture.completedStage(null), 0);
 
-        private final CompletionStage<?> beforeStartFuture;
-        private final CompletionStage<?> beforeCompleteFuture;
+        final CompletionStage<?> beforeStartFuture;
+        final CompletionStage<?> beforeCompleteFuture;
         private final int referenceCount;
 
         private Futures(final CompletionStage<?> beforeStartFuture, final CompletionStage<?> beforeCompleteFuture,
@@ -207,23 +218,23 @@ final class EnforcementScheduler extends AbstractActor {
         /**
          * @return the initial future of all entities: all tasks complete; 0 task in-flight.
          */
-        private static Futures initial() {
+        static Futures initial() {
             return INITIAL_FUTURES;
         }
 
-        private Futures appendBeforeStartFuture(final CompletionStage<?> beforeStartFuture) {
+        Futures appendBeforeStartFuture(final CompletionStage<?> beforeStartFuture) {
 
             // Setting both futures to the specified future allows the garbage collector to discard the unused
             // beforeCompleteFuture object.
             return new Futures(beforeStartFuture, beforeStartFuture, referenceCount + 1);
         }
 
-        private Futures appendBeforeCompleteFuture(final CompletionStage<?> beforeCompleteFuture) {
+        Futures appendBeforeCompleteFuture(final CompletionStage<?> beforeCompleteFuture) {
             return new Futures(beforeStartFuture, beforeCompleteFuture, referenceCount + 1);
         }
 
         @Nullable
-        private Futures onComplete() {
+        Futures onComplete() {
             final int nextReferenceCount = referenceCount - 1;
             if (nextReferenceCount <= 0) {
                 return null;
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -60,9 +61,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
-        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
+        sink = assembleSink(enforcementProviders, preEnforcer, createEnforcementTaskScheduler());
     }
 
     /**
@@ -117,19 +116,33 @@ public final class EnforcerActor extends AbstractEnforcerActor {
         return sink;
     }
 
+    private Consumer<EnforcementTask> createEnforcementTaskScheduler() {
+        final int schedulerStripes = getEnforcementConfig().getSchedulerStripes();
+        if (schedulerStripes > 0) {
+            final StripedEnforcementScheduler stripedScheduler =
+                    StripedEnforcementScheduler.of(schedulerStripes, getContext().getDispatcher());
+            return stripedScheduler::schedule;
+        } else {
+            final ActorRef enforcementScheduler =
+                    getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
+            return task -> enforcementScheduler.tell(task, ActorRef.noSender());
+        }
+    }
+
     /**
      * Create the sink that defines the behavior of this enforcer actor by creating enforcement tasks for incoming
      * messages.
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementTaskScheduler scheduler of the created enforcement tasks.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final Consumer<EnforcementTask> enforcementTaskScheduler) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -151,6 +164,6 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(enforcementTaskScheduler::accept), Keep.right());
     }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+
+import akka.actor.ActorRef;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Enforces the {@code RetrieveThing} commands into which a {@code RetrieveThings} command is split.
+ * <p>
+ * The things of one {@code RetrieveThings} command usually share few policies. A {@link Batch} therefore authorizes
+ * the command once per policy and sends the authorized {@code RetrieveThing} commands directly to the things shard
+ * region instead of routing each of them through an enforcer actor. Things which are not enforced by a cached policy
+ * enforcer, commands of API version 1 and commands selecting the inlined policy are delegated to a fallback which
+ * performs the complete enforcement of {@link ThingCommandEnforcement}.
+ *
+ * @since 2.0.0
+ */
+public final class RetrieveThingsEnforcement {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(RetrieveThingsEnforcement.class);
+
+    private final ActorRef thingsShardRegion;
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final PreEnforcer preEnforcer;
+    private final Duration retrieveThingTimeout;
+
+    private RetrieveThingsEnforcement(final ActorRef thingsShardRegion,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PreEnforcer preEnforcer,
+            final Duration retrieveThingTimeout) {
+
+        this.thingsShardRegion = thingsShardRegion;
+        this.thingIdCache = thingIdCache;
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.preEnforcer = preEnforcer;
+        this.retrieveThingTimeout = retrieveThingTimeout;
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveThingsEnforcement}.
+     *
+     * @param thingsShardRegion the ActorRef to the Things shard region.
+     * @param thingIdCache the thing-id-cache.
+     * @param policyEnforcerCache the policy-enforcer cache.
+     * @param preEnforcer pre-enforcer function to block undesirable messages to the things shard region.
+     * @param retrieveThingTimeout how long to wait for the response of the things shard region to a single
+     * {@code RetrieveThing}, which is the single-retrieve-thing timeout of the things aggregator.
+     * @return the instance.
+     * @throws NullPointerException if any argument but {@code preEnforcer} is {@code null}.
+     */
+    public static RetrieveThingsEnforcement of(final ActorRef thingsShardRegion,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            @Nullable final PreEnforcer preEnforcer,
+            final Duration retrieveThingTimeout) {
+
+        return new RetrieveThingsEnforcement(requireNonNull(thingsShardRegion),
+                requireNonNull(thingIdCache),
+                requireNonNull(policyEnforcerCache),
+                Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture),
+                requireNonNull(retrieveThingTimeout));
+    }
+
+    /**
+     * Creates a batch for the {@code RetrieveThing} commands of one {@code RetrieveThings} command.
+     *
+     * @param fallback performs the complete enforcement of a {@code RetrieveThing} command and yields its response.
+     * @return the batch.
+     * @throws NullPointerException if {@code fallback} is {@code null}.
+     */
+    public Batch newBatch(final Function<RetrieveThing, CompletionStage<Object>> fallback) {
+        return new Batch(requireNonNull(fallback));
+    }
+
+    /**
+     * Enforces the {@code RetrieveThing} commands of one {@code RetrieveThings} command. All commands of a batch are
+     * supposed to have the same headers as the authorization of a policy is computed only once per batch.
+     * Instances are thread-safe.
+     */
+    public final class Batch {
+
+        private final Function<RetrieveThing, CompletionStage<Object>> fallback;
+        private final Map<EntityIdWithResourceType, Optional<DittoHeaders>> authorizedHeadersByPolicy;
+
+        private Batch(final Function<RetrieveThing, CompletionStage<Object>> fallback) {
+            this.fallback = fallback;
+            authorizedHeadersByPolicy = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Retrieves a thing with enforcement.
+         *
+         * @param retrieveThing the command to retrieve the thing.
+         * @return the future response, which is the filtered {@code RetrieveThingResponse} or the
+         * {@code DittoRuntimeException} if the thing could not be retrieved.
+         */
+        public CompletionStage<Object> retrieve(final RetrieveThing retrieveThing) {
+            if (JsonSchemaVersion.V_1 == retrieveThing.getImplementedSchemaVersion() ||
+                    ThingCommandEnforcement.shouldRetrievePolicyWithThing(retrieveThing)) {
+                return fallback.apply(retrieveThing);
+            }
+            final CompletionStage<WithDittoHeaders> preEnforced = preEnforcer.apply(retrieveThing);
+            return preEnforced.thenCompose(signal -> retrievePolicyEnforcer((RetrieveThing) signal))
+                    .handle((result, error) -> {
+                        if (null != error) {
+                            return CompletableFuture.<Object>completedFuture(
+                                    toDittoRuntimeException(error, retrieveThing.getDittoHeaders()));
+                        } else if (result.isPresent()) {
+                            return retrieveFromThingsShardRegion(result.get());
+                        } else {
+                            return fallback.apply(retrieveThing);
+                        }
+                    })
+                    .thenCompose(Function.identity());
+        }
+
+        private CompletionStage<Optional<AuthorizedRetrieveThing>> retrievePolicyEnforcer(
+                final RetrieveThing retrieveThing) {
+
+            final EntityIdWithResourceType thingKey =
+                    EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, retrieveThing.getThingEntityId());
+            return thingIdCache.get(thingKey).thenCompose(policyKeyEntry -> {
+                final Optional<EntityIdWithResourceType> policyKey = policyKeyEntry.filter(Entry::exists)
+                        .map(Entry::getValueOrThrow)
+                        .filter(key -> PolicyCommand.RESOURCE_TYPE.equals(key.getResourceType()));
+                if (policyKey.isEmpty()) {
+                    // nonexistent things and things with an ACL are enforced by the fallback
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+                return policyEnforcerCache.get(policyKey.get()).thenApply(enforcerEntry -> enforcerEntry
+                        .filter(Entry::exists)
+                        .map(Entry::getValueOrThrow)
+                        .map(enforcer -> authorize(retrieveThing, policyKey.get(), enforcer)));
+            });
+        }
+
+        private AuthorizedRetrieveThing authorize(final RetrieveThing retrieveThing,
+                final EntityIdWithResourceType policyKey, final Enforcer enforcer) {
+
+            final Optional<DittoHeaders> authorizedHeaders =
+                    authorizedHeadersByPolicy.computeIfAbsent(policyKey, key -> {
+                        try {
+                            final RetrieveThing authorized =
+                                    ThingCommandEnforcement.authorizeByPolicyOrThrow(enforcer, retrieveThing);
+                            return Optional.of(authorized.getDittoHeaders());
+                        } catch (final DittoRuntimeException e) {
+                            return Optional.empty();
+                        }
+                    });
+            return authorizedHeaders
+                    .map(headers -> new AuthorizedRetrieveThing(retrieveThing.setDittoHeaders(headers), enforcer))
+                    .orElseThrow(() -> ThingCommandEnforcement.errorForThingCommand(retrieveThing));
+        }
+
+        private CompletionStage<Object> retrieveFromThingsShardRegion(final AuthorizedRetrieveThing authorized) {
+            final RetrieveThing retrieveThing = authorized.retrieveThing;
+            return Patterns.ask(thingsShardRegion, retrieveThing, retrieveThingTimeout)
+                    .handle((response, error) -> {
+                        if (response instanceof RetrieveThingResponse) {
+                            return ThingCommandEnforcement.buildJsonViewForThingQueryCommandResponse(
+                                    (RetrieveThingResponse) response, authorized.enforcer);
+                        } else if (response instanceof DittoRuntimeException) {
+                            return response;
+                        } else if (response instanceof ErrorResponse) {
+                            return ((ErrorResponse<?>) response).getDittoRuntimeException();
+                        } else if (error instanceof AskTimeoutException || response instanceof AskTimeoutException) {
+                            return ThingUnavailableException.newBuilder(retrieveThing.getThingEntityId())
+                                    .dittoHeaders(retrieveThing.getDittoHeaders())
+                                    .build();
+                        } else {
+                            return toDittoRuntimeException(null != error ? error : new IllegalStateException(
+                                    "Unexpected response: " + response), retrieveThing.getDittoHeaders());
+                        }
+                    });
+        }
+
+    }
+
+    private static DittoRuntimeException toDittoRuntimeException(final Throwable error,
+            final DittoHeaders dittoHeaders) {
+
+        return DittoRuntimeException.asDittoRuntimeException(error, cause -> {
+            LOGGER.withCorrelationId(dittoHeaders).error("Unexpected error during batch enforcement", cause);
+            return GatewayInternalErrorException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .cause(cause)
+                    .build();
+        });
+    }
+
+    private static final class AuthorizedRetrieveThing {
+
+        private final RetrieveThing retrieveThing;
+        private final Enforcer enforcer;
+
+        private AuthorizedRetrieveThing(final RetrieveThing retrieveThing, final Enforcer enforcer) {
+            this.retrieveThing = retrieveThing;
+            this.enforcer = enforcer;
+        }
+
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import scala.concurrent.ExecutionContextExecutor;
+
+/**
+ * Alternative to {@link EnforcementScheduler} without a single actor as serialization point. Entity IDs are
+ * distributed by hash over a fixed number of stripes. Each stripe owns a lock-free queue and the in-flight futures
+ * of its entities; whichever thread submits to an idle stripe drains its queue, so that stripes are processed in
+ * parallel while each stripe is processed by at most one thread at a time.
+ * <p>
+ * The ordering guarantees are the same as those of {@link EnforcementScheduler}: an enforcement task does not start
+ * until all previous authorization-changing tasks of its entity are complete and its result is not dispatched until
+ * all previous tasks of its entity are complete.
+ */
+@ThreadSafe
+final class StripedEnforcementScheduler {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(StripedEnforcementScheduler.class);
+
+    private static final String QUEUE_DEPTH_METRIC_NAME = "enforcement_scheduler_queue_depth";
+    private static final String WAIT_TIME_METRIC_NAME = "enforcement_scheduler_wait_time";
+
+    private final Stripe[] stripes;
+    private final ExecutionContextExecutor dispatcher;
+    private final Counter scheduledEnforcementTasks;
+    private final Counter completedEnforcementTasks;
+
+    private StripedEnforcementScheduler(final int numberOfStripes, final ExecutionContextExecutor dispatcher) {
+        this.dispatcher = dispatcher;
+        stripes = new Stripe[numberOfStripes];
+        for (int i = 0; i < numberOfStripes; i++) {
+            stripes[i] = new Stripe(i);
+        }
+        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
+        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+    }
+
+    /**
+     * Create a striped enforcement scheduler.
+     *
+     * @param numberOfStripes how many stripes to distribute entity IDs over.
+     * @param dispatcher executor to pipe ask-futures with.
+     * @return the scheduler.
+     * @throws IllegalArgumentException if {@code numberOfStripes} is not positive.
+     */
+    static StripedEnforcementScheduler of(final int numberOfStripes, final ExecutionContextExecutor dispatcher) {
+        if (numberOfStripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes must be positive, but was <" +
+                    numberOfStripes + ">!");
+        }
+        return new StripedEnforcementScheduler(numberOfStripes, dispatcher);
+    }
+
+    /**
+     * Schedule an enforcement task after the in-flight tasks of its entity.
+     *
+     * @param task the task to schedule.
+     */
+    void schedule(final EnforcementTask task) {
+        if (task.getEntityId().isDummy()) {
+            // This should not happen: Refuse to perform enforcement task for messages without ID.
+            LOGGER.error("EnforcementTaskWithoutEntityId <{}>", task);
+        } else {
+            getStripe(task.getEntityId()).submit(new ScheduledTask(task, System.nanoTime()));
+            scheduledEnforcementTasks.increment();
+        }
+    }
+
+    private Stripe getStripe(final EntityId entityId) {
+        final int hash = entityId.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    /**
+     * A partition of entity IDs. Items are offered to a lock-free queue; the thread which increments the
+     * work-in-progress counter from 0 drains the queue until the counter drops back to 0. The futures map is only
+     * accessed while draining and needs no further synchronization.
+     */
+    private final class Stripe {
+
+        private final Queue<Object> queue;
+        private final AtomicInteger workInProgress;
+        private final Map<EntityId, EnforcementScheduler.Futures> futuresMap;
+        private final Gauge queueDepth;
+        private final PreparedTimer waitTime;
+
+        private Stripe(final int index) {
+            queue = new ConcurrentLinkedQueue<>();
+            workInProgress = new AtomicInteger();
+            futuresMap = new HashMap<>();
+            final String stripe = String.valueOf(index);
+            queueDepth = DittoMetrics.gauge(QUEUE_DEPTH_METRIC_NAME).tag("stripe", stripe);
+            waitTime = DittoMetrics.timer(WAIT_TIME_METRIC_NAME).tag("stripe", stripe);
+        }
+
+        private void submit(final Object item) {
+            queue.offer(item);
+            if (workInProgress.getAndIncrement() == 0) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                Object item;
+                while ((item = queue.poll()) != null) {
+                    process(item);
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void process(final Object item) {
+            try {
+                if (item instanceof ScheduledTask) {
+                    scheduleEnforcement((ScheduledTask) item);
+                } else if (item instanceof TaskComplete) {
+                    taskComplete((TaskComplete) item);
+                }
+            } catch (final RuntimeException e) {
+                // never leave the stripe with a positive work-in-progress counter
+                LOGGER.error("Failed to process <{}>: {}", item, e.getMessage(), e);
+            }
+        }
+
+        private void scheduleEnforcement(final ScheduledTask scheduledTask) {
+            final EnforcementTask task = scheduledTask.task;
+            futuresMap.compute(task.getEntityId(), (entityId, cachedFutures) -> {
+                LOGGER.debug("Scheduling <{}> at <{}>", task, cachedFutures);
+                final EnforcementScheduler.Futures previousFutures =
+                        cachedFutures != null ? cachedFutures : EnforcementScheduler.Futures.initial();
+                return scheduleTaskAfter(previousFutures, scheduledTask);
+            });
+            queueDepth.increment();
+        }
+
+        private void taskComplete(final TaskComplete taskComplete) {
+            if (null != taskComplete.error) {
+                LOGGER.error("FutureFailed <{}>", taskComplete, taskComplete.error);
+            }
+            futuresMap.computeIfPresent(taskComplete.entityId, (entityId, futures) -> futures.onComplete());
+            queueDepth.decrement();
+            completedEnforcementTasks.increment();
+        }
+
+        /**
+         * Same as {@code EnforcementScheduler#scheduleTaskAfter} but completion is submitted to this stripe instead
+         * of being sent to an actor.
+         */
+        private EnforcementScheduler.Futures scheduleTaskAfter(final EnforcementScheduler.Futures previousFutures,
+                final ScheduledTask scheduledTask) {
+
+            final EnforcementTask task = scheduledTask.task;
+            final CompletionStage<?> taskFuture =
+                    previousFutures.beforeStartFuture.thenCompose(authChangeComplete -> {
+                        waitTime.record(System.nanoTime() - scheduledTask.scheduledAtNanos, TimeUnit.NANOSECONDS);
+                        return previousFutures.beforeCompleteFuture.thenCombine(task.start(),
+                                (previousTaskComplete, enforcementResult) ->
+                                        EnforcementScheduler.dispatchEnforcedMessage(enforcementResult, dispatcher)
+                        );
+                    }).handle((result, error) -> {
+                        submit(new TaskComplete(task.getEntityId(), error));
+                        return null;
+                    });
+            return task.changesAuthorization()
+                    ? previousFutures.appendBeforeStartFuture(taskFuture)
+                    : previousFutures.appendBeforeCompleteFuture(taskFuture);
+        }
+
+    }
+
+    private static final class ScheduledTask {
+
+        private final EnforcementTask task;
+        private final long scheduledAtNanos;
+
+        private ScheduledTask(final EnforcementTask task, final long scheduledAtNanos) {
+            this.task = task;
+            this.scheduledAtNanos = scheduledAtNanos;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[task=" + task + "]";
+        }
+    }
+
+    private static final class TaskComplete {
+
+        private final EntityId entityId;
+        @Nullable private final Throwable error;
+
+        private TaskComplete(final EntityId entityId, @Nullable final Throwable error) {
+            this.entityId = entityId;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[entityId=" + entityId + "]";
+        }
+    }
+
+}
@@ -545,7 +545,7 @@ public final class ThingCommandEnforcement
      * @param enforcer the enforcer.
      * @return response with view on entity restricted by enforcer.
      */
-    private static <T extends ThingQueryCommandResponse<T>> T buildJsonViewForThingQueryCommandResponse(
+    static <T extends ThingQueryCommandResponse<T>> T buildJsonViewForThingQueryCommandResponse(
             final ThingQueryCommandResponse<T> response, final Enforcer enforcer) {
 
         final JsonValue entity = response.getEntity();
@@ -920,7 +920,7 @@ public final class ThingCommandEnforcement
      * @param command the thing query command.
      * @return whether it is necessary to retrieve the thing's policy.
      */
-    private static boolean shouldRetrievePolicyWithThing(final ThingCommand<?> command) {
+    static boolean shouldRetrievePolicyWithThing(final ThingCommand<?> command) {
         final RetrieveThing retrieveThing = (RetrieveThing) command;
         final boolean isNotV1 = JsonSchemaVersion.V_1 != command.getImplementedSchemaVersion();
         return isNotV1 && retrieveThing.getSelectedFields()
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+import static org.eclipse.ditto.model.policies.SubjectIssuer.GOOGLE;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.SUBJECT_ID;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.headers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link RetrieveThingsEnforcement}.
+ */
+public final class RetrieveThingsEnforcementTest {
+
+    private static final PolicyId READABLE_POLICY_ID = PolicyId.of("policy", "readable");
+    private static final PolicyId UNREADABLE_POLICY_ID = PolicyId.of("policy", "unreadable");
+    private static final ThingId READABLE_THING_ID = ThingId.of("thing", "readable");
+    private static final ThingId UNREADABLE_THING_ID = ThingId.of("thing", "unreadable");
+    private static final ThingId UNKNOWN_THING_ID = ThingId.of("thing", "unknown");
+
+    private ActorSystem system;
+    private TestKit thingsShardRegion;
+    private RetrieveThingsEnforcement underTest;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("test", ConfigFactory.load("test"));
+        thingsShardRegion = new TestKit(system);
+
+        final Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> policyKeys = new HashMap<>();
+        policyKeys.put(thingKey(READABLE_THING_ID), Entry.of(1L, policyKey(READABLE_POLICY_ID)));
+        policyKeys.put(thingKey(UNREADABLE_THING_ID), Entry.of(1L, policyKey(UNREADABLE_POLICY_ID)));
+        final Map<EntityIdWithResourceType, Entry<Enforcer>> enforcers = new HashMap<>();
+        enforcers.put(policyKey(READABLE_POLICY_ID), Entry.of(1L, readableEnforcer()));
+        enforcers.put(policyKey(UNREADABLE_POLICY_ID), Entry.of(1L, unreadableEnforcer()));
+
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CaffeineCache.of(Caffeine.newBuilder(), (key, executor) ->
+                        CompletableFuture.completedFuture(policyKeys.getOrDefault(key, Entry.nonexistent())));
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CaffeineCache.of(Caffeine.newBuilder(), (key, executor) ->
+                        CompletableFuture.completedFuture(enforcers.getOrDefault(key, Entry.nonexistent())));
+
+        underTest = RetrieveThingsEnforcement.of(thingsShardRegion.getRef(), thingIdCache, policyEnforcerCache, null,
+                Duration.ofSeconds(10L));
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void retrieveReadableThingDirectlyFromThingsShardRegion() throws Exception {
+        final AtomicInteger fallbackCount = new AtomicInteger();
+        final RetrieveThingsEnforcement.Batch batch = underTest.newBatch(retrieveThing -> {
+            fallbackCount.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        final CompletionStage<Object> result = batch.retrieve(RetrieveThing.of(READABLE_THING_ID, headers(V_2)));
+
+        final RetrieveThing retrieveThing = thingsShardRegion.expectMsgClass(RetrieveThing.class);
+        assertThat(retrieveThing.getDittoHeaders().getReadGrantedSubjects()).isNotEmpty();
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", READABLE_THING_ID.toString())
+                .set("attributes", JsonObject.newBuilder().set("public", 1).set("secret", 2).build())
+                .build();
+        thingsShardRegion.reply(RetrieveThingResponse.of(READABLE_THING_ID, thing, retrieveThing.getDittoHeaders()));
+
+        final Object response = result.toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        assertThat(response).isInstanceOf(RetrieveThingResponse.class);
+        assertThat(((RetrieveThingResponse) response).getEntity(V_2)).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", READABLE_THING_ID.toString())
+                .set("attributes", JsonObject.newBuilder().set("public", 1).build())
+                .build());
+        assertThat(fallbackCount).hasValue(0);
+    }
+
+    @Test
+    public void rejectUnreadableThingWithoutAskingThingsShardRegion() throws Exception {
+        final RetrieveThingsEnforcement.Batch batch = underTest.newBatch(retrieveThing -> new CompletableFuture<>());
+
+        final Object response = batch.retrieve(RetrieveThing.of(UNREADABLE_THING_ID, headers(V_2)))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(response).isInstanceOf(ThingNotAccessibleException.class);
+        thingsShardRegion.expectNoMessage();
+    }
+
+    @Test
+    public void delegateUnknownThingToFallback() throws Exception {
+        final Object fallbackResponse = new Object();
+        final RetrieveThingsEnforcement.Batch batch =
+                underTest.newBatch(retrieveThing -> CompletableFuture.completedFuture(fallbackResponse));
+
+        final Object response = batch.retrieve(RetrieveThing.of(UNKNOWN_THING_ID, headers(V_2)))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(response).isSameAs(fallbackResponse);
+        thingsShardRegion.expectNoMessage();
+    }
+
+    private static EntityIdWithResourceType thingKey(final ThingId thingId) {
+        return EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
+    }
+
+    private static EntityIdWithResourceType policyKey(final PolicyId policyId) {
+        return EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
+    }
+
+    private static Enforcer readableEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(PoliciesModelFactory.newPolicyBuilder(READABLE_POLICY_ID)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT_ID)
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ")
+                .build());
+    }
+
+    private static Enforcer unreadableEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(PoliciesModelFactory.newPolicyBuilder(UNREADABLE_POLICY_ID)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT_ID)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), "WRITE")
+                .build());
+    }
+
+}
@@ -21,12 +21,14 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsEnforcement;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
@@ -66,7 +68,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     @SuppressWarnings("unused")
     private DispatcherActor(final ActorRef enforcerActor,
             final ActorRef pubSubMediator,
-            final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler) {
+            final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler,
+            @Nullable final RetrieveThingsEnforcement retrieveThingsEnforcement) {
 
         super(WithDittoHeaders.class);
 
@@ -75,7 +78,7 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
         ).getEnforcementConfig();
 
         this.handler = handler;
-        final Props props = ThingsAggregatorActor.props(enforcerActor);
+        final Props props = ThingsAggregatorActor.props(enforcerActor, retrieveThingsEnforcement);
         thingsAggregatorActor = getContext().actorOf(props, ThingsAggregatorActor.ACTOR_NAME);
 
         initActor(getSelf(), pubSubMediator);
@@ -122,10 +125,31 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             final ActorRef enforcerActor,
             final PreEnforcer preEnforcer) {
 
+        return props(pubSubMediator, enforcerActor, preEnforcer, null);
+    }
+
+    /**
+     * Create Akka actor configuration Props object with pre-enforcer and batch enforcement of the things retrieved
+     * by {@code RetrieveThings} commands.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param enforcerActor the address of the enforcer actor.
+     * @param preEnforcer the pre-enforcer as graph.
+     * @param retrieveThingsEnforcement the batch enforcement of retrieved things or {@code null} if each retrieved
+     * thing should be enforced by {@code enforcerActor}.
+     * @return the Props object.
+     * @since 2.0.0
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final ActorRef enforcerActor,
+            final PreEnforcer preEnforcer,
+            @Nullable final RetrieveThingsEnforcement retrieveThingsEnforcement) {
+
         final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> dispatchFlow =
                 Flow.fromGraph(createDispatchFlow(pubSubMediator, preEnforcer));
 
-        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, dispatchFlow);
+        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, dispatchFlow,
+                retrieveThingsEnforcement);
     }
 
     /**
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.concierge.starter.actors;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -25,6 +26,7 @@ import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.ThingsAggregatorConfig;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsEnforcement;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
@@ -35,10 +37,12 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.stream.SourceRef;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -59,17 +63,22 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final ActorRef targetActor;
+    @Nullable private final RetrieveThingsEnforcement retrieveThingsEnforcement;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
 
     @SuppressWarnings("unused")
-    private ThingsAggregatorActor(final ActorRef targetActor) {
+    private ThingsAggregatorActor(final ActorRef targetActor,
+            @Nullable final RetrieveThingsEnforcement retrieveThingsEnforcement) {
+
         this.targetActor = targetActor;
         final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         ).getThingsAggregatorConfig();
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        this.retrieveThingsEnforcement =
+                aggregatorConfig.isBatchEnforcementEnabled() ? retrieveThingsEnforcement : null;
     }
 
     /**
@@ -79,7 +88,23 @@ public final class ThingsAggregatorActor extends AbstractActor {
      * @return the Akka configuration Props object
      */
     public static Props props(final ActorRef targetActor) {
-        return Props.create(ThingsAggregatorActor.class, targetActor)
+        return props(targetActor, null);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this ThingsAggregatorActor which enforces the {@code RetrieveThing}
+     * commands of a {@code RetrieveThings} command in a batch if enabled by configuration.
+     *
+     * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param retrieveThingsEnforcement the batch enforcement of {@code RetrieveThing} commands or {@code null} if
+     * each {@code RetrieveThing} should be delegated to {@code targetActor}.
+     * @return the Akka configuration Props object
+     * @since 2.0.0
+     */
+    public static Props props(final ActorRef targetActor,
+            @Nullable final RetrieveThingsEnforcement retrieveThingsEnforcement) {
+
+        return Props.create(ThingsAggregatorActor.class, targetActor, retrieveThingsEnforcement)
                 .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
 
@@ -130,32 +155,52 @@ public final class ThingsAggregatorActor extends AbstractActor {
             final Command<?> command, final ActorRef resultReceiver) {
 
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Source<ThingId, NotUsed> thingIdSource = Source.from(thingIds).filter(Objects::nonNull);
+
+        final Source<Jsonifiable, NotUsed> responses;
+        if (command instanceof RetrieveThings && null != retrieveThingsEnforcement) {
+            final RetrieveThingsEnforcement.Batch batch = retrieveThingsEnforcement.newBatch(this::askTargetActor);
+            responses = thingIdSource.map(thingId -> getRetrieveThing(thingId, selectedFields, dittoHeaders))
+                    .mapAsync(calculateParallelism(thingIds), batch::retrieve)
+                    .map(Jsonifiable.class::cast);
+        } else {
+            responses = thingIdSource.map(thingId -> {
+                        final Command<?> toBeWrapped;
+                        if (command instanceof RetrieveThings) {
+                            toBeWrapped = getRetrieveThing(thingId, selectedFields, dittoHeaders);
+                        } else {
+                            toBeWrapped = Optional.ofNullable(selectedFields)
+                                    .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
+                                    .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
+                        }
+                        return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
+                    })
+                    .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
+                            Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
 
-        final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
-                .filter(Objects::nonNull)
-                .map(thingId -> {
-                    final Command<?> toBeWrapped;
-                    if (command instanceof RetrieveThings) {
-                        toBeWrapped = Optional.ofNullable(selectedFields)
-                                .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
-                                        .withSelectedFields(sf)
-                                        .build())
-                                .orElse(RetrieveThing.of(thingId, dittoHeaders));
-                    } else {
-                        toBeWrapped = Optional.ofNullable(selectedFields)
-                                .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
-                                .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
-                    }
-                    return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
-                })
-                .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
-                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+        final SourceRef<Jsonifiable> commandResponseSource = responses
                 .log("command-response", log)
                 .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
 
         resultReceiver.tell(commandResponseSource, getSelf());
     }
 
+    private static RetrieveThing getRetrieveThing(final ThingId thingId,
+            @Nullable final JsonFieldSelector selectedFields, final DittoHeaders dittoHeaders) {
+
+        return Optional.ofNullable(selectedFields)
+                .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
+                        .withSelectedFields(sf)
+                        .build())
+                .orElse(RetrieveThing.of(thingId, dittoHeaders));
+    }
+
+    private CompletionStage<Object> askTargetActor(final RetrieveThing retrieveThing) {
+        return Patterns.ask(targetActor, ConciergeWrapper.wrapForEnforcerRouter(retrieveThing),
+                retrieveSingleThingTimeout);
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
@@ -19,6 +19,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
@@ -26,22 +28,27 @@ import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.enforcers.CachingEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.common.EnforcerCacheWarmUpConfig;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.warmup.EnforcerCacheWarmUpActor;
+import org.eclipse.ditto.services.concierge.starter.warmup.HotPolicyIds;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
@@ -55,6 +62,8 @@ import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespacesUpdater;
@@ -81,6 +90,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String ENFORCER_DECISION_CACHE_METRIC_NAME = "ditto_authorization_enforcer_decision_cache";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context, final ConciergeConfig conciergeConfig,
@@ -102,7 +112,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy,
+                        enforcerDecorator(cachesConfig.getEnforcerDecisionCacheSize()));
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
@@ -133,8 +144,11 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(context,
                         conciergeConfig.getClusterConfig().getNumberOfShards());
 
-        context.actorOf(DispatcherActor.props(pubSubMediator, conciergeEnforcerRouter),
-                DispatcherActor.ACTOR_NAME);
+        final RetrieveThingsEnforcement retrieveThingsEnforcement =
+                RetrieveThingsEnforcement.of(thingsShardRegionProxy, thingIdCache, policyEnforcerCache, preEnforcer,
+                        conciergeConfig.getThingsAggregatorConfig().getSingleRetrieveThingTimeout());
+        context.actorOf(DispatcherActor.props(pubSubMediator, conciergeEnforcerRouter,
+                CompletableFuture::completedFuture, retrieveThingsEnforcement), DispatcherActor.ACTOR_NAME);
 
         final ActorRef conciergeForwarder =
                 context.actorOf(ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter),
@@ -147,6 +161,12 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
         context.actorOf(cachedNamespaceInvalidatorProps, CachedNamespaceInvalidator.ACTOR_NAME);
 
+        // start warm-up of the policy enforcer cache; it answers the readiness check of this instance
+        final EnforcerCacheWarmUpConfig warmUpConfig = cachesConfig.getEnforcerCacheWarmUpConfig();
+        final Props enforcerCacheWarmUpProps = EnforcerCacheWarmUpActor.props(warmUpConfig,
+                warmUpConfig.isEnabled() ? HotPolicyIds.of(actorSystem) : null, policyEnforcerCache);
+        context.actorOf(enforcerCacheWarmUpProps, EnforcerCacheWarmUpActor.ACTOR_NAME);
+
         // start cluster singleton that writes to the distributed cache of blocked namespaces
         final Props blockedNamespacesUpdaterProps = BlockedNamespacesUpdater.props(blockedNamespaces, pubSubMediator);
         ClusterUtil.startSingleton(actorSystem, actorSystem, CLUSTER_ROLE,
@@ -161,6 +181,15 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         return context.actorOf(enforcerProps, EnforcerActor.ACTOR_NAME);
     }
 
+    private static Function<Enforcer, Enforcer> enforcerDecorator(final int decisionCacheSize) {
+        if (decisionCacheSize <= 0) {
+            return Function.identity();
+        }
+        final Counter hits = DittoMetrics.counter(ENFORCER_DECISION_CACHE_METRIC_NAME).tag("result", "hit");
+        final Counter misses = DittoMetrics.counter(ENFORCER_DECISION_CACHE_METRIC_NAME).tag("result", "miss");
+        return enforcer -> CachingEnforcer.of(enforcer, decisionCacheSize, hits::increment, misses::increment);
+    }
+
     /**
      * Set the "ditto-originator" header to the primary authorization subject of a signal.
      *
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.warmup;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.concierge.common.EnforcerCacheWarmUpConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.Cluster;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor that warms up the policy enforcer cache of a starting Concierge instance and periodically publishes the
+ * hottest policy IDs of the cache for instances started later.
+ * <p>
+ * On start, the actor retrieves the hot policy IDs published by the other instances from {@link HotPolicyIds} and
+ * loads their enforcers into the cache with limited rate and parallelism. Concurrent loads of the same policy, e. g.
+ * by warm-up and by a command, are coalesced by the cache. The instance reports readiness via
+ * {@link EnforcerCacheWarmUpReadinessCheck} after all enforcers are loaded or after the warm-up timeout, whichever
+ * comes first.
+ *
+ * @since 2.0.0
+ */
+public final class EnforcerCacheWarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "enforcerCacheWarmUp";
+
+    private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final EnforcerCacheWarmUpConfig config;
+    @Nullable private final HotPolicyIds hotPolicyIds;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final Materializer materializer;
+
+    private boolean ready;
+
+    @SuppressWarnings("unused")
+    private EnforcerCacheWarmUpActor(final EnforcerCacheWarmUpConfig config, @Nullable final HotPolicyIds hotPolicyIds,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        this.config = config;
+        this.hotPolicyIds = hotPolicyIds;
+        this.policyEnforcerCache = policyEnforcerCache;
+        materializer = Materializer.createMaterializer(this::getContext);
+        ready = !config.isEnabled();
+    }
+
+    /**
+     * Create Props of an actor to warm up the policy enforcer cache.
+     *
+     * @param config the warm-up config.
+     * @param hotPolicyIds distributed data of the hot policy IDs of all instances; may only be {@code null} if the
+     * warm-up is disabled.
+     * @param policyEnforcerCache the policy enforcer cache to warm up.
+     * @return the Props object.
+     * @throws NullPointerException if the warm-up is enabled and {@code hotPolicyIds} is {@code null}.
+     */
+    public static Props props(final EnforcerCacheWarmUpConfig config, @Nullable final HotPolicyIds hotPolicyIds,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        if (config.isEnabled()) {
+            checkNotNull(hotPolicyIds, "hotPolicyIds");
+        }
+        return Props.create(EnforcerCacheWarmUpActor.class, config, hotPolicyIds, policyEnforcerCache);
+    }
+
+    @Override
+    public void preStart() {
+        if (config.isEnabled()) {
+            getTimers().startSingleTimer(Control.WARM_UP_TIMEOUT, Control.WARM_UP_TIMEOUT, config.getTimeout());
+            getTimers().startTimerWithFixedDelay(Control.PUBLISH, Control.PUBLISH, config.getPublishInterval());
+            final CompletionStage<HotPolicyIdsRetrieved> retrieval =
+                    hotPolicyIds.getHotPolicyIds(config.getTimeout(), config.getHotSetSize())
+                            .handle(HotPolicyIdsRetrieved::new);
+            Patterns.pipe(retrieval, getContext().getDispatcher()).to(getSelf());
+        } else {
+            log.info("Warm-up of the policy enforcer cache is disabled.");
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(EnforcerCacheWarmUpReadinessCheck.READINESS_ASK_MESSAGE, this::replyReadiness)
+                .match(HotPolicyIdsRetrieved.class, this::warmUp)
+                .match(WarmUpDone.class, this::warmUpDone)
+                .matchEquals(Control.WARM_UP_TIMEOUT, this::warmUpTimeout)
+                .matchEquals(Control.PUBLISH, this::publish)
+                .matchEquals(Control.PUBLISHED, published -> log.debug("Published hot policy IDs."))
+                .match(Status.Failure.class, this::handleFailure)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void replyReadiness(final Object readinessAskMessage) {
+        final String response = ready
+                ? EnforcerCacheWarmUpReadinessCheck.READINESS_ASK_MESSAGE_RESPONSE
+                : EnforcerCacheWarmUpReadinessCheck.WARMING_UP_RESPONSE;
+        getSender().tell(response, getSelf());
+    }
+
+    private void warmUp(final HotPolicyIdsRetrieved retrieved) {
+        if (null != retrieved.error) {
+            log.warning("Failed to retrieve hot policy IDs, skipping warm-up: <{}>", retrieved.error);
+            becomeReady();
+        } else if (retrieved.policyIds.isEmpty()) {
+            log.info("No hot policy IDs were published, skipping warm-up.");
+            becomeReady();
+        } else {
+            log.info("Warming up policy enforcer cache with <{}> policies.", retrieved.policyIds.size());
+            final int total = retrieved.policyIds.size();
+            final CompletionStage<WarmUpDone> warmUp = Source.from(retrieved.policyIds)
+                    .takeWithin(config.getTimeout())
+                    .throttle(config.getMaxLoadsPerSecond(), Duration.ofSeconds(1L))
+                    .mapAsyncUnordered(config.getParallelism(), this::loadPolicyEnforcer)
+                    .runFold(0, (loaded, isLoaded) -> isLoaded ? loaded + 1 : loaded, materializer)
+                    .thenApply(loaded -> new WarmUpDone(loaded, total));
+            Patterns.pipe(warmUp, getContext().getDispatcher()).to(getSelf());
+        }
+    }
+
+    private CompletionStage<Boolean> loadPolicyEnforcer(final String policyId) {
+        final EntityIdWithResourceType entityId;
+        try {
+            entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, PolicyId.of(policyId));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return policyEnforcerCache.get(entityId)
+                .handle((entry, error) -> null == error && entry.isPresent() && entry.get().exists());
+    }
+
+    private void warmUpDone(final WarmUpDone done) {
+        log.info("Warmed up policy enforcer cache with <{}> of <{}> policies.", done.loaded, done.total);
+        becomeReady();
+    }
+
+    private void warmUpTimeout(final Control warmUpTimeout) {
+        if (!ready) {
+            log.warning("Warm-up of policy enforcer cache did not finish within <{}>.", config.getTimeout());
+            becomeReady();
+        }
+    }
+
+    private void handleFailure(final Status.Failure failure) {
+        if (ready) {
+            log.warning("Failed to publish hot policy IDs: <{}>", failure.cause());
+        } else {
+            log.warning("Warm-up of policy enforcer cache failed: <{}>", failure.cause());
+            becomeReady();
+        }
+    }
+
+    private void becomeReady() {
+        ready = true;
+        getTimers().cancel(Control.WARM_UP_TIMEOUT);
+    }
+
+    private void publish(final Control publish) {
+        // do not overwrite the hot set of a previous incarnation of this instance while the cache is still cold
+        if (ready) {
+            final List<String> policyIds = policyEnforcerCache.getHottestKeys(config.getHotSetSize())
+                    .stream()
+                    .map(entityId -> String.valueOf(entityId.getId()))
+                    .collect(Collectors.toList());
+            if (!policyIds.isEmpty()) {
+                final Set<String> memberAddresses =
+                        StreamSupport.stream(Cluster.get(getContext().getSystem()).state().getMembers().spliterator(),
+                                false)
+                                .map(member -> member.address().toString())
+                                .collect(Collectors.toSet());
+                final CompletionStage<Control> published =
+                        hotPolicyIds.publish(policyIds, memberAddresses).thenApply(unused -> Control.PUBLISHED);
+                Patterns.pipe(published, getContext().getDispatcher()).to(getSelf());
+            }
+        }
+    }
+
+    private enum Control {
+        WARM_UP_TIMEOUT,
+        PUBLISH,
+        PUBLISHED
+    }
+
+    private static final class HotPolicyIdsRetrieved {
+
+        private final List<String> policyIds;
+        @Nullable private final Throwable error;
+
+        private HotPolicyIdsRetrieved(@Nullable final List<String> policyIds, @Nullable final Throwable error) {
+            this.policyIds = null != policyIds ? policyIds : List.of();
+            this.error = error;
+        }
+    }
+
+    private static final class WarmUpDone {
+
+        private final int loaded;
+        private final int total;
+
+        private WarmUpDone(final int loaded, final int total) {
+            this.loaded = loaded;
+            this.total = total;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.warmup;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.services.concierge.starter.actors.ConciergeRootActor;
+
+import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.pattern.Patterns;
+
+/**
+ * Health check supplier for Akka Management checking whether the {@link EnforcerCacheWarmUpActor} finished warming up
+ * the policy enforcer cache.
+ *
+ * @since 2.0.0
+ */
+public final class EnforcerCacheWarmUpReadinessCheck implements Supplier<CompletionStage<Boolean>> {
+
+    /**
+     * The message to ask the {@code EnforcerCacheWarmUpActor} (must be handled by it!).
+     */
+    public static final String READINESS_ASK_MESSAGE = "enforcer-cache-warm?";
+
+    /**
+     * The response to the above message sent by the {@code EnforcerCacheWarmUpActor} once the cache is warm.
+     */
+    public static final String READINESS_ASK_MESSAGE_RESPONSE = "ready";
+
+    /**
+     * The response to the above message sent by the {@code EnforcerCacheWarmUpActor} during warm-up.
+     */
+    static final String WARMING_UP_RESPONSE = "warming-up";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ActorSelection warmUpActor;
+
+    public EnforcerCacheWarmUpReadinessCheck(final ActorSystem system) {
+        warmUpActor = system.actorSelection("/user/" + ConciergeRootActor.ACTOR_NAME + "/" +
+                EnforcerCacheWarmUpActor.ACTOR_NAME);
+    }
+
+    @Override
+    public CompletionStage<Boolean> get() {
+        return Patterns.ask(warmUpActor, READINESS_ASK_MESSAGE, TIMEOUT)
+                .handle((answer, throwable) -> READINESS_ASK_MESSAGE_RESPONSE.equals(answer));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Distributed data of the hottest policy IDs of each Concierge instance. Each instance publishes the IDs of the policy
+ * enforcers which it accesses most often under its cluster address so that starting instances can warm up their
+ * enforcer cache with them.
+ *
+ * @since 2.0.0
+ */
+public final class HotPolicyIds extends DistributedData<LWWMap<String, String>> {
+
+    /**
+     * Role of cluster members to which this distributed data is replicated.
+     */
+    public static final String CLUSTER_ROLE = ConciergeMessagingConstants.CLUSTER_ROLE;
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "hotPolicyIdsReplicator";
+
+    /**
+     * Key of the distributed data. Should be unique among LWWMaps.
+     */
+    private static final Key<LWWMap<String, String>> KEY = LWWMapKey.create("HotPolicyIds");
+
+    private static final String HOT_POLICY_IDS_DISPATCHER = "hot-policy-ids-dispatcher";
+
+    private final SelfUniqueAddress selfUniqueAddress;
+    private final String selfAddress;
+
+    private HotPolicyIds(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatchers().lookup(HOT_POLICY_IDS_DISPATCHER));
+        final Cluster cluster = Cluster.get(system);
+        selfUniqueAddress = SelfUniqueAddress.apply(cluster.selfUniqueAddress());
+        // the address without UID so that a restarted instance overwrites the entry of its previous incarnation
+        selfAddress = cluster.selfAddress().toString();
+    }
+
+    /**
+     * Get an instance of this distributed data with the default configuration. The provided Akka system must be a
+     * cluster member with the role {@code concierge}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return a new instance of the distributed data.
+     */
+    public static HotPolicyIds of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Create an instance of this distributed data with special configuration.
+     *
+     * @param config the overriding configuration.
+     * @param system the actor system where the replicator actor will be created.
+     * @return a new instance of the distributed data.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     */
+    public static HotPolicyIds create(final DistributedDataConfig config, final ActorSystem system) {
+        return new HotPolicyIds(config, system);
+    }
+
+    /**
+     * Retrieve the hot policy IDs published by a majority of the replicas. The ranks of the instances are interleaved
+     * so that the hottest policy of each instance comes first.
+     *
+     * @param timeout how long to wait for the replicas.
+     * @param limit the maximum number of policy IDs to return.
+     * @return future of the merged hot policy IDs that completes exceptionally on error.
+     */
+    public CompletionStage<List<String>> getHotPolicyIds(final Duration timeout, final int limit) {
+        final FiniteDuration readTimeout = FiniteDuration.apply(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        return get(new Replicator.ReadMajority(readTimeout))
+                .thenApply(maybeLwwMap -> maybeLwwMap.map(lwwMap -> merge(lwwMap.getEntries().values(), limit))
+                        .orElseGet(List::of));
+    }
+
+    /**
+     * Write the hottest policy IDs of this instance to the local replica and remove the entries of instances which
+     * are no longer cluster members. The update is disseminated by gossip.
+     *
+     * @param policyIds the hottest policy IDs of this instance, the hottest first.
+     * @param memberAddresses addresses of the current cluster members.
+     * @return future that completes after the local update, exceptionally if there is any error.
+     */
+    public CompletionStage<Void> publish(final List<String> policyIds, final Set<String> memberAddresses) {
+        final String serializedPolicyIds = policyIds.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray())
+                .toString();
+        return update(Replicator.writeLocal(), lwwMap -> {
+            LWWMap<String, String> result = lwwMap.put(selfUniqueAddress, selfAddress, serializedPolicyIds);
+            for (final String address : lwwMap.getEntries().keySet()) {
+                if (!selfAddress.equals(address) && !memberAddresses.contains(address)) {
+                    result = result.remove(selfUniqueAddress, address);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Merge the serialized hot policy IDs of several instances by interleaving their ranks and dropping duplicates.
+     *
+     * @param serializedPolicyIds JSON arrays of policy IDs, one per instance, each ordered by descending hotness.
+     * @param limit the maximum number of policy IDs to return.
+     * @return the merged policy IDs.
+     */
+    static List<String> merge(final Collection<String> serializedPolicyIds, final int limit) {
+        final List<List<String>> rankings = serializedPolicyIds.stream()
+                .map(JsonFactory::newArray)
+                .map(array -> array.stream().map(JsonValue::asString).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        final Set<String> result = new LinkedHashSet<>();
+        boolean hasMore = true;
+        for (int rank = 0; hasMore && result.size() < limit; rank++) {
+            hasMore = false;
+            for (final List<String> ranking : rankings) {
+                if (rank < ranking.size()) {
+                    hasMore = true;
+                    result.add(ranking.get(rank));
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    @Override
+    protected Key<LWWMap<String, String>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, String> getInitialValue() {
+        return LWWMap.create();
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, String>, HotPolicyIds> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public HotPolicyIds createExtension(final ExtendedActorSystem system) {
+            return new HotPolicyIds(DistributedData.createConfig(system, ACTOR_NAME, CLUSTER_ROLE), system);
+        }
+    }
+
+}
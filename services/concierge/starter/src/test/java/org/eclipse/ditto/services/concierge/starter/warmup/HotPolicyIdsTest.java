@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HotPolicyIds}.
+ */
+public final class HotPolicyIdsTest {
+
+    @Test
+    public void mergeInterleavesRanksAndDropsDuplicates() {
+        final List<String> merged = HotPolicyIds.merge(List.of(
+                "[\"ns:a\",\"ns:b\",\"ns:c\"]",
+                "[\"ns:b\",\"ns:d\"]",
+                "[]"), 10);
+
+        assertThat(merged).containsExactly("ns:a", "ns:b", "ns:d", "ns:c");
+    }
+
+    @Test
+    public void mergeRespectsLimit() {
+        final List<String> merged = HotPolicyIds.merge(List.of(
+                "[\"ns:a\",\"ns:b\",\"ns:c\"]",
+                "[\"ns:d\",\"ns:e\"]"), 3);
+
+        assertThat(merged).containsExactly("ns:a", "ns:d", "ns:b");
+    }
+
+    @Test
+    public void mergeOfNothingIsEmpty() {
+        assertThat(HotPolicyIds.merge(List.of(), 10)).isEmpty();
+    }
+
+}
@@ -49,6 +49,16 @@ public interface JavaScriptConfig {
      */
     int getMaxScriptStackDepth();
 
+    /**
+     * Indicates whether each execution of a mapping script runs in a scope of its own. The libraries and the mapping
+     * scripts are evaluated once into a sealed scope shared by all executions; variables written by a script are then
+     * visible to the current execution only. Otherwise all executions share one mutable scope.
+     *
+     * @return whether mapping scripts run in isolated scopes.
+     * @since 2.0.0
+     */
+    boolean isIsolatedScopes();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -68,7 +78,14 @@ public interface JavaScriptConfig {
         /**
          * The maximum call stack depth in the mapping script.
          */
-        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10);
+        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10),
+
+        /**
+         * Whether each execution of a mapping script runs in a scope of its own.
+         *
+         * @since 2.0.0
+         */
+        ISOLATED_SCOPES("isolatedScopes", false);
 
         private final String path;
         private final Object defaultValue;
@@ -14,8 +14,11 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static java.util.Collections.singletonList;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +27,8 @@ import java.util.Optional;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -67,9 +72,8 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
 
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
-                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
+                ProtocolFactory.jsonifiableAdaptableFromJson(extractPayloadAsJsonObject(message))
         );
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
@@ -101,6 +105,24 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return DEFAULT_OPTIONS;
     }
 
+    private static JsonObject extractPayloadAsJsonObject(final ExternalMessage message) {
+        if (!message.isTextMessage() && message.isBytesMessage() &&
+                StandardCharsets.UTF_8.equals(determineCharset(message.getHeaders()))) {
+            final Optional<ByteBuffer> bytePayload = message.getBytePayload().filter(ByteBuffer::hasRemaining);
+            if (bytePayload.isPresent()) {
+                // UTF-8 encoded payload is parsed directly without decoding it to a String first
+                final JsonValue jsonValue = JsonFactory.readFrom(bytePayload.get());
+                if (jsonValue.isNull()) {
+                    return JsonFactory.nullObject();
+                } else if (!jsonValue.isObject()) {
+                    throw new JsonParseException(MessageFormat.format("<{0}> is not a valid JSON object!", jsonValue));
+                }
+                return jsonValue.asObject();
+            }
+        }
+        return JsonFactory.newObject(extractPayloadAsString(message));
+    }
+
     private static String extractPayloadAsString(final ExternalMessage message) {
         final Optional<String> payload;
         if (message.isTextMessage()) {
@@ -17,7 +17,9 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -32,7 +34,9 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
@@ -54,7 +58,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    /**
+     * The libraries compiled by any mapper instance. Scripts compiled in interpreted mode do not hold any state and may
+     * be executed concurrently in any scope. As the compiled code differs depending on dynamic scope, the key of a
+     * library contains whether it was compiled for isolated scopes.
+     */
+    private static final Map<String, Script> COMPILED_LIBRARIES = new ConcurrentHashMap<>();
+
     @Nullable private ContextFactory contextFactory;
+    private boolean isolatedScopes;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
     private MappingFunction<ExternalMessage, List<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
@@ -87,14 +99,19 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .build();
         }
 
+        isolatedScopes = javaScriptConfig.isIsolatedScopes();
         contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
+                javaScriptConfig.getMaxScriptStackDepth(), isolatedScopes);
 
         try {
             // create scope once and load the required libraries in order to get best performance:
             contextFactory.call(cx -> {
                 final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
                 initLibraries(cx, scope);
+                if (isolatedScopes) {
+                    // mappings write into their own scopes; fail loudly if anything writes into the shared one
+                    ((ScriptableObject) scope).sealObject();
+                }
                 return scope;
             });
         } catch (final RhinoException e) {
@@ -121,20 +138,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private void initLibraries(final Context cx, final Scriptable scope) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            loadCompiledLibrary(cx, scope, WEBJARS_LONG);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            loadCompiledLibrary(cx, scope, WEBJARS_BYTEBUFFER);
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        loadCompiledLibrary(cx, scope, DITTO_SCOPE_SCRIPT);
+        loadCompiledLibrary(cx, scope, INCOMING_SCRIPT);
+        loadCompiledLibrary(cx, scope, OUTGOING_SCRIPT);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -143,7 +155,7 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
         } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
+            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope, isolatedScopes);
             cx.evaluateString(scope, userIncomingScript,
                     JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
         }
@@ -155,12 +167,24 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
+            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope, isolatedScopes);
             cx.evaluateString(scope, userOutgoingScript,
                     JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
         }
     }
 
+    private void loadCompiledLibrary(final Context cx, final Scriptable scope, final String libraryName) {
+        final String key = isolatedScopes ? libraryName + "#isolated" : libraryName;
+        final Script library = COMPILED_LIBRARIES.computeIfAbsent(key, k -> {
+            try (final Reader reader = new InputStreamReader(getClass().getResourceAsStream(libraryName))) {
+                return cx.compileReader(reader, libraryName, 1, null);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
+            }
+        });
+        library.exec(cx, scope);
+    }
+
     private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
         return Optional.ofNullable(configuration);
     }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.ScriptRuntime;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Symbol;
+import org.mozilla.javascript.Undefined;
+import org.mozilla.javascript.Wrapper;
+import org.mozilla.javascript.typedarrays.NativeArrayBuffer;
+import org.mozilla.javascript.typedarrays.NativeArrayBufferView;
+import org.mozilla.javascript.typedarrays.NativeTypedArrayView;
+
+/**
+ * Converts between Ditto JSON values and Rhino objects without rendering JSON text in between.
+ * <p>
+ * The conversion follows {@code JSON.parse} and {@code JSON.stringify} of Rhino: numbers with an integer value become
+ * {@link Integer}s in JavaScript, {@code toJSON} methods are called, {@code undefined}, functions and symbols are
+ * omitted from objects and become {@code null} in arrays, and non-finite numbers become {@code null}. In contrast to
+ * {@code JSON.stringify}, which renders them as objects without fields, {@code ArrayBuffer}s and their views become
+ * arrays of their elements; the elements of an {@code ArrayBuffer} or a {@code DataView} are its unsigned bytes.
+ * </p>
+ * <p>
+ * All conversions must run in the thread the given {@link Context} is associated with.
+ * </p>
+ */
+final class RhinoJsonConverter {
+
+    /**
+     * Maximum nesting depth of converted JavaScript values. Deeper values are most likely cyclic.
+     */
+    static final int MAX_DEPTH = 512;
+
+    private static final String TO_JSON = "toJSON";
+    private static final double TWO_TO_THE_63 = 0x1p63;
+
+    private RhinoJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Convert a JSON value into the JavaScript value {@code JSON.parse} would return for its JSON text.
+     *
+     * @param cx the current context.
+     * @param scope scope of the prototypes of created objects and arrays.
+     * @param jsonValue the JSON value.
+     * @return the JavaScript value.
+     */
+    @Nullable
+    static Object toJavaScript(final Context cx, final Scriptable scope, final JsonValue jsonValue) {
+        // check null first: a JSON null may also be a null object
+        if (jsonValue.isNull()) {
+            return null;
+        } else if (jsonValue.isObject()) {
+            final Scriptable object = cx.newObject(scope);
+            for (final JsonField field : jsonValue.asObject()) {
+                final String key = field.getKeyName();
+                final Object value = toJavaScript(cx, scope, field.getValue());
+                // index-like keys must be set as index; otherwise property access with the index does not find them
+                final long index = ScriptRuntime.indexFromString(key);
+                if (index < 0) {
+                    object.put(key, object, value);
+                } else {
+                    object.put((int) index, object, value);
+                }
+            }
+            return object;
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final Object[] elements = new Object[jsonArray.getSize()];
+            int i = 0;
+            for (final JsonValue element : jsonArray) {
+                elements[i++] = toJavaScript(cx, scope, element);
+            }
+            return cx.newArray(scope, elements);
+        } else if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            final double doubleValue = jsonValue.asDouble();
+            final int intValue = (int) doubleValue;
+            return intValue == doubleValue ? Integer.valueOf(intValue) : Double.valueOf(doubleValue);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Convert a JavaScript value into the JSON value whose JSON text {@code JSON.stringify} would return.
+     *
+     * @param cx the current context.
+     * @param scope scope to call {@code toJSON} methods in.
+     * @param value the JavaScript value.
+     * @return the JSON value; {@code null} for values {@code JSON.stringify} does not render.
+     * @throws IllegalArgumentException if the value is nested deeper than {@link #MAX_DEPTH}, e.g. because it is
+     * cyclic.
+     */
+    static JsonValue toJson(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        final JsonValue result = toJson(cx, scope, "", value, 0);
+        return result != null ? result : JsonFactory.nullLiteral();
+    }
+
+    @Nullable
+    private static JsonValue toJson(final Context cx, final Scriptable scope, final Object key,
+            @Nullable final Object value, final int depth) {
+
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("JavaScript value is nested deeper than " + MAX_DEPTH +
+                    " levels or cyclic.");
+        }
+        final Object jsonValue = callToJson(cx, scope, key, value);
+        if (jsonValue == null) {
+            return JsonFactory.nullLiteral();
+        } else if (jsonValue instanceof CharSequence) {
+            // JavaScript strings are CharSequences but not always Strings
+            return JsonFactory.newValue(jsonValue.toString());
+        } else if (jsonValue instanceof Boolean) {
+            return JsonFactory.newValue((Boolean) jsonValue);
+        } else if (jsonValue instanceof Number) {
+            return toJsonNumber((Number) jsonValue);
+        } else if (jsonValue instanceof Undefined || jsonValue instanceof Callable || jsonValue instanceof Symbol) {
+            return null;
+        } else if (jsonValue instanceof NativeArray) {
+            return toJsonArray(cx, scope, (NativeArray) jsonValue, depth);
+        } else if (jsonValue instanceof NativeArrayBuffer) {
+            final NativeArrayBuffer arrayBuffer = (NativeArrayBuffer) jsonValue;
+            return toJsonArray(arrayBuffer.getBuffer(), 0, arrayBuffer.getLength());
+        } else if (jsonValue instanceof NativeTypedArrayView) {
+            return toJsonArray((NativeTypedArrayView<?>) jsonValue);
+        } else if (jsonValue instanceof NativeArrayBufferView) {
+            final NativeArrayBufferView view = (NativeArrayBufferView) jsonValue;
+            return toJsonArray(view.getBuffer().getBuffer(), view.getByteOffset(), view.getByteLength());
+        } else if (jsonValue instanceof Wrapper) {
+            return toJson(cx, scope, key, ((Wrapper) jsonValue).unwrap(), depth + 1);
+        } else if (jsonValue instanceof Scriptable) {
+            return toJsonObject(cx, scope, (Scriptable) jsonValue, depth);
+        } else {
+            return JsonFactory.newValue(jsonValue.toString());
+        }
+    }
+
+    @Nullable
+    private static Object callToJson(final Context cx, final Scriptable scope, final Object key,
+            @Nullable final Object value) {
+
+        if (value instanceof ScriptableObject) {
+            final Object toJson = ScriptableObject.getProperty((Scriptable) value, TO_JSON);
+            if (toJson instanceof Callable) {
+                return ((Callable) toJson).call(cx, scope, (Scriptable) value, new Object[]{key});
+            }
+        }
+        return value;
+    }
+
+    private static JsonValue toJsonNumber(final Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return JsonFactory.newValue(number.intValue());
+        } else if (number instanceof Long) {
+            return JsonFactory.newValue(number.longValue());
+        }
+        final double doubleValue = number.doubleValue();
+        if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+            return JsonFactory.nullLiteral();
+        } else if ((int) doubleValue == doubleValue) {
+            return JsonFactory.newValue((int) doubleValue);
+        } else if (Math.abs(doubleValue) < TWO_TO_THE_63 && (long) doubleValue == doubleValue) {
+            return JsonFactory.newValue((long) doubleValue);
+        } else {
+            return JsonFactory.newValue(doubleValue);
+        }
+    }
+
+    private static JsonObject toJsonObject(final Context cx, final Scriptable scope, final Scriptable object,
+            final int depth) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Object id : object.getIds()) {
+            final Object value;
+            if (id instanceof Integer) {
+                value = object.get((Integer) id, object);
+            } else {
+                value = object.get(id.toString(), object);
+            }
+            if (value != Scriptable.NOT_FOUND) {
+                final JsonValue jsonValue = toJson(cx, scope, id.toString(), value, depth + 1);
+                if (jsonValue != null) {
+                    // set as field because a key with slashes must not be interpreted as pointer
+                    builder.set(JsonFactory.newField(JsonKey.of(id.toString()), jsonValue));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static JsonArray toJsonArray(final Context cx, final Scriptable scope, final NativeArray array,
+            final int depth) {
+
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        final long length = array.getLength();
+        for (int i = 0; i < length; i++) {
+            final Object element = array.get(i, array);
+            final JsonValue jsonElement = element != Scriptable.NOT_FOUND
+                    ? toJson(cx, scope, String.valueOf(i), element, depth + 1)
+                    : null;
+            builder.add(jsonElement != null ? jsonElement : JsonFactory.nullLiteral());
+        }
+        return builder.build();
+    }
+
+    private static JsonArray toJsonArray(final byte[] bytes, final int offset, final int length) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            builder.add(bytes[i] & 0xFF);
+        }
+        return builder.build();
+    }
+
+    private static JsonArray toJsonArray(final NativeTypedArrayView<?> typedArray) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        for (final Object element : typedArray) {
+            builder.add(element instanceof Number
+                    ? toJsonNumber((Number) element)
+                    : JsonFactory.nullLiteral());
+        }
+        return builder.build();
+    }
+
+}
@@ -36,6 +36,7 @@ final class SandboxingContextFactory extends ContextFactory {
 
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final boolean dynamicScope;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -46,8 +47,41 @@ final class SandboxingContextFactory extends ContextFactory {
      * computation.
      */
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+        this(maxScriptExecutionTime, maxStackDepth, false);
+    }
+
+    /**
+     * Constructs a new ContextFactory for sandboxing Rhino executions.
+     *
+     * @param maxScriptExecutionTime the maximum execution time of a mapping script to run.
+     * Prevents endless loops and too complex scripts.
+     * @param maxStackDepth the maximum call stack depth in the mapping script. Prevents recursions or other too complex
+     * computation.
+     * @param dynamicScope whether functions are executed in the scope of their caller rather than in the scope they
+     * were defined in. Required to execute functions of a shared scope in a scope created by
+     * {@link #newIsolatedScope(Context, Scriptable)}.
+     */
+    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth,
+            final boolean dynamicScope) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        this.dynamicScope = dynamicScope;
+    }
+
+    /**
+     * Creates an empty top level scope which inherits all properties of the given shared scope. Variables written
+     * while executing a function in the created scope are set in the created scope and leave the shared scope
+     * untouched, provided the function was compiled by a context factory with dynamic scope.
+     *
+     * @param cx the current context.
+     * @param sharedScope the shared scope, usually sealed.
+     * @return the new scope.
+     */
+    static Scriptable newIsolatedScope(final Context cx, final Scriptable sharedScope) {
+        final Scriptable isolatedScope = cx.newObject(sharedScope);
+        isolatedScope.setPrototype(sharedScope);
+        isolatedScope.setParentScope(null);
+        return isolatedScope;
     }
 
     @Override
@@ -65,6 +99,8 @@ final class SandboxingContextFactory extends ContextFactory {
         switch (featureIndex) {
             case Context.FEATURE_MEMBER_EXPR_AS_FUNCTION_NAME:
                 return true;
+            case Context.FEATURE_DYNAMIC_SCOPE:
+                return dynamicScope;
         }
         return super.hasFeature(cx, featureIndex);
     }
@@ -18,7 +18,6 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -29,7 +28,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -48,26 +46,43 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
     @Nullable
-    private ContextFactory contextFactory;
+    private final ContextFactory contextFactory;
     @Nullable
-    private Scriptable scope;
+    private final Scriptable scope;
+    @Nullable
+    private final org.mozilla.javascript.Function mapToDittoProtocolMsgWrapper;
+    private final boolean isolatedScopes;
 
     ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+        this(contextFactory, scope, false);
+    }
+
+    /**
+     * @param contextFactory the factory of the contexts to execute the mapping in.
+     * @param scope the scope containing the mapping function.
+     * @param isolatedScopes whether each mapping is executed in an isolated scope inheriting from {@code scope}.
+     */
+    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope,
+            final boolean isolatedScopes) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        // the wrapper function is defined by a library and never replaced; look it up only once
+        mapToDittoProtocolMsgWrapper = null != scope
+                ? (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope)
+                : null;
+        this.isolatedScopes = isolatedScopes;
     }
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
         try {
             return contextFactory.call(cx -> {
+                final Scriptable callScope =
+                        isolatedScopes ? SandboxingContextFactory.newIsolatedScope(cx, scope) : scope;
                 final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
 
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
                 final Object result =
-                        mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
+                        mapToDittoProtocolMsgWrapper.call(cx, callScope, callScope, new Object[]{externalMessage});
 
                 if (result == null) {
                     // return empty list if result is null
@@ -79,12 +94,12 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                     for (Object idxObj : jsArray.getIds()) {
                         int index = (Integer) idxObj;
                         final Object element = jsArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
+                        list.add(getAdaptableFromObject(cx, callScope, element));
                     }
                     return list;
                 }
 
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
+                return Collections.singletonList(getAdaptableFromObject(cx, callScope, result));
             });
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
@@ -122,11 +137,9 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         return externalMessage;
     }
 
-    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
-        final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
-
+    private static Adaptable getAdaptableFromObject(final Context cx, final Scriptable scope, final Object result) {
         return DittoJsonException.wrapJsonRuntimeException(() -> {
-            final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+            final JsonObject jsonObject = RhinoJsonConverter.toJson(cx, scope, result).asObject();
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
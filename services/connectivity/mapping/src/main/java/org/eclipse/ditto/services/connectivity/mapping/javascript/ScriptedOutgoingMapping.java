@@ -35,11 +35,8 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
-import org.mozilla.javascript.Callable;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -60,10 +57,27 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
 
     @Nullable private final ContextFactory contextFactory;
     @Nullable private final Scriptable scope;
+    @Nullable private final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper;
+    private final boolean isolatedScopes;
 
     ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+        this(contextFactory, scope, false);
+    }
+
+    /**
+     * @param contextFactory the factory of the contexts to execute the mapping in.
+     * @param scope the scope containing the mapping function.
+     * @param isolatedScopes whether each mapping is executed in an isolated scope inheriting from {@code scope}.
+     */
+    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope,
+            final boolean isolatedScopes) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        // the wrapper function is defined by a library and never replaced; look it up only once
+        mapFromDittoProtocolMsgWrapper = null != scope
+                ? (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope)
+                : null;
+        this.isolatedScopes = isolatedScopes;
     }
 
     @Override
@@ -71,13 +85,13 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
             return contextFactory.call(cx -> {
+                final Scriptable callScope =
+                        isolatedScopes ? SandboxingContextFactory.newIsolatedScope(cx, scope) : scope;
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        RhinoJsonConverter.toJavaScript(cx, callScope, jsonifiableAdaptable.toJson());
 
-                final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
-                final Object result =
-                        mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
+                final Object result = mapFromDittoProtocolMsgWrapper.call(cx, callScope, callScope,
+                        new Object[]{dittoProtocolMessage});
 
                 if (result == null) {
                     // return empty list if result is null
@@ -178,13 +192,4 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         return Optional.empty();
     }
 
-    private static final class NullCallable implements Callable {
-
-        @Override
-        public Object call(final Context context, final Scriptable scope, final Scriptable holdable,
-                final Object[] objects) {
-            return objects[1];
-        }
-    }
-
 }
@@ -856,6 +856,42 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    @Test
+    public void testIsolatedScopesDoNotShareGlobalVariables() {
+        final MappingConfig isolatedScopesConfig = DefaultMappingConfig.of(ConfigFactory.parseString(
+                "mapping {\n" +
+                        "  javascript {\n" +
+                        "    maxScriptSizeBytes = 50000 # 50kB\n" +
+                        "    maxScriptExecutionTime = 500ms\n" +
+                        "    maxScriptStackDepth = 10\n" +
+                        "    isolatedScopes = true\n" +
+                        "  }\n" +
+                        "}"));
+        final MessageMapper underTest = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        underTest.configure(isolatedScopesConfig,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("isolated", Collections.emptyMap())
+                        .incomingScript("var counter = 0;\n" +
+                                "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, contentType) {\n" +
+                                "  counter++;\n" +
+                                "  return Ditto.buildDittoProtocolMsg('" + MAPPING_INCOMING_NAMESPACE + "',\n" +
+                                "      'counter-' + counter, 'things', 'twin', 'commands', 'modify',\n" +
+                                "      '" + MAPPING_INCOMING_PATH + "', {}, textPayload);\n" +
+                                "}")
+                        .outgoingScript("")
+                        .build()
+        );
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        // each mapping increments its own copy of the counter
+        assertThat(underTest.map(message)).extracting(adaptable -> adaptable.getTopicPath().getId())
+                .containsExactly("counter-1");
+        assertThat(underTest.map(message)).extracting(adaptable -> adaptable.getTopicPath().getId())
+                .containsExactly("counter-1");
+    }
+
     @Nullable
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
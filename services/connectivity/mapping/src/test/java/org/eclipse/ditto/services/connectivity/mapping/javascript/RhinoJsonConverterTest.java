@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Tests {@link RhinoJsonConverter}.
+ */
+public final class RhinoJsonConverterTest {
+
+    private static final JsonObject JSON = JsonFactory.newObject("{" +
+            "\"topic\":\"org.eclipse.ditto/thing/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"c\",\"response-required\":false}," +
+            "\"path\":\"/attributes\"," +
+            "\"value\":{" +
+            "\"int\":-42,\"long\":1099511627776,\"double\":25.43,\"null\":null,\"0\":\"index\"," +
+            "\"slash/key\":\"slash\",\"array\":[1,\"two\",[3.5],{\"four\":4}],\"empty\":{}}" +
+            "}");
+
+    @Test
+    public void convertsLikeJsonParseAndStringify() {
+        runInContext((cx, scope) -> {
+            final Object javaScript = RhinoJsonConverter.toJavaScript(cx, scope, JSON);
+            final Object parsed = NativeJSON.parse(cx, scope, JSON.toString(), (c, s, t, args) -> args[1]);
+
+            assertThat(NativeJSON.stringify(cx, scope, javaScript, null, null))
+                    .isEqualTo(NativeJSON.stringify(cx, scope, parsed, null, null));
+            assertThat(RhinoJsonConverter.toJson(cx, scope, javaScript)).isEqualTo(JSON);
+            assertThat(RhinoJsonConverter.toJson(cx, scope, parsed)).isEqualTo(JSON);
+        });
+    }
+
+    @Test
+    public void indexLikeKeysAreAccessibleByIndex() {
+        runInContext((cx, scope) -> {
+            scope.put("message", scope, RhinoJsonConverter.toJavaScript(cx, scope, JSON));
+
+            assertThat(cx.evaluateString(scope, "message.value[0]", "test", 1, null)).isEqualTo("index");
+            assertThat(cx.evaluateString(scope, "message.value['slash/key']", "test", 1, null)).isEqualTo("slash");
+        });
+    }
+
+    @Test
+    public void omitsValuesNotRenderedByJsonStringify() {
+        runInContext((cx, scope) -> {
+            final Object javaScript = cx.evaluateString(scope, "({" +
+                    "undefined: undefined, function: function() {}, nan: NaN, date: new Date(0), " +
+                    "array: [undefined, function() {}, Infinity, 1e20, 0.5, 'x'], " +
+                    "custom: {toJSON: function(key) { return key + '!'; }}" +
+                    "})", "test", 1, null);
+
+            assertThat(RhinoJsonConverter.toJson(cx, scope, javaScript)).isEqualTo(JsonObject.newBuilder()
+                    .set("nan", JsonValue.nullLiteral())
+                    .set("date", "1970-01-01T00:00:00.000Z")
+                    .set("array", JsonArray.newBuilder()
+                            .add(JsonValue.nullLiteral(), JsonValue.nullLiteral(), JsonValue.nullLiteral())
+                            .add(1e20)
+                            .add(0.5)
+                            .add("x")
+                            .build())
+                    .set("custom", "custom!")
+                    .build());
+        });
+    }
+
+    @Test
+    public void convertsArrayBuffersAndViewsToArrays() {
+        runInContext((cx, scope) -> {
+            final Object javaScript = cx.evaluateString(scope, "({" +
+                    "buffer: new Uint8Array([1, 128, 255]).buffer, " +
+                    "int16: new Int16Array([-1, 300]), " +
+                    "dataView: new DataView(new Uint8Array([1, 2, 3]).buffer, 1, 2)" +
+                    "})", "test", 1, null);
+
+            assertThat(RhinoJsonConverter.toJson(cx, scope, javaScript)).isEqualTo(JsonObject.newBuilder()
+                    .set("buffer", JsonArray.newBuilder().add(1, 128, 255).build())
+                    .set("int16", JsonArray.newBuilder().add(-1, 300).build())
+                    .set("dataView", JsonArray.newBuilder().add(2, 3).build())
+                    .build());
+        });
+    }
+
+    @Test
+    public void rejectsCyclicValues() {
+        runInContext((cx, scope) -> {
+            final Object javaScript = cx.evaluateString(scope, "var a = {}; a.self = a; a", "test", 1, null);
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> RhinoJsonConverter.toJson(cx, scope, javaScript));
+        });
+    }
+
+    private static void runInContext(final BiConsumer<Context, Scriptable> test) {
+        new SandboxingContextFactory(Duration.ofSeconds(5L), 10).call(cx -> {
+            test.accept(cx, cx.initSafeStandardObjects());
+            return null;
+        });
+    }
+
+}
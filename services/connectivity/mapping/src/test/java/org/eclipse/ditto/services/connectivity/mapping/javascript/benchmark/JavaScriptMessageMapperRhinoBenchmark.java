@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -75,9 +76,22 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test6FormatThingEventFromDitto(final Test6FormatThingEventFromDitto scenario) {
+        runScenario(scenario);
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
+
+    private void runScenario(final MapFromDittoProtocolScenario scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final Adaptable adaptable = scenario.getDittoAdaptable();
+        messageMapper.map(adaptable);
+    }
 }
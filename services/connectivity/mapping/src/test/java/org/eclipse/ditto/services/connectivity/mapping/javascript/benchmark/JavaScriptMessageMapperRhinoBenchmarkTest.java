@@ -109,12 +109,29 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void test6FormatThingEventFromDitto() {
+        final List<ExternalMessage> externalMessages = runScenario(new Test6FormatThingEventFromDitto());
+        assertThat(externalMessages).hasSize(1);
+        final ExternalMessage externalMessage = externalMessages.get(0);
+
+        assertThat(externalMessage.findContentType()).contains(Test6FormatThingEventFromDitto.CONTENT_TYPE);
+        assertThat(externalMessage.getTextPayload().map(JsonFactory::readFrom)).contains(JsonFactory.readFrom(
+                "{\"thing\":\"org.eclipse.ditto:jmh-test\",\"temperature\":25.43,\"humidity\":42}"));
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         return messageMapper.map(externalMessage);
     }
 
+    private List<ExternalMessage> runScenario(final MapFromDittoProtocolScenario scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final Adaptable adaptable = scenario.getDittoAdaptable();
+        return messageMapper.map(adaptable);
+    }
+
     private static void assertDefaults(final Adaptable adaptable) {
         assertThat(adaptable.getTopicPath().getChannel()).isEqualTo(TopicPath.Channel.TWIN);
         assertThat(adaptable.getTopicPath().getCriterion()).isEqualTo(TopicPath.Criterion.COMMANDS);
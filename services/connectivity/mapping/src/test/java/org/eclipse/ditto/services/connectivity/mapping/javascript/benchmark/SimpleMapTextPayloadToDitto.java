@@ -66,6 +66,7 @@ public class SimpleMapTextPayloadToDitto implements MapToDittoProtocolScenario {
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public SimpleMapTextPayloadToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -79,6 +80,10 @@ public class SimpleMapTextPayloadToDitto implements MapToDittoProtocolScenario {
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
@@ -76,6 +76,7 @@ public class Test1DecodeBinaryPayloadToDitto implements MapToDittoProtocolScenar
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public Test1DecodeBinaryPayloadToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -93,6 +94,10 @@ public class Test1DecodeBinaryPayloadToDitto implements MapToDittoProtocolScenar
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
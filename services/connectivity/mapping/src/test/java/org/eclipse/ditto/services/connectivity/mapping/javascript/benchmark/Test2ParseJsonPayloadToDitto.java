@@ -125,6 +125,7 @@ public class Test2ParseJsonPayloadToDitto implements MapToDittoProtocolScenario
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public Test2ParseJsonPayloadToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -138,6 +139,10 @@ public class Test2ParseJsonPayloadToDitto implements MapToDittoProtocolScenario
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
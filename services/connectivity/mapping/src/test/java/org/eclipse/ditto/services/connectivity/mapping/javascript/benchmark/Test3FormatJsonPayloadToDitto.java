@@ -125,6 +125,7 @@ public class Test3FormatJsonPayloadToDitto implements MapToDittoProtocolScenario
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public Test3FormatJsonPayloadToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -137,6 +138,10 @@ public class Test3FormatJsonPayloadToDitto implements MapToDittoProtocolScenario
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
@@ -79,6 +79,7 @@ public class Test4ConstructJsonPayloadToDitto implements MapToDittoProtocolScena
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public Test4ConstructJsonPayloadToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -91,6 +92,10 @@ public class Test4ConstructJsonPayloadToDitto implements MapToDittoProtocolScena
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
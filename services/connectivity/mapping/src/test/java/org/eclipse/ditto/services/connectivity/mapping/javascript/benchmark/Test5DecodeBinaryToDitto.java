@@ -68,6 +68,7 @@ public class Test5DecodeBinaryToDitto implements MapToDittoProtocolScenario {
                     "}";
 
     private final ExternalMessage externalMessage;
+    private final MessageMapper messageMapper = createMessageMapper();
 
     public Test5DecodeBinaryToDitto() {
         final String correlationId = UUID.randomUUID().toString();
@@ -86,6 +87,10 @@ public class Test5DecodeBinaryToDitto implements MapToDittoProtocolScenario {
 
     @Override
     public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
         javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
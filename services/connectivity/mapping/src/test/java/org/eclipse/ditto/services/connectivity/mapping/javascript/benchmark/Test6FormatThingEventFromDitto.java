@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class Test6FormatThingEventFromDitto implements MapFromDittoProtocolScenario {
+
+    static final String CONTENT_TYPE = "application/json";
+
+    private static final String MAPPING_OUTGOING_PLAIN =
+            "function mapFromDittoProtocolMsg(\n" +
+                    "    namespace,\n" +
+                    "    id,\n" +
+                    "    group,\n" +
+                    "    channel,\n" +
+                    "    criterion,\n" +
+                    "    action,\n" +
+                    "    path,\n" +
+                    "    dittoHeaders,\n" +
+                    "    value,\n" +
+                    "    status,\n" +
+                    "    extra\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    // ###\n" +
+                    "    // Insert your mapping logic here\n" +
+                    "    let headers = {};\n" +
+                    "    headers['correlation-id'] = dittoHeaders['correlation-id'];\n" +
+                    "    let properties = value.features.environment.properties;\n" +
+                    "    let textPayload = JSON.stringify({\n" +
+                    "        thing: namespace + ':' + id,\n" +
+                    "        temperature: properties.temperature,\n" +
+                    "        humidity: properties.humidity\n" +
+                    "    });\n" +
+                    "    let bytePayload = null;\n" +
+                    "    let contentType = '" + CONTENT_TYPE + "';\n" +
+                    "    // ###\n" +
+                    "\n" +
+                    "     return Ditto.buildExternalMsg(\n" +
+                    "        headers,\n" +
+                    "        textPayload,\n" +
+                    "        bytePayload,\n" +
+                    "        contentType\n" +
+                    "    );" +
+                    "}";
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{" +
+            "\"thingId\":\"org.eclipse.ditto:jmh-test\"," +
+            "\"policyId\":\"org.eclipse.ditto:jmh-test\"," +
+            "\"attributes\":{\"manufacturer\":\"myManufacturer\",\"serial\":\"4711-0815\"," +
+            "\"location\":{\"latitude\":47.682170,\"longitude\":9.386372},\"tags\":[\"a\",\"b\",\"c\"]}," +
+            "\"features\":{" +
+            "\"environment\":{\"properties\":{\"temperature\":25.43,\"humidity\":42,\"pressure\":1015," +
+            "\"history\":[25.1,25.2,25.3,25.4,25.5,25.6,25.7,25.8]}}," +
+            "\"lamp\":{\"definition\":[\"org.eclipse.ditto:lamp:1.0.0\"]," +
+            "\"properties\":{\"on\":true,\"color\":{\"r\":255,\"g\":128,\"b\":0}}}" +
+            "}}");
+
+    private final Adaptable adaptable;
+    private final MessageMapper messageMapper = createMessageMapper();
+
+    public Test6FormatThingEventFromDitto() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .build();
+        final ThingModified thingModified =
+                ThingModified.of(ThingsModelFactory.newThing(THING_JSON), 1L, dittoHeaders);
+        adaptable = DittoProtocolAdapter.newInstance().toAdaptable(thingModified);
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    private static MessageMapper createMessageMapper() {
+        final MessageMapper javaScriptRhinoMapperPlain =
+                JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapperPlain.configure(MapToDittoProtocolScenario.MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("format", Collections.emptyMap())
+                        .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                        .build()
+        );
+        return javaScriptRhinoMapperPlain;
+    }
+
+    @Override
+    public Adaptable getDittoAdaptable() {
+        return adaptable;
+    }
+
+}
@@ -14,7 +14,6 @@ package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
-import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +27,6 @@ import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
-import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapperRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.mappingoutcome.MappingOutcome;
@@ -48,6 +46,7 @@ abstract class AbstractMappingProcessor<I, O> {
     protected final ExpressionResolver connectionIdResolver;
 
     private final MessageMapperRegistry registry;
+    private final ExpressionTemplateCache conditionTemplateCache;
 
     protected AbstractMappingProcessor(final MessageMapperRegistry registry,
             final ThreadSafeDittoLoggingAdapter logger,
@@ -60,6 +59,7 @@ abstract class AbstractMappingProcessor<I, O> {
         this.registry = checkNotNull(registry, "registry");
         connectionIdResolver = PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newConnectionIdPlaceholder(),
                 connectionId);
+        conditionTemplateCache = new ExpressionTemplateCache();
         logger.info("Configured for processing messages with the following MessageMapperRegistry: <{}>", registry);
     }
 
@@ -74,11 +74,10 @@ abstract class AbstractMappingProcessor<I, O> {
 
     boolean resolveConditions(final Collection<String> conditions, final ExpressionResolver resolver) {
         boolean conditionBool = true;
-        final String templatePattern = "'{{' fn:default(''true'') | {0} '}}'";
         for (final String condition : conditions) {
-            final String template = MessageFormat.format(templatePattern, condition);
+            final String template = "{{ fn:default('true') | " + condition + " }}";
             final String resolvedCondition =
-                    PlaceholderFilter.applyOrElseDelete(template, resolver).orElse("false");
+                    conditionTemplateCache.resolve(template, resolver).toOptional().orElse("false");
             conditionBool &= Boolean.parseBoolean(resolvedCondition);
         }
         return conditionBool;
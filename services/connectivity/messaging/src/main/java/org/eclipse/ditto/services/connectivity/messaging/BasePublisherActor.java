@@ -111,6 +111,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final int acknowledgementSizeBudget;
     private final String clientId;
     protected final ExpressionResolver connectionIdResolver;
+    private final ExpressionTemplateCache expressionTemplateCache;
 
     protected BasePublisherActor(final Connection connection, final String clientId) {
         this.connection = checkNotNull(connection, "connection");
@@ -138,6 +139,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
 
         connectionIdResolver = PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newConnectionIdPlaceholder(),
                 connection.getId());
+        expressionTemplateCache = new ExpressionTemplateCache();
     }
 
     private ConnectivityConfig getConnectivityConfig() {
@@ -433,11 +435,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return result;
     }
 
-    private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
+    private ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal, @Nullable final HeaderMapping headerMapping) {
 
         final OutboundSignalToExternalMessage outboundSignalToExternalMessage =
-                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping);
+                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping,
+                        expressionTemplateCache);
 
         return outboundSignalToExternalMessage.get();
     }
@@ -549,8 +552,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
-        return resolver.resolve(value).toOptional();
+    private Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
+        return expressionTemplateCache.resolve(value, resolver).toOptional();
     }
 
     private static Charset determineCharset(final CharSequence contentType) {
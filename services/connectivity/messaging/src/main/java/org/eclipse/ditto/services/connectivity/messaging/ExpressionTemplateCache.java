@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
+import org.eclipse.ditto.model.placeholders.PipelineElement;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+
+/**
+ * Compiles each template string of a connection once and resolves it with the expression resolver of each message.
+ * The templates are taken from the connection configuration, e.g. target addresses, header mappings and mapping
+ * conditions, hence the number of cached templates is bounded by the configuration of the connection.
+ */
+@ThreadSafe
+final class ExpressionTemplateCache {
+
+    private final Map<String, ExpressionTemplate> templates;
+
+    ExpressionTemplateCache() {
+        templates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves a template like {@link ExpressionResolver#resolve(String)} without parsing it again.
+     *
+     * @param template the template string.
+     * @param resolver the resolver of the placeholders of the template.
+     * @return the resolved string, a signifier for resolution failure, or one for deletion.
+     * @throws org.eclipse.ditto.model.placeholders.UnresolvedPlaceholderException if a placeholder of the template
+     * is not supported.
+     * @throws org.eclipse.ditto.model.placeholders.PlaceholderFunctionTooComplexException if the template contains a
+     * too complex function chain.
+     */
+    PipelineElement resolve(final String template, final ExpressionResolver resolver) {
+        return templates.computeIfAbsent(template, PlaceholderFactory::newExpressionTemplate).resolve(resolver);
+    }
+
+}
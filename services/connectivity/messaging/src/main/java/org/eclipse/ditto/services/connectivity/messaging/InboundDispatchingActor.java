@@ -122,6 +122,7 @@ public final class InboundDispatchingActor extends AbstractActor
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final ActorRef outboundMessageMappingProcessorActor;
     private final ExpressionResolver connectionIdResolver;
+    private final ExpressionTemplateCache expressionTemplateCache;
 
     @SuppressWarnings("unused")
     private InboundDispatchingActor(
@@ -142,6 +143,7 @@ public final class InboundDispatchingActor extends AbstractActor
 
         connectionIdResolver = PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newConnectionIdPlaceholder(),
                 connectionId);
+        expressionTemplateCache = new ExpressionTemplateCache();
 
         final DefaultScopedConfig dittoScoped =
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config());
@@ -603,7 +605,8 @@ public final class InboundDispatchingActor extends AbstractActor
                     final Map<String, String> mappedExternalHeaders = mapping.getMapping()
                             .entrySet()
                             .stream()
-                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(e.getValue(), expressionResolver)
+                            .flatMap(e -> expressionTemplateCache.resolve(e.getValue(), expressionResolver)
+                                    .toOptional()
                                     .stream()
                                     .map(resolvedValue -> new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue))
                             )
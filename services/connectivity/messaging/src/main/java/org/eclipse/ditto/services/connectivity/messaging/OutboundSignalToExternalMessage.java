@@ -24,7 +24,6 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
-import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -42,30 +41,36 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     private final OutboundSignal.Mapped outboundMappedSignal;
     private final ExpressionResolver expressionResolver;
     private final Map<String, String> headerMapping;
+    private final ExpressionTemplateCache expressionTemplateCache;
     private final ThreadSafeDittoLogger logger;
 
     private OutboundSignalToExternalMessage(final OutboundSignal.Mapped outboundMappedSignal,
-            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping) {
+            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping,
+            final ExpressionTemplateCache expressionTemplateCache) {
 
         this.outboundMappedSignal = checkNotNull(outboundMappedSignal, "outboundMappedSignal");
         this.expressionResolver = checkNotNull(expressionResolver, "expressionResolver");
         this.headerMapping = headerMapping;
+        this.expressionTemplateCache = checkNotNull(expressionTemplateCache, "expressionTemplateCache");
         logger = DittoLoggerFactory.getThreadSafeLogger(getClass()).withCorrelationId(outboundMappedSignal.getSource());
     }
 
     /**
-     * Returns a new instance of OutboundSignalToExternalMessage.
+     * Returns a new instance of OutboundSignalToExternalMessage which resolves the header mapping with templates
+     * compiled by the given cache.
      *
      * @param outboundMappedSignal the OutboundSignal containing the {@link ExternalMessage} with headers potentially
      * containing placeholders
      * @param expressionResolver the expression-resolver used to resolve placeholders and optionally pipeline stages
      * (functions).
      * @param headerMapping optional header mappings to apply.
+     * @param expressionTemplateCache the cache of the compiled header mapping templates.
      * @return the instance.
-     * @throws NullPointerException if {@code outboundMappedSignal} or {@code expressionResolver} is {@code null}.
+     * @throws NullPointerException if any argument but {@code headerMapping} is {@code null}.
      */
     static OutboundSignalToExternalMessage newInstance(final OutboundSignal.Mapped outboundMappedSignal,
-            final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping) {
+            final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping,
+            final ExpressionTemplateCache expressionTemplateCache) {
 
         final Map<String, String> mapping;
         if (null != headerMapping) {
@@ -73,7 +78,8 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
         } else {
             mapping = Map.of();
         }
-        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping);
+        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping,
+                expressionTemplateCache);
     }
 
     @Override
@@ -102,7 +108,7 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     }
 
     private Optional<String> mapHeaderByResolver(final String value) {
-        return PlaceholderFilter.applyOrElseDelete(value, expressionResolver);
+        return expressionTemplateCache.resolve(value, expressionResolver).toOptional();
     }
 
 }
@@ -17,8 +17,10 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -33,8 +35,8 @@ import org.eclipse.ditto.model.connectivity.FilteredTopic;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ThingPredicateCache;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -60,11 +62,13 @@ public final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<FilteredTopic, Predicate<Thing>> compiledFilters;
 
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -116,7 +120,7 @@ public final class SignalFilter {
                 .anyMatch(applyTopicFilter(signal));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
@@ -136,18 +140,13 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
         final Optional<String> filterOptional = filteredTopic.getFilter();
         if (filterOptional.isPresent() && signal instanceof ThingEvent) {
             // match filter ignoring "extraFields"
             return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                    .filter(thing -> {
-                        final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders());
-                        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                                .map(JsonFieldSelector::getPointers)
-                                .orElse(Collections.emptySet());
-                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing);
-                    })
+                    .filter(thing -> getCompiledFilter(filteredTopic, filterOptional.get(), signal.getDittoHeaders())
+                            .test(thing))
                     .isPresent();
         } else {
             return true;
@@ -155,11 +154,21 @@ public final class SignalFilter {
     }
 
     /**
+     * Compiles the filter of a topic once per signal filter; failed compilations are not cached.
+     *
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
+    private Predicate<Thing> getCompiledFilter(final FilteredTopic filteredTopic, final String filter,
+            final DittoHeaders dittoHeaders) {
+
+        return compiledFilters.computeIfAbsent(filteredTopic, topic -> {
+            final Set<JsonPointer> extraFields = topic.getExtraFields()
+                    .map(JsonFieldSelector::getPointers)
+                    .orElse(Collections.emptySet());
+            return Thing3ValuePredicateVisitor.compile(
+                    ThingPredicateCache.modelBased().get(filter, dittoHeaders).getCriteria(), extraFields);
+        });
     }
 
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
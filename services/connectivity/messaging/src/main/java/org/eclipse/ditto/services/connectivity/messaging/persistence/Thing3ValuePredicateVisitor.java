@@ -17,6 +17,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.Predicate;
@@ -25,15 +26,15 @@ import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
-import org.eclipse.ditto.model.query.things.ExistsThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.FilterThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.ThingPredicatePredicateVisitor;
+import org.eclipse.ditto.model.query.things.ThingJsonPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 
 /**
  * Visitor to evaluate a criteria against a partial thing with unknown fields.
+ * The criteria are compiled once: unknown fields are determined while visiting and known fields are evaluated by the
+ * predicates of {@link ThingJsonPredicateVisitor} on the JSON representation of the partial thing.
  */
-final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thing, Trilean>> {
+final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<JsonObject, Trilean>> {
 
     private final Set<JsonPointer> unknownFields;
 
@@ -43,58 +44,70 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
     }
 
     /**
-     * Evaluate criteria against a partial thing to see whether it could be true.
+     * Compile criteria to a predicate which tests whether they could be true for a partial thing.
      *
      * @param criteria the criteria.
      * @param unknownFields the set of unknown fields that shall not falsify the criteria evaluation result.
-     * @param partialThing the partial thing.
-     * @return whether the criteria may evaluate to true after replacing 'ignoredFields' by unknown values in
-     * 'partialThing'.
+     * @return the predicate which evaluates whether the criteria may evaluate to true after replacing
+     * 'ignoredFields' by unknown values in the partial thing.
      */
-    static boolean couldBeTrue(final Criteria criteria, final Set<JsonPointer> unknownFields,
-            final Thing partialThing) {
-        return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields)).apply(partialThing);
+    static java.util.function.Predicate<Thing> compile(final Criteria criteria, final Set<JsonPointer> unknownFields) {
+        final Function<JsonObject, Trilean> function = criteria.accept(new Thing3ValuePredicateVisitor(unknownFields));
+        return partialThing -> Trilean.FALSE != function.apply(partialThing.toJson(field -> true));
     }
 
     @Override
-    public Function<Thing, Trilean> visitAnd(final List<Function<Thing, Trilean>> conjuncts) {
-        return thing -> conjuncts.stream().map(f -> f.apply(thing)).reduce(Trilean::and).orElse(Trilean.TRUE);
+    public Function<JsonObject, Trilean> visitAnd(final List<Function<JsonObject, Trilean>> conjuncts) {
+        return thingJson -> {
+            Trilean result = Trilean.TRUE;
+            for (final Function<JsonObject, Trilean> conjunct : conjuncts) {
+                result = Trilean.and(result, conjunct.apply(thingJson));
+            }
+            return result;
+        };
     }
 
     @Override
-    public Function<Thing, Trilean> visitAny() {
-        return thing -> Trilean.TRUE;
+    public Function<JsonObject, Trilean> visitAny() {
+        return thingJson -> Trilean.TRUE;
     }
 
     @Override
-    public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression).test(thing));
+    public Function<JsonObject, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
+        if (isUnknownField(fieldExpression)) {
+            return thingJson -> Trilean.UNKNOWN;
+        }
+        final java.util.function.Predicate<JsonObject> exists =
+                ThingJsonPredicateVisitor.getInstance().visitExists(fieldExpression);
+        return thingJson -> Trilean.lift(exists.test(thingJson));
     }
 
     @Override
-    public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor.getInstance();
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
-        };
+    public Function<JsonObject, Trilean> visitField(final FilterFieldExpression fieldExpression,
+            final Predicate predicate) {
+
+        if (isUnknownField(fieldExpression)) {
+            return thingJson -> Trilean.UNKNOWN;
+        }
+        final java.util.function.Predicate<JsonObject> matches =
+                ThingJsonPredicateVisitor.getInstance().visitField(fieldExpression, predicate);
+        return thingJson -> Trilean.lift(matches.test(thingJson));
     }
 
     @Override
-    public Function<Thing, Trilean> visitNor(final List<Function<Thing, Trilean>> negativeDisjoints) {
+    public Function<JsonObject, Trilean> visitNor(final List<Function<JsonObject, Trilean>> negativeDisjoints) {
         return visitOr(negativeDisjoints).andThen(Trilean::not);
     }
 
     @Override
-    public Function<Thing, Trilean> visitOr(final List<Function<Thing, Trilean>> disjoints) {
-        return thing -> disjoints.stream().map(f -> f.apply(thing)).reduce(Trilean::or).orElse(Trilean.FALSE);
+    public Function<JsonObject, Trilean> visitOr(final List<Function<JsonObject, Trilean>> disjoints) {
+        return thingJson -> {
+            Trilean result = Trilean.FALSE;
+            for (final Function<JsonObject, Trilean> disjunct : disjoints) {
+                result = Trilean.or(result, disjunct.apply(thingJson));
+            }
+            return result;
+        };
     }
 
     private boolean isUnknownField(final FieldExpression fieldExpression) {
@@ -18,7 +18,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
-import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.services.utils.events.EventStrategy;
 import org.eclipse.ditto.signals.events.connectivity.ConnectionClosed;
 
 /**
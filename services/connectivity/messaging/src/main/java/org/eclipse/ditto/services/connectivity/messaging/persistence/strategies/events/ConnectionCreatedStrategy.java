@@ -15,7 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.persistence.strategies
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
-import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.services.utils.events.EventStrategy;
 import org.eclipse.ditto.signals.events.connectivity.ConnectionCreated;
 
 /**
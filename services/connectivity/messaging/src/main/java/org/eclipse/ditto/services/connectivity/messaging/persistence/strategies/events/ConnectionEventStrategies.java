@@ -13,7 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.events;
 
 import org.eclipse.ditto.model.connectivity.Connection;
-import org.eclipse.ditto.services.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.services.utils.events.AbstractEventStrategies;
 import org.eclipse.ditto.signals.events.connectivity.ConnectionClosed;
 import org.eclipse.ditto.signals.events.connectivity.ConnectionCreated;
 import org.eclipse.ditto.signals.events.connectivity.ConnectionDeleted;
@@ -48,6 +48,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -230,7 +231,8 @@ public final class TestConstants {
         return new DittoProtocolSub() {
             @Override
             public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
-                    final Collection<String> topics, final ActorRef subscriber, @Nullable final String group) {
+                    final Collection<String> topics, final ActorRef subscriber, @Nullable final String group,
+                    @Nullable final Predicate<Signal<?>> signalFilter) {
                 doDelegate(d -> d.subscribe(types, topics, subscriber));
                 return CompletableFuture.allOf(types.stream()
                         .map(type -> {
@@ -247,7 +249,8 @@ public final class TestConstants {
 
             @Override
             public CompletionStage<Void> updateLiveSubscriptions(final Collection<StreamingType> types,
-                    final Collection<String> topics, final ActorRef subscriber) {
+                    final Collection<String> topics, final ActorRef subscriber,
+                    @Nullable final Predicate<Signal<?>> signalFilter) {
                 doDelegate(d -> d.updateLiveSubscriptions(types, topics, subscriber));
                 return CompletableFuture.completedFuture(null);
             }
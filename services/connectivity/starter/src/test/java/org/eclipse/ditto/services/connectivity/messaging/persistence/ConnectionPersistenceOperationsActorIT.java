@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +37,7 @@ import org.eclipse.ditto.services.connectivity.messaging.DefaultClientActorProps
 import org.eclipse.ditto.services.utils.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.services.utils.persistence.mongo.ops.eventsource.MongoEventSourceITAssertions;
+import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommandInterceptor;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionNotAccessibleException;
@@ -141,7 +143,8 @@ public final class ConnectionPersistenceOperationsActorIT extends MongoEventSour
         return new DittoProtocolSub() {
             @Override
             public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
-                    final Collection<String> topics, final ActorRef subscriber, @Nullable final String group) {
+                    final Collection<String> topics, final ActorRef subscriber, @Nullable final String group,
+                    @Nullable final Predicate<Signal<?>> signalFilter) {
                 return CompletableFuture.completedFuture(null);
             }
 
@@ -153,7 +156,8 @@ public final class ConnectionPersistenceOperationsActorIT extends MongoEventSour
             @Override
             public CompletionStage<Void> updateLiveSubscriptions(
                     final Collection<StreamingType> types,
-                    final Collection<String> topics, final ActorRef subscriber) {
+                    final Collection<String> topics, final ActorRef subscriber,
+                    @Nullable final Predicate<Signal<?>> signalFilter) {
                 return CompletableFuture.completedFuture(null);
             }
 
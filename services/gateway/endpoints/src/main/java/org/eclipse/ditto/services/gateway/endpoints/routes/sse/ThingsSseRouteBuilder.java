@@ -51,6 +51,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.things.ThingsParamete
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
+import org.eclipse.ditto.services.gateway.streaming.SignalSerializationCache;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.services.gateway.streaming.actors.SupervisedStream;
@@ -115,6 +116,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private final StreamingConfig streamingConfig;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ActorRef pubSubMediator;
+    private final SignalSerializationCache serializationCache;
 
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
     private SseConnectionSupervisor sseConnectionSupervisor;
@@ -131,6 +133,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         this.streamingConfig = streamingConfig;
         this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.pubSubMediator = pubSubMediator;
+        serializationCache = SignalSerializationCache.of(streamingConfig.getSerializationCacheConfig());
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
         eventSniffer = EventSniffer.noOp();
@@ -241,6 +244,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final List<ThingId> targetThingIds = getThingIds(parameters.get(ThingsParameter.IDS.toString()));
         @Nullable final JsonFieldSelector fields = getFieldSelector(parameters.get(ThingsParameter.FIELDS.toString()));
         @Nullable final JsonFieldSelector extraFields = getFieldSelector(parameters.get(PARAM_EXTRA_FIELDS));
+        // the thing JSON sent to a session only depends on the event, the selected fields and the extra fields
+        final Object serializationFormat = Arrays.asList(PATH_THINGS, fields, extraFields);
         final SignalEnrichmentFacade facade =
                 signalEnrichmentProvider == null ? null : signalEnrichmentProvider.getFacade(ctx.getRequest());
 
@@ -286,11 +291,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                 return NotUsed.getInstance();
                             })
                             .mapAsync(streamingConfig.getParallelism(), jsonifiable ->
-                                    postprocess(jsonifiable, facade, targetThingIds, namespaces, fields))
-                            .mapConcat(jsonObjects -> jsonObjects)
-                            .map(jsonValue -> {
+                                    postprocess(jsonifiable, facade, targetThingIds, namespaces, fields,
+                                            serializationFormat))
+                            .mapConcat(jsonStrings -> jsonStrings)
+                            .map(jsonString -> {
                                 THINGS_SSE_COUNTER.increment();
-                                return ServerSentEvent.create(jsonValue.toString());
+                                return ServerSentEvent.create(jsonString);
                             })
                             .log("SSE " + PATH_THINGS)
                             // sniffer shouldn't sniff heartbeats
@@ -350,13 +356,14 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
-    private CompletionStage<Collection<JsonObject>> postprocess(final SessionedJsonifiable jsonifiable,
+    private CompletionStage<Collection<String>> postprocess(final SessionedJsonifiable jsonifiable,
             @Nullable final SignalEnrichmentFacade facade,
             final Collection<ThingId> targetThingIds,
             final Collection<String> namespaces,
-            @Nullable final JsonFieldSelector fields) {
+            @Nullable final JsonFieldSelector fields,
+            final Object serializationFormat) {
 
-        final Supplier<CompletableFuture<Collection<JsonObject>>> emptySupplier =
+        final Supplier<CompletableFuture<Collection<String>>> emptySupplier =
                 () -> CompletableFuture.completedFuture(Collections.emptyList());
 
         if (jsonifiable.getJsonifiable() instanceof ThingEvent) {
@@ -368,14 +375,18 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
                                                 .filter(session::matchesFilter)
-                                                .map(thing -> toNonemptyThingJson(thing, event, fields))
+                                                .map(thing -> serializationCache.serialize(event,
+                                                        serializationFormat, extra,
+                                                        () -> toThingJsonString(thing, event, fields)))
+                                                .filter(thingJson -> !thingJson.isEmpty())
+                                                .<Collection<String>>map(Collections::singletonList)
                                                 .orElseGet(Collections::emptyList)
                                 )
                                 .exceptionally(error -> {
                                     final DittoRuntimeException errorToReport = error instanceof DittoRuntimeException
                                             ? ((DittoRuntimeException) error)
                                             : SignalEnrichmentFailedException.newBuilder().build();
-                                    return Collections.singletonList(errorToReport.toJson());
+                                    return Collections.singletonList(errorToReport.toJsonString());
                                 })
                         )
                         .orElseGet(emptySupplier);
@@ -392,7 +403,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return targetThingIds.isEmpty() || targetThingIds.contains(event.getEntityId());
     }
 
-    private static Collection<JsonObject> toNonemptyThingJson(final Thing thing, final ThingEvent<?> event,
+    /*
+     * Returns the empty string if the selected fields of the thing are empty.
+     */
+    private static String toThingJsonString(final Thing thing, final ThingEvent<?> event,
             @Nullable final JsonFieldSelector fields) {
         final JsonSchemaVersion jsonSchemaVersion = event.getDittoHeaders()
                 .getSchemaVersion()
@@ -400,7 +414,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final JsonObject thingJson = null != fields
                 ? thing.toJson(jsonSchemaVersion, fields)
                 : thing.toJson(jsonSchemaVersion);
-        return thingJson.isEmpty() ? Collections.emptyList() : Collections.singletonList(thingJson);
+        return thingJson.isEmpty() ? "" : thingJson.toString();
     }
 
     private static List<String> getNamespaces(@Nullable final String namespacesParameter) {
@@ -23,6 +23,8 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.Prot
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_LIVE_EVENTS;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_MESSAGES;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,17 +34,21 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -73,6 +79,7 @@ import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmen
 import org.eclipse.ditto.services.gateway.security.HttpHeader;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.IncomingSignal;
+import org.eclipse.ditto.services.gateway.streaming.SignalSerializationCache;
 import org.eclipse.ditto.services.gateway.streaming.StreamControlMessage;
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
 import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
@@ -91,6 +98,7 @@ import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayWebsocketMessageTooLargeException;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayWebsocketSessionClosedException;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayWebsocketSessionExpiredException;
 import org.eclipse.ditto.signals.commands.policies.PolicyErrorResponse;
@@ -103,6 +111,7 @@ import akka.actor.ActorRef;
 import akka.event.Logging;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ws.BinaryMessage;
 import akka.http.javadsl.model.ws.Message;
 import akka.http.javadsl.model.ws.TextMessage;
 import akka.http.javadsl.model.ws.WebSocketUpgrade;
@@ -118,12 +127,15 @@ import akka.stream.FlowShape;
 import akka.stream.Graph;
 import akka.stream.Materializer;
 import akka.stream.SinkShape;
+import akka.stream.StreamLimitReachedException;
 import akka.stream.UniformFanInShape;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import scala.PartialFunction;
 import scala.util.Either;
 import scala.util.Left;
 import scala.util.Right;
@@ -140,6 +152,14 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      */
     private static final String PROTOCOL_CMD_ACK_SUFFIX = ":ACK";
 
+    /**
+     * WebSocket subprotocol which carries Ditto Protocol messages as CBOR in binary messages. Text messages are
+     * still accepted on a WebSocket using this subprotocol, and protocol acknowledgements are sent as text.
+     */
+    static final String CBOR_SUBPROTOCOL = "ditto-cbor";
+
+    private static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
     private static final String STREAMING_TYPE_WS = "WS";
 
     private static final String BEARER = "Bearer";
@@ -168,6 +188,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
     private final Materializer materializer;
+    private final SignalSerializationCache serializationCache;
 
     private EventSniffer<String> incomingMessageSniffer;
     private EventSniffer<String> outgoingMessageSniffer;
@@ -192,6 +213,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         signalEnrichmentProvider = null;
         headerTranslator = HeaderTranslator.empty();
         this.materializer = materializer;
+        serializationCache = SignalSerializationCache.of(streamingConfig.getSerializationCacheConfig());
     }
 
     /**
@@ -287,24 +309,39 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         final AuthorizationContext authContext = dittoHeaders.getAuthorizationContext();
         final ThreadSafeDittoLogger logger = LOGGER.withCorrelationId(connectionCorrelationId);
-        logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
+        final boolean cbor = isCborRequested(upgradeToWebSocket);
+        logger.info("Creating WebSocket for connection authContext: <{}>, CBOR: <{}>", authContext, cbor);
 
         return retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
                 .thenApply(websocketConfig -> {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, dittoHeaders, adapter, request,
-                                    websocketConfig, signalEnrichmentFacade, logger);
+                                    websocketConfig, signalEnrichmentFacade, cbor, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
                                     request,
-                                    websocketConfig, outgoing.first(), logger);
+                                    websocketConfig, outgoing.first(), cbor, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing.second()));
+                    final Flow<Message, Message, NotUsed> handler = incoming.via(outgoing.second());
+                    if (cbor) {
+                        return upgradeToWebSocket.handleMessagesWith(handler, CBOR_SUBPROTOCOL);
+                    } else {
+                        return upgradeToWebSocket.handleMessagesWith(handler);
+                    }
                 });
     }
 
+    private static boolean isCborRequested(final WebSocketUpgrade upgradeToWebSocket) {
+        for (final String requestedProtocol : upgradeToWebSocket.getRequestedProtocols()) {
+            if (CBOR_SUBPROTOCOL.equals(requestedProtocol)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private java.util.function.Function<WebsocketConfig, WebsocketConfig> overwriteWebSocketConfig(
             final DittoHeaders dittoHeaders) {
         return wsConfig -> webSocketConfigProvider.apply(dittoHeaders, wsConfig);
@@ -314,11 +351,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      *
      * Websocket message with streamed content
      *                  +
-     *                  | strictify+sniffer
-     *                  v
-     *                String
-     *                  +
-     *                  |
+     *                  |                   too large/malformed CBOR
+     *                  | strictify +-----------------------+
+     *                  v                                   |
+     *                String                                |
+     *                  +                                   |
+     *                  | sniffer                           |
      *                  v                   bad cast/bad signal
      * Extract stream control or signal +---------------+
      *                  +                               |
@@ -343,13 +381,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
-            final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
-                            .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
+            final FanOutShape2<Message, String, DittoRuntimeException> strictify =
+                    builder.add(Filter.multiplexByEitherFlow(
+                            getStrictifyFlow(cbor, websocketConfig.getMaxMessageSize())
+                                    .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig()))));
+
+            final FlowShape<String, String> sniffer = builder.add(getIncomingSnifferFlow(request, logger));
 
             final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
                     builder.add(selectStreamControlOrSignal(version, connectionCorrelationId, connectionAuthContext,
@@ -368,9 +410,10 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                     builder.add(getStreamControlOrSignalSink(connect));
 
             final UniformFanInShape<DittoRuntimeException, DittoRuntimeException> exceptionMerger =
-                    builder.add(Merge.create(2, true));
+                    builder.add(Merge.create(3, true));
 
-            builder.from(strictify.out()).toInlet(select.in());
+            builder.from(strictify.out0()).via(sniffer).toInlet(select.in());
+            builder.from(strictify.out1()).toFanIn(exceptionMerger);
             builder.from(select.out0()).toInlet(rateLimiter.in());
             builder.from(select.out1()).toFanIn(exceptionMerger);
             builder.from(rateLimiter.out0()).to(sink);
@@ -399,22 +442,81 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     }
 
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
+    /*
+     * Assembles the frames of each message into one JSON string. Binary messages are only accepted with the CBOR
+     * subprotocol; they are decoded into JSON strings so that the rest of the incoming flow is the same for both
+     * message types. Messages exceeding the maximum size and malformed CBOR are answered with an error like malformed
+     * JSON; the remaining frames of a message exceeding the maximum size are discarded and the WebSocket stays open.
+     */
+    private static Flow<Message, Either<DittoRuntimeException, String>, NotUsed> getStrictifyFlow(final boolean cbor,
+            final long maxMessageSize) {
+
         return Flow.<Message>create()
                 .via(Flow.fromFunction(msg -> {
                     IN_COUNTER.increment();
                     return msg;
                 }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
+                .filter(msg -> msg.isText() || cbor)
+                .flatMapConcat(msg -> {
+                    if (msg.isText()) {
+                        return assembleText(msg.asTextMessage(), maxMessageSize);
                     } else {
-                        return textMsg.getStreamedText();
+                        return assembleCbor(msg.asBinaryMessage(), maxMessageSize);
                     }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
+                });
+    }
+
+    private static Source<Either<DittoRuntimeException, String>, NotUsed> assembleText(final TextMessage textMessage,
+            final long maxMessageSize) {
+
+        final Source<String, ?> textParts;
+        if (textMessage.isStrict()) {
+            textParts = Source.single(textMessage.getStrictText());
+        } else {
+            textParts = textMessage.getStreamedText();
+        }
+        return textParts.limitWeighted(maxMessageSize, textPart -> (long) textPart.length())
+                .fold(new StringBuilder(), (builder, textPart) -> builder.append(textPart))
+                .<Either<DittoRuntimeException, String>>map(builder -> new Right<>(builder.toString()))
+                .recover(messageTooLarge(maxMessageSize))
+                .mapMaterializedValue(any -> NotUsed.getInstance());
+    }
+
+    private static Source<Either<DittoRuntimeException, String>, NotUsed> assembleCbor(
+            final BinaryMessage binaryMessage, final long maxMessageSize) {
+
+        final Source<ByteString, ?> dataParts;
+        if (binaryMessage.isStrict()) {
+            dataParts = Source.single(binaryMessage.getStrictData());
+        } else {
+            dataParts = binaryMessage.getStreamedData();
+        }
+        return dataParts.limitWeighted(maxMessageSize, dataPart -> (long) dataPart.size())
+                .fold(ByteString.createBuilder(), (builder, dataPart) -> builder.append(dataPart))
+                .map(builder -> decodeCbor(builder.result()))
+                .recover(messageTooLarge(maxMessageSize))
+                .mapMaterializedValue(any -> NotUsed.getInstance());
+    }
+
+    private static Either<DittoRuntimeException, String> decodeCbor(final ByteString cborData) {
+        try {
+            return new Right<>(CBOR_FACTORY.readFrom(cborData.toArray()).toString());
+        } catch (final JsonRuntimeException | IllegalArgumentException e) {
+            return new Left<>(new DittoJsonException(e));
+        }
+    }
+
+    private static PartialFunction<Throwable, Either<DittoRuntimeException, String>> messageTooLarge(
+            final long maxMessageSize) {
+
+        return new PFBuilder<Throwable, Either<DittoRuntimeException, String>>()
+                .match(StreamLimitReachedException.class, e -> new Left<>(
+                        GatewayWebsocketMessageTooLargeException.newBuilder(maxMessageSize).build()))
+                .build();
+    }
+
+    private Flow<String, String, NotUsed> getIncomingSnifferFlow(final HttpRequest request, final Logger logger) {
+        return Flow.<String>create()
                 .via(incomingMessageSniffer.toAsyncFlow(request))
                 .via(Flow.fromFunction(result -> {
                     logger.debug("Received incoming WebSocket message: {}", result);
@@ -422,7 +524,6 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 }))
                 .withAttributes(Attributes.createLogLevels(Logging.DebugLevel(), Logging.DebugLevel(),
                         Logging.WarningLevel()));
-
     }
 
     private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException>, NotUsed>
@@ -476,6 +577,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
@@ -517,14 +619,16 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
         final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
                 Flow.<SessionedJsonifiable>create()
-                        .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
+                        .mapAsync(signalEnrichmentParallelism,
+                                postprocess(adapter, signalEnrichmentFacade, cbor, logger))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
-                            logger.debug("Sending outgoing WebSocket message: {}", result);
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("Sending outgoing WebSocket message: {}", toText(result));
+                            }
                             return result;
                         }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
+                        .via(getOutgoingSnifferFlow(request))
                         .via(Flow.fromFunction(msg -> {
                             OUT_COUNTER.increment();
                             return msg;
@@ -533,6 +637,31 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Pair.create(connect, joinOutgoingFlows(eventAndResponseSource, errorFlow, messageFlow));
     }
 
+    /*
+     * Sniffers receive outgoing messages as JSON strings. Binary messages are decoded for that purpose only if a
+     * sniffer is installed.
+     */
+    private Flow<Message, Message, NotUsed> getOutgoingSnifferFlow(final HttpRequest request) {
+        if (outgoingMessageSniffer instanceof EventSniffer.NoOp) {
+            return Flow.create();
+        }
+        return Flow.<Message>create().wireTap(Flow.<Message>create()
+                .map(WebSocketRoute::toText)
+                .via(outgoingMessageSniffer.toAsyncFlow(request))
+                .to(Sink.ignore()));
+    }
+
+    /*
+     * Outgoing messages are always strict.
+     */
+    private static String toText(final Message message) {
+        if (message.isText()) {
+            return message.asTextMessage().getStrictText();
+        } else {
+            return CBOR_FACTORY.readFrom(message.asBinaryMessage().getStrictData().toArray()).toString();
+        }
+    }
+
     private static Set<AcknowledgementLabel> readDeclaredAcknowledgementLabels(final DittoHeaders dittoHeaders) {
         return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.DECLARED_ACKS.getKey()))
                 .map(JsonFactory::readFrom)
@@ -641,30 +770,74 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return signal.setDittoHeaders(internalHeadersBuilder.build());
     }
 
-    private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
-            final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
+    private Function<SessionedJsonifiable, CompletionStage<Collection<Message>>> postprocess(
+            final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade, final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         return sessionedJsonifiable -> {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
-                return CompletableFuture.completedFuture(
-                        Collections.singletonList(streamingAckToString((StreamingAck) jsonifiable))
-                );
+                // protocol acknowledgements like "START-SEND-EVENTS:ACK" are no JSON and therefore always text
+                return CompletableFuture.completedFuture(Collections.singletonList(
+                        TextMessage.create(streamingAckToString((StreamingAck) jsonifiable))
+                ));
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra -> {
+            return extraFuture.<Collection<Message>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(toMessage(sessionedJsonifiable, adapter, extra, cbor));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 return Collections.emptyList();
-            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger));
+            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter,
+                    jsonifiableToAdaptable(jsonifiable, adapter), cbor, logger));
         };
     }
 
+    /*
+     * Signals published to the sessions of this node are the same instances for all sessions; they are serialized
+     * once per protocol adapter, extra fields and message type. Responses and errors belong to one session only.
+     */
+    private Message toMessage(final SessionedJsonifiable sessionedJsonifiable, final ProtocolAdapter adapter,
+            final JsonObject extra, final boolean cbor) {
+
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
+        final Supplier<JsonObject> toJson = () -> toJsonWithExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra);
+        final boolean shared = jsonifiable instanceof Signal && sessionedJsonifiable.getSession().isPresent();
+        if (cbor) {
+            final Supplier<byte[]> serializer = () -> toCbor(toJson.get());
+            final byte[] cborBytes = shared
+                    ? serializationCache.serializeToBytes((Signal<?>) jsonifiable, adapter, extra, serializer)
+                    : serializer.get();
+            // the bytes are never modified, neither by the cache nor by Akka HTTP
+            return BinaryMessage.create(ByteString.fromArrayUnsafe(cborBytes));
+        } else {
+            final Supplier<String> serializer = () -> toJson.get().toString();
+            final String jsonString = shared
+                    ? serializationCache.serialize((Signal<?>) jsonifiable, adapter, extra, serializer)
+                    : serializer.get();
+            return TextMessage.create(jsonString);
+        }
+    }
+
+    private static Message toMessage(final JsonObject json, final boolean cbor) {
+        if (cbor) {
+            return BinaryMessage.create(ByteString.fromArrayUnsafe(toCbor(json)));
+        } else {
+            return TextMessage.create(json.toString());
+        }
+    }
+
+    private static byte[] toCbor(final JsonObject json) {
+        try {
+            return CBOR_FACTORY.toByteArray(json);
+        } catch (final IOException e) {
+            // writing to a byte array does not fail on I/O
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void issuePotentialWeakAcknowledgements(final SessionedJsonifiable sessionedJsonifiable) {
         sessionedJsonifiable.getSession().ifPresent(session -> {
             final DittoHeaders dittoHeaders = sessionedJsonifiable.getDittoHeaders();
@@ -694,9 +867,10 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    private static Collection<Message> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         final DittoRuntimeException errorToReport;
@@ -719,12 +893,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                                 adaptable.getDittoHeaders()
                         )
                 ));
-        return Collections.singletonList(errorAdaptable.toJsonString());
+        return Collections.singletonList(toMessage(errorAdaptable.toJson(), cbor));
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
+    private static JsonObject toJsonWithExtra(final Adaptable adaptable, final JsonObject extra) {
         final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJson();
     }
 
     /**
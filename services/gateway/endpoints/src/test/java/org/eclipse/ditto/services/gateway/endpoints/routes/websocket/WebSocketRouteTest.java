@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.gateway.streaming.Connect;
+import org.eclipse.ditto.services.gateway.streaming.IncomingSignal;
+import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
+import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
+import org.eclipse.ditto.services.gateway.util.config.streaming.DefaultStreamingConfig;
+import org.eclipse.ditto.services.gateway.util.config.streaming.WebsocketConfig;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayWebsocketMessageTooLargeException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.ws.BinaryMessage;
+import akka.http.javadsl.model.ws.Message;
+import akka.http.javadsl.model.ws.TextMessage;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRouteResult;
+import akka.http.javadsl.testkit.WSProbe;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.util.ByteString;
+
+/**
+ * Tests the route built by {@link WebSocketRoute}, in particular the CBOR subprotocol.
+ */
+public final class WebSocketRouteTest extends EndpointTestBase {
+
+    private static final long MAX_MESSAGE_SIZE = 256L;
+    private static final String SEC_WEBSOCKET_PROTOCOL = "Sec-WebSocket-Protocol";
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "websocket");
+    private static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+    private static final ProtocolAdapter ADAPTER = DittoProtocolAdapter.newInstance();
+    private static final JsonPointer STATUS = JsonPointer.of("status");
+    private static final JsonPointer ERROR_CODE = JsonPointer.of("value/error");
+
+    private TestProbe sessionActor;
+    private CompletableFuture<Connect> connect;
+    private Route underTest;
+    private WSProbe wsProbe;
+
+    @Before
+    public void setUp() {
+        sessionActor = TestProbe.apply(system());
+        connect = new CompletableFuture<>();
+        final WebsocketConfig websocketConfig = DefaultStreamingConfig.of(
+                ConfigFactory.parseString("streaming.websocket.max-message-size = " + MAX_MESSAGE_SIZE))
+                .getWebsocketConfig();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("ditto:websocket")))
+                .build();
+        final WebSocketRoute webSocketRoute = WebSocketRoute.getInstance(createDummyResponseActor(message -> {
+            if (StreamingActor.Control.RETRIEVE_WEBSOCKET_CONFIG.equals(message)) {
+                return Optional.of(websocketConfig);
+            } else if (message instanceof Connect) {
+                connect.complete((Connect) message);
+                return Optional.of(sessionActor.ref());
+            }
+            return Optional.empty();
+        }), streamingConfig, materializer());
+        underTest = webSocketRoute.build(JsonSchemaVersion.V_2, "websocket-test", dittoHeaders, ADAPTER);
+        wsProbe = WSProbe.create(system(), materializer());
+    }
+
+    @Test
+    public void cborSubprotocolIsNegotiatedOnRequest() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL))
+                .assertHeaderExists(SEC_WEBSOCKET_PROTOCOL, WebSocketRoute.CBOR_SUBPROTOCOL);
+    }
+
+    @Test
+    public void binaryMessagesAreIgnoredWithoutCborSubprotocol() {
+        openWebSocket(List.of()).assertHeaderKindNotExists(SEC_WEBSOCKET_PROTOCOL);
+
+        wsProbe.sendMessage(BinaryMessage.create(toCbor(retrieveThing("binary"))));
+        wsProbe.sendMessage(retrieveThing("text").toString());
+
+        assertCorrelationIdOfIncomingSignal("text");
+    }
+
+    @Test
+    public void cborMessagesAreDecoded() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+
+        wsProbe.sendMessage(BinaryMessage.create(toCbor(retrieveThing("cbor"))));
+
+        final IncomingSignal incomingSignal = sessionActor.expectMsgClass(IncomingSignal.class);
+        assertThat(incomingSignal.getSignal()).isInstanceOf(RetrieveThing.class);
+        assertThat((Object) incomingSignal.getSignal().getEntityId()).isEqualTo(THING_ID);
+        assertThat(incomingSignal.getSignal().getDittoHeaders().getCorrelationId()).contains("cbor");
+    }
+
+    @Test
+    public void textMessagesAreAcceptedWithCborSubprotocol() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+
+        wsProbe.sendMessage(retrieveThing("text").toString());
+
+        assertCorrelationIdOfIncomingSignal("text");
+    }
+
+    @Test
+    public void streamedMessagesAreAssembled() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+        final String text = retrieveThing("streamed-text").toString();
+        final ByteString cbor = toCbor(retrieveThing("streamed-cbor"));
+
+        wsProbe.sendMessage(TextMessage.create(Source.from(List.of(text.substring(0, 10), text.substring(10)))));
+        wsProbe.sendMessage(BinaryMessage.create(Source.from(List.of(cbor.slice(0, 10), cbor.drop(10)))));
+
+        assertCorrelationIdOfIncomingSignal("streamed-text");
+        assertCorrelationIdOfIncomingSignal("streamed-cbor");
+    }
+
+    @Test
+    public void outgoingSignalsAreEncodedAsCbor() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID,
+                JsonObject.newBuilder().set("thingId", THING_ID.toString()).build(),
+                DittoHeaders.newBuilder().correlationId("response").build());
+
+        offer(SessionedJsonifiable.response(response));
+
+        assertThat(expectCborMessage()).isEqualTo(
+                ProtocolFactory.wrapAsJsonifiableAdaptable(ADAPTER.toAdaptable(response)).toJson());
+    }
+
+    @Test
+    public void outgoingSignalsAreTextWithoutCborSubprotocol() {
+        openWebSocket(List.of());
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, JsonObject.empty(),
+                DittoHeaders.newBuilder().correlationId("response").build());
+
+        offer(SessionedJsonifiable.response(response));
+
+        wsProbe.expectMessage(ProtocolFactory.wrapAsJsonifiableAdaptable(ADAPTER.toAdaptable(response)).toJsonString());
+    }
+
+    @Test
+    public void protocolAcknowledgementsStayText() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+
+        offer(SessionedJsonifiable.ack(StreamingType.EVENTS, true, "websocket-test"));
+
+        wsProbe.expectMessage("START-SEND-EVENTS:ACK");
+    }
+
+    @Test
+    public void malformedCborIsAnsweredLikeMalformedJson() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+
+        wsProbe.sendMessage("{");
+        final JsonObject textError = expectCborMessage();
+        // start of a map of indefinite length without any entries or end
+        wsProbe.sendMessage(BinaryMessage.create(ByteString.fromArray(new byte[]{(byte) 0xbf})));
+        final JsonObject cborError = expectCborMessage();
+
+        assertThat(cborError.getValue(STATUS)).contains(JsonValue.of(400));
+        assertThat(cborError.getValue(ERROR_CODE)).isEqualTo(textError.getValue(ERROR_CODE));
+
+        // the WebSocket stays open
+        wsProbe.sendMessage(BinaryMessage.create(toCbor(retrieveThing("after-error"))));
+        assertCorrelationIdOfIncomingSignal("after-error");
+    }
+
+    @Test
+    public void messagesExceedingMaxSizeAreAnsweredWithError() {
+        openWebSocket(List.of(WebSocketRoute.CBOR_SUBPROTOCOL));
+        final String text = retrieveThing("too-large").toString();
+        final String padding = " ".repeat((int) MAX_MESSAGE_SIZE);
+        final ByteString cbor = toCbor(retrieveThing("too-large"));
+
+        wsProbe.sendMessage(TextMessage.create(Source.from(List.of(text, padding))));
+        assertTooLarge(expectCborMessage());
+        wsProbe.sendMessage(BinaryMessage.create(Source.from(List.of(cbor, ByteString.fromArray(new byte[256])))));
+        assertTooLarge(expectCborMessage());
+
+        // the WebSocket stays open
+        wsProbe.sendMessage(retrieveThing("after-error").toString());
+        assertCorrelationIdOfIncomingSignal("after-error");
+    }
+
+    private TestRouteResult openWebSocket(final List<String> subprotocols) {
+        final TestRouteResult result =
+                testRoute(underTest).run(WS(Uri.create("/"), wsProbe.flow(), materializer(), subprotocols));
+        connect.join();
+        return result;
+    }
+
+    private void offer(final SessionedJsonifiable sessionedJsonifiable) {
+        connect.join().getEventAndResponsePublisher().offer(sessionedJsonifiable);
+    }
+
+    private JsonObject expectCborMessage() {
+        final Message message = wsProbe.expectMessage();
+        assertThat(message.isText()).isFalse();
+        return CBOR_FACTORY.readFrom(message.asBinaryMessage().getStrictData().toArray()).asObject();
+    }
+
+    private void assertCorrelationIdOfIncomingSignal(final String correlationId) {
+        final IncomingSignal incomingSignal = sessionActor.expectMsgClass(IncomingSignal.class);
+        assertThat(incomingSignal.getSignal().getDittoHeaders().getCorrelationId()).contains(correlationId);
+    }
+
+    private static void assertTooLarge(final JsonObject error) {
+        assertThat(error.getValue(STATUS)).contains(JsonValue.of(413));
+        assertThat(error.getValue(ERROR_CODE))
+                .contains(JsonValue.of(GatewayWebsocketMessageTooLargeException.ERROR_CODE));
+    }
+
+    private static JsonObject retrieveThing(final String correlationId) {
+        return JsonFactory.newObject("{\"topic\":\"org.eclipse.ditto/websocket/things/twin/commands/retrieve\"," +
+                "\"headers\":{\"correlation-id\":\"" + correlationId + "\"},\"path\":\"/\"}");
+    }
+
+    private static ByteString toCbor(final JsonObject jsonObject) {
+        try {
+            return ByteString.fromArray(CBOR_FACTORY.toByteArray(jsonObject));
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
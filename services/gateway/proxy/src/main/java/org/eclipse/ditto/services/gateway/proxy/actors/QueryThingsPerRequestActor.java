@@ -24,6 +24,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
@@ -53,6 +54,10 @@ import akka.actor.ReceiveTimeout;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * If the header {@code search-index-projection} is set, the things are projected from the search index by
+ * "things-search" and the response is forwarded without retrieving the things.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -118,8 +123,9 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                             .map(ThingId::of)
                             .collect(Collectors.toList());
 
-                    if (queryThingsResponseThingIds.isEmpty()) {
-                        // shortcut - for no search results we don't have to lookup the things
+                    if (queryThingsResponseThingIds.isEmpty() || isSearchIndexProjectionRequested()) {
+                        // shortcut - for no search results or things projected by the search index we don't have to
+                        // lookup the things
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
                     } else {
@@ -178,6 +184,19 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .or(queryThings::getFields);
     }
 
+    /**
+     * Checks whether the search service was asked to project the found things from its index. In that case the
+     * search results already contain the things and they must not be retrieved again.
+     *
+     * @return whether the header {@code search-index-projection} of {@link #queryThings} is {@code true}.
+     */
+    private boolean isSearchIndexProjectionRequested() {
+        return Optional.ofNullable(
+                queryThings.getDittoHeaders().get(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey()))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     /**
      * Maps the retrieved entities into entities with the originally selected fields.
      *
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the serialized forms of signals which are published to several streaming sessions of a gateway node.
+ * <p>
+ * The pub-sub delivers the same signal instance to all local subscribers. Signals are therefore identified by
+ * identity; sessions which serialize the same signal in the same format with the same extra fields share one
+ * serialization. Textual and binary serializations are cached separately. Entries are removed as soon as the signal
+ * is no longer referenced, at the latest after the configured expiry.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class SignalSerializationCache {
+
+    private static final String METRIC_NAME = "streaming_serialization_cache";
+
+    @Nullable private final Cache<Signal<?>, Map<Variant, Serialization>> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter savedBytes;
+
+    private SignalSerializationCache(@Nullable final Cache<Signal<?>, Map<Variant, Serialization>> cache) {
+        this.cache = cache;
+        hits = DittoMetrics.counter(METRIC_NAME).tag("result", "hit");
+        misses = DittoMetrics.counter(METRIC_NAME).tag("result", "miss");
+        savedBytes = DittoMetrics.counter(METRIC_NAME + "_saved_bytes");
+    }
+
+    /**
+     * Creates a serialization cache.
+     *
+     * @param cacheConfig the config of the cache. Only the maximum size and the expiry after write are evaluated;
+     * a maximum size of 0 disables caching.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheConfig} is {@code null}.
+     */
+    public static SignalSerializationCache of(final CacheConfig cacheConfig) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        if (cacheConfig.getMaximumSize() <= 0L) {
+            return new SignalSerializationCache(null);
+        }
+        final Cache<Signal<?>, Map<Variant, Serialization>> cache = Caffeine.newBuilder()
+                // weak keys are compared by identity
+                .weakKeys()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .build();
+        return new SignalSerializationCache(cache);
+    }
+
+    /**
+     * Returns the serialized form of a signal, serializing it only if no session serialized the same signal instance
+     * in the same format with the same extra fields before.
+     *
+     * @param signal the signal.
+     * @param format identifies how the signal is serialized, e.g. the protocol adapter or the selected fields. Equal
+     * formats must lead to equal serializations of the same signal and extra fields.
+     * @param extra the extra fields the serialization contains.
+     * @param serializer serializes the signal if it is not cached.
+     * @return the serialized signal.
+     */
+    public String serialize(final Signal<?> signal, final Object format, final JsonObject extra,
+            final Supplier<String> serializer) {
+
+        return serialize(signal, new Variant(format, extra, String.class), serializer, String.class,
+                Serialization::utf8Length);
+    }
+
+    /**
+     * Returns the binary serialized form of a signal, serializing it only if no session serialized the same signal
+     * instance in the same binary format with the same extra fields before. The returned array is shared between
+     * sessions and must not be modified.
+     *
+     * @param signal the signal.
+     * @param format identifies how the signal is serialized, e.g. the protocol adapter or the selected fields. Equal
+     * formats must lead to equal serializations of the same signal and extra fields.
+     * @param extra the extra fields the serialization contains.
+     * @param serializer serializes the signal if it is not cached.
+     * @return the serialized signal.
+     * @since 2.0.0
+     */
+    public byte[] serializeToBytes(final Signal<?> signal, final Object format, final JsonObject extra,
+            final Supplier<byte[]> serializer) {
+
+        return serialize(signal, new Variant(format, extra, byte[].class), serializer, byte[].class,
+                bytes -> bytes.length);
+    }
+
+    private <T> T serialize(final Signal<?> signal, final Variant variant, final Supplier<T> serializer,
+            final Class<T> type, final ToLongFunction<T> size) {
+
+        if (null == cache) {
+            return serializer.get();
+        }
+        final Map<Variant, Serialization> serializations = cache.get(signal, s -> new ConcurrentHashMap<>());
+        @Nullable final Serialization cached = serializations.get(variant);
+        if (null != cached) {
+            hits.increment();
+            savedBytes.increment(cached.size);
+            return type.cast(cached.value);
+        }
+        misses.increment();
+        final T serialized = serializer.get();
+        serializations.putIfAbsent(variant, new Serialization(serialized, size.applyAsLong(serialized)));
+        return serialized;
+    }
+
+    @Immutable
+    private static final class Variant {
+
+        private final Object format;
+        private final JsonObject extra;
+        private final Class<?> type;
+
+        private Variant(final Object format, final JsonObject extra, final Class<?> type) {
+            this.format = format;
+            this.extra = extra;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Variant that = (Variant) o;
+            return Objects.equals(format, that.format) && Objects.equals(extra, that.extra) &&
+                    Objects.equals(type, that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(format, extra, type);
+        }
+
+    }
+
+    @Immutable
+    private static final class Serialization {
+
+        private final Object value;
+        private final long size;
+
+        private Serialization(final Object value, final long size) {
+            this.value = value;
+            this.size = size;
+        }
+
+        private static long utf8Length(final String s) {
+            long length = 0L;
+            for (int i = 0; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (c < 0x80) {
+                    length += 1L;
+                } else if (c < 0x800) {
+                    length += 2L;
+                } else if (Character.isHighSurrogate(c) && i + 1 < s.length() &&
+                        Character.isLowSurrogate(s.charAt(i + 1))) {
+                    // a surrogate pair is one code point of 4 bytes
+                    length += 4L;
+                    i++;
+                } else {
+                    length += 3L;
+                }
+            }
+            return length;
+        }
+
+    }
+
+}
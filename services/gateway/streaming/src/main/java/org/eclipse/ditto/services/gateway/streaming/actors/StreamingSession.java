@@ -20,8 +20,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
@@ -38,20 +37,20 @@ public final class StreamingSession {
     @Nullable private final JsonFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    private StreamingSession(final List<String> namespaces, @Nullable final CompiledThingPredicate eventFilter,
             @Nullable final JsonFieldSelector extraFields, final ActorRef streamingSessionActor) {
         this.namespaces = namespaces;
-        thingPredicate = eventFilterCriteria == null
+        thingPredicate = eventFilter == null
                 ? thing -> true
-                : ThingPredicateVisitor.apply(eventFilterCriteria);
+                : eventFilter;
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    static StreamingSession of(final List<String> namespaces, @Nullable final CompiledThingPredicate eventFilter,
             @Nullable final JsonFieldSelector extraFields, final ActorRef streamingSessionActor) {
 
-        return new StreamingSession(namespaces, eventFilterCriteria, extraFields, streamingSessionActor);
+        return new StreamingSession(namespaces, eventFilter, extraFields, streamingSessionActor);
     }
 
     /**
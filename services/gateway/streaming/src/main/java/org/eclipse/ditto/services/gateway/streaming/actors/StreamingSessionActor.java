@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -38,13 +39,8 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
-import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.model.query.things.ThingPredicateCache;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -68,7 +64,6 @@ import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapt
 import org.eclipse.ditto.services.utils.search.SubscriptionManager;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
-import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
@@ -109,6 +104,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final ActorRef subscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final StreamingSubscriptionIndex subscriptionIndex;
+    private final SessionSignalFilter signalFilter;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
@@ -140,6 +137,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        subscriptionIndex = StreamingSubscriptionIndex.get(getContext().getSystem());
+        signalFilter = new SessionSignalFilter();
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 acknowledgementConfig,
                 headerTranslator,
@@ -193,6 +192,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     public void postStop() {
         logger.info("Closing <{}> streaming session.", type);
         cancelSessionTimeout();
+        signalFilter.getGroups().values().forEach(subscriptionIndex::release);
         eventAndResponsePublisher.complete();
     }
 
@@ -247,9 +247,9 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                                         " this connection itself, not publishing", signal.getType(), type)
                 )
                 .match(Signal.class, signal -> {
-                    // check if this session is "allowed" to receive the Signal
+                    // check if this session is "allowed" to receive the Signal; usually already done by the pub-sub
                     @Nullable final StreamingSession session = streamingSessions.get(determineStreamingType(signal));
-                    if (null != session && isSessionAllowedToReceiveSignal(signal, session)) {
+                    if (null != session && signalFilter.test(signal)) {
                         logger.withCorrelationId(signal)
                                 .debug("Got Signal in <{}> session, publishing: {}", type, signal);
 
@@ -272,10 +272,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return ReceiveBuilder.create()
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
-                    Criteria criteria;
+                    final CompiledThingPredicate eventFilter;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
+                        eventFilter = startStreaming.getFilter()
+                                .map(f -> ThingPredicateCache.modelBased().get(f, DittoHeaders.newBuilder()
                                         .correlationId(startStreaming.getCorrelationId()
                                                 .orElse(startStreaming.getConnectionCorrelationId()))
                                         .build()))
@@ -286,9 +286,16 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
+                    // the filter is evaluated by the subscription group unless it needs the enriched extra fields
+                    final boolean filterNeedsExtraFields = startStreaming.getExtraFields().isPresent();
+                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(),
+                            filterNeedsExtraFields ? eventFilter : null,
                             startStreaming.getExtraFields().orElse(null), self());
                     streamingSessions.put(startStreaming.getStreamingType(), session);
+                    signalFilter.putGroup(startStreaming.getStreamingType(),
+                            subscriptionIndex.acquire(authorizationContext, startStreaming.getNamespaces(),
+                                    filterNeedsExtraFields ? null : startStreaming.getFilter().orElse(null),
+                                    filterNeedsExtraFields ? null : eventFilter));
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -300,7 +307,9 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
                     dittoProtocolSub.subscribe(currentStreamingTypes,
                             authorizationContext.getAuthorizationSubjectIds(),
-                            getSelf()
+                            getSelf(),
+                            null,
+                            signalFilter
                     ).whenComplete((ack, throwable) -> {
                         if (null == throwable) {
                             logger.debug("subscription to Ditto pubsub succeeded");
@@ -326,6 +335,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                             type, stopStreaming.getStreamingType().name());
 
                     streamingSessions.remove(stopStreaming.getStreamingType());
+                    signalFilter.removeGroup(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final ConfirmUnsubscription unsubscribeConfirmation =
@@ -333,7 +343,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
                     if (stopStreaming.getStreamingType() != StreamingType.EVENTS) {
                         dittoProtocolSub.updateLiveSubscriptions(currentStreamingTypes,
-                                authorizationContext.getAuthorizationSubjectIds(), getSelf())
+                                authorizationContext.getAuthorizationSubjectIds(), getSelf(), signalFilter)
                                 .thenAccept(ack -> getSelf().tell(unsubscribeConfirmation, getSelf()));
                     } else {
                         dittoProtocolSub.removeTwinSubscriber(getSelf(),
@@ -498,14 +508,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         subscriptionManager.tell(searchCommand, getSelf());
     }
 
-    private boolean isSessionAllowedToReceiveSignal(final Signal<?> signal, final StreamingSession session) {
-        final DittoHeaders headers = signal.getDittoHeaders();
-        final boolean isAuthorizedToRead = authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
-                headers.getReadRevokedSubjects());
-        final boolean matchesNamespace = matchesNamespaces(signal, session);
-        return isAuthorizedToRead && matchesNamespace;
-    }
-
     private Cancellable startSessionTimeout(final Instant sessionExpirationTime) {
         final long timeout = sessionExpirationTime.minusMillis(Instant.now().toEpochMilli()).toEpochMilli();
 
@@ -549,15 +551,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         }
     }
 
-    private boolean matchesNamespaces(final Signal<?> signal, final StreamingSession session) {
-        final List<String> namespaces = session.getNamespaces();
-        final boolean result = namespaces.isEmpty() || namespaces.contains(namespaceFromId(signal));
-        if (!result) {
-            logger.withCorrelationId(signal).debug("Signal does not match namespaces.");
-        }
-        return result;
-    }
-
     private void refreshWebSocketSession(final Jwt jwt) {
         final String jwtConnectionCorrelationId = jwt.getConnectionCorrelationId();
         final JsonWebToken jsonWebToken = ImmutableJsonWebToken.fromToken(jwt.toString());
@@ -630,21 +623,6 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return streamingType;
     }
 
-    @Nullable
-    private static String namespaceFromId(final WithId withId) {
-        return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
-    }
-
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
-    }
-
     private void confirmSubscription(final StreamingType streamingType) {
         if (outstandingSubscriptionAcks.contains(streamingType)) {
             outstandingSubscriptionAcks.remove(streamingType);
@@ -711,6 +689,57 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
 
     }
 
+    /**
+     * Signal filter of this session in the pub-sub. It delegates to the shared subscription group of the streaming
+     * type of a signal. The pub-sub evaluates it outside of the actor, thus the groups are published via a volatile
+     * immutable map.
+     */
+    private final class SessionSignalFilter implements Predicate<Signal<?>> {
+
+        private volatile Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> groups = Map.of();
+
+        @Override
+        public boolean test(final Signal<?> signal) {
+            @Nullable final StreamingSubscriptionIndex.SubscriptionGroup group =
+                    groups.get(determineStreamingType(signal));
+            return null != group && group.test(signal);
+        }
+
+        private Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> getGroups() {
+            return groups;
+        }
+
+        private Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> copyGroups() {
+            // EnumMap cannot copy an empty map which is no EnumMap
+            final Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> copy =
+                    new EnumMap<>(StreamingType.class);
+            copy.putAll(groups);
+            return copy;
+        }
+
+        private void putGroup(final StreamingType streamingType,
+                final StreamingSubscriptionIndex.SubscriptionGroup group) {
+
+            final Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> newGroups = copyGroups();
+            @Nullable final StreamingSubscriptionIndex.SubscriptionGroup previousGroup =
+                    newGroups.put(streamingType, group);
+            groups = Map.copyOf(newGroups);
+            if (null != previousGroup) {
+                subscriptionIndex.release(previousGroup);
+            }
+        }
+
+        private void removeGroup(final StreamingType streamingType) {
+            final Map<StreamingType, StreamingSubscriptionIndex.SubscriptionGroup> newGroups = copyGroups();
+            @Nullable final StreamingSubscriptionIndex.SubscriptionGroup removedGroup = newGroups.remove(streamingType);
+            groups = Map.copyOf(newGroups);
+            if (null != removedGroup) {
+                subscriptionIndex.release(removedGroup);
+            }
+        }
+
+    }
+
     private enum Control {
         TERMINATED
     }
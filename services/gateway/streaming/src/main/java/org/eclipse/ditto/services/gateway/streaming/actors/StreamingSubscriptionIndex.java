@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.namespaces.NamespaceReader;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Index of the subscriptions of all streaming sessions of a gateway node.
+ * <p>
+ * Sessions with the same authorization context, namespaces and RQL filter share one {@link SubscriptionGroup}.
+ * The groups are the signal filters of the sessions in the pub-sub; they remember the result of the last signal they
+ * evaluated. As the pub-sub evaluates the filters of all local subscribers of a signal one after another, each
+ * signal is matched once per group and only delivered to the sessions which actually receive it.
+ * </p>
+ */
+@ThreadSafe
+final class StreamingSubscriptionIndex implements Extension {
+
+    private static final Thing EMPTY_THING = Thing.newBuilder().build();
+
+    private final Map<GroupKey, SubscriptionGroup> groups;
+    private final Gauge groupsGauge;
+    private final Counter evaluationsCounter;
+
+    @Nullable private volatile ThingJsonOfSignal lastThingJson;
+
+    private StreamingSubscriptionIndex() {
+        groups = new ConcurrentHashMap<>();
+        groupsGauge = DittoMetrics.gauge("streaming_subscription_groups");
+        evaluationsCounter = DittoMetrics.counter("streaming_subscription_group_evaluations");
+        lastThingJson = null;
+    }
+
+    /**
+     * Returns the subscription index of the gateway node of an actor system.
+     *
+     * @param system the actor system.
+     * @return the subscription index.
+     */
+    static StreamingSubscriptionIndex get(final ActorSystem system) {
+        return ExtensionId.INSTANCE.get(system);
+    }
+
+    /**
+     * Creates a new index which is not shared; only intended for tests.
+     *
+     * @return the new index.
+     */
+    static StreamingSubscriptionIndex newInstance() {
+        return new StreamingSubscriptionIndex();
+    }
+
+    /**
+     * Joins the subscription group of the given subscription properties, creating it if it does not exist yet.
+     * Each acquired group has to be {@linkplain #release(SubscriptionGroup) released} again.
+     *
+     * @param authorizationContext the authorization context of the session.
+     * @param namespaces the namespaces the session is interested in; empty for all namespaces.
+     * @param filter the RQL filter which can be evaluated before signal enrichment or {@code null}.
+     * @param filterPredicate the compiled {@code filter}.
+     * @return the subscription group.
+     */
+    SubscriptionGroup acquire(final AuthorizationContext authorizationContext,
+            final Collection<String> namespaces,
+            @Nullable final String filter,
+            @Nullable final CompiledThingPredicate filterPredicate) {
+
+        final GroupKey key = new GroupKey(authorizationContext, Set.copyOf(namespaces), filter);
+        final SubscriptionGroup group = groups.compute(key, (k, existing) -> {
+            final SubscriptionGroup nonNullGroup =
+                    null != existing ? existing : new SubscriptionGroup(this, k, filterPredicate);
+            nonNullGroup.sessions++;
+            return nonNullGroup;
+        });
+        groupsGauge.set((long) groups.size());
+        return group;
+    }
+
+    /**
+     * Leaves a subscription group; the group is removed after its last session left.
+     *
+     * @param group the group to leave.
+     */
+    void release(final SubscriptionGroup group) {
+        groups.computeIfPresent(group.key, (k, existing) -> {
+            existing.sessions--;
+            return existing.sessions > 0 ? existing : null;
+        });
+        groupsGauge.set((long) groups.size());
+    }
+
+    /**
+     * @return the number of subscription groups.
+     */
+    int size() {
+        return groups.size();
+    }
+
+    /*
+     * All groups of a signal see the same thing, thus converting the signal to thing JSON is done once per signal.
+     */
+    private JsonObject getThingJson(final Signal<?> signal) {
+        @Nullable final ThingJsonOfSignal last = lastThingJson;
+        if (null != last && last.signal == signal) {
+            return last.thingJson;
+        }
+        final Thing thing = ThingEventToThingConverter.mergeThingWithExtraFields(signal, null, JsonObject.empty())
+                .orElse(EMPTY_THING);
+        final JsonObject thingJson = thing.toJson(field -> true);
+        lastThingJson = new ThingJsonOfSignal(signal, thingJson);
+        return thingJson;
+    }
+
+    /**
+     * Signal filter of the streaming sessions with the same subscription properties.
+     */
+    @ThreadSafe
+    static final class SubscriptionGroup implements Predicate<Signal<?>> {
+
+        private final StreamingSubscriptionIndex index;
+        private final GroupKey key;
+        @Nullable private final Predicate<JsonObject> filterPredicate;
+
+        // guarded by the compute methods of the index
+        private int sessions;
+        @Nullable private volatile Evaluation lastEvaluation;
+
+        private SubscriptionGroup(final StreamingSubscriptionIndex index, final GroupKey key,
+                @Nullable final CompiledThingPredicate filterPredicate) {
+            this.index = index;
+            this.key = key;
+            this.filterPredicate = null != filterPredicate ? filterPredicate.asJsonObjectPredicate() : null;
+            sessions = 0;
+            lastEvaluation = null;
+        }
+
+        @Override
+        public boolean test(final Signal<?> signal) {
+            @Nullable final Evaluation last = lastEvaluation;
+            if (null != last && last.signal == signal) {
+                return last.result;
+            }
+            final boolean result = evaluate(signal);
+            lastEvaluation = new Evaluation(signal, result);
+            return result;
+        }
+
+        private boolean evaluate(final Signal<?> signal) {
+            index.evaluationsCounter.increment();
+            final DittoHeaders headers = signal.getDittoHeaders();
+            return key.authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
+                    headers.getReadRevokedSubjects()) &&
+                    matchesNamespaces(signal) &&
+                    (null == filterPredicate || filterPredicate.test(index.getThingJson(signal)));
+        }
+
+        private boolean matchesNamespaces(final Signal<?> signal) {
+            return key.namespaces.isEmpty() ||
+                    key.namespaces.contains(NamespaceReader.fromEntityId(signal.getEntityId()).orElse(null));
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "key=" + key +
+                    ", sessions=" + sessions +
+                    "]";
+        }
+
+    }
+
+    @Immutable
+    private static final class GroupKey {
+
+        private final AuthorizationContext authorizationContext;
+        private final Set<String> namespaces;
+        @Nullable private final String filter;
+
+        private GroupKey(final AuthorizationContext authorizationContext, final Set<String> namespaces,
+                @Nullable final String filter) {
+            this.authorizationContext = authorizationContext;
+            this.namespaces = namespaces;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final GroupKey that = (GroupKey) o;
+            return Objects.equals(authorizationContext, that.authorizationContext) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(filter, that.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(authorizationContext, namespaces, filter);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "authorizationContext=" + authorizationContext +
+                    ", namespaces=" + namespaces +
+                    ", filter=" + filter +
+                    "]";
+        }
+
+    }
+
+    @Immutable
+    private static final class Evaluation {
+
+        private final Signal<?> signal;
+        private final boolean result;
+
+        private Evaluation(final Signal<?> signal, final boolean result) {
+            this.signal = signal;
+            this.result = result;
+        }
+
+    }
+
+    @Immutable
+    private static final class ThingJsonOfSignal {
+
+        private final Signal<?> signal;
+        private final JsonObject thingJson;
+
+        private ThingJsonOfSignal(final Signal<?> signal, final JsonObject thingJson) {
+            this.signal = signal;
+            this.thingJson = thingJson;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<StreamingSubscriptionIndex> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        private ExtensionId() {}
+
+        @Override
+        public StreamingSubscriptionIndex createExtension(final ExtendedActorSystem system) {
+            return new StreamingSubscriptionIndex();
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link SignalSerializationCache}.
+ */
+public final class SignalSerializationCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final JsonObject EXTRA = JsonObject.newBuilder().set("attributes", JsonObject.empty()).build();
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    public void serializeSameSignalOncePerFormatAndExtra() {
+        final SignalSerializationCache underTest = newCache(10);
+        final Signal<?> signal = newSignal();
+
+        assertThat(underTest.serialize(signal, "format", EXTRA, this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(signal, "format", EXTRA.toBuilder().build(), this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(signal, "other-format", EXTRA, this::serialize)).isEqualTo("2");
+        assertThat(underTest.serialize(signal, "format", JsonObject.empty(), this::serialize)).isEqualTo("3");
+        assertThat(serializations).hasValue(3);
+    }
+
+    @Test
+    public void cacheTextualAndBinarySerializationsSeparately() {
+        final SignalSerializationCache underTest = newCache(10);
+        final Signal<?> signal = newSignal();
+
+        assertThat(underTest.serialize(signal, "format", EXTRA, this::serialize)).isEqualTo("1");
+        assertThat(underTest.serializeToBytes(signal, "format", EXTRA, this::serializeToBytes)).isEqualTo(bytes("2"));
+        assertThat(underTest.serializeToBytes(signal, "format", EXTRA, this::serializeToBytes)).isEqualTo(bytes("2"));
+        assertThat(underTest.serialize(signal, "format", EXTRA, this::serialize)).isEqualTo("1");
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    public void equalSignalsAreSerializedSeparately() {
+        final SignalSerializationCache underTest = newCache(10);
+
+        assertThat(underTest.serialize(newSignal(), "format", EXTRA, this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(newSignal(), "format", EXTRA, this::serialize)).isEqualTo("2");
+    }
+
+    @Test
+    public void serializeEachTimeIfDisabled() {
+        final SignalSerializationCache underTest = newCache(0);
+        final Signal<?> signal = newSignal();
+
+        assertThat(underTest.serialize(signal, "format", EXTRA, this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(signal, "format", EXTRA, this::serialize)).isEqualTo("2");
+    }
+
+    private String serialize() {
+        return String.valueOf(serializations.incrementAndGet());
+    }
+
+    private byte[] serializeToBytes() {
+        return bytes(serialize());
+    }
+
+    private static byte[] bytes(final String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Signal<?> newSignal() {
+        return ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+    }
+
+    private static SignalSerializationCache newCache(final int maximumSize) {
+        return SignalSerializationCache.of(DefaultCacheConfig.of(ConfigFactory.parseString(
+                "serialization-cache { maximum-size = " + maximumSize + ", expire-after-write = 10s }"),
+                "serialization-cache"));
+    }
+
+}
@@ -265,7 +265,7 @@ public final class StreamingSessionActorTest {
     private void setUpMockForTwinEventsSubscription() {
         doAnswer(invocation -> CompletableFuture.completedStage(null))
                 .when(mockSub)
-                .subscribe(any(), any(), any());
+                .subscribe(any(), any(), any(), any(), any());
     }
 
     private void subscribeForTwinEvents(final ActorRef underTest) {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.model.query.things.ThingPredicateCache;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingSubscriptionIndex}.
+ */
+public final class StreamingSubscriptionIndexTest {
+
+    private static final AuthorizationSubject SUBJECT = AuthorizationSubject.newInstance("ditto:ditto");
+    private static final AuthorizationContext AUTH_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, SUBJECT);
+    private static final String FILTER = "gt(attributes/counter,5)";
+
+    private StreamingSubscriptionIndex underTest;
+
+    @Before
+    public void setUp() {
+        underTest = StreamingSubscriptionIndex.newInstance();
+    }
+
+    @Test
+    public void sessionsWithSameSubscriptionShareGroup() {
+        final StreamingSubscriptionIndex.SubscriptionGroup first =
+                underTest.acquire(AUTH_CONTEXT, List.of("a", "b"), FILTER, compile(FILTER));
+        final StreamingSubscriptionIndex.SubscriptionGroup second =
+                underTest.acquire(AUTH_CONTEXT, List.of("b", "a"), FILTER, compile(FILTER));
+        final StreamingSubscriptionIndex.SubscriptionGroup other =
+                underTest.acquire(AUTH_CONTEXT, List.of("a", "b"), null, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void groupIsRemovedAfterLastSessionReleasedIt() {
+        final StreamingSubscriptionIndex.SubscriptionGroup first =
+                underTest.acquire(AUTH_CONTEXT, List.of(), null, null);
+        final StreamingSubscriptionIndex.SubscriptionGroup second =
+                underTest.acquire(AUTH_CONTEXT, List.of(), null, null);
+
+        underTest.release(first);
+        assertThat(underTest.size()).isEqualTo(1);
+
+        underTest.release(second);
+        assertThat(underTest.size()).isZero();
+
+        assertThat(underTest.acquire(AUTH_CONTEXT, List.of(), null, null)).isNotSameAs(first);
+    }
+
+    @Test
+    public void groupFiltersByReadSubjects() {
+        final StreamingSubscriptionIndex.SubscriptionGroup group =
+                underTest.acquire(AUTH_CONTEXT, List.of(), null, null);
+
+        assertThat(group.test(counterModified("ns:thing", 1, SUBJECT))).isTrue();
+        assertThat(group.test(counterModified("ns:thing", 1, AuthorizationSubject.newInstance("other:subject"))))
+                .isFalse();
+    }
+
+    @Test
+    public void groupFiltersByNamespaces() {
+        final StreamingSubscriptionIndex.SubscriptionGroup group =
+                underTest.acquire(AUTH_CONTEXT, List.of("ns"), null, null);
+
+        assertThat(group.test(counterModified("ns:thing", 1, SUBJECT))).isTrue();
+        assertThat(group.test(counterModified("other.ns:thing", 1, SUBJECT))).isFalse();
+    }
+
+    @Test
+    public void groupFiltersByRqlFilter() {
+        final StreamingSubscriptionIndex.SubscriptionGroup group =
+                underTest.acquire(AUTH_CONTEXT, List.of(), FILTER, compile(FILTER));
+
+        assertThat(group.test(counterModified("ns:thing", 6, SUBJECT))).isTrue();
+        assertThat(group.test(counterModified("ns:thing", 5, SUBJECT))).isFalse();
+    }
+
+    @Test
+    public void groupsOfSameSignalAgree() {
+        final StreamingSubscriptionIndex.SubscriptionGroup matching =
+                underTest.acquire(AUTH_CONTEXT, List.of(), FILTER, compile(FILTER));
+        final StreamingSubscriptionIndex.SubscriptionGroup notMatching =
+                underTest.acquire(AUTH_CONTEXT, List.of(), "lt(attributes/counter,5)",
+                        compile("lt(attributes/counter,5)"));
+        final Signal<?> signal = counterModified("ns:thing", 6, SUBJECT);
+
+        assertThat(matching.test(signal)).isTrue();
+        assertThat(notMatching.test(signal)).isFalse();
+        assertThat(matching.test(signal)).isTrue();
+        assertThat(notMatching.test(signal)).isFalse();
+    }
+
+    private static CompiledThingPredicate compile(final String filter) {
+        return ThingPredicateCache.modelBased().get(filter, DittoHeaders.empty());
+    }
+
+    private static Signal<?> counterModified(final String thingId, final int counter,
+            final AuthorizationSubject readSubject) {
+
+        return AttributeModified.of(ThingId.of(thingId), JsonPointer.of("counter"), JsonValue.of(counter), 1L,
+                DittoHeaders.newBuilder().readGrantedSubjects(List.of(readSubject)).build());
+    }
+
+}
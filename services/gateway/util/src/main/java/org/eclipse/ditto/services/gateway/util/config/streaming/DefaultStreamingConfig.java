@@ -19,6 +19,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.models.acks.config.DefaultAcknowledgementConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
@@ -37,6 +39,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
     private final GatewaySignalEnrichmentConfig signalEnrichmentConfig;
+    private final CacheConfig serializationCacheConfig;
 
     private DefaultStreamingConfig(final ScopedConfig scopedConfig) {
         sessionCounterScrapeInterval =
@@ -47,6 +50,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
         signalEnrichmentConfig = DefaultGatewaySignalEnrichmentConfig.of(scopedConfig);
+        serializationCacheConfig = DefaultCacheConfig.of(scopedConfig, SERIALIZATION_CACHE_CONFIG_PATH);
     }
 
     /**
@@ -96,6 +100,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return searchIdleTimeout;
     }
 
+    @Override
+    public CacheConfig getSerializationCacheConfig() {
+        return serializationCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -111,13 +120,14 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 Objects.equals(signalEnrichmentConfig, that.signalEnrichmentConfig) &&
                 Objects.equals(acknowledgementConfig, that.acknowledgementConfig) &&
                 Objects.equals(websocketConfig, that.websocketConfig) &&
-                Objects.equals(sseConfig, that.sseConfig);
+                Objects.equals(sseConfig, that.sseConfig) &&
+                Objects.equals(serializationCacheConfig, that.serializationCacheConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, signalEnrichmentConfig, acknowledgementConfig,
-                websocketConfig, sseConfig, searchIdleTimeout);
+                websocketConfig, sseConfig, searchIdleTimeout, serializationCacheConfig);
     }
 
     @Override
@@ -130,6 +140,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
                 ", sseConfig=" + sseConfig +
+                ", serializationCacheConfig=" + serializationCacheConfig +
                 "]";
     }
 }
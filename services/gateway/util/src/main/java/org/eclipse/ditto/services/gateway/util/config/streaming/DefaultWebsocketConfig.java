@@ -32,6 +32,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
     private final int publisherBackpressureBufferSize;
     private final double throttlingRejectionFactor;
     private final ThrottlingConfig throttlingConfig;
+    private final long maxMessageSize;
 
     private DefaultWebsocketConfig(final ScopedConfig scopedConfig) {
         subscriberBackpressureQueueSize =
@@ -41,6 +42,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         throttlingRejectionFactor =
                 scopedConfig.getDouble(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath());
         throttlingConfig = ThrottlingConfig.of(scopedConfig);
+        maxMessageSize = scopedConfig.getBytes(WebsocketConfigValue.MAX_MESSAGE_SIZE.getConfigPath());
     }
 
     /**
@@ -75,6 +77,11 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return throttlingConfig;
     }
 
+    @Override
+    public long getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -87,13 +94,14 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return subscriberBackpressureQueueSize == that.subscriberBackpressureQueueSize &&
                 publisherBackpressureBufferSize == that.publisherBackpressureBufferSize &&
                 Double.compare(throttlingRejectionFactor, that.throttlingRejectionFactor) == 0 &&
+                maxMessageSize == that.maxMessageSize &&
                 Objects.equals(throttlingConfig, that.throttlingConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(subscriberBackpressureQueueSize, publisherBackpressureBufferSize,
-                throttlingRejectionFactor, throttlingConfig);
+                throttlingRejectionFactor, throttlingConfig, maxMessageSize);
     }
 
     @Override
@@ -103,6 +111,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
                 ", publisherBackpressureBufferSize=" + publisherBackpressureBufferSize +
                 ", throttlingRejectionFactor=" + throttlingRejectionFactor +
                 ", throttlingConfig=" + throttlingConfig +
+                ", maxMessageSize=" + maxMessageSize +
                 "]";
     }
 
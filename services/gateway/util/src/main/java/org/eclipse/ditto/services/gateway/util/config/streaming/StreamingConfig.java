@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 import com.typesafe.config.Config;
@@ -32,6 +33,13 @@ public interface StreamingConfig {
      */
     String CONFIG_PATH = "streaming";
 
+    /**
+     * Config path of the serialization cache relative to the streaming config.
+     *
+     * @since 2.0.0
+     */
+    String SERIALIZATION_CACHE_CONFIG_PATH = "serialization-cache";
+
     /**
      * Returns the session counter update interval.
      *
@@ -83,6 +91,15 @@ public interface StreamingConfig {
      */
     Duration getSearchIdleTimeout();
 
+    /**
+     * Returns the config of the cache of serialized signals which are published to several streaming sessions of a
+     * gateway node. A maximum size of 0 disables the cache.
+     *
+     * @return the serialization cache config.
+     * @since 2.0.0
+     */
+    CacheConfig getSerializationCacheConfig();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -97,6 +114,7 @@ public interface StreamingConfig {
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .withFallback(getSignalEnrichmentConfig().render())
+                .withFallback(getSerializationCacheConfig().render().atKey(SERIALIZATION_CACHE_CONFIG_PATH))
                 .atKey(CONFIG_PATH);
     }
 
@@ -62,6 +62,15 @@ public interface WebsocketConfig {
      */
     ThrottlingConfig getThrottlingConfig();
 
+    /**
+     * Returns the maximum size of a single incoming web socket message after its frames were assembled.
+     * The size of text messages is measured in characters, the size of binary messages in bytes.
+     *
+     * @return the maximum message size.
+     * @since 2.0.0
+     */
+    long getMaxMessageSize();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -74,6 +83,7 @@ public interface WebsocketConfig {
         map.put(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath(),
                 getPublisherBackpressureBufferSize());
         map.put(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath(), getThrottlingRejectionFactor());
+        map.put(WebsocketConfigValue.MAX_MESSAGE_SIZE.getConfigPath(), getMaxMessageSize());
         return ConfigFactory.parseMap(map)
                 .withFallback(getThrottlingConfig().render())
                 .atKey(CONFIG_PATH);
@@ -98,7 +108,14 @@ public interface WebsocketConfig {
         /**
          * The factor of maximum throughput at which rejections were sent.
          */
-        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25);
+        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25),
+
+        /**
+         * The maximum size of a single incoming web socket message.
+         *
+         * @since 2.0.0
+         */
+        MAX_MESSAGE_SIZE("max-message-size", 1024 * 1024L);
 
         private final String path;
         private final Object defaultValue;
@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -46,7 +47,8 @@ public final class DefaultStreamingConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultStreamingConfig.class, areImmutable(),
-                provided(Config.class, WebsocketConfig.class, SseConfig.class, GatewaySignalEnrichmentConfig.class)
+                provided(Config.class, WebsocketConfig.class, SseConfig.class, GatewaySignalEnrichmentConfig.class,
+                        CacheConfig.class)
                         .areAlsoImmutable());
     }
 
@@ -94,6 +96,12 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getLimit())
                 .as("websocket.throttling.limit")
                 .isEqualTo(9);
+        softly.assertThat(underTest.getSerializationCacheConfig().getMaximumSize())
+                .as("serialization-cache.maximum-size")
+                .isEqualTo(100L);
+        softly.assertThat(underTest.getSerializationCacheConfig().getExpireAfterWrite())
+                .as("serialization-cache.expire-after-write")
+                .isEqualTo(Duration.ofSeconds(3L));
     }
 
 }
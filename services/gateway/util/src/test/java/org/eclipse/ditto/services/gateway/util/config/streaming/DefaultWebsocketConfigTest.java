@@ -74,6 +74,9 @@ public final class DefaultWebsocketConfigTest {
                 .as(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath())
                 .isCloseTo((Double) WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getDefaultValue(),
                         Percentage.withPercentage(1.0));
+        softly.assertThat(underTest.getMaxMessageSize())
+                .as(WebsocketConfigValue.MAX_MESSAGE_SIZE.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.MAX_MESSAGE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -95,6 +98,9 @@ public final class DefaultWebsocketConfigTest {
         softly.assertThat(underTest.getThrottlingConfig().getLimit())
                 .as("throttling.limit")
                 .isEqualTo(9);
+        softly.assertThat(underTest.getMaxMessageSize())
+                .as(WebsocketConfigValue.MAX_MESSAGE_SIZE.getConfigPath())
+                .isEqualTo(64 * 1024L);
     }
 
     @Test
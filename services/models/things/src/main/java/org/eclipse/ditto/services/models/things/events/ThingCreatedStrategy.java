@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+package org.eclipse.ditto.services.models.things.events;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -10,12 +10,12 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+package org.eclipse.ditto.services.models.things.events;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.services.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.services.utils.events.AbstractEventStrategies;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
 import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
 import org.eclipse.ditto.signals.events.things.AclEntryModified;
@@ -11,4 +11,4 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 @org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault
-package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+package org.eclipse.ditto.services.models.things.events;
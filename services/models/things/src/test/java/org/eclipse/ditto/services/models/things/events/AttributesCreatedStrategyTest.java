@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+package org.eclipse.ditto.services.models.things.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -22,7 +22,7 @@ import org.eclipse.ditto.signals.events.things.AttributesCreated;
 import org.junit.Test;
 
 /**
- * Unit test for {@link org.eclipse.ditto.services.things.persistence.actors.strategies.events.AttributesCreatedStrategy}.
+ * Unit test for {@link org.eclipse.ditto.services.models.things.events.AttributesCreatedStrategy}.
  */
 public final class AttributesCreatedStrategyTest extends AbstractStrategyTest {
 
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+package org.eclipse.ditto.services.models.things.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -23,7 +23,7 @@ import org.junit.Test;
 
 /**
  * Unit test for
- * {@link org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingDefinitionCreatedStrategy}.
+ * {@link org.eclipse.ditto.services.models.things.events.ThingDefinitionCreatedStrategy}.
  */
 public final class ThingDefinitionCreatedStrategyTest extends AbstractStrategyTest {
 
@@ -13,7 +13,7 @@
 package org.eclipse.ditto.services.policies.persistence.actors.strategies.events;
 
 import org.eclipse.ditto.model.policies.Policy;
-import org.eclipse.ditto.services.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.services.utils.events.AbstractEventStrategies;
 import org.eclipse.ditto.signals.events.policies.PolicyCreated;
 import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
 import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
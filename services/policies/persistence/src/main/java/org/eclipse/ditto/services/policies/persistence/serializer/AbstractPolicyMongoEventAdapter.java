@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -29,6 +30,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJsonCodec;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
@@ -82,8 +84,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return DittoBsonJsonCodec.getInstance().toBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException(
                     "Unable to toJournal a non-'PolicyEvent' object! Was: " + event.getClass());
@@ -93,7 +94,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom((BsonValue) event));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -101,11 +102,11 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     }
 
     @Nullable
-    private Event tryToCreateEventFrom(final JsonValue json) {
+    private Event tryToCreateEventFrom(final BsonValue bsonValue) {
         try {
-            return createEventFrom(json);
+            return createEventFrom(toJsonObjectWithDefaultRevision(bsonValue));
         } catch (final JsonParseException | DittoRuntimeException e) {
-            final String message = MessageFormat.format("Could not deserialize PolicyEvent JSON: ''{0}''", json);
+            final String message = MessageFormat.format("Could not deserialize PolicyEvent JSON: ''{0}''", bsonValue);
             if (system != null) {
                 system.log().error(e, message);
             } else {
@@ -115,6 +116,23 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
         }
     }
 
+    private static JsonObject toJsonObjectWithDefaultRevision(final BsonValue bsonValue) {
+        if (bsonValue instanceof BsonDocument) {
+            return DittoBsonJsonCodec.getInstance()
+                    .toJsonObjectBuilder((BsonDocument) bsonValue)
+                    .set(Event.JsonFields.REVISION, Event.DEFAULT_REVISION)
+                    .build();
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue).asObject()
+                .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
+    }
+
+    /**
+     * Creates the event from its journal representation.
+     *
+     * @param json the JSON of the event which already contains the default revision.
+     * @return the event.
+     */
     protected abstract Event createEventFrom(final JsonValue json);
 
     /**
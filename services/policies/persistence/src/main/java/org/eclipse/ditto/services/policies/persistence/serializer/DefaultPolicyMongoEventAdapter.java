@@ -42,9 +42,7 @@ public final class DefaultPolicyMongoEventAdapter extends AbstractPolicyMongoEve
 
     @Override
     protected Event createEventFrom(final JsonValue json) {
-        final JsonObject jsonObject = json.asObject()
-                .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
-        return eventRegistry.parse(migrateComplex(migratePayload(jsonObject)), DittoHeaders.empty());
+        return eventRegistry.parse(migrateComplex(migratePayload(json.asObject())), DittoHeaders.empty());
     }
     @SuppressWarnings("squid:CallToDeprecatedMethod")
     private JsonObject migrateComplex(final JsonObject jsonObject) {
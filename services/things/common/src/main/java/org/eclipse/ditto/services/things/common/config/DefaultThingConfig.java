@@ -18,7 +18,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.DefaultSupervisorConfig;
 import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
@@ -38,11 +38,13 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final int maxGroupCommitSize;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        maxGroupCommitSize = scopedConfig.getPositiveIntOrThrow(ThingConfigValue.MAX_GROUP_COMMIT_SIZE);
     }
 
     /**
@@ -53,7 +55,7 @@ public final class DefaultThingConfig implements ThingConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultThingConfig of(final Config config) {
-        return new DefaultThingConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultThingConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, ThingConfigValue.values()));
     }
 
     @Override
@@ -71,6 +73,11 @@ public final class DefaultThingConfig implements ThingConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public int getMaxGroupCommitSize() {
+        return maxGroupCommitSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +89,13 @@ public final class DefaultThingConfig implements ThingConfig {
         final DefaultThingConfig that = (DefaultThingConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                maxGroupCommitSize == that.maxGroupCommitSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, maxGroupCommitSize);
     }
 
     @Override
@@ -96,6 +104,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 "supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", maxGroupCommitSize=" + maxGroupCommitSize +
                 "]";
     }
 
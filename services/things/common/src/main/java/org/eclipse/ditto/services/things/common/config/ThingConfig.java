@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.things.common.config;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
@@ -23,4 +24,46 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Returns the maximum number of events a thing persistence actor persists together. Values greater than 1 enable
+     * group commit: mutating commands arriving while events are being persisted are buffered and their events are
+     * written to the journal at once.
+     *
+     * @return the maximum number of events per group commit.
+     * @since 2.0.0
+     */
+    int getMaxGroupCommitSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of events persisted together; 1 disables group commit.
+         */
+        MAX_GROUP_COMMIT_SIZE("max-group-commit-size", 1);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -36,6 +37,7 @@ import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJsonCodec;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
@@ -144,8 +146,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return DittoBsonJsonCodec.getInstance().toBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -154,7 +155,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom((BsonValue) event));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -162,11 +163,11 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     }
 
     @Nullable
-    private Event tryToCreateEventFrom(final JsonValue json) {
+    private Event tryToCreateEventFrom(final BsonValue bsonValue) {
         try {
-            return createEventFrom(json);
+            return createEventFrom(toJsonObjectWithDefaultRevision(bsonValue));
         } catch (final JsonParseException | DittoRuntimeException e) {
-            final String message = MessageFormat.format("Could not deserialize ThingEvent JSON: ''{0}''", json);
+            final String message = MessageFormat.format("Could not deserialize ThingEvent JSON: ''{0}''", bsonValue);
             if (system != null) {
                 system.log().error(e, message);
             } else {
@@ -176,10 +177,18 @@ public final class ThingMongoEventAdapter implements EventAdapter {
         }
     }
 
-    private Event createEventFrom(final JsonValue json) {
-        final JsonObject jsonObject = json.asObject()
+    private static JsonObject toJsonObjectWithDefaultRevision(final BsonValue bsonValue) {
+        if (bsonValue instanceof BsonDocument) {
+            return DittoBsonJsonCodec.getInstance()
+                    .toJsonObjectBuilder((BsonDocument) bsonValue)
+                    .set(Event.JsonFields.REVISION, Event.DEFAULT_REVISION)
+                    .build();
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue).asObject()
                 .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
+    }
 
+    private Event createEventFrom(final JsonObject jsonObject) {
         return eventRegistry.parse(migrateComplex(migratePayload(jsonObject)), DittoHeaders.empty());
     }
 
@@ -1079,6 +1079,52 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void ensureResponseOrderAndSequenceNumberCorrectnessWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.max-group-commit-size = 3"));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+
+                final CreateThingResponse createThingResponse = expectMsgClass(CreateThingResponse.class);
+                assertThingInResponse(createThingResponse.getThingCreated().orElse(null), thing);
+
+                // send a burst of modifications, which are persisted in groups - results in sequence number 8
+                final JsonPointer attributeKey = JsonFactory.newPointer("attrKey");
+                final int modifications = 7;
+                for (int i = 1; i <= modifications; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(
+                        Thing.JsonFields.REVISION.toString() + "," + "attributes", JSON_PARSE_OPTIONS);
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(fieldSelector)
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+
+                for (int i = 1; i <= modifications; i++) {
+                    expectMsgEquals(modifyAttributeResponse(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2,
+                            false));
+                }
+                final Thing thingExpected = ThingsModelFactory.newThingBuilder(thing)
+                        .setAttribute(attributeKey, JsonValue.of(modifications))
+                        .setRevision(modifications + 1)
+                        .build();
+                expectMsgEquals(retrieveThingResponse(thingExpected, thingExpected.toJson(fieldSelector),
+                        dittoHeadersV2));
+            }
+        };
+    }
+
     @Test
     public void ensureSequenceNumberCorrectnessAfterRecovery() {
         new TestKit(actorSystem) {
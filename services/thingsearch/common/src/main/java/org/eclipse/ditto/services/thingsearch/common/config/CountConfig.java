@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for counting things.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Indicates whether the results of counts are cached.
+     *
+     * @return {@code true} if count results are cached, {@code false} else.
+     */
+    boolean isCacheEnabled();
+
+    /**
+     * Returns the configuration of the cache of count results. Its expiry determines how stale a cached count may be.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Returns how many search index entries are sampled to estimate an approximate count. Exact counts are computed
+     * for collections not larger than this.
+     *
+     * @return the sample size.
+     */
+    int getApproximateSampleSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the results of counts are cached.
+         */
+        CACHE_ENABLED("cache-enabled", true),
+
+        /**
+         * Determines how many search index entries are sampled to estimate an approximate count.
+         */
+        APPROXIMATE_SAMPLE_SIZE("approximate-sample-size", 10_000);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -31,12 +31,15 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final int incrementalUpdateCacheSize;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
         maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        incrementalUpdateCacheSize = persistenceStreamScopedConfig.getNonNegativeIntOrThrow(
+                PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -58,6 +61,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize;
     }
 
+    @Override
+    public int getIncrementalUpdateCacheSize() {
+        return incrementalUpdateCacheSize;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +86,20 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                incrementalUpdateCacheSize == that.incrementalUpdateCacheSize &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, incrementalUpdateCacheSize, defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", incrementalUpdateCacheSize=" + incrementalUpdateCacheSize +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
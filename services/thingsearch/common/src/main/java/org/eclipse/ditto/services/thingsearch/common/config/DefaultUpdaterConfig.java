@@ -38,6 +38,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final int maxBulkSize;
     private final Duration shardingStatePollInterval;
     private final boolean eventProcessingActive;
+    private final int maxCachedThingSize;
     private final BackgroundSyncConfig backgroundSyncConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
@@ -47,6 +48,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getDuration(UpdaterConfigValue.SHARDING_STATE_POLL_INTERVAL.getConfigPath());
         eventProcessingActive =
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
+        maxCachedThingSize =
+                updaterScopedConfig.getNonNegativeIntOrThrow(UpdaterConfigValue.MAX_CACHED_THING_SIZE);
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
     }
 
@@ -82,6 +85,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return eventProcessingActive;
     }
 
+    @Override
+    public int getMaxCachedThingSize() {
+        return maxCachedThingSize;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
@@ -98,6 +106,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         final DefaultUpdaterConfig that = (DefaultUpdaterConfig) o;
         return maxBulkSize == that.maxBulkSize &&
                 eventProcessingActive == that.eventProcessingActive &&
+                maxCachedThingSize == that.maxCachedThingSize &&
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig);
@@ -106,7 +115,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                backgroundSyncConfig);
+                maxCachedThingSize, backgroundSyncConfig);
     }
 
     @Override
@@ -116,6 +125,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", maxBulkSize=" + maxBulkSize +
                 ", shardingStatePollInterval=" + shardingStatePollInterval +
                 ", eventProcessingActive=" + eventProcessingActive +
+                ", maxCachedThingSize=" + maxCachedThingSize +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 "]";
     }
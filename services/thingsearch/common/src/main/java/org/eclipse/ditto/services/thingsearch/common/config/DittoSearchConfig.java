@@ -52,6 +52,7 @@ public final class DittoSearchConfig implements SearchConfig {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final StreamConfig streamConfig;
+    private final CountConfig countConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -67,6 +68,7 @@ public final class DittoSearchConfig implements SearchConfig {
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
         streamConfig = DefaultStreamConfig.of(configWithFallback);
+        countConfig = DefaultCountConfig.of(configWithFallback);
     }
 
     /**
@@ -106,6 +108,11 @@ public final class DittoSearchConfig implements SearchConfig {
         return streamConfig;
     }
 
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -165,13 +172,15 @@ public final class DittoSearchConfig implements SearchConfig {
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(countConfig, that.countConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig,
+                countConfig);
     }
 
     @Override
@@ -187,6 +196,7 @@ public final class DittoSearchConfig implements SearchConfig {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", streamConfig=" + streamConfig +
+                ", countConfig=" + countConfig +
                 "]";
     }
 
@@ -29,6 +29,15 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns how many search index documents are remembered for incremental updates. A value of 0 disables
+     * incremental updates; search index documents are then always replaced as a whole.
+     *
+     * @return the maximum number of remembered search index documents.
+     * @since 2.0.0
+     */
+    int getIncrementalUpdateCacheSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +48,12 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * How many search index documents are remembered for incremental updates; 0 disables incremental updates.
+         */
+        INCREMENTAL_UPDATE_CACHE_SIZE("incremental-update-cache-size", 0);
 
         private final String configPath;
         private final Object defaultValue;
@@ -61,6 +61,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings for counting things.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CountConfig getCountConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
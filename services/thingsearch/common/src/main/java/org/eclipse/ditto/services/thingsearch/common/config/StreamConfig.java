@@ -45,6 +45,14 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the number of partitions of the change queue of a search updater node.
+     * Each partition is written into the search index by its own stream.
+     *
+     * @return the number of partitions.
+     */
+    int getPartitions();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +92,12 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The number of partitions of the change queue, each with its own stream.
+         */
+        PARTITIONS("partitions", 1);
 
         private final String configPath;
         private final Object defaultValue;
@@ -53,6 +53,14 @@ public interface UpdaterConfig {
      */
     boolean isEventProcessingActive();
 
+    /**
+     * Returns the maximum estimated size in characters of the Thing JSON which a ThingUpdater keeps in order to apply
+     * Thing events to it. The search updater retrieves a kept Thing only after a revision gap.
+     *
+     * @return the maximum size of a kept Thing, or 0 if ThingUpdaters should not keep Things.
+     */
+    int getMaxCachedThingSize();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -85,7 +93,12 @@ public interface UpdaterConfig {
         /**
          * Determines whether event processing should be active.
          */
-        EVENT_PROCESSING_ACTIVE("event-processing-active", true);
+        EVENT_PROCESSING_ACTIVE("event-processing-active", true),
+
+        /**
+         * Determines the maximum estimated size of a Thing kept by a ThingUpdater. 0 disables keeping Things.
+         */
+        MAX_CACHED_THING_SIZE("max-cached-thing-size", 0);
 
         private final String path;
         private final Object defaultValue;
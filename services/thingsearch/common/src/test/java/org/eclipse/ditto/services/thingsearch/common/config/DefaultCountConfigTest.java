@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig.CountConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig.CacheConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultCountConfig}.
+ */
+public final class DefaultCountConfigTest {
+
+    private static Config countTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countTestConfig = ConfigFactory.load("count-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isCacheEnabled())
+                .as(CountConfigValue.CACHE_ENABLED.getConfigPath())
+                .isEqualTo(CountConfigValue.CACHE_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getApproximateSampleSize())
+                .as(CountConfigValue.APPROXIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(CountConfigValue.APPROXIMATE_SAMPLE_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(countTestConfig);
+
+        softly.assertThat(underTest.isCacheEnabled())
+                .as(CountConfigValue.CACHE_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(100L);
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.getApproximateSampleSize())
+                .as(CountConfigValue.APPROXIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(500);
+    }
+
+}
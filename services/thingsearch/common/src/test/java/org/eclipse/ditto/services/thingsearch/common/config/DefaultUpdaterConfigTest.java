@@ -68,6 +68,9 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.MAX_IDLE_TIME.getDefaultValue());
+        softly.assertThat(underTest.getMaxCachedThingSize())
+                .as(UpdaterConfigValue.MAX_CACHED_THING_SIZE.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.MAX_CACHED_THING_SIZE.getDefaultValue());
     }
 
     @Test
@@ -85,6 +88,9 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath()));
+        softly.assertThat(underTest.getMaxCachedThingSize())
+                .as(UpdaterConfigValue.MAX_CACHED_THING_SIZE.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getInt(UpdaterConfigValue.MAX_CACHED_THING_SIZE.getConfigPath()));
     }
 
 }
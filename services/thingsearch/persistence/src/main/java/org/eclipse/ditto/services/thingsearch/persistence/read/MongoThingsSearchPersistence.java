@@ -13,13 +13,18 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.time.Duration;
@@ -31,6 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -39,6 +45,8 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -62,6 +70,7 @@ import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -85,6 +94,11 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    /**
+     * Batch size of cursors without limit. Without it, the driver fetches batches as small as the downstream demand.
+     */
+    private static final int UNLIMITED_CURSOR_BATCH_SIZE = 1000;
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
@@ -191,6 +205,44 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .log("count");
     }
 
+    @Override
+    public Source<Long, NotUsed> approximateCount(final Query query, final List<String> authorizationSubjectIds,
+            final int sampleSize) {
+
+        checkNotNull(query, "query");
+
+        // the estimated document count is read from the collection metadata without scanning any document
+        return Source.fromPublisher(collection.estimatedDocumentCount())
+                .flatMapConcat(total -> total <= sampleSize
+                        ? count(query, authorizationSubjectIds)
+                        : estimateCount(query, authorizationSubjectIds, sampleSize, total))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("approximateCount");
+    }
+
+    private Source<Long, NotUsed> estimateCount(final Query query, final List<String> authorizationSubjectIds,
+            final int sampleSize, final long total) {
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        log.debug("estimate count with query filter <{}> and sample size <{}>.", queryFilter, sampleSize);
+
+        // match the filter against a random sample and extrapolate the share of matching documents
+        final List<Bson> pipeline = List.of(
+                Aggregates.sample(sampleSize),
+                Aggregates.match(queryFilter),
+                Aggregates.count(PersistenceConstants.FIELD_COUNT)
+        );
+        return Source.fromPublisher(collection.aggregate(pipeline)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .map(document -> ((Number) document.get(PersistenceConstants.FIELD_COUNT)).longValue())
+                .orElse(Source.single(0L))
+                .map(matches -> {
+                    final long estimation = Math.round((double) matches * total / sampleSize);
+                    // apply skip and limit like an exact count does
+                    return Math.max(0L, Math.min(estimation - query.getSkip(), query.getLimit()));
+                });
+    }
+
     @Override
     public Source<Long, NotUsed> sudoCount(final Query query) {
         return count(query, null);
@@ -205,20 +257,44 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        MongoThingsSearchPersistence::toId))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
+    @Override
+    public Source<ResultList<JsonObject>, NotUsed> findAllWithIndexProjection(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+        final SearchIndexProjection searchIndexProjection = SearchIndexProjection.of(authorizationSubjectIds);
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime,
+                getIndexProjection(query.getSortOptions()))
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        document -> searchIndexProjection.project(document, fields)))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllWithIndexProjection");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, projection)
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
@@ -226,7 +302,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -238,7 +315,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -247,7 +323,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                         .projection(projection);
         final FindPublisher<Document> findPublisherWithLimit = limit != null
                 ? findPublisher.limit(limit)
-                : findPublisher;
+                : findPublisher.batchSize(UNLIMITED_CURSOR_BATCH_SIZE);
         final FindPublisher<Document> findPublisherWithMaxQueryTime = maxQueryTime != null
                 ? findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
                 : findPublisherWithLimit;
@@ -271,34 +347,57 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
-            final List<SortOption> sortOptions) {
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
+            final List<SortOption> sortOptions, final Function<Document, T> mapper) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(mapAll(resultsPlus0ne, mapper), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(mapAll(results, mapper), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
         return pagedResultList;
     }
 
-    private static List<ThingId> toIds(final List<Document> docs) {
+    private static <T> List<T> mapAll(final List<Document> docs, final Function<Document, T> mapper) {
         return docs.stream()
-                .map(MongoThingsSearchPersistence::toId)
+                .map(mapper)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Project the fields required to rebuild the things from the search index: the hierarchical thing copy, which
+     * contains the sort keys of the thing, and the pointers and permissions of the flattened values.
+     *
+     * @param sortOptions sort options of the query.
+     * @return the projection.
+     */
+    private static Bson getIndexProjection(final List<SortOption> sortOptions) {
+        final Document projection = new Document()
+                .append(FIELD_ID, true)
+                .append(FIELD_SORTING, true)
+                .append(FIELD_PATH_KEY, true)
+                .append(FIELD_GRANTED_PATH, true)
+                .append(FIELD_INTERNAL + DOT + FIELD_REVOKED, true);
+        // sort keys inside the thing copy must not be projected twice
+        GetSortBsonVisitor.projections(sortOptions)
+                .keySet()
+                .stream()
+                .filter(path -> !path.startsWith(FIELD_SORTING + DOT))
+                .forEach(path -> projection.append(path, true));
+        return projection;
+    }
+
     private static ThingId toId(final Document doc) {
         return ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
     }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Rebuilds the JSON of a thing from its search index document for a set of authorization subjects.
+ * <p>
+ * The values are taken from the hierarchical thing copy {@code s}; whether a value is visible is decided by the
+ * granted and revoked subjects of the flattened entry with the same pointer in {@code d}. Values without such an entry
+ * are hidden. Consequently the result may differ from the thing retrieved from the things service:
+ * </p>
+ * <ul>
+ * <li>it reflects the state of the search index, which is eventually consistent with the things service,</li>
+ * <li>arrays are truncated to the maximum array size of the search index,</li>
+ * <li>values which are too long to be indexed are missing, and</li>
+ * <li>the inlined policy {@code _policy} is never contained.</li>
+ * </ul>
+ */
+@Immutable
+final class SearchIndexProjection {
+
+    private static final String SPECIAL_FIELD_PREFIX = "_";
+
+    private final Set<String> authorizationSubjectIds;
+
+    private SearchIndexProjection(final Set<String> authorizationSubjectIds) {
+        this.authorizationSubjectIds = authorizationSubjectIds;
+    }
+
+    /**
+     * Create a projection for the given authorization subjects.
+     *
+     * @param authorizationSubjectIds IDs of the subjects whose READ permission is evaluated.
+     * @return the projection.
+     */
+    static SearchIndexProjection of(final Collection<String> authorizationSubjectIds) {
+        return new SearchIndexProjection(Set.copyOf(authorizationSubjectIds));
+    }
+
+    /**
+     * Project a search index document onto the JSON of the thing visible to the authorization subjects.
+     *
+     * @param document the search index document containing at least the fields {@code s}, {@code d.k}, {@code d.g}
+     * and {@code d.r}.
+     * @param fields fields to select, or null to select all regular fields of the thing.
+     * @return the visible JSON of the thing.
+     */
+    JsonObject project(final Document document, @Nullable final JsonFieldSelector fields) {
+        final BsonDocument bsonDocument = BsonUtil.toBsonDocument(document);
+        final Map<String, Boolean> visibility =
+                readVisibility(bsonDocument.getArray(FIELD_INTERNAL, new BsonArray()));
+        final JsonObject thing = projectObject(JsonPointer.empty(),
+                bsonDocument.getDocument(FIELD_SORTING, new BsonDocument()), visibility)
+                .map(JsonValue::asObject)
+                .orElseGet(JsonObject::empty);
+        if (fields != null) {
+            return thing.get(fields);
+        } else {
+            return thing.stream()
+                    .filter(field -> !field.getKeyName().startsWith(SPECIAL_FIELD_PREFIX))
+                    .collect(JsonCollectors.fieldsToObject());
+        }
+    }
+
+    private Map<String, Boolean> readVisibility(final BsonArray flattenedValues) {
+        final Map<String, Boolean> visibility = new HashMap<>();
+        for (final BsonValue flattenedValue : flattenedValues) {
+            if (flattenedValue.isDocument()) {
+                final BsonDocument entry = flattenedValue.asDocument();
+                final BsonValue key = entry.get(FIELD_INTERNAL_KEY);
+                if (key != null && key.isString()) {
+                    // all entries of one pointer are computed from the same permissions
+                    visibility.putIfAbsent(key.asString().getValue(), isVisible(entry));
+                }
+            }
+        }
+        return visibility;
+    }
+
+    private boolean isVisible(final BsonDocument entry) {
+        return containsAnySubject(entry.getArray(FIELD_GRANTED, new BsonArray())) &&
+                !containsAnySubject(entry.getArray(FIELD_REVOKED, new BsonArray()));
+    }
+
+    private boolean containsAnySubject(final BsonArray subjects) {
+        return subjects.stream()
+                .filter(BsonValue::isString)
+                .anyMatch(subject -> authorizationSubjectIds.contains(subject.asString().getValue()));
+    }
+
+    private static Optional<JsonValue> projectValue(final JsonPointer pointer, final BsonValue value,
+            final Map<String, Boolean> visibility) {
+
+        if (value.isDocument()) {
+            return projectObject(pointer, value.asDocument(), visibility);
+        } else if (value.isArray()) {
+            return projectArray(pointer, value.asArray(), visibility);
+        } else if (isVisible(pointer, visibility)) {
+            return Optional.of(toJsonValue(value));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<JsonValue> projectObject(final JsonPointer pointer, final BsonDocument document,
+            final Map<String, Boolean> visibility) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            // set as field because a key with slashes must not be interpreted as pointer
+            final JsonKey key = JsonKey.of(KeyEscapeUtil.unescape(entry.getKey()));
+            projectValue(pointer.addLeaf(key), entry.getValue(), visibility)
+                    .ifPresent(value -> builder.set(JsonFactory.newField(key, value)));
+        }
+        final JsonObject projected = builder.build();
+        return keepIfNotEmptyOrVisible(projected, projected.isEmpty(), document.isEmpty(), pointer, visibility);
+    }
+
+    private static Optional<JsonValue> projectArray(final JsonPointer pointer, final BsonArray array,
+            final Map<String, Boolean> visibility) {
+
+        // array elements are indexed with the pointer of the array itself
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        for (final BsonValue element : array) {
+            projectValue(pointer, element, visibility).ifPresent(builder::add);
+        }
+        final JsonArray projected = builder.build();
+        return keepIfNotEmptyOrVisible(projected, projected.isEmpty(), array.isEmpty(), pointer, visibility);
+    }
+
+    private static Optional<JsonValue> keepIfNotEmptyOrVisible(final JsonValue projected,
+            final boolean isProjectedEmpty,
+            final boolean wasEmpty,
+            final JsonPointer pointer,
+            final Map<String, Boolean> visibility) {
+
+        if (!isProjectedEmpty) {
+            return Optional.of(projected);
+        } else if (wasEmpty && (pointer.isEmpty() || isVisible(pointer, visibility))) {
+            // empty objects and arrays have an index entry of their own
+            return Optional.of(projected);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isVisible(final JsonPointer pointer, final Map<String, Boolean> visibility) {
+        return visibility.getOrDefault(pointer.toString(), false);
+    }
+
+    private static JsonValue toJsonValue(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case STRING:
+                return JsonValue.of(value.asString().getValue());
+            case INT32:
+                return JsonValue.of(value.asInt32().getValue());
+            case INT64:
+                return JsonValue.of(value.asInt64().getValue());
+            case DOUBLE:
+                return JsonValue.of(value.asDouble().getValue());
+            case BOOLEAN:
+                return JsonValue.of(value.asBoolean().getValue());
+            default:
+                // BSON types without JSON counterpart become null
+                return JsonValue.nullLiteral();
+        }
+    }
+
+}
@@ -18,6 +18,8 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -58,6 +60,23 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns an estimation of the count of documents found by the given {@code query}. Implementations which cannot
+     * estimate counts return the exact count.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param sampleSize how many documents to examine for the estimation.
+     * @return an {@link Source} which emits the estimated count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Long, NotUsed> approximateCount(final Query query, final List<String> authorizationSubjectIds,
+            final int sampleSize) {
+
+        return count(query, authorizationSubjectIds);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -79,6 +98,25 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the things of all found documents as far as they are visible to the authorization subjects according to
+     * the search index. The things are rebuilt from the search index and may therefore differ from the things
+     * retrieved from the things service: they are only eventually consistent, arrays are truncated to the maximum
+     * array size of the search index and the inlined policy is never contained.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields fields to select, or null to select all regular fields of the things.
+     * @return an {@link Source} which emits the things.
+     * @throws NullPointerException if {@code query} or {@code authorizationSubjectIds} is {@code null}.
+     * @since 2.0.0
+     */
+    Source<ResultList<JsonObject>, NotUsed> findAllWithIndexProjection(Query query,
+            List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces,
+            @Nullable JsonFieldSelector fields);
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
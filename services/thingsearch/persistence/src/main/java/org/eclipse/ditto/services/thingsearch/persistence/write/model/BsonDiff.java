@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Computes an update document which transforms one search index document into another one.
+ * <p>
+ * The hierarchical sort field {@code s} is compared field by field and updated via {@code $set} and {@code $unset}
+ * of the changed paths. The changed elements of the flattened array {@code d} are set by index. Every update changes
+ * the revision element of {@code d}, and MongoDB rejects updates which combine {@code $set} of an element with
+ * {@code $pull} or {@code $push} on the same array; therefore {@code d} is replaced as a whole if it shrank or if
+ * most of its elements changed.
+ * </p>
+ */
+@NotThreadSafe
+final class BsonDiff {
+
+    private static final String SET = "$set";
+    private static final String UNSET = "$unset";
+    private static final char DOT = '.';
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+    private boolean sortingReplaced;
+    private boolean internalReplaced;
+
+    private BsonDiff() {
+        set = new BsonDocument();
+        unset = new BsonDocument();
+        sortingReplaced = false;
+        internalReplaced = false;
+    }
+
+    /**
+     * Compute the update document which transforms a search index document into another one.
+     *
+     * @param previous the search index document before the update.
+     * @param next the search index document after the update.
+     * @return the update document, or an empty optional if the update document would replace all thing data anyway.
+     */
+    static Optional<BsonDocument> diff(final BsonDocument previous, final BsonDocument next) {
+        final BsonDiff diff = new BsonDiff();
+        diff.diffTopLevel(previous, next);
+        if (diff.sortingReplaced && diff.internalReplaced) {
+            return Optional.empty();
+        }
+        return Optional.of(diff.toUpdateDocument());
+    }
+
+    private void diffTopLevel(final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String key = entry.getKey();
+            final BsonValue nextValue = entry.getValue();
+            final BsonValue previousValue = previous.get(key);
+            if (FIELD_SORTING.equals(key) && null != previousValue && previousValue.isDocument() &&
+                    nextValue.isDocument()) {
+                diffDocuments(key, previousValue.asDocument(), nextValue.asDocument());
+            } else if (FIELD_INTERNAL.equals(key) && null != previousValue && previousValue.isArray() &&
+                    nextValue.isArray()) {
+                diffInternalArray(previousValue.asArray(), nextValue.asArray());
+            } else if (!nextValue.equals(previousValue)) {
+                set.append(key, nextValue);
+                sortingReplaced |= FIELD_SORTING.equals(key);
+                internalReplaced |= FIELD_INTERNAL.equals(key);
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                unset.append(key, new BsonString(""));
+            }
+        }
+    }
+
+    private void diffDocuments(final String path, final BsonDocument previous, final BsonDocument next) {
+        if (!areAllKeysAddressable(previous) || !areAllKeysAddressable(next)) {
+            setDocument(path, next);
+            return;
+        }
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String childPath = path + DOT + entry.getKey();
+            final BsonValue nextValue = entry.getValue();
+            final BsonValue previousValue = previous.get(entry.getKey());
+            if (null != previousValue && previousValue.isDocument() && nextValue.isDocument()) {
+                diffDocuments(childPath, previousValue.asDocument(), nextValue.asDocument());
+            } else if (!nextValue.equals(previousValue)) {
+                set.append(childPath, nextValue);
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                unset.append(path + DOT + key, new BsonString(""));
+            }
+        }
+    }
+
+    private void setDocument(final String path, final BsonDocument document) {
+        set.append(path, document);
+        sortingReplaced |= FIELD_SORTING.equals(path);
+    }
+
+    private void diffInternalArray(final BsonArray previous, final BsonArray next) {
+        if (previous.equals(next)) {
+            return;
+        }
+        if (!setChangedElements(previous, next)) {
+            set.append(FIELD_INTERNAL, next);
+            internalReplaced = true;
+        }
+    }
+
+    private boolean setChangedElements(final BsonArray previous, final BsonArray next) {
+        if (next.size() < previous.size()) {
+            return false;
+        }
+        final List<Integer> changedIndexes = new ArrayList<>();
+        for (int i = 0; i < next.size(); ++i) {
+            if (i >= previous.size() || !next.get(i).equals(previous.get(i))) {
+                changedIndexes.add(i);
+            }
+        }
+        if (changedIndexes.size() * 2 > next.size()) {
+            return false;
+        }
+        // setting the index after the last element appends to an array
+        for (final int i : changedIndexes) {
+            set.append(FIELD_INTERNAL + DOT + i, next.get(i));
+        }
+        return true;
+    }
+
+    private BsonDocument toUpdateDocument() {
+        final BsonDocument update = new BsonDocument();
+        appendIfNotEmpty(update, SET, set);
+        appendIfNotEmpty(update, UNSET, unset);
+        return update;
+    }
+
+    private static void appendIfNotEmpty(final BsonDocument update, final String operator,
+            final BsonDocument operand) {
+
+        if (!operand.isEmpty()) {
+            update.append(operator, operand);
+        }
+    }
+
+    private static boolean areAllKeysAddressable(final BsonDocument document) {
+        // keys are escaped by JsonToBson; keys which are still no valid path segment are updated with their parent
+        return document.keySet()
+                .stream()
+                .noneMatch(key -> key.isEmpty() || key.charAt(0) == '$' || key.indexOf(DOT) >= 0);
+    }
+
+}
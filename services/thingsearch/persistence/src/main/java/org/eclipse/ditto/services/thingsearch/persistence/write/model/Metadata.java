@@ -20,9 +20,12 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 
+import akka.actor.ActorRef;
+
 /**
  * Data class holding information about a "thingEntities" database record.
  */
@@ -34,18 +37,24 @@ public final class Metadata {
     @Nullable private final PolicyId policyId;
     @Nullable private final Long policyRevision;
     @Nullable final Instant modified;
+    @Nullable private final Thing thing;
+    @Nullable private final ActorRef origin;
 
     private Metadata(final ThingId thingId,
             final long thingRevision,
             @Nullable final PolicyId policyId,
             @Nullable final Long policyRevision,
-            @Nullable final Instant modified) {
+            @Nullable final Instant modified,
+            @Nullable final Thing thing,
+            @Nullable final ActorRef origin) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
         this.policyId = policyId;
         this.policyRevision = policyRevision;
         this.modified = modified;
+        this.thing = thing;
+        this.origin = origin;
     }
 
     /**
@@ -62,7 +71,7 @@ public final class Metadata {
             @Nullable final PolicyId policyId,
             @Nullable final Long policyRevision) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision, null);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, null, null, null);
     }
 
     /**
@@ -81,7 +90,28 @@ public final class Metadata {
             @Nullable final Long policyRevision,
             @Nullable final Instant modified) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, null, null);
+    }
+
+    /**
+     * Create a copy of this object carrying the state of the Thing at the Thing revision of this object.
+     * The search updater uses the state instead of retrieving the Thing from the Things shard region.
+     *
+     * @param thing the state of the Thing at revision {@code thingRevision}.
+     * @return the copy.
+     */
+    public Metadata withThing(final Thing thing) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, thing, origin);
+    }
+
+    /**
+     * Create a copy of this object with the actor which would like to receive the retrieved Thing.
+     *
+     * @param origin the actor to receive the SudoRetrieveThingResponse of the Thing, if it is retrieved.
+     * @return the copy.
+     */
+    public Metadata withOrigin(final ActorRef origin) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, thing, origin);
     }
 
     /**
@@ -151,6 +181,26 @@ public final class Metadata {
         return Optional.ofNullable(modified);
     }
 
+    /**
+     * Returns the state of the Thing at the Thing revision of this object, if the sender of this object knows it.
+     * The state is not part of the equality of metadata.
+     *
+     * @return the optional Thing.
+     */
+    public Optional<Thing> getThing() {
+        return Optional.ofNullable(thing);
+    }
+
+    /**
+     * Returns the actor to receive the Thing if it has to be retrieved.
+     * The actor is not part of the equality of metadata.
+     *
+     * @return the optional actor reference.
+     */
+    public Optional<ActorRef> getOrigin() {
+        return Optional.ofNullable(origin);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -180,6 +230,8 @@ public final class Metadata {
                 ", policyId=" + policyId +
                 ", policyRevision=" + policyRevision +
                 ", modified=" + modified +
+                ", hasThing=" + (thing != null) +
+                ", origin=" + origin +
                 "]";
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Local notification that search index entries of some namespaces were written. It is published on the event stream of
+ * the actor system after each bulk write so that readers of the search index may drop results derived from the
+ * previous state, e.g. cached counts. Notifications are not sent across the cluster; they are hints only.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class SearchIndexUpdated {
+
+    private final Set<String> namespaces;
+
+    private SearchIndexUpdated(final Set<String> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    /**
+     * Create a notification for the written write models.
+     *
+     * @param writeModels the written write models.
+     * @return the notification.
+     */
+    public static SearchIndexUpdated of(final Collection<AbstractWriteModel> writeModels) {
+        return new SearchIndexUpdated(writeModels.stream()
+                .map(writeModel -> writeModel.getMetadata().getThingId().getNamespace())
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Returns the namespaces of the written search index entries.
+     *
+     * @return the namespaces.
+     */
+    public Set<String> getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SearchIndexUpdated that = (SearchIndexUpdated) o;
+        return Objects.equals(namespaces, that.namespaces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namespaces);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "namespaces=" + namespaces +
+                "]";
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Write model for an incremental update of a Thing whose search index document is known.
+ * <p>
+ * Instead of replacing the whole search index document, only the changed fields are updated. The update only applies
+ * to the search index document it was computed against; the filter requires the previous thing revision and policy
+ * revision and that the thing is not marked as deleted.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@NotThreadSafe
+public final class ThingPatchModel extends AbstractWriteModel {
+
+    private final ThingWriteModel thingWriteModel;
+    private final long previousThingRevision;
+    private final long policyRevision;
+    private final BsonDocument update;
+
+    private ThingPatchModel(final ThingWriteModel thingWriteModel,
+            final long previousThingRevision,
+            final long policyRevision,
+            final BsonDocument update) {
+
+        super(thingWriteModel.getMetadata());
+        this.thingWriteModel = thingWriteModel;
+        this.previousThingRevision = previousThingRevision;
+        this.policyRevision = policyRevision;
+        this.update = update;
+    }
+
+    /**
+     * Create an incremental update from the previously written write model of a Thing to its new write model.
+     * No incremental update is created if the policy changed, because then the permissions of all indexed values
+     * have to be rewritten anyway.
+     *
+     * @param previous the write model of the search index document to update.
+     * @param next the write model of the new search index document.
+     * @return the incremental update, or an empty optional if the search index document should be replaced.
+     */
+    public static Optional<ThingPatchModel> of(final ThingWriteModel previous, final ThingWriteModel next) {
+        final Metadata previousMetadata = previous.getMetadata();
+        final Metadata nextMetadata = next.getMetadata();
+        if (!previousMetadata.getThingId().equals(nextMetadata.getThingId()) ||
+                previousMetadata.getThingRevision() >= nextMetadata.getThingRevision() ||
+                !previousMetadata.getPolicyId().equals(nextMetadata.getPolicyId())) {
+            return Optional.empty();
+        }
+        final BsonDocument previousDocument = toBsonDocument(previous.getThingDocument());
+        final BsonDocument nextDocument = toBsonDocument(next.getThingDocument());
+        @Nullable final BsonValue previousPolicyRevision = previousDocument.get(FIELD_POLICY_REVISION);
+        if (null == previousPolicyRevision ||
+                !previousPolicyRevision.isNumber() ||
+                !previousPolicyRevision.equals(nextDocument.get(FIELD_POLICY_REVISION)) ||
+                !Objects.equals(previousDocument.get(FIELD_GLOBAL_READ), nextDocument.get(FIELD_GLOBAL_READ))) {
+            return Optional.empty();
+        }
+        final long policyRevision = previousPolicyRevision.asNumber().longValue();
+        return BsonDiff.diff(previousDocument, nextDocument)
+                .map(update -> new ThingPatchModel(next, previousMetadata.getThingRevision(), policyRevision,
+                        update));
+    }
+
+    @Override
+    public Bson getFilter() {
+        return Filters.and(super.getFilter(),
+                Filters.eq(FIELD_REVISION, previousThingRevision),
+                Filters.eq(FIELD_POLICY_REVISION, policyRevision),
+                Filters.exists(FIELD_DELETE_AT, false));
+    }
+
+    @Override
+    public WriteModel<Document> toMongo() {
+        return new UpdateOneModel<>(getFilter(), update);
+    }
+
+    /**
+     * @return the write model of the whole search index document after the update.
+     */
+    public ThingWriteModel getThingWriteModel() {
+        return thingWriteModel;
+    }
+
+    /**
+     * @return the update document.
+     */
+    public BsonDocument getUpdate() {
+        return update;
+    }
+
+    private static BsonDocument toBsonDocument(final Document document) {
+        return document.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final ThingPatchModel that = (ThingPatchModel) o;
+        return previousThingRevision == that.previousThingRevision &&
+                policyRevision == that.policyRevision &&
+                thingWriteModel.equals(that.thingWriteModel) &&
+                update.equals(that.update);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), thingWriteModel, previousThingRevision, policyRevision, update);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + getMetadata() +
+                ", previousThingRevision=" + previousThingRevision +
+                "]";
+    }
+
+}
@@ -12,17 +12,26 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.bson.Document;
+
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 
 /**
  * Data structure containing requested write models, write results and errors for reliable search index update.
@@ -121,6 +130,46 @@ public final class WriteResultAndErrors {
         return Optional.ofNullable(unexpectedError);
     }
 
+    /**
+     * Retrieve the incremental updates which did not fail but may not have matched their search index document.
+     * An incremental update does not match if the search index document changed since the update was computed.
+     * The bulk write result only counts the matched documents of all write models; if it does not confirm that all
+     * incremental updates matched, all of them are considered unmatched.
+     *
+     * @return the possibly unmatched incremental updates.
+     * @since 2.0.0
+     */
+    public List<ThingPatchModel> getPossiblyUnmatchedPatches() {
+        final Set<Integer> errorIndexes =
+                bulkWriteErrors.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        final List<ThingPatchModel> patches = new ArrayList<>();
+        int otherWriteModels = 0;
+        for (int i = 0; i < writeModels.size(); ++i) {
+            final AbstractWriteModel writeModel = writeModels.get(i);
+            if (!errorIndexes.contains(i)) {
+                if (writeModel instanceof ThingPatchModel) {
+                    patches.add((ThingPatchModel) writeModel);
+                } else if (isCountedAsMatched(writeModel)) {
+                    ++otherWriteModels;
+                }
+            }
+        }
+        if (patches.isEmpty() || !bulkWriteResult.wasAcknowledged() || null != unexpectedError) {
+            return patches;
+        }
+        // replacements match or upsert; other updates match at most once
+        final int maxMatchesOfOtherWriteModels = otherWriteModels - bulkWriteResult.getUpserts().size();
+        final int minMatchesOfPatches = bulkWriteResult.getMatchedCount() - maxMatchesOfOtherWriteModels;
+        return minMatchesOfPatches >= patches.size() ? Collections.emptyList() : patches;
+    }
+
+    private static boolean isCountedAsMatched(final AbstractWriteModel writeModel) {
+        // deletions are counted as deleted; ThingDeleteModel only marks the document as deleted by an update
+        final WriteModel<Document> mongoWriteModel = writeModel.toMongo();
+        return mongoWriteModel instanceof ReplaceOneModel || mongoWriteModel instanceof UpdateOneModel ||
+                mongoWriteModel instanceof UpdateManyModel;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof WriteResultAndErrors) {
@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
@@ -83,6 +84,11 @@ final class BulkWriteResultAckFlow {
                     logEntries.add(String.format("UpdateFailed for %s due to %s", metadata, error));
                     failedThings.add(metadata);
                 }
+                for (final ThingPatchModel patch : writeResultAndErrors.getPossiblyUnmatchedPatches()) {
+                    // the search index document changed in the meantime; the thing updater retries with a replacement
+                    logEntries.add(String.format("PatchNotConfirmed for %s", patch.getMetadata()));
+                    failedThings.add(patch.getMetadata());
+                }
                 acknowledgeFailures(failedThings);
                 return logEntries;
             }
@@ -18,6 +18,9 @@ import java.util.Map;
 
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -32,16 +35,25 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * The changes of a search updater node are partitioned by the hash of the Thing ID into independent change queues,
+ * each of which feeds its own search updater stream.
  */
 public final class ChangeQueueActor extends AbstractActor {
 
     /**
-     * Name of this actor.
+     * Prefix of the names of the change queue actors; the partition is appended.
      */
     public static final String ACTOR_NAME = "changeQueueActor";
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    private static final String QUEUE_SIZE_GAUGE_NAME = "things_search_updater_change_queue_size";
+    private static final String DUMP_SIZE_HISTOGRAM_NAME = "things_search_updater_change_queue_dump_size";
+    private static final String PARTITION_TAG = "partition";
+
+    private final Gauge queueSizeGauge;
+    private final Histogram dumpSizeHistogram;
+
     /**
      * Caching changes of 1 Thing per key.
      * Change type values according to caching strategy;
@@ -49,15 +61,43 @@ public final class ChangeQueueActor extends AbstractActor {
      */
     private Map<ThingId, Metadata> cache = new HashMap<>();
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(final int partition) {
+        queueSizeGauge = DittoMetrics.gauge(QUEUE_SIZE_GAUGE_NAME).tag(PARTITION_TAG, partition);
+        dumpSizeHistogram = DittoMetrics.histogram(DUMP_SIZE_HISTOGRAM_NAME).tag(PARTITION_TAG, partition);
+        queueSizeGauge.set(0L);
     }
 
     /**
+     * Create Props of a ChangeQueueActor.
+     *
+     * @param partition the partition of the change queue; used to tag its metrics.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class);
+    public static Props props(final int partition) {
+        return Props.create(ChangeQueueActor.class, partition);
+    }
+
+    /**
+     * Get the name of the change queue actor of a partition.
+     *
+     * @param partition the partition.
+     * @return the actor name.
+     */
+    public static String getActorName(final int partition) {
+        return ACTOR_NAME + partition;
+    }
+
+    /**
+     * Get the partition of the change queue which is responsible for a Thing.
+     *
+     * @param thingId the Thing ID.
+     * @param partitions the number of partitions.
+     * @return the partition of the Thing, between 0 inclusive and {@code partitions} exclusive.
+     */
+    public static int getPartition(final ThingId thingId, final int partitions) {
+        // the hash code of ThingId combines the hash of the same ID twice and thus is always even modulo 4
+        return Math.floorMod(thingId.toString().hashCode(), partitions);
     }
 
     @Override
@@ -75,6 +115,7 @@ public final class ChangeQueueActor extends AbstractActor {
      */
     private void enqueue(final Metadata metadata) {
         cache.put(metadata.getThingId(), metadata);
+        queueSizeGauge.set((long) cache.size());
     }
 
     /**
@@ -95,8 +136,12 @@ public final class ChangeQueueActor extends AbstractActor {
     }
 
     private void dump(final Control dump) {
+        if (!cache.isEmpty()) {
+            dumpSizeHistogram.record((long) cache.size());
+        }
         getSender().tell(cache, getSelf());
         cache = new HashMap<>();
+        queueSizeGauge.set(0L);
     }
 
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
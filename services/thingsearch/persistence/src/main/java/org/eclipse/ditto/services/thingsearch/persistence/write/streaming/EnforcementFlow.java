@@ -13,11 +13,12 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
@@ -25,6 +26,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -157,17 +159,25 @@ final class EnforcementFlow {
 
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
+     * Things whose state is known by the metadata are not retrieved.
      *
      * @param parallelism how many SudoRetrieveThing commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
         return Flow.<Map<ThingId, Metadata>>create().map(changeMap -> {
-            log.info("Updating search index of <{}> things", changeMap.size());
-            final Set<ThingId> thingIds = changeMap.keySet();
-            return sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(responseMap ->
+            final List<ThingId> thingIdsToRetrieve = new ArrayList<>(changeMap.size());
+            changeMap.forEach((thingId, metadata) -> {
+                if (!metadata.getThing().isPresent()) {
+                    thingIdsToRetrieve.add(thingId);
+                }
+            });
+            log.info("Updating search index of <{}> things, <{}> of them from events", changeMap.size(),
+                    changeMap.size() - thingIdsToRetrieve.size());
+            return sudoRetrieveThingJsons(parallelism, thingIdsToRetrieve).flatMapConcat(responseMap ->
                     Source.fromIterator(changeMap.values()::iterator).flatMapMerge(parallelism, metadataRef ->
-                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
+                            computeWriteModel(metadataRef,
+                                    getThingJson(metadataRef, responseMap.get(metadataRef.getThingId()))))
             );
         });
 
@@ -176,6 +186,9 @@ final class EnforcementFlow {
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
+        if (thingIds.isEmpty()) {
+            return Source.single(new HashMap<>());
+        }
         return Source.fromIterator(thingIds::iterator)
                 .flatMapMerge(parallelism, this::sudoRetrieveThing)
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
@@ -211,16 +224,40 @@ final class EnforcementFlow {
                 .viaMat(Flow.create(), Keep.none());
     }
 
-    private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
+    /**
+     * Get the JSON of a thing as the things shard region would retrieve it, either from the state known by the
+     * metadata or from the retrieved response. A retrieved thing is sent to the origin of the metadata, if any.
+     *
+     * @param metadata metadata of the thing.
+     * @param sudoRetrieveThingResponse the retrieved thing, or null if the thing was not retrieved or does not exist.
+     * @return the thing JSON, or null if the thing does not exist.
+     */
+    @Nullable
+    private static JsonObject getThingJson(final Metadata metadata,
             @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
 
-        if (sudoRetrieveThingResponse == null) {
+        final Optional<Thing> knownThing = metadata.getThing();
+        if (knownThing.isPresent()) {
+            final Thing thing = knownThing.get();
+            return thing.isDeleted()
+                    ? null
+                    : thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+        } else if (sudoRetrieveThingResponse != null) {
+            metadata.getOrigin().ifPresent(origin -> origin.tell(sudoRetrieveThingResponse, ActorRef.noSender()));
+            return sudoRetrieveThingResponse.getEntity().asObject();
+        } else {
+            return null;
+        }
+    }
+
+    private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
+            @Nullable final JsonObject thing) {
+
+        if (thing == null) {
             return deleteEvent
                     ? Source.single(ThingDeleteModel.of(metadata))
                     : Source.empty();
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
-
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
@@ -16,17 +16,28 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -56,23 +67,46 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String COUNT_THING_PATCHES = "things_search_thing_bulkUpdate_patches";
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    @Nullable private final Cache<ThingId, ThingWriteModel> writtenThings;
+    private final Counter patchesCounter;
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection, final int incrementalUpdateCacheSize) {
         this.collection = collection;
+        writtenThings = incrementalUpdateCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(incrementalUpdateCacheSize).build()
+                : null;
+        patchesCounter = DittoMetrics.counter(COUNT_THING_PATCHES);
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which always replaces whole search index documents.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return of(database, 0);
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object.
+     * It remembers the last written search index documents of up to {@code incrementalUpdateCacheSize} things and
+     * updates only the changed fields of them as long as their policy does not change.
+     *
+     * @param database the MongoDB database.
+     * @param incrementalUpdateCacheSize how many written search index documents to remember; 0 disables
+     * incremental updates.
+     * @return the MongoSearchUpdaterFlow object.
+     * @since 2.0.0
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final int incrementalUpdateCacheSize) {
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME),
+                incrementalUpdateCacheSize);
     }
 
 
@@ -113,7 +147,10 @@ final class MongoSearchUpdaterFlow {
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(
-            final List<AbstractWriteModel> abstractWriteModels) {
+            final List<AbstractWriteModel> requestedWriteModels) {
+        final List<AbstractWriteModel> abstractWriteModels = requestedWriteModels.stream()
+                .map(this::toPatchIfPossible)
+                .collect(Collectors.toList());
         final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
                 .map(AbstractWriteModel::toMongo)
                 .collect(Collectors.toList());
@@ -127,7 +164,58 @@ final class MongoSearchUpdaterFlow {
                                 Source.single(WriteResultAndErrors.unexpectedError(abstractWriteModels, error))
                         )
                         .build()
-                );
+                )
+                .map(this::rememberWrittenThings);
+    }
+
+    private AbstractWriteModel toPatchIfPossible(final AbstractWriteModel writeModel) {
+        if (null != writtenThings && writeModel instanceof ThingWriteModel) {
+            final ThingWriteModel thingWriteModel = (ThingWriteModel) writeModel;
+            @Nullable final ThingWriteModel previous =
+                    writtenThings.getIfPresent(thingWriteModel.getMetadata().getThingId());
+            if (null != previous) {
+                final Optional<ThingPatchModel> patch = ThingPatchModel.of(previous, thingWriteModel);
+                if (patch.isPresent()) {
+                    patchesCounter.increment();
+                    return patch.get();
+                }
+            }
+        }
+        return writeModel;
+    }
+
+    /**
+     * Remember the search index documents which are known to be written; forget all other documents of the bulk,
+     * so that they are replaced the next time.
+     */
+    private WriteResultAndErrors rememberWrittenThings(final WriteResultAndErrors writeResultAndErrors) {
+        if (null != writtenThings) {
+            final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+            final boolean acknowledged = writeResultAndErrors.getBulkWriteResult().wasAcknowledged() &&
+                    writeResultAndErrors.getUnexpectedError().isEmpty();
+            final Set<Integer> errorIndexes = writeResultAndErrors.getBulkWriteErrors()
+                    .stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            final Set<AbstractWriteModel> unmatchedPatches = Set.copyOf(
+                    writeResultAndErrors.getPossiblyUnmatchedPatches());
+            for (int i = 0; i < writeModels.size(); ++i) {
+                final AbstractWriteModel writeModel = writeModels.get(i);
+                final ThingId thingId = writeModel.getMetadata().getThingId();
+                if (acknowledged && !errorIndexes.contains(i) && !unmatchedPatches.contains(writeModel)) {
+                    if (writeModel instanceof ThingWriteModel) {
+                        writtenThings.put(thingId, (ThingWriteModel) writeModel);
+                    } else if (writeModel instanceof ThingPatchModel) {
+                        writtenThings.put(thingId, ((ThingPatchModel) writeModel).getThingWriteModel());
+                    } else {
+                        writtenThings.invalidate(thingId);
+                    }
+                } else {
+                    writtenThings.invalidate(thingId);
+                }
+            }
+        }
+        return writeResultAndErrors;
     }
 
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
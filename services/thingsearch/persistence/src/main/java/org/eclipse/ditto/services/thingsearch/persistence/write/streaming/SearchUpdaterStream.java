@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -27,6 +28,9 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.SearchIndexUpdated;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -36,40 +40,45 @@ import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.dispatch.MessageDispatcher;
+import akka.event.EventStream;
 import akka.stream.Attributes;
 import akka.stream.KillSwitch;
 import akka.stream.KillSwitches;
+import akka.stream.SharedKillSwitch;
 import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.RestartSink;
 import akka.stream.javadsl.RestartSource;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
- * Stream from the cache of Thing changes to the persistence of the search index.
+ * Streams from the caches of Thing changes to the persistence of the search index; one stream per change queue
+ * partition.
  */
 public final class SearchUpdaterStream {
 
+    private static final String DUMP_PROCESSING_TIMER_NAME = "things_search_updater_dump_processing";
+    private static final String PARTITION_TAG = "partition";
+
     private final SearchConfig searchConfig;
     private final EnforcementFlow enforcementFlow;
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
     private final BulkWriteResultAckFlow bulkWriteResultAckFlow;
-    private final ActorRef changeQueueActor;
+    private final List<ActorRef> changeQueueActors;
     private final BlockedNamespaces blockedNamespaces;
 
     private SearchUpdaterStream(final SearchConfig searchConfig,
             final EnforcementFlow enforcementFlow,
             final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
             final BulkWriteResultAckFlow bulkWriteResultAckFlow,
-            final ActorRef changeQueueActor,
+            final List<ActorRef> changeQueueActors,
             final BlockedNamespaces blockedNamespaces) {
 
         this.searchConfig = searchConfig;
         this.enforcementFlow = enforcementFlow;
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
         this.bulkWriteResultAckFlow = bulkWriteResultAckFlow;
-        this.changeQueueActor = changeQueueActor;
+        this.changeQueueActors = List.copyOf(changeQueueActors);
         this.blockedNamespaces = blockedNamespaces;
     }
 
@@ -81,7 +90,7 @@ public final class SearchUpdaterStream {
      * @param thingsShard shard region proxy of things.
      * @param policiesShard shard region proxy of policies.
      * @param updaterShard shard region of search updaters.
-     * @param changeQueueActor reference of the change queue actor.
+     * @param changeQueueActors references of the change queue actors, one per partition.
      * @param database MongoDB database.
      * @return a SearchUpdaterStream object.
      */
@@ -90,7 +99,7 @@ public final class SearchUpdaterStream {
             final ActorRef thingsShard,
             final ActorRef policiesShard,
             final ActorRef updaterShard,
-            final ActorRef changeQueueActor,
+            final List<ActorRef> changeQueueActors,
             final MongoDatabase database,
             final BlockedNamespaces blockedNamespaces) {
 
@@ -107,29 +116,38 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
                         deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
+                streamConfig.getPersistenceConfig().getIncrementalUpdateCacheSize());
 
         final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
 
         return new SearchUpdaterStream(searchConfig, enforcementFlow, mongoSearchUpdaterFlow, bulkWriteResultAckFlow,
-                changeQueueActor, blockedNamespaces);
+                changeQueueActors, blockedNamespaces);
     }
 
     /**
-     * Start a perpetual search updater stream killed only by the kill-switch.
+     * Start perpetual search updater streams, one per change queue partition, killed only by the kill-switch.
      *
      * @param actorContext where to create actors for this stream.
-     * @return kill-switch to terminate the stream.
+     * @return kill-switch to terminate all streams.
      */
     public KillSwitch start(final ActorContext actorContext) {
-        final Source<Source<AbstractWriteModel, NotUsed>, NotUsed> restartSource = createRestartSource();
-        final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> restartSink = createRestartSink();
-        return restartSource.viaMat(KillSwitches.single(), Keep.right())
-                .toMat(restartSink, Keep.left())
-                .run(actorContext.system());
+        final SharedKillSwitch killSwitch = KillSwitches.shared(SearchUpdaterStream.class.getSimpleName());
+        for (int partition = 0; partition < changeQueueActors.size(); ++partition) {
+            final Source<Source<AbstractWriteModel, NotUsed>, NotUsed> restartSource =
+                    createRestartSource(changeQueueActors.get(partition), partition);
+            final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> restartSink =
+                    createRestartSink(actorContext.system().eventStream());
+            restartSource.via(killSwitch.flow())
+                    .to(restartSink)
+                    .run(actorContext.system());
+        }
+        return killSwitch;
     }
 
-    private Source<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSource() {
+    private Source<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSource(final ActorRef changeQueueActor,
+            final int partition) {
+
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
         final StreamStageConfig retrievalConfig = streamConfig.getRetrievalConfig();
 
@@ -137,8 +155,8 @@ public final class SearchUpdaterStream {
                 ChangeQueueActor.createSource(changeQueueActor, streamConfig.getWriteInterval())
                         .via(filterMapKeysByBlockedNamespaces())
                         .via(enforcementFlow.create(retrievalConfig.getParallelism())
-                                .map(writeModelSource -> writeModelSource.via(
-                                        blockNamespaceFlow(SearchUpdaterStream::namespaceOfWriteModel))));
+                                .map(writeModelSource -> timeDumpProcessing(partition, writeModelSource.via(
+                                        blockNamespaceFlow(SearchUpdaterStream::namespaceOfWriteModel)))));
 
         final ExponentialBackOffConfig backOffConfig = retrievalConfig.getExponentialBackOffConfig();
 
@@ -146,7 +164,7 @@ public final class SearchUpdaterStream {
                 backOffConfig.getRandomFactor(), () -> source);
     }
 
-    private Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSink() {
+    private Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSink(final EventStream eventStream) {
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
         final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
 
@@ -155,6 +173,11 @@ public final class SearchUpdaterStream {
         final Duration writeInterval = streamConfig.getWriteInterval();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
                 mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                        .map(writeResultAndErrors -> {
+                            // hint local readers of the search index, e.g. the count cache of the search actor
+                            eventStream.publish(SearchIndexUpdated.of(writeResultAndErrors.getWriteModels()));
+                            return writeResultAndErrors;
+                        })
                         .via(bulkWriteResultAckFlow.start())
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
@@ -169,6 +192,22 @@ public final class SearchUpdaterStream {
                 () -> sink);
     }
 
+    /**
+     * Measure the time from the dump of a change queue until all write models of the dump are handed over to bulk
+     * writes.
+     */
+    private static Source<AbstractWriteModel, NotUsed> timeDumpProcessing(final int partition,
+            final Source<AbstractWriteModel, NotUsed> writeModelSource) {
+
+        final StartedTimer timer = DittoMetrics.timer(DUMP_PROCESSING_TIMER_NAME)
+                .tag(PARTITION_TAG, partition)
+                .start();
+        return writeModelSource.watchTermination((notUsed, done) -> {
+            done.whenComplete((result, error) -> timer.stop());
+            return notUsed;
+        });
+    }
+
     private <T> Flow<Map<ThingId, T>, Map<ThingId, T>, NotUsed> filterMapKeysByBlockedNamespaces() {
         return Flow.<Map<ThingId, T>>create()
                 .flatMapConcat(map ->
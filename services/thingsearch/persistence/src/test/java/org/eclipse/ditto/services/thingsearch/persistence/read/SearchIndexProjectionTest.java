@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SearchIndexProjection}.
+ */
+public final class SearchIndexProjectionTest {
+
+    private static final JsonObject THING_JSON = JsonObject.newBuilder()
+            .set("thingId", "hello:world")
+            .set("_revision", 1024)
+            .set("policyId", "hello:world")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("public", "p")
+                    .set("secret", "s")
+                    .set("list", JsonArray.newBuilder().add(1, 2).build())
+                    .set("dotted.key", 1)
+                    .set("empty", JsonObject.empty())
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("lamp", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder().set("on", true).build())
+                            .build())
+                    .build())
+            .build();
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                    .forLabel("grant-lamp")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/lamp/properties/on", Permission.READ)
+                    .forLabel("revoke-public")
+                    .setSubject("g:2", SubjectType.GENERATED)
+                    .setRevokedPermissions(THING, "/attributes/public", Permission.READ)
+                    .build());
+
+    private static final Document DOCUMENT = EnforcedThingMapper.mapThing(THING_JSON, ENFORCER, 1L);
+
+    private static final JsonObject THING_WITH_ARRAYS = JsonObject.newBuilder()
+            .set("thingId", "hello:arrays")
+            .set("_revision", 1)
+            .set("policyId", "hello:arrays")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("objects", JsonArray.newBuilder()
+                            .add(JsonObject.newBuilder().set("a", 1).set("b", 2).build())
+                            .add(JsonObject.newBuilder().set("a", 3).set("b", 4).build())
+                            .build())
+                    .set("mixed", JsonArray.newBuilder()
+                            .add(1)
+                            .add(JsonObject.newBuilder().set("c", "d").build())
+                            .build())
+                    .build())
+            .build();
+
+    private static final Enforcer ARRAY_ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "arrays"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/objects/b", Permission.READ)
+                    .forLabel("grant-mixed")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/attributes/mixed", Permission.READ)
+                    .build());
+
+    private static final Document ARRAY_DOCUMENT = EnforcedThingMapper.mapThing(THING_WITH_ARRAYS, ARRAY_ENFORCER, 1L);
+
+    private static final JsonObject LAMP = JsonObject.newBuilder()
+            .set("lamp", JsonObject.newBuilder()
+                    .set("properties", JsonObject.newBuilder().set("on", true).build())
+                    .build())
+            .build();
+
+    @Test
+    public void projectsRegularFieldsVisibleToSubject() {
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:0")).project(DOCUMENT, null);
+
+        assertThat(projected).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "hello:world")
+                .set("policyId", "hello:world")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("public", "p")
+                        .set("list", JsonArray.newBuilder().add(1, 2).build())
+                        .set("dotted.key", 1)
+                        .set("empty", JsonObject.empty())
+                        .build())
+                .set("features", LAMP)
+                .build());
+    }
+
+    @Test
+    public void omitsObjectsWithoutVisibleValues() {
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:1")).project(DOCUMENT, null);
+
+        assertThat(projected).isEqualTo(JsonObject.newBuilder().set("features", LAMP).build());
+    }
+
+    @Test
+    public void projectsSelectedFieldsOnly() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("thingId", "_revision", "attributes/public",
+                "attributes/secret");
+
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:0")).project(DOCUMENT, fields);
+
+        assertThat(projected).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "hello:world")
+                .set("_revision", 1024)
+                .set("attributes", JsonObject.newBuilder().set("public", "p").build())
+                .build());
+    }
+
+    @Test
+    public void excludesFieldsRevokedForAnySubject() {
+        final JsonFieldSelector attributes = JsonFieldSelector.newInstance("attributes");
+
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:0", "g:2")).project(DOCUMENT, attributes);
+
+        assertThat(projected).isEqualTo(JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder()
+                        .set("list", JsonArray.newBuilder().add(1, 2).build())
+                        .set("dotted.key", 1)
+                        .set("empty", JsonObject.empty())
+                        .build())
+                .build());
+    }
+
+    @Test
+    public void revocationAloneGrantsNothing() {
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:2")).project(DOCUMENT, null);
+
+        assertThat(projected).isEmpty();
+    }
+
+    @Test
+    public void excludesRevokedFieldsOfArrayElements() {
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:0")).project(ARRAY_DOCUMENT, null);
+
+        assertThat(projected.getValue("attributes/objects")).contains(JsonArray.newBuilder()
+                .add(JsonObject.newBuilder().set("a", 1).build())
+                .add(JsonObject.newBuilder().set("a", 3).build())
+                .build());
+        assertThat(projected.getValue("attributes/mixed")).contains(THING_WITH_ARRAYS.getValue("attributes/mixed")
+                .orElseThrow());
+    }
+
+    @Test
+    public void projectsArraysGrantedAsWhole() {
+        final JsonObject projected = SearchIndexProjection.of(List.of("g:1")).project(ARRAY_DOCUMENT, null);
+
+        assertThat(projected).isEqualTo(JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder()
+                        .set("mixed", THING_WITH_ARRAYS.getValue("attributes/mixed").orElseThrow())
+                        .build())
+                .build());
+    }
+
+}
@@ -17,9 +17,14 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
+import org.junit.AfterClass;
 import org.junit.Test;
 
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 /**
@@ -27,17 +32,27 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class MetadataTest {
 
+    private static final ActorSystem actorSystem = ActorSystem.create();
+
+    @AfterClass
+    public static void tearDown() {
+        actorSystem.terminate();
+    }
+
     @Test
     public void assertImmutability() {
         assertInstancesOf(Metadata.class,
                 areImmutable(),
-                provided(ThingId.class, PolicyId.class).isAlsoImmutable());
+                provided(ThingId.class, PolicyId.class, Thing.class, ActorRef.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(Metadata.class)
                 .usingGetClass()
+                .withPrefabValues(ActorRef.class, TestProbe.apply("red", actorSystem).ref(),
+                        TestProbe.apply("black", actorSystem).ref())
+                .withIgnoredFields("thing", "origin")
                 .verify();
     }
 
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -33,6 +34,8 @@ public final class ThingDeleteModelTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ThingDeleteModel.class)
                 .usingGetClass()
+                .withPrefabValues(Metadata.class, Metadata.of(ThingId.of("x:0"), 0L, null, null),
+                        Metadata.of(ThingId.of("x:1"), 1L, null, null))
                 .verify();
     }
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ThingPatchModel}.
+ */
+public final class ThingPatchModelTest {
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .build());
+
+    private static final JsonObject THING_JSON = JsonObject.of("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_revision\": 1,\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": { \"f\": { \"properties\": { \"p\": 1, \"q\": { \"r\": \"s\" } } } },\n" +
+            "  \"attributes\": { \"a\": \"b\", \"c\": 2, \"d\": 3, \"e\": 4 }\n" +
+            "}");
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ThingPatchModel.class)
+                .usingGetClass()
+                .withPrefabValues(Metadata.class, Metadata.of(ThingId.of("x:0"), 0L, null, null),
+                        Metadata.of(ThingId.of("x:1"), 1L, null, null))
+                .withPrefabValues(BsonDocument.class, new BsonDocument("a", new BsonString("b")),
+                        new BsonDocument("c", new BsonString("d")))
+                .verify();
+    }
+
+    @Test
+    public void modifiedValuesAreSet() {
+        final ThingWriteModel previous = toWriteModel(THING_JSON, 5L);
+        final ThingWriteModel next = toWriteModel(modify(THING_JSON, 2L, "/features/f/properties/q/r", "t"), 5L);
+
+        final ThingPatchModel underTest = ThingPatchModel.of(previous, next).orElseThrow();
+
+        final BsonDocument set = underTest.getUpdate().getDocument("$set");
+        assertThat(set.keySet()).contains("_revision", "s._revision", "s.features.f.properties.q.r")
+                .doesNotContain("s", "d", "policyId", "gr")
+                .anyMatch(key -> key.startsWith("d."));
+        assertThat(set.getString("s.features.f.properties.q.r")).isEqualTo(new BsonString("t"));
+        assertThat(underTest.getUpdate().containsKey("$unset")).isFalse();
+        assertThat(underTest.getThingWriteModel()).isEqualTo(next);
+        final BsonDocument filter =
+                underTest.getFilter().toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        assertThat(filter.get("_revision")).isEqualTo(new BsonInt64(1L));
+        assertThat(filter.get("__policyRev")).isEqualTo(new BsonInt64(5L));
+        assertThat(filter.containsKey("deleteAt")).isTrue();
+    }
+
+    @Test
+    public void removedValuesAreUnset() {
+        final ThingWriteModel previous = toWriteModel(THING_JSON, 5L);
+        final JsonObject thingWithoutAttribute = THING_JSON.remove(JsonPointer.of("/attributes/c"))
+                .setValue(Thing.JsonFields.REVISION.getPointer(), 2L);
+        final ThingWriteModel next = toWriteModel(thingWithoutAttribute, 5L);
+
+        final ThingPatchModel underTest = ThingPatchModel.of(previous, next).orElseThrow();
+
+        assertThat(underTest.getUpdate().getDocument("$unset").keySet()).containsExactly("s.attributes.c");
+        // the flattened array shrank and is replaced
+        assertThat(underTest.getUpdate().getDocument("$set").keySet()).contains("d");
+    }
+
+    @Test
+    public void addedValuesAreAppended() {
+        final ThingWriteModel previous = toWriteModel(THING_JSON, 5L);
+        final ThingWriteModel next = toWriteModel(modify(THING_JSON, 2L, "/attributes/z", "new"), 5L);
+
+        final ThingPatchModel underTest = ThingPatchModel.of(previous, next).orElseThrow();
+
+        final int previousSize = previous.getThingDocument().get("d", List.class).size();
+        assertThat(underTest.getUpdate().getDocument("$set").keySet())
+                .contains("s.attributes.z", "d." + previousSize)
+                .doesNotContain("d");
+    }
+
+    @Test
+    public void noPatchIfPolicyRevisionChanged() {
+        final ThingWriteModel previous = toWriteModel(THING_JSON, 5L);
+        final ThingWriteModel next = toWriteModel(modify(THING_JSON, 2L, "/attributes/a", "x"), 6L);
+
+        assertThat(ThingPatchModel.of(previous, next)).isEmpty();
+    }
+
+    @Test
+    public void noPatchIfRevisionDidNotIncrease() {
+        final ThingWriteModel previous = toWriteModel(THING_JSON, 5L);
+
+        assertThat(ThingPatchModel.of(previous, previous)).isEmpty();
+    }
+
+    private static JsonObject modify(final JsonObject thing, final long revision, final String pointer,
+            final String value) {
+
+        return thing.setValue(Thing.JsonFields.REVISION.getPointer(), revision)
+                .setValue(JsonPointer.of(pointer), JsonValue.of(value));
+    }
+
+    private static ThingWriteModel toWriteModel(final JsonObject thing, final long policyRevision) {
+        return EnforcedThingMapper.toWriteModel(thing, ENFORCER, policyRevision);
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -25,6 +26,8 @@ public final class ThingWriteModelTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ThingWriteModel.class)
                 .usingGetClass()
+                .withPrefabValues(Metadata.class, Metadata.of(ThingId.of("x:0"), 0L, null, null),
+                        Metadata.of(ThingId.of("x:1"), 1L, null, null))
                 .verify();
     }
 
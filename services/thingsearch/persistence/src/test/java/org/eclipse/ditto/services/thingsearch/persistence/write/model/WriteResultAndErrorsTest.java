@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Unit test for {@link WriteResultAndErrors}.
+ */
+public final class WriteResultAndErrorsTest {
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .build());
+
+    private static final JsonObject THING_JSON = JsonObject.newBuilder()
+            .set("thingId", "hello:world")
+            .set("_revision", 1)
+            .set("policyId", "hello:world")
+            .set("attributes", JsonObject.newBuilder().set("a", "b").build())
+            .build();
+
+    private static final ThingPatchModel PATCH = ThingPatchModel.of(
+            EnforcedThingMapper.toWriteModel(THING_JSON, ENFORCER, 5L),
+            EnforcedThingMapper.toWriteModel(THING_JSON.setValue(Thing.JsonFields.REVISION.getPointer(), 2L)
+                    .setValue(JsonPointer.of("/attributes/a"), JsonValue.of("c")), ENFORCER, 5L))
+            .orElseThrow();
+
+    private static final Metadata OTHER_METADATA = Metadata.of(ThingId.of("hello", "other"), 3L, null, null);
+
+    @Test
+    public void patchMatchedTogetherWithDeletion() {
+        final List<AbstractWriteModel> writeModels = List.of(ThingDeleteModel.of(OTHER_METADATA), PATCH);
+        // the deletion only sets the field "deleteAt" and is counted as matched
+        final WriteResultAndErrors underTest =
+                WriteResultAndErrors.success(writeModels, BulkWriteResult.acknowledged(0, 2, 0, 2, List.of()));
+
+        assertThat(underTest.getPossiblyUnmatchedPatches()).isEmpty();
+    }
+
+    @Test
+    public void patchPossiblyUnmatchedIfOnlyDeletionMatched() {
+        final List<AbstractWriteModel> writeModels = List.of(ThingDeleteModel.of(OTHER_METADATA), PATCH);
+        final WriteResultAndErrors underTest =
+                WriteResultAndErrors.success(writeModels, BulkWriteResult.acknowledged(0, 1, 0, 1, List.of()));
+
+        assertThat(underTest.getPossiblyUnmatchedPatches()).containsExactly(PATCH);
+    }
+
+    @Test
+    public void removalsAreNotCountedAsMatches() {
+        final List<AbstractWriteModel> writeModels = List.of(new RemovalModel(OTHER_METADATA), PATCH);
+        final WriteResultAndErrors underTest =
+                WriteResultAndErrors.success(writeModels, BulkWriteResult.acknowledged(0, 1, 1, 1, List.of()));
+
+        assertThat(underTest.getPossiblyUnmatchedPatches()).isEmpty();
+    }
+
+    @Test
+    public void patchPossiblyUnmatchedIfReplacementMatched() {
+        final ThingWriteModel replacement =
+                EnforcedThingMapper.toWriteModel(THING_JSON.setValue("thingId", "hello:other"), ENFORCER, 5L);
+        final List<AbstractWriteModel> writeModels = List.of(replacement, PATCH);
+        final WriteResultAndErrors underTest =
+                WriteResultAndErrors.success(writeModels, BulkWriteResult.acknowledged(0, 1, 0, 1, List.of()));
+
+        assertThat(underTest.getPossiblyUnmatchedPatches()).containsExactly(PATCH);
+    }
+
+    private static final class RemovalModel extends AbstractWriteModel {
+
+        private RemovalModel(final Metadata metadata) {
+            super(metadata);
+        }
+
+        @Override
+        public WriteModel<Document> toMongo() {
+            return new DeleteOneModel<>(getFilter());
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingRe
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingPatchModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
@@ -120,6 +121,29 @@ public final class BulkWriteResultAckFlowTest {
         assertThat(message).contains("NotAcknowledged: UnexpectedError", "MongoSocketReadException");
     }
 
+    @Test
+    public void unmatchedPatchIsAcknowledgedAsFailure() {
+        final ThingId thingId = ThingId.of("thing", "patched");
+        final Metadata previousMetadata = Metadata.of(thingId, 1L, PolicyId.of(thingId), 1L);
+        final Metadata nextMetadata = Metadata.of(thingId, 2L, PolicyId.of(thingId), 1L);
+        final ThingPatchModel patch = ThingPatchModel.of(
+                ThingWriteModel.of(previousMetadata, new Document("_revision", 1L).append("__policyRev", 1L)),
+                ThingWriteModel.of(nextMetadata, new Document("_revision", 2L).append("__policyRev", 1L))
+        ).orElseThrow();
+        final List<AbstractWriteModel> writeModels = List.of(patch);
+
+        // WHEN: the search index document was changed by someone else so that the patch matched nothing
+        final WriteResultAndErrors resultAndErrors =
+                WriteResultAndErrors.success(writeModels, BulkWriteResult.acknowledged(0, 0, 0, 0, List.of()));
+        final String message = runBulkWriteResultAckFlowAndGetFirstLogEntry(resultAndErrors);
+
+        // THEN: the ThingUpdater receives a negative acknowledgement in order to retry
+        actorSystem.log().info(message);
+        assertThat(expectUpdateThingResponse(thingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+    }
+
     // test that indices in bulk write errors are all within bounds.
     // upsert indexes are not checked since they do not participate in acknowledgement handling.
     @Test
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the partitioning of {@link ChangeQueueActor}s.
+ */
+public final class ChangeQueueActorTest {
+
+    private static final int PARTITIONS = 4;
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void stopActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void thingsAreDistributedOverAllPartitions() {
+        final int[] thingsPerPartition = new int[PARTITIONS];
+        for (int i = 0; i < 1000; ++i) {
+            final ThingId thingId = thingId(i);
+            final int partition = ChangeQueueActor.getPartition(thingId, PARTITIONS);
+
+            assertThat(partition).isBetween(0, PARTITIONS - 1);
+            assertThat(ChangeQueueActor.getPartition(ThingId.of(thingId.toString()), PARTITIONS))
+                    .isEqualTo(partition);
+            ++thingsPerPartition[partition];
+        }
+
+        for (final int things : thingsPerPartition) {
+            assertThat(things).isGreaterThan(150);
+        }
+    }
+
+    @Test
+    public void changesAreDumpedInOrderPerPartition() throws Exception {
+        final List<ActorRef> changeQueueActors = new ArrayList<>(PARTITIONS);
+        for (int partition = 0; partition < PARTITIONS; ++partition) {
+            changeQueueActors.add(actorSystem.actorOf(ChangeQueueActor.props(partition)));
+        }
+        final int things = 100;
+        for (long revision = 1L; revision <= 3L; ++revision) {
+            for (int i = 0; i < things; ++i) {
+                final ThingId thingId = thingId(i);
+                changeQueueActors.get(ChangeQueueActor.getPartition(thingId, PARTITIONS))
+                        .tell(Metadata.of(thingId, revision, null, null), ActorRef.noSender());
+            }
+        }
+
+        int dumpedThings = 0;
+        for (int partition = 0; partition < PARTITIONS; ++partition) {
+            final Map<ThingId, Metadata> dump = dumpOnce(changeQueueActors.get(partition));
+            for (final Map.Entry<ThingId, Metadata> entry : dump.entrySet()) {
+                assertThat(ChangeQueueActor.getPartition(entry.getKey(), PARTITIONS)).isEqualTo(partition);
+                // the last change of each thing wins
+                assertThat(entry.getValue().getThingRevision()).isEqualTo(3L);
+            }
+            dumpedThings += dump.size();
+        }
+        assertThat(dumpedThings).isEqualTo(things);
+    }
+
+    private Map<ThingId, Metadata> dumpOnce(final ActorRef changeQueueActor) throws Exception {
+        return ChangeQueueActor.createSource(changeQueueActor, Duration.ofMillis(1L))
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static ThingId thingId(final int i) {
+        return ThingId.of("org.eclipse.ditto", "thing-" + i);
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of count results keyed by filter, namespaces and authorization subjects of {@link CountThings} commands.
+ * Cached counts expire after the configured times since writing and last access and are dropped when search index
+ * entries of their namespaces are written.
+ * <p>
+ * Counts of commands without namespaces span all namespaces. They are dropped on every write to the search index and
+ * are thus only served from the cache while the index is not written.
+ * </p>
+ */
+@ThreadSafe
+final class CountCache {
+
+    private final Cache<Key, Long> cache;
+    private final AtomicLong generation;
+
+    private CountCache(final Cache<Key, Long> cache) {
+        this.cache = cache;
+        generation = new AtomicLong();
+    }
+
+    /**
+     * Create a count cache.
+     *
+     * @param cacheConfig maximum size and expiry of the cache.
+     * @return the count cache.
+     */
+    static CountCache of(final CacheConfig cacheConfig) {
+        return new CountCache(Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .expireAfterAccess(cacheConfig.getExpireAfterAccess())
+                .build());
+    }
+
+    /**
+     * Look up the cached count of a command.
+     *
+     * @param countThings the command.
+     * @param approximate whether the count is approximate.
+     * @return the cached count, if any.
+     */
+    Optional<Long> get(final CountThings countThings, final boolean approximate) {
+        return Optional.ofNullable(cache.getIfPresent(Key.of(countThings, approximate)));
+    }
+
+    /**
+     * Return the generation of the cache, which changes whenever counts are dropped. It has to be retrieved before
+     * counting in order to cache the count.
+     *
+     * @return the generation.
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the count of a command unless counts were dropped since the count started. Such a count may miss the
+     * write which caused the drop.
+     *
+     * @param countThings the command.
+     * @param approximate whether the count is approximate.
+     * @param count the count.
+     * @param generationBeforeCount the generation of the cache before the count started.
+     */
+    void put(final CountThings countThings, final boolean approximate, final long count,
+            final long generationBeforeCount) {
+
+        final Key key = Key.of(countThings, approximate);
+        cache.put(key, count);
+        // check after putting: an invalidation either changed the generation already or removes the count afterwards
+        if (generation.get() != generationBeforeCount) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Drop all counts which may include things of the given namespaces.
+     *
+     * @param namespaces namespaces of written search index entries.
+     */
+    void invalidate(final Collection<String> namespaces) {
+        if (!namespaces.isEmpty()) {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.mayInclude(namespaces));
+        }
+    }
+
+    private static final class Key {
+
+        @Nullable private final String filter;
+        @Nullable private final Set<String> namespaces;
+        private final Set<String> authorizationSubjectIds;
+        private final boolean approximate;
+
+        private Key(@Nullable final String filter,
+                @Nullable final Set<String> namespaces,
+                final Set<String> authorizationSubjectIds,
+                final boolean approximate) {
+
+            this.filter = filter;
+            this.namespaces = namespaces;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+            this.approximate = approximate;
+        }
+
+        private static Key of(final CountThings countThings, final boolean approximate) {
+            final List<String> subjectIds =
+                    countThings.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+            return new Key(countThings.getFilter().orElse(null),
+                    countThings.getNamespaces().map(Set::copyOf).orElse(null),
+                    Set.copyOf(subjectIds),
+                    approximate);
+        }
+
+        private boolean mayInclude(final Collection<String> writtenNamespaces) {
+            // counts without namespaces span all namespaces
+            return namespaces == null || !Collections.disjoint(namespaces, writtenNamespaces);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return approximate == that.approximate &&
+                    Objects.equals(filter, that.filter) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(authorizationSubjectIds, that.authorizationSubjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, namespaces, authorizationSubjectIds, approximate);
+        }
+
+    }
+
+}
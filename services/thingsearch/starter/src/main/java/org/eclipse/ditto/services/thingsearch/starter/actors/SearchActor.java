@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.starter.actors;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -24,6 +25,7 @@ import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -34,9 +36,11 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.SearchIndexUpdated;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
@@ -80,7 +84,11 @@ import akka.stream.javadsl.StreamRefs;
  * Query executes against the passed {@link ThingsSearchPersistence}.
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
- * things have to be retrieved from Things Service via distributed pub/sub.
+ * things have to be retrieved from Things Service via distributed pub/sub. If the header
+ * {@code search-index-projection} is set, the things are instead projected from the search index.
+ * <p>
+ * Results of {@link CountThings} are cached for a short time if configured. The cache drops counts of namespaces
+ * written by the search updater of the same instance.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -101,14 +109,19 @@ public final class SearchActor extends AbstractActor {
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final int approximateCountSampleSize;
+    @Nullable private final CountCache countCache;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final CountConfig countConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        approximateCountSampleSize = countConfig.getApproximateSampleSize();
+        countCache = countConfig.isCacheEnabled() ? CountCache.of(countConfig.getCacheConfig()) : null;
     }
 
     /**
@@ -116,19 +129,29 @@ public final class SearchActor extends AbstractActor {
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param countConfig the configuration settings for counting things.
      * @return the Akka configuration Props object.
      */
     static Props props(
             final QueryParser queryFactory,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final CountConfig countConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, countConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
+    @Override
+    public void preStart() {
+        if (countCache != null) {
+            getSystem().getEventStream().subscribe(getSelf(), SearchIndexUpdated.class);
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
+                .match(SearchIndexUpdated.class, this::invalidateCounts)
                 .match(CountThings.class, this::count)
                 .match(SudoCountThings.class, this::sudoCount)
                 .match(QueryThings.class, this::query)
@@ -148,17 +171,37 @@ public final class SearchActor extends AbstractActor {
                 .to(getSender());
     }
 
+    private void invalidateCounts(final SearchIndexUpdated searchIndexUpdated) {
+        if (countCache != null) {
+            countCache.invalidate(searchIndexUpdated.getNamespaces());
+        }
+    }
+
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        final boolean approximate = isApproximateCountRequested(countThings.getDittoHeaders());
+        final Optional<Long> cachedCount = Optional.ofNullable(countCache)
+                .flatMap(cache -> cache.get(countThings, approximate));
+        if (cachedCount.isPresent()) {
+            log.withCorrelationId(countThings).debug("Answering CountThings from cache: {}", countThings);
+            getSender().tell(CountThingsResponse.of(cachedCount.get(), countThings.getDittoHeaders()), getSelf());
+        } else if (countCache != null) {
+            final long generation = countCache.getGeneration();
+            executeCount(countThings, queryParser::parse, false, approximate,
+                    count -> countCache.put(countThings, approximate, count, generation));
+        } else {
+            executeCount(countThings, queryParser::parse, false, approximate, count -> {});
+        }
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true, false, count -> {});
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final boolean isSudo,
+            final boolean approximate,
+            final Consumer<Long> countConsumer) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         log.withCorrelationId(dittoHeaders)
                 .info("Processing CountThings command: {}", countCommand);
@@ -178,14 +221,22 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final List<String> subjectIds =
+                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+                    final Source<Long, NotUsed> countResultSource;
+                    if (isSudo) {
+                        countResultSource = searchPersistence.sudoCount(query);
+                    } else if (approximate) {
+                        countResultSource =
+                                searchPersistence.approximateCount(query, subjectIds, approximateCountSampleSize);
+                    } else {
+                        countResultSource = searchPersistence.count(query, subjectIds);
+                    }
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
                                 stopTimer(databaseAccessTimer);
+                                countConsumer.accept(result);
                                 return result;
                             }))
                             .map(count -> CountThingsResponse.of(count, dittoHeaders));
@@ -258,6 +309,18 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
+                        if (isSearchIndexProjectionRequested(dittoHeaders)) {
+                            final Source<ResultList<JsonObject>, NotUsed> findAllResult =
+                                    searchPersistence.findAllWithIndexProjection(query, subjectIds, namespaces,
+                                            command.getFields().orElse(null));
+                            return processSearchPersistenceResult(findAllResult, dittoHeaders)
+                                    .via(Flow.fromFunction(result -> {
+                                        stopTimer(databaseAccessTimer);
+                                        return result;
+                                    }))
+                                    .map(things -> toQueryThingsResponse(command, cursor.orElse(null), things,
+                                            Function.identity()));
+                        }
                         final Source<ResultList<ThingId>, NotUsed> findAllResult =
                                 searchPersistence.findAll(query, subjectIds, namespaces);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
@@ -265,7 +328,8 @@ public final class SearchActor extends AbstractActor {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids,
+                                        SearchActor::toThingIdObject));
                     });
         });
 
@@ -322,30 +386,57 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
-    private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
+    private static <T> QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<T> results,
+            final Function<T, JsonObject> toItem) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
-        if (thingIds.isEmpty()) {
+        if (results.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
         } else {
-            // only respond with the determined "thingIds", the lookup of the things is done in gateway:
-            final JsonArray items = thingIds.stream()
-                    .map(JsonValue::of)
-                    .map(jsonStr -> JsonObject.newBuilder()
-                            .set(Thing.JsonFields.ID.getPointer(), jsonStr)
-                            .build()
-                    )
+            final JsonArray items = results.stream()
+                    .map(toItem)
                     .collect(JsonCollectors.valuesToArray());
-            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, thingIds.nextPageOffset());
+            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, results.nextPageOffset());
             final SearchResult processedResults =
-                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, results);
 
             return QueryThingsResponse.of(processedResults, dittoHeaders);
         }
     }
 
+    private static JsonObject toThingIdObject(final ThingId thingId) {
+        // only respond with the determined "thingIds", the lookup of the things is done in gateway:
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID.getPointer(), JsonValue.of(thingId))
+                .build();
+    }
+
+    /**
+     * Whether a count may be estimated instead of being counted exactly.
+     *
+     * @param dittoHeaders headers of the count command.
+     * @return whether the header {@code search-count-approximate} is {@code true}.
+     */
+    private static boolean isApproximateCountRequested(final DittoHeaders dittoHeaders) {
+        return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.SEARCH_COUNT_APPROXIMATE.getKey()))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
+    /**
+     * Whether the things are to be projected from the search index instead of being retrieved by the gateway.
+     *
+     * @param dittoHeaders headers of the query command.
+     * @return whether the header {@code search-index-projection} is {@code true}.
+     */
+    private static boolean isSearchIndexProjectionRequested(final DittoHeaders dittoHeaders) {
+        return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey()))
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.expiringTimer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
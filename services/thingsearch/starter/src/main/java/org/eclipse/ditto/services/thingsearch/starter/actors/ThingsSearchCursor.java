@@ -51,7 +51,6 @@ import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.CursorOption;
 import org.eclipse.ditto.model.thingsearch.LimitOption;
 import org.eclipse.ditto.model.thingsearch.Option;
@@ -454,7 +453,7 @@ final class ThingsSearchCursor {
     static SearchResult processSearchResult(final QueryThings queryThings,
             @Nullable final ThingsSearchCursor cursor,
             final SearchResult searchResult,
-            final ResultList<ThingId> resultList) {
+            final ResultList<?> resultList) {
 
         if (!findAll(LimitOption.class, getOptions(queryThings)).isEmpty()) {
             // do not deliver cursor if "limit" is specified
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link CountCache}.
+ */
+public final class CountCacheTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("ditto:ditto")))
+            .build();
+
+    private static final CountThings COUNT_IN_NAMESPACE = CountThings.of("eq(attributes/x,1)", Set.of("a"), HEADERS);
+    private static final CountThings COUNT_ALL = CountThings.of("eq(attributes/x,1)", null, HEADERS);
+
+    private CountCache underTest;
+
+    @Before
+    public void init() {
+        underTest = CountCache.of(DefaultCacheConfig.of(ConfigFactory.parseString("cache.maximum-size=100"), "cache"));
+    }
+
+    @Test
+    public void returnsCachedCountOfEqualCommand() {
+        underTest.put(COUNT_IN_NAMESPACE, false, 5L, underTest.getGeneration());
+
+        final CountThings equalCommand = CountThings.of("eq(attributes/x,1)", Set.of("a"), DittoHeaders.newBuilder()
+                .authorizationContext(HEADERS.getAuthorizationContext())
+                .correlationId("other")
+                .build());
+
+        assertThat(underTest.get(equalCommand, false)).contains(5L);
+        assertThat(underTest.get(COUNT_IN_NAMESPACE, true)).isEmpty();
+        assertThat(underTest.get(COUNT_ALL, false)).isEmpty();
+        assertThat(underTest.get(CountThings.of("eq(attributes/x,1)", Set.of("a"), DittoHeaders.empty()), false))
+                .isEmpty();
+    }
+
+    @Test
+    public void invalidatesCountsOfWrittenNamespaces() {
+        underTest.put(COUNT_IN_NAMESPACE, false, 5L, underTest.getGeneration());
+        underTest.put(COUNT_ALL, false, 7L, underTest.getGeneration());
+
+        underTest.invalidate(List.of("b"));
+
+        assertThat(underTest.get(COUNT_IN_NAMESPACE, false)).contains(5L);
+        assertThat(underTest.get(COUNT_ALL, false)).isEmpty();
+
+        underTest.invalidate(List.of("a"));
+
+        assertThat(underTest.get(COUNT_IN_NAMESPACE, false)).isEmpty();
+    }
+
+    @Test
+    public void doesNotCacheCountStartedBeforeInvalidation() {
+        final long generation = underTest.getGeneration();
+
+        underTest.invalidate(List.of("b"));
+        underTest.put(COUNT_IN_NAMESPACE, false, 5L, generation);
+
+        assertThat(underTest.get(COUNT_IN_NAMESPACE, false)).isEmpty();
+
+        underTest.put(COUNT_IN_NAMESPACE, false, 6L, underTest.getGeneration());
+
+        assertThat(underTest.get(COUNT_IN_NAMESPACE, false)).contains(6L);
+    }
+
+}
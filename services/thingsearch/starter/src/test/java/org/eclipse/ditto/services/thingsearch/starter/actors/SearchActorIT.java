@@ -36,6 +36,8 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -72,6 +74,8 @@ public final class SearchActorIT {
             AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
                     AuthorizationSubject.newInstance("ditto:ditto"));
 
+    private static final CountConfig COUNT_CONFIG = DefaultCountConfig.of(ConfigFactory.empty());
+
     private static QueryParser queryParser;
     @ClassRule
     public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
@@ -144,7 +148,8 @@ public final class SearchActorIT {
     @Test
     public void testSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, COUNT_CONFIG));
 
             insertTestThings();
 
@@ -159,7 +164,8 @@ public final class SearchActorIT {
     @Test
     public void testStream() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, COUNT_CONFIG));
 
             insertTestThings();
 
@@ -181,7 +187,8 @@ public final class SearchActorIT {
     @Test
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, COUNT_CONFIG));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.pubsub.ThingEventPubSubFactory;
@@ -101,15 +104,16 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = startChildActor(ChangeQueueActor.ACTOR_NAME, ChangeQueueActor.props());
+        final List<ActorRef> changeQueueActors = startChangeQueueActors(searchConfig.getStreamConfig().getPartitions());
 
-        final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
+        final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActors);
 
         final ActorRef updaterShardRegion =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
-                        updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                        updaterShardRegion, changeQueueActors, dittoMongoClient.getDefaultDatabase(),
+                        blockedNamespaces);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
@@ -219,6 +223,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         return getContext().actorOf(props, actorName);
     }
 
+    private List<ActorRef> startChangeQueueActors(final int partitions) {
+        final List<ActorRef> changeQueueActors = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; ++partition) {
+            changeQueueActors.add(startChildActor(ChangeQueueActor.getActorName(partition),
+                    ChangeQueueActor.props(partition)));
+        }
+        return changeQueueActors;
+    }
+
     private ActorRef startClusterSingletonActor(final String actorName, final Props props) {
         return ClusterUtil.startSingleton(getContext(), SEARCH_ROLE, actorName, props);
     }
@@ -228,7 +241,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ShardRegionFactory shardRegionFactory,
             final int numberOfShards,
             final ActorRef updaterShard,
-            final ActorRef changeQueueActor,
+            final List<ActorRef> changeQueueActors,
             final MongoDatabase mongoDatabase,
             final BlockedNamespaces blockedNamespaces) {
 
@@ -237,7 +250,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final SearchUpdaterStream searchUpdaterStream =
                 SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, mongoDatabase, blockedNamespaces);
+                        changeQueueActors, mongoDatabase, blockedNamespaces);
 
         return searchUpdaterStream.start(getContext());
     }
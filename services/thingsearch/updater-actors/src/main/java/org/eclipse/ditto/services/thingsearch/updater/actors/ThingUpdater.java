@@ -17,25 +17,35 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.events.ThingEventStrategies;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.AbstractActor;
@@ -47,6 +57,12 @@ import akka.cluster.sharding.ShardRegion;
 
 /**
  * This Actor initiates persistence updates related to 1 thing.
+ * <p>
+ * If {@code max-cached-thing-size} is positive, the actor keeps the state of its thing as long as the state is not
+ * larger than the configured size. It applies received thing events to the kept state with the same strategies as
+ * the things service, so that the search updater does not have to retrieve the thing on each change. The kept state
+ * is dropped after a revision gap or a failed search index update; the next retrieved thing replaces it.
+ * </p>
  */
 final class ThingUpdater extends AbstractActor {
 
@@ -54,21 +70,29 @@ final class ThingUpdater extends AbstractActor {
     private final ThingId thingId;
     private final ShutdownBehaviour shutdownBehaviour;
     private final ActorRef changeQueueActor;
+    private final int maxCachedThingSize;
 
     // state of Thing and Policy
     private long thingRevision = -1L;
     @Nullable private PolicyId policyId = null;
     private long policyRevision = -1L;
 
+    // kept state of the Thing with its revision and estimated size
+    @Nullable private Thing cachedThing = null;
+    private long cachedThingRevision = -1L;
+    private long cachedThingSize = 0L;
+
     @SuppressWarnings("unused") //It is used via reflection. See props method.
-    private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+    private ThingUpdater(final ActorRef pubSubMediator, final List<ActorRef> changeQueueActors) {
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         final DittoSearchConfig dittoSearchConfig = DittoSearchConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         thingId = tryToGetThingId();
         shutdownBehaviour = ShutdownBehaviour.fromId(thingId, pubSubMediator, getSelf());
-        this.changeQueueActor = changeQueueActor;
+        changeQueueActor =
+                changeQueueActors.get(ChangeQueueActor.getPartition(thingId, changeQueueActors.size()));
+        maxCachedThingSize = dittoSearchConfig.getUpdaterConfig().getMaxCachedThingSize();
 
         getContext().setReceiveTimeout(dittoSearchConfig.getUpdaterConfig().getMaxIdleTime());
     }
@@ -77,12 +101,12 @@ final class ThingUpdater extends AbstractActor {
      * Creates Akka configuration object for this actor.
      *
      * @param pubSubMediator Akka pub-sub mediator.
-     * @param changeQueueActor reference of the change queue actor.
+     * @param changeQueueActors references of the change queue actors, one per partition.
      * @return the Akka configuration Props object
      */
-    static Props props(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+    static Props props(final ActorRef pubSubMediator, final List<ActorRef> changeQueueActors) {
 
-        return Props.create(ThingUpdater.class, pubSubMediator, changeQueueActor);
+        return Props.create(ThingUpdater.class, pubSubMediator, changeQueueActors);
     }
 
     @Override
@@ -93,6 +117,7 @@ final class ThingUpdater extends AbstractActor {
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
                 .match(UpdateThing.class, this::updateThing)
                 .match(UpdateThingResponse.class, this::processUpdateThingResponse)
+                .match(SudoRetrieveThingResponse.class, this::processSudoRetrieveThingResponse)
                 .match(ReceiveTimeout.class, this::stopThisActor)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
@@ -107,10 +132,18 @@ final class ThingUpdater extends AbstractActor {
     }
 
     /**
-     * Export the metadata of this updater.
+     * Export the metadata of this updater together with the kept thing if it is up-to-date.
+     * If no up-to-date thing is kept, ask for the thing to be sent back after retrieval.
      */
     private Metadata exportMetadata() {
-        return Metadata.of(thingId, thingRevision, policyId, policyRevision);
+        final Metadata metadata = Metadata.of(thingId, thingRevision, policyId, policyRevision);
+        if (cachedThing != null && cachedThingRevision == thingRevision) {
+            return metadata.withThing(cachedThing);
+        } else if (isThingCacheEnabled()) {
+            return metadata.withOrigin(getSelf());
+        } else {
+            return metadata;
+        }
     }
 
     /**
@@ -147,6 +180,8 @@ final class ThingUpdater extends AbstractActor {
 
     private void processUpdateThingResponse(final UpdateThingResponse response) {
         if (!response.isSuccess()) {
+            // do not trust the kept thing after a failure; retrieve it instead
+            clearCachedThing();
             final Metadata metadata = exportMetadata();
             log.warning("Got negative acknowledgement for <{}>; updating to <{}>.",
                     Metadata.fromResponse(response),
@@ -179,6 +214,10 @@ final class ThingUpdater extends AbstractActor {
         log.withCorrelationId(thingEvent);
         log.debug("Received new thing event for thing id <{}> with revision <{}>.", thingId, thingEvent.getRevision());
 
+        if (isThingCacheEnabled()) {
+            applyToCachedThing(thingEvent);
+        }
+
         // check if the revision is valid (thingEvent.revision = 1 + sequenceNumber)
         if (thingEvent.getRevision() <= thingRevision) {
             log.debug("Dropped thing event for thing id <{}> with revision <{}> because it was older than or "
@@ -191,6 +230,68 @@ final class ThingUpdater extends AbstractActor {
         }
     }
 
+    private void processSudoRetrieveThingResponse(final SudoRetrieveThingResponse response) {
+        if (!isThingCacheEnabled()) {
+            return;
+        }
+        final JsonObject thingJson = response.getEntity().asObject();
+        final Thing thing = ThingsModelFactory.newThing(thingJson);
+        final long revision = thing.getRevision().map(ThingRevision::toLong).orElse(-1L);
+        // a retrieved thing older than the known revision cannot be brought up-to-date by future events
+        if (revision >= thingRevision && revision > cachedThingRevision) {
+            log.debug("Keeping retrieved thing <{}> with revision <{}>.", thingId, revision);
+            setCachedThing(thing, revision, thingJson.getUpperBoundForStringSize());
+        }
+    }
+
+    private void applyToCachedThing(final ThingEvent<?> thingEvent) {
+        final long revision = thingEvent.getRevision();
+        if (revision <= cachedThingRevision) {
+            // the kept thing includes the event already
+            return;
+        }
+        if (thingEvent instanceof ThingCreated) {
+            // the event contains the whole thing
+            setCachedThing(ThingEventStrategies.getInstance().handle(thingEvent, null, revision), revision,
+                    estimateSize(thingEvent));
+        } else if (cachedThing != null && revision == cachedThingRevision + 1) {
+            setCachedThing(ThingEventStrategies.getInstance().handle(thingEvent, cachedThing, revision), revision,
+                    cachedThingSize + estimateSize(thingEvent));
+        } else {
+            log.debug("Dropping kept thing <{}> with revision <{}> due to event with revision <{}>.", thingId,
+                    cachedThingRevision, revision);
+            clearCachedThing();
+        }
+    }
+
+    private void setCachedThing(@Nullable final Thing thing, final long revision, final long size) {
+        if (thing != null && size <= maxCachedThingSize) {
+            cachedThing = thing;
+            cachedThingRevision = revision;
+            cachedThingSize = size;
+        } else {
+            clearCachedThing();
+        }
+    }
+
+    private void clearCachedThing() {
+        cachedThing = null;
+        cachedThingRevision = -1L;
+        cachedThingSize = 0L;
+    }
+
+    private boolean isThingCacheEnabled() {
+        return maxCachedThingSize > 0;
+    }
+
+    /**
+     * Estimate by how much an event can enlarge a thing. The estimate never decreases, so that the kept thing is
+     * retrieved again after it was changed often enough.
+     */
+    private static long estimateSize(final ThingEvent<?> thingEvent) {
+        return thingEvent.getEntity().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+    }
+
     private ThingId tryToGetThingId() {
         final Charset utf8 = StandardCharsets.UTF_8;
         try {
@@ -32,6 +32,8 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -375,6 +377,14 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<ResultList<JsonObject>, NotUsed> findAllWithIndexProjection(final Query query,
+                final List<String> authorizationSubjectIds,
+                @Nullable final Set<String> namespaces,
+                @Nullable final JsonFieldSelector fields) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
                 @Nullable final Set<String> namespaces) {
@@ -12,8 +12,16 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.AccessControlList;
 import org.eclipse.ditto.model.things.AccessControlListModelFactory;
@@ -25,12 +33,14 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.After;
@@ -39,6 +49,7 @@ import org.junit.Test;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -255,6 +266,62 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void keepsThingAndAppliesEvents() {
+        startActorSystem(ConfigFactory.load("test")
+                .withValue("ditto.things-search.updater.max-cached-thing-size", ConfigValueFactory.fromAnyRef(10_000)));
+        final JsonPointer attributePointer = JsonPointer.of("counter");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                // GIVEN: the thing is created
+                underTest.tell(ThingCreated.of(thing, 1L, DittoHeaders.empty()), ActorRef.noSender());
+                final Metadata created = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(created.getThing()).isNotEmpty();
+
+                // WHEN: the next event arrives
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, JsonValue.of(1), 2L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the event is applied to the kept thing
+                final Metadata modified = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(modified.getThingRevision()).isEqualTo(2L);
+                assertThat(modified.getThing().flatMap(Thing::getAttributes)
+                        .flatMap(attributes -> attributes.getValue(attributePointer)))
+                        .contains(JsonValue.of(1));
+
+                // WHEN: an event is missed
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, JsonValue.of(3), 4L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the thing is to be retrieved and sent back to the updater
+                final Metadata afterGap = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(afterGap.getThing()).isEmpty();
+                assertThat(afterGap.getOrigin()).contains(underTest);
+
+                // WHEN: the retrieved thing arrives
+                final Thing retrievedThing = thing.toBuilder()
+                        .setAttribute(attributePointer, JsonValue.of(3))
+                        .setRevision(4L)
+                        .build();
+                underTest.tell(SudoRetrieveThingResponse.of(
+                        retrievedThing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                        DittoHeaders.empty()),
+                        ActorRef.noSender());
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, JsonValue.of(5), 5L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: later events are applied to the retrieved thing
+                final Metadata afterRetrieval = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(afterRetrieval.getThing().flatMap(Thing::getAttributes)
+                        .flatMap(attributes -> attributes.getValue(attributePointer)))
+                        .contains(JsonValue.of(5));
+            }
+        };
+    }
+
     @Test
     public void shutdownOnCommand() {
         new TestKit(actorSystem) {
@@ -275,7 +342,7 @@ public final class ThingUpdaterTest {
     }
 
     private ActorRef createThingUpdaterActor() {
-        return actorSystem.actorOf(ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref()),
+        return actorSystem.actorOf(ThingUpdater.props(pubSubTestProbe.ref(), List.of(changeQueueTestProbe.ref())),
                 THING_ID.toString());
     }
 }
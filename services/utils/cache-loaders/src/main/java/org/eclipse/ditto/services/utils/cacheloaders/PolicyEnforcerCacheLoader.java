@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -48,6 +49,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         Entry<Enforcer>> {
 
     private final ActorAskCacheLoader<Enforcer, Command> delegate;
+    private final Function<Enforcer, Enforcer> enforcerDecorator;
 
     /**
      * Constructor.
@@ -56,12 +58,25 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, Function.identity());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param enforcerDecorator applied to the enforcer of each loaded policy revision, e.g. to cache decisions.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            final Function<Enforcer, Enforcer> enforcerDecorator) {
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
+        this.enforcerDecorator = requireNonNull(enforcerDecorator);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
         final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
+                this::handleSudoRetrievePolicyResponse;
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -73,14 +88,14 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         return delegate.asyncLoad(key, executor);
     }
 
-    private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
+    private Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
             @Nullable final CacheLookupContext cacheLookupContext) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, enforcerDecorator.apply(PolicyEnforcers.defaultEvaluator(policy)));
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.utils.cache;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -91,4 +93,16 @@ public interface Cache<K, V> {
     default void invalidateAll(final Collection<K> keys) {
         keys.forEach(this::invalidate);
     }
+
+    /**
+     * Returns the cached keys which are most likely to be accessed again, the hottest key first. Caches which do not
+     * track the access frequency of their keys return an empty list.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the hottest keys.
+     * @since 2.0.0
+     */
+    default List<K> getHottestKeys(final int limit) {
+        return Collections.emptyList();
+    }
 }
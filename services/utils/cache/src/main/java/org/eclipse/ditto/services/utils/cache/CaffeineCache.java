@@ -14,7 +14,10 @@ package org.eclipse.ditto.services.utils.cache;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -222,4 +225,19 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    /**
+     * Returns the hottest keys according to the frequency sketch of Caffeine's eviction policy. Entries which are
+     * still being loaded are not included.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the hottest keys or an empty list if the cache is not bounded by size.
+     */
+    @Override
+    public List<K> getHottestKeys(final int limit) {
+        return synchronousCacheView.policy()
+                .eviction()
+                .<List<K>>map(eviction -> new ArrayList<>(eviction.hottest(limit).keySet()))
+                .orElseGet(Collections::emptyList);
+    }
+
 }
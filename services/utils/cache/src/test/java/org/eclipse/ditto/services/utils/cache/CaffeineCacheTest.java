@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tests {@link CaffeineCache}.
+ */
+public final class CaffeineCacheTest {
+
+    private static final AsyncCacheLoader<String, String> LOADER =
+            (key, executor) -> CompletableFuture.completedFuture(key);
+
+    @Test
+    public void getHottestKeysOfBoundedCache() {
+        final CaffeineCache<String, String> underTest =
+                CaffeineCache.of(Caffeine.newBuilder().maximumSize(10L).executor(Runnable::run), LOADER);
+        for (int i = 0; i < 5; i++) {
+            underTest.getBlocking("key" + i);
+        }
+
+        assertThat(underTest.getHottestKeys(3)).hasSize(3).doesNotHaveDuplicates();
+        assertThat(underTest.getHottestKeys(10)).containsExactlyInAnyOrder("key0", "key1", "key2", "key3", "key4");
+    }
+
+    @Test
+    public void getHottestKeysOfUnboundedCacheIsEmpty() {
+        final CaffeineCache<String, String> underTest = CaffeineCache.of(Caffeine.newBuilder(), LOADER);
+        underTest.getBlocking("key");
+
+        assertThat(underTest.getHottestKeys(10)).isEmpty();
+    }
+
+}
@@ -21,7 +21,10 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -44,6 +47,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.signals.base.JsonParsable;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.slf4j.Logger;
@@ -55,8 +59,6 @@ import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorSystem;
 import akka.actor.ExtendedActorSystem;
-import akka.io.BufferPool;
-import akka.io.DirectByteBufferPool;
 import akka.serialization.ByteBufferSerializer;
 import akka.serialization.SerializerWithStringManifest;
 
@@ -77,24 +79,41 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
             JsonFactory.newJsonValueFieldDefinition("payload");
 
-    private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
-    private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
-            "akka.actor.serializers-json.direct-buffer-pool-limit";
+    private static final String CONFIG_INITIAL_BUFFER_SIZE = "akka.actor.serializers-json.initial-buffer-size";
+    private static final String CONFIG_BUFFER_POOL_LIMIT = "akka.actor.serializers-json.buffer-pool-limit";
+    private static final String CONFIG_MAX_POOLED_BUFFER_SIZE = "akka.actor.serializers-json.max-pooled-buffer-size";
+    private static final String CONFIG_MAX_BUFFER_SIZE = "akka.actor.serializers-json.max-buffer-size";
+    private static final String CONFIG_LAZY_JSON_OBJECTS = "akka.actor.serializers-json.lazy-json-objects";
+    private static final String CONFIG_PASS_THROUGH_PAYLOADS_MAX_SIZE =
+            "akka.actor.serializers-json.pass-through-payloads-max-size";
 
     private static final Config FALLBACK_CONF = ConfigFactory.empty()
-            .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
-            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
+            .withValue(CONFIG_INITIAL_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
+            .withValue(CONFIG_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"))
+            .withValue(CONFIG_MAX_POOLED_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("1 MiB"))
+            .withValue(CONFIG_MAX_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 MiB"))
+            .withValue(CONFIG_LAZY_JSON_OBJECTS, ConfigValueFactory.fromAnyRef(false))
+            .withValue(CONFIG_PASS_THROUGH_PAYLOADS_MAX_SIZE, ConfigValueFactory.fromAnyRef("0"));
 
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
+    private static final String METRIC_BYTES_NAME_SUFFIX = "_serializer_bytes";
+    private static final String METRIC_SIZE_NAME_SUFFIX = "_serializer_message_size";
     private static final String METRIC_DIRECTION = "direction";
+    private static final String METRIC_MANIFEST = "manifest";
+    private static final String METRIC_PAYLOAD = "payload";
+    private static final String PAYLOAD_PASSED_THROUGH = "passed_through";
+    private static final String PAYLOAD_RE_ENCODED = "re_encoded";
 
     private final int identifier;
     private final MappingStrategies mappingStrategies;
     private final Function<Object, String> manifestProvider;
-    private final BufferPool byteBufferPool;
-    private final Long defaultBufferSize;
+    private final GrowableByteBufferPool byteBufferPool;
+    private final boolean lazyJsonObjects;
+    private final PassThroughPayloads passThroughPayloads;
     private final Counter inCounter;
-    private final Counter outCounter;
+    private final Map<String, Counter> outCounters;
+    private final Map<String, Counter> outBytesCounters;
+    private final Map<String, Histogram> sizeHistograms;
     private final String serializerName;
 
     /**
@@ -117,14 +136,21 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
         final ActorSystem.Settings settings = actorSystem.settings();
         final Config config = settings.config();
-        defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
-        final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
-        byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        final Config configWithFallback = config.withFallback(FALLBACK_CONF);
+        byteBufferPool = GrowableByteBufferPool.of(
+                configWithFallback.getBytes(CONFIG_INITIAL_BUFFER_SIZE).intValue(),
+                configWithFallback.getBytes(CONFIG_MAX_POOLED_BUFFER_SIZE).intValue(),
+                configWithFallback.getBytes(CONFIG_MAX_BUFFER_SIZE).intValue(),
+                configWithFallback.getInt(CONFIG_BUFFER_POOL_LIMIT));
+        lazyJsonObjects = config.withFallback(FALLBACK_CONF).getBoolean(CONFIG_LAZY_JSON_OBJECTS);
+        passThroughPayloads =
+                PassThroughPayloads.of(configWithFallback.getBytes(CONFIG_PASS_THROUGH_PAYLOADS_MAX_SIZE));
 
         inCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "in");
-        outCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
-                .tag(METRIC_DIRECTION, "out");
+        outCounters = new ConcurrentHashMap<>();
+        outBytesCounters = new ConcurrentHashMap<>();
+        sizeHistograms = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -140,47 +166,96 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
-            final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
+            final OutgoingMessage outgoingMessage = toOutgoingMessage(object);
+            final int startPosition = buf.position();
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
-                outCounter.increment();
+                writeOutgoingMessage(outgoingMessage, buf);
             } catch (final BufferOverflowException e) {
-                final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
-                LOG.error(errorMessage, e);
-                throw new IllegalArgumentException(errorMessage, e);
-            } catch (final IOException e) {
-                final String errorMessage = MessageFormat.format(
-                        "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
-                LOG.warn(errorMessage, e);
-                throw new RuntimeException(errorMessage, e);
+                // discard the partially written message and fall back to the growing buffers of the pool
+                buf.position(startPosition);
+                final byte[] bytes = toBinary(object, outgoingMessage);
+                if (bytes.length > buf.remaining()) {
+                    LOG.warn("Serialized object <{}> has <{}> bytes, but the ByteBuffer has only <{}> bytes remaining.",
+                            object, bytes.length, buf.remaining());
+                    // Artery discards messages failing with BufferOverflowException as oversized payload
+                    throw e;
+                }
+                buf.put(bytes);
             }
         } else {
-            LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
-                    Jsonifiable.WithPredicate.class);
-            final String error = new NotSerializableException(object.getClass().getName()).getMessage();
-            buf.put(CHARSET.encode(error));
+            writeNotSerializable(object, buf);
         }
     }
 
+    private OutgoingMessage toOutgoingMessage(final Object object) {
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
+        jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
+
+        final Optional<JsonValue> passedThroughPayload = passThroughPayloads.get(object);
+        final JsonValue jsonValue = passedThroughPayload.orElseGet(() -> toJson(object, dittoHeaders));
+
+        jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
+        return new OutgoingMessage(manifest(object), jsonObjectBuilder.build(), passedThroughPayload.isPresent());
+    }
+
+    private void writeOutgoingMessage(final OutgoingMessage outgoingMessage, final ByteBuffer buf) {
+        final JsonObject jsonObject = outgoingMessage.jsonObject;
+        try {
+            final int startPosition = buf.position();
+            serializeIntoByteBuffer(jsonObject, buf);
+            LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+            countOutgoing(outgoingMessage.manifest, outgoingMessage.passedThrough, buf.position() - startPosition);
+        } catch (final IOException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Serialization failed with {} on Jsonifiable with string representation <{}>",
+                    e.getClass().getName(), jsonObject);
+            LOG.warn(errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private static void writeNotSerializable(final Object object, final ByteBuffer buf) {
+        LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
+                Jsonifiable.WithPredicate.class);
+        final String error = new NotSerializableException(object.getClass().getName()).getMessage();
+        buf.put(CHARSET.encode(error));
+    }
+
+    private static JsonValue toJson(final Object object, final DittoHeaders dittoHeaders) {
+        if (object instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+
+            return ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
+        }
+        return ((Jsonifiable<?>) object).toJson();
+    }
+
+    private void countOutgoing(final String manifest, final boolean passedThrough, final int bytes) {
+        final String payload = passedThrough ? PAYLOAD_PASSED_THROUGH : PAYLOAD_RE_ENCODED;
+        final String key = manifest + ':' + payload;
+        outCounters.computeIfAbsent(key, k -> createOutCounter(METRIC_NAME_SUFFIX, manifest, payload))
+                .increment();
+        outBytesCounters.computeIfAbsent(key, k -> createOutCounter(METRIC_BYTES_NAME_SUFFIX, manifest, payload))
+                .increment(bytes);
+        recordSize("out", manifest, bytes);
+    }
+
+    private void recordSize(final String direction, final String manifest, final long bytes) {
+        sizeHistograms.computeIfAbsent(direction + ':' + manifest,
+                k -> DittoMetrics.histogram(serializerName.toLowerCase() + METRIC_SIZE_NAME_SUFFIX)
+                        .tag(METRIC_DIRECTION, direction)
+                        .tag(METRIC_MANIFEST, manifest))
+                .record(bytes);
+    }
+
+    private Counter createOutCounter(final String metricNameSuffix, final String manifest, final String payload) {
+        return DittoMetrics.counter(serializerName.toLowerCase() + metricNameSuffix)
+                .tag(METRIC_DIRECTION, "out")
+                .tag(METRIC_MANIFEST, manifest)
+                .tag(METRIC_PAYLOAD, payload);
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -192,20 +267,33 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public byte[] toBinary(final Object object) {
-        final ByteBuffer buf = byteBufferPool.acquire();
+        return toBinary(object, object instanceof Jsonifiable ? toOutgoingMessage(object) : null);
+    }
 
+    private byte[] toBinary(final Object object, @Nullable final OutgoingMessage outgoingMessage) {
+        ByteBuffer buf = byteBufferPool.acquire();
         try {
-            toBinary(object, buf);
-            buf.flip();
-            final byte[] bytes = new byte[buf.remaining()];
-            buf.get(bytes);
-            return bytes;
-        } catch (final BufferOverflowException e) {
-            final String errorMessage =
-                    MessageFormat.format("BufferOverflow when serializing object <{0}>, max buffer size was: <{1}>",
-                            object, defaultBufferSize);
-            LOG.error(errorMessage, e);
-            throw new IllegalArgumentException(errorMessage, e);
+            while (true) {
+                try {
+                    if (null != outgoingMessage) {
+                        writeOutgoingMessage(outgoingMessage, buf);
+                    } else {
+                        writeNotSerializable(object, buf);
+                    }
+                    // the pooled buffers are heap buffers, thus this is a plain array copy
+                    return Arrays.copyOf(buf.array(), buf.position());
+                } catch (final BufferOverflowException e) {
+                    final Optional<ByteBuffer> biggerBuffer = byteBufferPool.grow(buf);
+                    if (!biggerBuffer.isPresent()) {
+                        final String errorMessage = MessageFormat.format(
+                                "BufferOverflow when serializing object <{0}>, max buffer size was: <{1}>",
+                                object, byteBufferPool.getMaxCapacity());
+                        LOG.error(errorMessage, e);
+                        throw new IllegalArgumentException(errorMessage, e);
+                    }
+                    buf = biggerBuffer.get();
+                }
+            }
         } finally {
             byteBufferPool.release(buf);
         }
@@ -225,6 +313,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        final int size = buf.remaining();
         try {
             final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
             if (LOG.isTraceEnabled()) {
@@ -232,6 +321,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                         BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
             }
             inCounter.increment();
+            recordSize("in", manifest, size);
             return jsonifiable;
         } catch (final NotSerializableException e) {
             return e;
@@ -259,6 +349,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer)
             throws NotSerializableException {
 
+        final int size = bytebuffer.remaining();
         final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer);
 
         final JsonObject jsonObject;
@@ -280,7 +371,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .map(DittoHeaders::newBuilder)
                 .orElseGet(DittoHeaders::newBuilder);
 
-        return deserializeJson(payload, manifest, dittoHeadersBuilder.build());
+        final Jsonifiable<?> result = deserializeJson(payload, manifest, dittoHeadersBuilder.build());
+        passThroughPayloads.remember(result, payload, size);
+        return result;
     }
 
     private Jsonifiable<?> deserializeJson(final JsonObject jsonPayload, final String manifest,
@@ -308,6 +401,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract JsonValue deserializeFromByteBuffer(ByteBuffer byteBuffer);
 
+    /**
+     * Indicates whether deserialized JSON objects should be decoded lazily, i. e. whether only their top-level fields
+     * should be indexed and the values decoded on first access.
+     *
+     * @return {@code true} if JSON objects should be decoded lazily.
+     */
+    protected final boolean isLazyJsonObjects() {
+        return lazyJsonObjects;
+    }
+
     private static JsonObject getPayload(final JsonObject sourceJsonObject) {
         final JsonObject result;
 
@@ -328,4 +431,19 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
         return result;
     }
+
+    private static final class OutgoingMessage {
+
+        private final String manifest;
+        private final JsonObject jsonObject;
+        private final boolean passedThrough;
+
+        private OutgoingMessage(final String manifest, final JsonObject jsonObject, final boolean passedThrough) {
+            this.manifest = manifest;
+            this.jsonObject = jsonObject;
+            this.passedThrough = passedThrough;
+        }
+
+    }
+
 }
@@ -60,6 +60,12 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        if (isLazyJsonObjects()) {
+            // the buffer is reused by Akka after deserialization while the lazily decoded value references the bytes
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return CBOR_FACTORY.readLazilyFrom(bytes);
+        }
         return CBOR_FACTORY.readFrom(byteBuffer);
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of heap byte buffers which can be replaced by bigger ones if serialized data does not fit.
+ * <p>
+ * Buffers start with an initial capacity which suits most messages.
+ * If a message does not fit, the buffer is exchanged via {@link #grow(ByteBuffer)} for one with twice the capacity
+ * up to a maximum capacity.
+ * Grown buffers are pooled as well as long as they do not exceed a maximum pooled capacity; thus the pooled buffers
+ * adapt to the actual size of the serialized messages without allocating the worst-case size for every buffer.
+ * </p>
+ */
+@ThreadSafe
+final class GrowableByteBufferPool {
+
+    private final int initialCapacity;
+    private final int maxPooledCapacity;
+    private final int maxCapacity;
+    private final int maxPoolEntries;
+    private final Queue<ByteBuffer> pool;
+    private final AtomicInteger poolSize;
+
+    private GrowableByteBufferPool(final int initialCapacity, final int maxPooledCapacity, final int maxCapacity,
+            final int maxPoolEntries) {
+
+        this.initialCapacity = initialCapacity;
+        this.maxPooledCapacity = maxPooledCapacity;
+        this.maxCapacity = maxCapacity;
+        this.maxPoolEntries = maxPoolEntries;
+        pool = new ConcurrentLinkedQueue<>();
+        poolSize = new AtomicInteger();
+    }
+
+    /**
+     * Returns a new instance of {@code GrowableByteBufferPool}.
+     *
+     * @param initialCapacity the capacity of newly allocated buffers.
+     * @param maxPooledCapacity the maximum capacity of buffers which are returned to the pool; buffers with the
+     * initial capacity are always returned.
+     * @param maxCapacity the maximum capacity a buffer may grow to.
+     * @param maxPoolEntries the maximum number of pooled buffers.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code initialCapacity} is not positive or if {@code maxCapacity} is less
+     * than {@code initialCapacity}.
+     */
+    static GrowableByteBufferPool of(final int initialCapacity, final int maxPooledCapacity, final int maxCapacity,
+            final int maxPoolEntries) {
+
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The initial capacity must be positive!");
+        }
+        if (maxCapacity < initialCapacity) {
+            throw new IllegalArgumentException("The maximum capacity must not be less than the initial capacity!");
+        }
+        return new GrowableByteBufferPool(initialCapacity, Math.max(initialCapacity, maxPooledCapacity), maxCapacity,
+                maxPoolEntries);
+    }
+
+    /**
+     * Takes a buffer from the pool or allocates a new one if the pool is empty.
+     *
+     * @return a cleared buffer.
+     */
+    ByteBuffer acquire() {
+        final ByteBuffer pooled = pool.poll();
+        if (null != pooled) {
+            poolSize.decrementAndGet();
+            return pooled;
+        }
+        return ByteBuffer.allocate(initialCapacity);
+    }
+
+    /**
+     * Releases the given buffer which was too small and returns a cleared buffer with twice its capacity.
+     *
+     * @param tooSmall the buffer which was too small; it must not be used afterwards.
+     * @return the bigger buffer or an empty Optional if {@code tooSmall} already had the maximum capacity.
+     */
+    Optional<ByteBuffer> grow(final ByteBuffer tooSmall) {
+        final int capacity = tooSmall.capacity();
+        if (capacity >= maxCapacity) {
+            return Optional.empty();
+        }
+        release(tooSmall);
+        return Optional.of(ByteBuffer.allocate((int) Math.min((long) capacity * 2, maxCapacity)));
+    }
+
+    /**
+     * Returns the given buffer to the pool if the pool is not full and if the buffer does not exceed the maximum
+     * pooled capacity.
+     *
+     * @param buffer the buffer to release; it must not be used afterwards.
+     */
+    void release(final ByteBuffer buffer) {
+        if (buffer.capacity() > maxPooledCapacity) {
+            return;
+        }
+        if (poolSize.incrementAndGet() > maxPoolEntries) {
+            poolSize.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        pool.offer(buffer);
+    }
+
+    /**
+     * @return the maximum capacity a buffer may grow to.
+     */
+    int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+}
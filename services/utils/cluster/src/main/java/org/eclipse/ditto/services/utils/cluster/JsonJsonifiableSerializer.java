@@ -47,7 +47,12 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
-        return JsonFactory.readFrom(json);
+        if (isLazyJsonObjects()) {
+            // the buffer is reused by Akka after deserialization; the copy is handed over to the lazy object
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return JsonFactory.createLazyJsonObjectFromUtf8(bytes);
+        }
+        return JsonFactory.readFrom(byteBuffer);
     }
 }
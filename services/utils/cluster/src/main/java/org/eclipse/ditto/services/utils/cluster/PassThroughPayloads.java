@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonValue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers the JSON payloads deserialized objects were created from.
+ * If such an object is serialized again unchanged (e.g. because it is forwarded to another cluster node) the
+ * remembered payload can be written instead of creating the JSON of the object again.
+ * The remembered payloads still hold the encoded bytes they were read from, thus serializing them mostly copies bytes.
+ * <p>
+ * Objects are compared by identity and only weakly referenced, i.e. a payload is forgotten as soon as its object is
+ * garbage collected.
+ * The remembered payloads are bounded by the sum of the sizes of the serialized messages they were read from.
+ * Any modification of a Ditto signal creates a new object which has to be serialized the regular way.
+ * </p>
+ */
+@ThreadSafe
+final class PassThroughPayloads {
+
+    @Nullable private final Cache<Object, SizedPayload> payloads;
+    private final long maximumBytes;
+
+    private PassThroughPayloads(@Nullable final Cache<Object, SizedPayload> payloads, final long maximumBytes) {
+        this.payloads = payloads;
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * Returns an instance of {@code PassThroughPayloads}.
+     *
+     * @param maximumBytes the maximum sum of the serialized sizes of the remembered payloads; {@code 0} disables
+     * passing through payloads.
+     * @return the instance.
+     */
+    static PassThroughPayloads of(final long maximumBytes) {
+        if (0 >= maximumBytes) {
+            return new PassThroughPayloads(null, 0);
+        }
+
+        // weak keys are compared by identity
+        return new PassThroughPayloads(Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maximumBytes)
+                .weigher((Object object, SizedPayload sizedPayload) -> sizedPayload.size)
+                .build(), maximumBytes);
+    }
+
+    /**
+     * Remembers the payload the given deserialized object was created from.
+     * Payloads of messages which alone exceed the maximum bytes are not remembered at all.
+     *
+     * @param deserializedObject the object.
+     * @param payload the payload {@code deserializedObject} was created from.
+     * @param size the number of bytes of the serialized message {@code payload} was read from.
+     */
+    void remember(final Object deserializedObject, final JsonValue payload, final int size) {
+        if (null != payloads && size <= maximumBytes) {
+            payloads.put(deserializedObject, new SizedPayload(payload, size));
+        }
+    }
+
+    /**
+     * Returns the payload the given object was deserialized from.
+     *
+     * @param object the object to be serialized.
+     * @return the payload or an empty Optional if {@code object} was not deserialized or its payload was forgotten.
+     */
+    Optional<JsonValue> get(final Object object) {
+        if (null != payloads) {
+            return Optional.ofNullable(payloads.getIfPresent(object)).map(sizedPayload -> sizedPayload.payload);
+        }
+        return Optional.empty();
+    }
+
+    private static final class SizedPayload {
+
+        private final JsonValue payload;
+        private final int size;
+
+        private SizedPayload(final JsonValue payload, final int size) {
+            this.payload = payload;
+            this.size = size;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link GrowableByteBufferPool}.
+ */
+public final class GrowableByteBufferPoolTest {
+
+    @Test
+    public void acquiredBufferHasInitialCapacity() {
+        final GrowableByteBufferPool underTest = GrowableByteBufferPool.of(16, 64, 128, 2);
+
+        assertThat(underTest.acquire().capacity()).isEqualTo(16);
+    }
+
+    @Test
+    public void releasedBufferIsReusedCleared() {
+        final GrowableByteBufferPool underTest = GrowableByteBufferPool.of(16, 64, 128, 2);
+        final ByteBuffer buffer = underTest.acquire();
+        buffer.put((byte) 1);
+
+        underTest.release(buffer);
+        final ByteBuffer reused = underTest.acquire();
+
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(reused.remaining()).isEqualTo(16);
+    }
+
+    @Test
+    public void growDoublesCapacityUpToMaximum() {
+        final GrowableByteBufferPool underTest = GrowableByteBufferPool.of(16, 64, 48, 2);
+
+        final ByteBuffer grown = underTest.grow(underTest.acquire()).orElseThrow(AssertionError::new);
+        final ByteBuffer grownAgain = underTest.grow(grown).orElseThrow(AssertionError::new);
+
+        assertThat(grown.capacity()).isEqualTo(32);
+        assertThat(grownAgain.capacity()).isEqualTo(48);
+        assertThat(underTest.grow(grownAgain)).isEmpty();
+    }
+
+    @Test
+    public void grownBuffersAreOnlyPooledUpToMaximumPooledCapacity() {
+        final GrowableByteBufferPool underTest = GrowableByteBufferPool.of(16, 32, 128, 2);
+        final ByteBuffer pooledBuffer = ByteBuffer.allocate(32);
+        final ByteBuffer tooBigBuffer = ByteBuffer.allocate(64);
+
+        underTest.release(tooBigBuffer);
+        underTest.release(pooledBuffer);
+
+        assertThat(underTest.acquire()).isSameAs(pooledBuffer);
+        assertThat(underTest.acquire()).isNotSameAs(tooBigBuffer);
+    }
+
+    @Test
+    public void poolDoesNotExceedMaximumEntries() {
+        final GrowableByteBufferPool underTest = GrowableByteBufferPool.of(16, 16, 16, 1);
+        final ByteBuffer first = ByteBuffer.allocate(16);
+        final ByteBuffer second = ByteBuffer.allocate(16);
+
+        underTest.release(first);
+        underTest.release(second);
+
+        assertThat(underTest.acquire()).isSameAs(first);
+        assertThat(underTest.acquire()).isNotSameAs(second);
+    }
+
+    @Test
+    public void maximumCapacityLessThanInitialCapacityIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowableByteBufferPool.of(16, 16, 8, 1));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PassThroughPayloads}.
+ */
+public final class PassThroughPayloadsTest {
+
+    private static final JsonValue PAYLOAD = JsonObject.newBuilder().set("foo", "bar").build();
+
+    @Test
+    public void rememberedPayloadIsReturnedForSameObject() {
+        final PassThroughPayloads underTest = PassThroughPayloads.of(1024);
+        final Object deserialized = new Object();
+
+        underTest.remember(deserialized, PAYLOAD, 13);
+
+        assertThat(underTest.get(deserialized)).containsSame(PAYLOAD);
+    }
+
+    @Test
+    public void objectsAreComparedByIdentity() {
+        final PassThroughPayloads underTest = PassThroughPayloads.of(1024);
+        final String deserialized = new String("deserialized");
+
+        underTest.remember(deserialized, PAYLOAD, 13);
+
+        assertThat(underTest.get(new String("deserialized"))).isEmpty();
+    }
+
+    @Test
+    public void nothingIsRememberedIfDisabled() {
+        final PassThroughPayloads underTest = PassThroughPayloads.of(0);
+        final Object deserialized = new Object();
+
+        underTest.remember(deserialized, PAYLOAD, 13);
+
+        assertThat(underTest.get(deserialized)).isEmpty();
+    }
+
+    @Test
+    public void payloadsExceedingTheMaximumBytesAreNotRemembered() {
+        final PassThroughPayloads underTest = PassThroughPayloads.of(1024);
+        final Object deserialized = new Object();
+
+        underTest.remember(deserialized, PAYLOAD, 2048);
+
+        assertThat(underTest.get(deserialized)).isEmpty();
+    }
+
+}
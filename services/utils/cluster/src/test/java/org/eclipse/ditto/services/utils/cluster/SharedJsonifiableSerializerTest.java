@@ -13,11 +13,19 @@
 package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
@@ -83,7 +91,13 @@ public final class SharedJsonifiableSerializerTest {
             .build();
 
     private static ExtendedActorSystem getActorSystem(final Class<?> implClass) {
-        final Config cfg = ConfigFactory.parseMap(Map.of("ditto.mapping-strategy.implementation", implClass.getName()));
+        return getActorSystem(implClass, false);
+    }
+
+    private static ExtendedActorSystem getActorSystem(final Class<?> implClass, final boolean lazyJsonObjects) {
+        final Config cfg = ConfigFactory.parseMap(Map.of("ditto.mapping-strategy.implementation", implClass.getName(),
+                "akka.actor.serializers-json.lazy-json-objects", lazyJsonObjects,
+                "akka.actor.serializers-json.pass-through-payloads-max-size", lazyJsonObjects ? "1 MiB" : "0"));
         return (ExtendedActorSystem) ExtendedActorSystem.create("test", cfg);
     }
 
@@ -94,14 +108,24 @@ public final class SharedJsonifiableSerializerTest {
         private static Thing thing;
         private static ExtendedActorSystem actorSystem;
 
+        private static ExtendedActorSystem lazyActorSystem;
+
         @Parameterized.Parameter
         public SerializerImplementation serializerImplementation;
 
+        @Parameterized.Parameter(1)
+        public boolean lazyJsonObjects;
+
         private AbstractJsonifiableWithDittoHeadersSerializer underTest;
 
-        @Parameterized.Parameters(name = "{0}")
-        public static SerializerImplementation[] getSerializers() {
-            return SerializerImplementation.values();
+        @Parameterized.Parameters(name = "{0} lazy={1}")
+        public static List<Object[]> getSerializers() {
+            final List<Object[]> result = new ArrayList<>();
+            for (final SerializerImplementation serializerImplementation : SerializerImplementation.values()) {
+                result.add(new Object[]{serializerImplementation, false});
+                result.add(new Object[]{serializerImplementation, true});
+            }
+            return result;
         }
 
         @BeforeClass
@@ -109,16 +133,18 @@ public final class SharedJsonifiableSerializerTest {
             thingId = ThingId.generateRandom();
             thing = Thing.newBuilder().setId(thingId).build();
             actorSystem = getActorSystem(ThingCommandsStrategy.class);
+            lazyActorSystem = getActorSystem(ThingCommandsStrategy.class, true);
         }
 
         @AfterClass
         public static void tearDownClass() {
             TestKit.shutdownActorSystem(actorSystem);
+            TestKit.shutdownActorSystem(lazyActorSystem);
         }
 
         @Before
         public void setUp() {
-            underTest = serializerImplementation.getInstance(actorSystem);
+            underTest = serializerImplementation.getInstance(lazyJsonObjects ? lazyActorSystem : actorSystem);
         }
 
         @Test
@@ -131,6 +157,52 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThing);
         }
 
+        @Test
+        public void deserializedThingCommandIsSerializedAgainToSameBytes() {
+            final CreateThing createThing = CreateThing.of(thing.setAttribute(JsonPointer.of("foo"), JsonValue.of(1)),
+                    null, DITTO_HEADERS);
+            final byte[] serialized = underTest.toBinary(createThing);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+            final byte[] serializedAgain = underTest.toBinary(deserialized);
+
+            assertThat(serializedAgain).isEqualTo(serialized);
+            assertThat(underTest.fromBinary(serializedAgain, underTest.manifest(deserialized))).isEqualTo(createThing);
+        }
+
+        @Test
+        public void thingCommandBiggerThanInitialBufferSizeIsSerialized() {
+            final JsonObjectBuilder attributes = JsonObject.newBuilder();
+            for (int i = 0; i < 5000; i++) {
+                attributes.set("attribute" + i, "value of attribute " + i);
+            }
+            final CreateThing createThing = CreateThing.of(
+                    thing.setAttributes(ThingsModelFactory.newAttributes(attributes.build())), null,
+                    DITTO_HEADERS);
+
+            final byte[] serialized = underTest.toBinary(createThing);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+            assertThat(serialized.length).isGreaterThan(64 * 1024);
+            assertThat(deserialized).isEqualTo(createThing);
+        }
+
+        @Test
+        public void tooSmallByteBufferIsLeftUnchangedOnOverflow() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
+            final int size = underTest.toBinary(createThing).length;
+            final ByteBuffer tooSmall = ByteBuffer.allocate(size - 1);
+            final ByteBuffer bigEnough = ByteBuffer.allocate(size);
+
+            assertThatExceptionOfType(BufferOverflowException.class)
+                    .isThrownBy(() -> underTest.toBinary(createThing, tooSmall));
+            underTest.toBinary(createThing, bigEnough);
+            bigEnough.flip();
+
+            assertThat(tooSmall.position()).isZero();
+            assertThat(underTest.fromBinary(bigEnough, underTest.manifest(createThing))).isEqualTo(createThing);
+        }
+
         @Test
         public void thingCommandResponseSerializationWorksAsExpected() {
             final CreateThingResponse createThingResponse = CreateThingResponse.of(thing, DITTO_HEADERS);
@@ -107,4 +107,21 @@ public interface ScopedConfig extends Config, WithConfigPath {
         return result;
     }
 
+    /**
+     * Same as {@link #getInt(String)} but with the guarantee that the returned value is not negative.
+     *
+     * @param withConfigPath provides the config path to get the int value for.
+     * @return the int value.
+     * @throws DittoConfigError if the int value at the config path is negative.
+     * @since 2.0.0
+     */
+    default int getNonNegativeIntOrThrow(final WithConfigPath withConfigPath) {
+        final int result = getInt(withConfigPath.getConfigPath());
+        if (0 > result) {
+            final String msgPattern = "The int value at <{0}> must not be negative but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, withConfigPath.getConfigPath(), result));
+        }
+        return result;
+    }
+
 }
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.utils.persistentactors.events;
+package org.eclipse.ditto.services.utils.events;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
@@ -15,4 +15,4 @@
  * Analogous to "event" handling of Akka Typed Persistence.
  */
 @org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault
-package org.eclipse.ditto.services.utils.persistentactors.events;
+package org.eclipse.ditto.services.utils.events;
@@ -14,11 +14,11 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import java.util.function.Predicate;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
-import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -67,7 +67,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            return DittoBsonJson.getInstance().parse(jsonObject);
+            return DittoBsonJsonCodec.getInstance().toBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -76,30 +76,36 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryParseEvent((BsonValue) event));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
         }
     }
 
-    private T tryParseEvent(final JsonValue jsonValue) {
+    private T tryParseEvent(final BsonValue bsonValue) {
         try {
-            return parseEvent(jsonValue);
+            return eventRegistry.parse(toJsonObjectWithDefaultRevision(bsonValue), DittoHeaders.empty());
         } catch (final JsonParseException | DittoRuntimeException e) {
             if (system != null) {
-                system.log().error(e, "Could not deserialize Event JSON: '{}'", jsonValue);
+                system.log().error(e, "Could not deserialize Event JSON: '{}'", bsonValue);
             } else {
-                LOGGER.error("Could not deserialize Event JSON: '{}': {}", jsonValue, e.getMessage());
+                LOGGER.error("Could not deserialize Event JSON: '{}': {}", bsonValue, e.getMessage());
             }
             return null;
         }
     }
 
-    private T parseEvent(final JsonValue jsonValue) {
-        final JsonObject jsonObject = jsonValue.asObject()
+    private static JsonObject toJsonObjectWithDefaultRevision(final BsonValue bsonValue) {
+        // the revision is not persisted; it is set by the persistence actor during recovery
+        if (bsonValue instanceof BsonDocument) {
+            return DittoBsonJsonCodec.getInstance()
+                    .toJsonObjectBuilder((BsonDocument) bsonValue)
+                    .set(Event.JsonFields.REVISION, Event.DEFAULT_REVISION)
+                    .build();
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue).asObject()
                 .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
-        return eventRegistry.parse(jsonObject, DittoHeaders.empty());
     }
 
 }
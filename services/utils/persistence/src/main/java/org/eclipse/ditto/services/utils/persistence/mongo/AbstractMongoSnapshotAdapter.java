@@ -54,8 +54,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return DittoBsonJsonCodec.getInstance().toBsonDocument(json);
     }
 
     /**
@@ -124,8 +123,12 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        final JsonObject jsonObject;
+        if (bsonValue.isDocument()) {
+            jsonObject = DittoBsonJsonCodec.getInstance().toJsonObject(bsonValue.asDocument());
+        } else {
+            jsonObject = DittoBsonJson.getInstance().serialize(bsonValue).asObject();
+        }
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * BSON codec which writes {@link JsonObject}s directly to a {@link BsonWriter} and reads them directly from a
+ * {@link BsonReader}. In contrast to {@link DittoBsonJson} no intermediate {@link BsonDocument} tree is built: encoding
+ * results in the bytes of a {@link RawBsonDocument} and decoding walks the BSON stream once. Dots {@code "."} and
+ * dollar signs {@code "$"} in keys are replaced with their unicode representations while writing and vice versa while
+ * reading, exactly like {@link DittoBsonJson} does.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DittoBsonJsonCodec implements Codec<JsonObject> {
+
+    private static final DittoBsonJsonCodec INSTANCE = new DittoBsonJsonCodec();
+
+    private DittoBsonJsonCodec() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code DittoBsonJsonCodec}.
+     *
+     * @return the instance.
+     */
+    public static DittoBsonJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Encodes the specified JSON object into the bytes of a BSON document.
+     *
+     * @param jsonObject the JSON object to be encoded.
+     * @return the BSON document backed by its encoded bytes.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public BsonDocument toBsonDocument(final JsonObject jsonObject) {
+        return new RawBsonDocument(checkNotNull(jsonObject, "JSON object to be encoded"), this);
+    }
+
+    /**
+     * Decodes the specified BSON document into a JSON object.
+     *
+     * @param bsonDocument the BSON document to be decoded.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject toJsonObject(final BsonDocument bsonDocument) {
+        return toJsonObjectBuilder(bsonDocument).build();
+    }
+
+    /**
+     * Decodes the specified BSON document into a builder of a JSON object. This allows to add or replace fields
+     * without copying the decoded JSON object.
+     *
+     * @param bsonDocument the BSON document to be decoded.
+     * @return the builder containing the fields of the BSON document.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObjectBuilder toJsonObjectBuilder(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be decoded");
+        try (final BsonReader reader = bsonDocument.asBsonReader()) {
+            return readObject(reader);
+        }
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        writeObject(writer, jsonObject);
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return readObject(reader).build();
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+    private static void writeObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        for (final JsonField field : jsonObject) {
+            writer.writeName(escapeKey(field.getKeyName()));
+            writeValue(writer, field.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    private static void writeArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        for (final JsonValue jsonValue : jsonArray) {
+            writeValue(writer, jsonValue);
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isInt()) {
+                writer.writeInt32(jsonValue.asInt());
+            } else if (jsonValue.isLong()) {
+                writer.writeInt64(jsonValue.asLong());
+            } else {
+                writer.writeDouble(jsonValue.asDouble());
+            }
+        } else if (jsonValue.isObject()) {
+            writeObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static JsonObjectBuilder readObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            // set as field because a key with slashes must not be interpreted as pointer
+            final JsonKey key = JsonFactory.newKey(unescapeKey(reader.readName()));
+            builder.set(JsonFactory.newField(key, readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder;
+    }
+
+    private static JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    private static JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = readObject(reader).build();
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            default:
+                // same as DittoBsonJson: BSON types without JSON counterpart become null
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+    private static String escapeKey(final String key) {
+        return replace(key, KeyNameReviser.DOT_CHAR, KeyNameReviser.DOT_UNICODE_CHAR,
+                KeyNameReviser.DOLLAR_CHAR, KeyNameReviser.DOLLAR_UNICODE_CHAR);
+    }
+
+    private static String unescapeKey(final String key) {
+        return replace(key, KeyNameReviser.DOT_UNICODE_CHAR, KeyNameReviser.DOT_CHAR,
+                KeyNameReviser.DOLLAR_UNICODE_CHAR, KeyNameReviser.DOLLAR_CHAR);
+    }
+
+    /**
+     * Replaces 2 characters in one pass. Most keys contain neither; they are returned without copying.
+     */
+    private static String replace(final String key, final char oldChar1, final char newChar1, final char oldChar2,
+            final char newChar2) {
+
+        char[] chars = null;
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (c == oldChar1 || c == oldChar2) {
+                if (null == chars) {
+                    chars = key.toCharArray();
+                }
+                chars[i] = c == oldChar1 ? newChar1 : newChar2;
+            }
+        }
+        return null != chars ? new String(chars) : key;
+    }
+
+}
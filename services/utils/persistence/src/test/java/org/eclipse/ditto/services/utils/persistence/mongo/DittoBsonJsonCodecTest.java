@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonTimestamp;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoBsonJsonCodec}.
+ */
+public final class DittoBsonJsonCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("int", 42)
+            .set("long", Long.MAX_VALUE)
+            .set("double", 4.2)
+            .set("boolean", true)
+            .set("null", JsonValue.nullLiteral())
+            .set("array", JsonArray.newBuilder()
+                    .add(1)
+                    .add("two")
+                    .add(JsonObject.newBuilder().set("$three", 3).build())
+                    .build())
+            .set("attributes", JsonObject.newBuilder()
+                    .set("org.eclipse.ditto", JsonObject.newBuilder().set("$something", "else").build())
+                    .build())
+            .build();
+
+    private final DittoBsonJsonCodec underTest = DittoBsonJsonCodec.getInstance();
+
+    @Test
+    public void encodesLikeDittoBsonJson() {
+        final BsonDocument expected = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+
+        assertThat(underTest.toBsonDocument(JSON_OBJECT)).isEqualTo(expected);
+    }
+
+    @Test
+    public void decodesLikeDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+        final JsonObject expected = DittoBsonJson.getInstance().serialize(bsonDocument);
+
+        assertThat(underTest.toJsonObject(bsonDocument)).isEqualTo(expected);
+    }
+
+    @Test
+    public void roundTripRestoresProblematicKeys() {
+        final BsonDocument bsonDocument = underTest.toBsonDocument(JSON_OBJECT);
+
+        assertThat(bsonDocument.getDocument("attributes").containsKey("org．eclipse．ditto")).isTrue();
+        assertThat(underTest.toJsonObject(bsonDocument)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void decodesTimestampsAsIsoStrings() {
+        final BsonDocument bsonDocument = new BsonDocument()
+                .append("timestamp", new BsonTimestamp(1_600_000_000, 1))
+                .append("revision", new BsonInt64(7L));
+
+        assertThat(underTest.toJsonObject(bsonDocument)).isEqualTo(JsonObject.newBuilder()
+                .set("timestamp", "2020-09-13T12:26:40Z")
+                .set("revision", 7L)
+                .build());
+    }
+
+    @Test
+    public void builderAllowsToSetFieldsWithoutCopy() {
+        final BsonDocument bsonDocument = underTest.toBsonDocument(JsonObject.newBuilder().set("a", 1).build());
+
+        assertThat(underTest.toJsonObjectBuilder(bsonDocument).set("revision", 0L).build())
+                .isEqualTo(JsonObject.newBuilder().set("a", 1).set("revision", 0L).build());
+    }
+
+}
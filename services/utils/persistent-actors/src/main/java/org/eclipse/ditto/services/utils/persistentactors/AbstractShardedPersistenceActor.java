@@ -12,7 +12,12 @@
  */
 package org.eclipse.ditto.services.utils.persistentactors;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -26,11 +31,11 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
-import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -81,6 +86,10 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    private final Deque<BufferedCommand> commandBuffer = new ArrayDeque<>();
+    private boolean flushScheduled = false;
+    @Nullable private Boolean groupCommitEnabled = null;
+
     /**
      * Instantiate the actor.
      *
@@ -195,6 +204,25 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Maximum number of events to persist together in group-commit mode. In that mode, commands arriving while the
+     * events of the previous commands are being persisted are buffered. Their strategies are applied in order on the
+     * pending state of the entity and all resulting events are persisted by one {@code persistAll}. Responses are
+     * sent in the order of the commands once all events of the group are persisted.
+     * Override to enable group commit; the default of 1 disables it.
+     * <p>
+     * The mutations of buffered commands are collected by the group commit and bypass
+     * {@link #onMutation(Command, Event, WithDittoHeaders, boolean, boolean)}. Therefore group commit stays disabled
+     * for subclasses which override {@code onMutation}.
+     * </p>
+     *
+     * @return the maximum number of events per group commit.
+     * @since 2.0.0
+     */
+    protected int getMaxGroupCommitSize() {
+        return 1;
+    }
+
     /**
      * @return the current revision number for event handling.
      */
@@ -247,6 +275,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.FLUSH_COMMAND_BUFFER, this::flushCommandBuffer)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .build())
@@ -277,16 +306,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
+        final E modifiedEvent = setEntitySchemaVersion(event, entity);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
@@ -335,9 +355,14 @@ public abstract class AbstractShardedPersistenceActor<
 
     private Receive createDeletedBehavior() {
         final CommandStrategy<? extends C, S, K, Result<E>> deleteStrategy = getDeletedStrategy();
-        return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
+        return handleCleanups.orElse(ReceiveBuilder.create()
+                // keep the order of commands arriving after a buffered command deleted the entity
+                .match(Command.class, command -> !commandBuffer.isEmpty(), this::bufferCommand)
+                .build())
+                .orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.FLUSH_COMMAND_BUFFER, this::flushCommandBuffer)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -368,7 +393,97 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void handleByCommandStrategy(final C command) {
-        handleByStrategy(command, getCreatedStrategy());
+        if (isGroupCommitEnabled()) {
+            bufferCommand(command);
+        } else {
+            handleByStrategy(command, getCreatedStrategy());
+        }
+    }
+
+    private boolean isGroupCommitEnabled() {
+        // determined lazily as the maximum group commit size may depend on fields of the subclass
+        if (null == groupCommitEnabled) {
+            final boolean groupCommitConfigured = getMaxGroupCommitSize() > 1;
+            if (groupCommitConfigured && overridesOnMutation()) {
+                log.warning("Group commit is disabled because <{}> overrides onMutation.", getClass().getName());
+                groupCommitEnabled = false;
+            } else {
+                groupCommitEnabled = groupCommitConfigured;
+            }
+        }
+        return groupCommitEnabled;
+    }
+
+    private boolean overridesOnMutation() {
+        for (Class<?> clazz = getClass(); AbstractShardedPersistenceActor.class != clazz;
+                clazz = clazz.getSuperclass()) {
+            for (final Method method : clazz.getDeclaredMethods()) {
+                if ("onMutation".equals(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void bufferCommand(final Command command) {
+        accessCounter++;
+        commandBuffer.add(new BufferedCommand(command, getSender()));
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        // commands stashed during the ongoing persist are unstashed before this message and join the next group
+        if (!flushScheduled) {
+            flushScheduled = true;
+            getSelf().tell(Control.FLUSH_COMMAND_BUFFER, getSelf());
+        }
+    }
+
+    private void flushCommandBuffer(final Control flush) {
+        flushScheduled = false;
+        final GroupCommit groupCommit = new GroupCommit(entity, getNextRevisionNumber());
+        while (!commandBuffer.isEmpty() && !groupCommit.isComplete()) {
+            groupCommit.add(commandBuffer.poll());
+        }
+        if (groupCommit.events.isEmpty()) {
+            groupCommit.sendResponses();
+        } else {
+            final BufferedCommand lastCommand = groupCommit.commands.get(groupCommit.commands.size() - 1);
+            log.withCorrelationId(lastCommand.command)
+                    .debug("Persisting <{}> events of <{}> commands.", groupCommit.events.size(),
+                            groupCommit.commands.size());
+            persistAll(groupCommit.events, persistedEvent -> {
+                applyEvent(persistedEvent);
+                if (groupCommit.countPersistedEvent()) {
+                    onGroupCommitPersisted(groupCommit);
+                }
+            });
+        }
+    }
+
+    private void onGroupCommitPersisted(final GroupCommit groupCommit) {
+        log.info("Successfully persisted <{}> events.", groupCommit.events.size());
+        groupCommit.sendResponses();
+        if (groupCommit.becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (groupCommit.becomeCreated) {
+            becomeCreatedHandler();
+        }
+        if (snapshotThresholdPassed()) {
+            takeSnapshot("snapshot threshold is reached");
+        }
+        if (!commandBuffer.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CommandStrategy<Command, S, K, Result<E>> getStrategyForBufferedCommands() {
+        return (CommandStrategy<Command, S, K, Result<E>>) (isEntityActive()
+                ? getCreatedStrategy()
+                : getDeletedStrategy());
     }
 
     private <T extends Command> ReceiveBuilder handleByStrategyReceiveBuilder(
@@ -429,6 +544,19 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private E setEntitySchemaVersion(final E event, @Nullable final S entity) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
     private long getNextRevisionNumber() {
         return getRevisionNumber() + 1;
     }
@@ -571,7 +699,115 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        FLUSH_COMMAND_BUFFER
+    }
+
+    private static final class BufferedCommand {
+
+        private final Command command;
+        private final ActorRef sender;
+
+        private BufferedCommand(final Command command, final ActorRef sender) {
+            this.command = command;
+            this.sender = sender;
+        }
+    }
+
+    /**
+     * Commands of one group commit together with their events and responses. Strategies are applied on the pending
+     * entity, which already contains the events of the previous commands of the group.
+     */
+    private final class GroupCommit implements ResultVisitor<E> {
+
+        private final List<BufferedCommand> commands = new ArrayList<>();
+        private final List<E> events = new ArrayList<>();
+        private final List<BufferedCommand> responseReceivers = new ArrayList<>();
+        private final List<WithDittoHeaders> responses = new ArrayList<>();
+        private final long firstRevision;
+
+        @Nullable private S pendingEntity;
+        private boolean becomeCreated = false;
+        private boolean becomeDeleted = false;
+        private int persistedEvents = 0;
+        @Nullable private BufferedCommand currentCommand;
+
+        private GroupCommit(@Nullable final S entity, final long firstRevision) {
+            pendingEntity = entity;
+            this.firstRevision = firstRevision;
+        }
+
+        private boolean countPersistedEvent() {
+            return ++persistedEvents == events.size();
+        }
+
+        private boolean isComplete() {
+            return becomeCreated || becomeDeleted || events.size() >= getMaxGroupCommitSize();
+        }
+
+        private void add(final BufferedCommand bufferedCommand) {
+            commands.add(bufferedCommand);
+            currentCommand = bufferedCommand;
+            final Command command = bufferedCommand.command;
+            final CommandStrategy<Command, S, K, Result<E>> strategy = getStrategyForBufferedCommands();
+            if (!strategy.getMatchingClass().isInstance(command) || !strategy.isDefined(command)) {
+                if (isEntityActive()) {
+                    log.withCorrelationId(command).warning("Unknown message: {}", command);
+                } else {
+                    respond(newNotAccessibleExceptionBuilder().dittoHeaders(command.getDittoHeaders()).build());
+                }
+                return;
+            }
+            log.debug("Handling by strategy in group commit: <{}>", command);
+            try {
+                strategy.apply(getStrategyContext(), pendingEntity, firstRevision + events.size(), command)
+                        .accept(this);
+            } catch (final DittoRuntimeException e) {
+                respond(e);
+            }
+        }
+
+        @Override
+        public void onMutation(final Command command, final E event, final WithDittoHeaders response,
+                final boolean becomeCreated, final boolean becomeDeleted) {
+
+            if (!event.getDittoHeaders().isDryRun()) {
+                final long revision = firstRevision + events.size();
+                events.add(setEntitySchemaVersion(event, pendingEntity));
+                pendingEntity = getEventStrategy().handle(event, pendingEntity, revision);
+                this.becomeCreated = becomeCreated;
+                this.becomeDeleted = becomeDeleted;
+            }
+            if (shouldSendResponse(command.getDittoHeaders())) {
+                respond(response);
+            }
+        }
+
+        @Override
+        public void onQuery(final Command command, final WithDittoHeaders response) {
+            // answered after the events of the preceding commands are persisted
+            if (command.getDittoHeaders().isResponseRequired()) {
+                respond(response);
+            }
+        }
+
+        @Override
+        public void onError(final DittoRuntimeException error, final Command errorCausingCommand) {
+            if (shouldSendResponse(errorCausingCommand.getDittoHeaders())) {
+                respond(error);
+            }
+        }
+
+        private void respond(final WithDittoHeaders response) {
+            responseReceivers.add(currentCommand);
+            responses.add(response);
+        }
+
+        private void sendResponses() {
+            for (int i = 0; i < responses.size(); i++) {
+                notifySender(responseReceivers.get(i).sender, responses.get(i));
+            }
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
 import org.eclipse.ditto.services.utils.pubsub.api.SubAck;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.ActorRef;
 
@@ -37,8 +38,29 @@ public interface DistributedSub {
      * @param group the subscriber's group, if any.
      * @return a future that completes after subscription becomes effective on all nodes.
      */
+    default CompletionStage<SubAck> subscribeWithFilterAndGroup(final Collection<String> topics,
+            final ActorRef subscriber, @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final String group) {
+        return subscribeWithFilterAndGroup(topics, subscriber, filter, null, group);
+    }
+
+    /**
+     * Subscribe for a collection of topics with a local topic filter and a local signal filter.
+     * The signal filter is evaluated by the pub-sub on the node of the subscriber before a signal is delivered to it.
+     * Subscribers which share a signal filter instance should make it cheap to evaluate for the same signal
+     * repeatedly.
+     *
+     * @param topics the topics.
+     * @param subscriber who is subscribing.
+     * @param filter a local topic filter.
+     * @param signalFilter a local signal filter.
+     * @param group the subscriber's group, if any.
+     * @return a future that completes after subscription becomes effective on all nodes.
+     * @since 2.0.0
+     */
     CompletionStage<SubAck> subscribeWithFilterAndGroup(Collection<String> topics,
-            ActorRef subscriber, @Nullable Predicate<Collection<String>> filter, @Nullable String group);
+            ActorRef subscriber, @Nullable Predicate<Collection<String>> filter,
+            @Nullable Predicate<Signal<?>> signalFilter, @Nullable String group);
 
     /**
      * Unsubscribe for a collection of topics.
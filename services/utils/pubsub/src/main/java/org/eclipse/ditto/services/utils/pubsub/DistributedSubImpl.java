@@ -28,6 +28,7 @@ import org.eclipse.ditto.services.utils.pubsub.api.Request;
 import org.eclipse.ditto.services.utils.pubsub.api.SubAck;
 import org.eclipse.ditto.services.utils.pubsub.api.Subscribe;
 import org.eclipse.ditto.services.utils.pubsub.api.Unsubscribe;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.ActorRef;
 import akka.cluster.ddata.Replicator;
@@ -63,11 +64,13 @@ final class DistributedSubImpl implements DistributedSub {
     public CompletionStage<SubAck> subscribeWithFilterAndGroup(final Collection<String> topics,
             final ActorRef subscriber,
             @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
             @Nullable final String group) {
         if (group != null) {
             checkNotEmpty(group, "group");
         }
-        final Subscribe subscribe = Subscribe.of(topics, subscriber, writeConsistency, true, filter, group);
+        final Subscribe subscribe =
+                Subscribe.of(topics, subscriber, writeConsistency, true, filter, signalFilter, group);
         return askSubSupervisor(subscribe)
                 .thenCompose(result -> {
                     // delay completion to account for dissemination delay between ddata replicator and change recipient
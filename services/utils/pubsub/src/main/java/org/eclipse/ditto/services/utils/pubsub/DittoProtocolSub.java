@@ -14,10 +14,12 @@ package org.eclipse.ditto.services.utils.pubsub;
 
 import java.util.Collection;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -50,8 +52,26 @@ public interface DittoProtocolSub extends Extension {
      * @param group the group the subscriber belongs to, or null.
      * @return future that completes or fails according to the acknowledgement.
      */
+    default CompletionStage<Void> subscribe(final Collection<StreamingType> types, final Collection<String> topics,
+            final ActorRef subscriber, @Nullable final String group) {
+        return subscribe(types, topics, subscriber, group, null);
+    }
+
+    /**
+     * Subscribe for each streaming type the same collection of topics.
+     * Signals are only delivered to the subscriber if they pass the given signal filter which is evaluated on the
+     * node of the subscriber, once per signal and subscriber.
+     *
+     * @param types the streaming types.
+     * @param topics the topics.
+     * @param subscriber who is subscribing.
+     * @param group the group the subscriber belongs to, or null.
+     * @param signalFilter the filter of signals for the subscriber, or null.
+     * @return future that completes or fails according to the acknowledgement.
+     * @since 2.0.0
+     */
     CompletionStage<Void> subscribe(Collection<StreamingType> types, Collection<String> topics, ActorRef subscriber,
-            @Nullable String group);
+            @Nullable String group, @Nullable Predicate<Signal<?>> signalFilter);
 
     /**
      * Remove a subscriber.
@@ -68,8 +88,23 @@ public interface DittoProtocolSub extends Extension {
      * @param subscriber the subscriber.
      * @return future that completes or fails according to the acknowledgement.
      */
+    default CompletionStage<Void> updateLiveSubscriptions(final Collection<StreamingType> types,
+            final Collection<String> topics, final ActorRef subscriber) {
+        return updateLiveSubscriptions(types, topics, subscriber, null);
+    }
+
+    /**
+     * Update streaming types of a subscriber with a filter of signals.
+     *
+     * @param types the currently active streaming types.
+     * @param topics the topics to unsubscribe from.
+     * @param subscriber the subscriber.
+     * @param signalFilter the filter of signals for the subscriber, or null.
+     * @return future that completes or fails according to the acknowledgement.
+     * @since 2.0.0
+     */
     CompletionStage<Void> updateLiveSubscriptions(Collection<StreamingType> types, Collection<String> topics,
-            ActorRef subscriber);
+            ActorRef subscriber, @Nullable Predicate<Signal<?>> signalFilter);
 
     /**
      * Remove a subscriber from the twin events channel only.
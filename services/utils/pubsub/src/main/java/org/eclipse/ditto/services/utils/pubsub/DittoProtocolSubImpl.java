@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractExtensionId;
 import akka.actor.ActorRef;
@@ -60,14 +61,16 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
     public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
             final Collection<String> topics,
             final ActorRef subscriber,
-            @Nullable final String group) {
+            @Nullable final String group,
+            @Nullable final Predicate<Signal<?>> signalFilter) {
         final CompletionStage<?> nop = CompletableFuture.completedFuture(null);
         return partitionByStreamingTypes(types,
                 liveTypes -> !liveTypes.isEmpty()
-                        ? liveSignalSub.subscribeWithFilterAndGroup(topics, subscriber, toFilter(liveTypes), group)
+                        ? liveSignalSub.subscribeWithFilterAndGroup(topics, subscriber, toFilter(liveTypes),
+                        signalFilter, group)
                         : nop,
                 hasTwinEvents -> hasTwinEvents
-                        ? twinEventSub.subscribeWithFilterAndGroup(topics, subscriber, null, group)
+                        ? twinEventSub.subscribeWithFilterAndGroup(topics, subscriber, null, signalFilter, group)
                         : nop
         );
     }
@@ -82,11 +85,13 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
     @Override
     public CompletionStage<Void> updateLiveSubscriptions(final Collection<StreamingType> types,
             final Collection<String> topics,
-            final ActorRef subscriber) {
+            final ActorRef subscriber,
+            @Nullable final Predicate<Signal<?>> signalFilter) {
 
         return partitionByStreamingTypes(types,
                 liveTypes -> !liveTypes.isEmpty()
-                        ? liveSignalSub.subscribeWithFilterAndGroup(topics, subscriber, toFilter(liveTypes), null)
+                        ? liveSignalSub.subscribeWithFilterAndGroup(topics, subscriber, toFilter(liveTypes),
+                        signalFilter, null)
                         : liveSignalSub.unsubscribeWithAck(topics, subscriber),
                 hasTwinEvents -> CompletableFuture.completedFuture(null)
         );
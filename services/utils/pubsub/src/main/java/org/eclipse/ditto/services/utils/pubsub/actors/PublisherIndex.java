@@ -45,15 +45,18 @@ final class PublisherIndex<T> {
 
     private final Map<T, Map<ActorRef, Set<String>>> index;
     private final Map<ActorRef, Predicate<Collection<T>>> filterMap;
+    private final Map<ActorRef, Predicate<Signal<?>>> signalFilterMap;
 
     private PublisherIndex(final Map<T, Map<ActorRef, Set<String>>> index,
-            final Map<ActorRef, Predicate<Collection<T>>> filterMap) {
+            final Map<ActorRef, Predicate<Collection<T>>> filterMap,
+            final Map<ActorRef, Predicate<Signal<?>>> signalFilterMap) {
         this.index = index;
         this.filterMap = filterMap;
+        this.signalFilterMap = signalFilterMap;
     }
 
     static <T> PublisherIndex<T> empty() {
-        return new PublisherIndex<>(Map.of(), Map.of());
+        return new PublisherIndex<>(Map.of(), Map.of(), Map.of());
     }
 
     static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap) {
@@ -62,17 +65,19 @@ final class PublisherIndex<T> {
                 groupedList.forEach(grouped -> grouped.getValues()
                         .forEach(computeIndex(index, subscriber, grouped.getGroup().orElse("")))
                 ));
-        return new PublisherIndex<>(index, Map.of());
+        return new PublisherIndex<>(index, Map.of(), Map.of());
     }
 
     static PublisherIndex<String> fromSubscriptionsReader(final SubscriptionsReader reader) {
         final Map<String, Map<ActorRef, Set<String>>> index = new HashMap<>();
         final Map<ActorRef, Predicate<Collection<String>>> filterMap = new HashMap<>();
+        final Map<ActorRef, Predicate<Signal<?>>> signalFilterMap = new HashMap<>();
         reader.getSubscriberDataMap().forEach((subscriber, data) -> {
             data.getFilter().ifPresent(filter -> filterMap.put(subscriber, filter));
+            data.getSignalFilter().ifPresent(signalFilter -> signalFilterMap.put(subscriber, signalFilter));
             data.getTopics().forEach(computeIndex(index, subscriber, data.getGroup().orElse("")));
         });
-        return new PublisherIndex<>(index, filterMap);
+        return new PublisherIndex<>(index, filterMap, signalFilterMap);
     }
 
     List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal, final Collection<T> topics) {
@@ -83,10 +88,13 @@ final class PublisherIndex<T> {
             @Nullable final Map<String, Integer> chosenGroups) {
         final Map<String, List<ActorRef>> groupToSubscribers = new HashMap<>();
         final Map<ActorRef, Map<String, Integer>> subscriberToChosenGroups = new HashMap<>();
+        // a subscriber may be found via several topics; evaluate its signal filter only once per signal
+        final Map<ActorRef, Boolean> signalFilterResults = new HashMap<>();
         // compute groupToSubscribers and allot subscribers with the empty group
         for (final T topic : topics) {
             index.getOrDefault(topic, Map.of()).forEach((subscriber, groups) -> {
-                if (filterMap.getOrDefault(subscriber, constantTrue).test(topics)) {
+                if (filterMap.getOrDefault(subscriber, constantTrue).test(topics) &&
+                        passesSignalFilter(subscriber, signal, signalFilterResults)) {
                     for (final String group : groups) {
                         if (group.isEmpty()) {
                             subscriberToChosenGroups.putIfAbsent(subscriber, new HashMap<>());
@@ -120,6 +128,14 @@ final class PublisherIndex<T> {
                 .collect(Collectors.toList());
     }
 
+    private boolean passesSignalFilter(final ActorRef subscriber, final Signal<?> signal,
+            final Map<ActorRef, Boolean> signalFilterResults) {
+
+        @Nullable final Predicate<Signal<?>> signalFilter = signalFilterMap.get(subscriber);
+        return null == signalFilter ||
+                signalFilterResults.computeIfAbsent(subscriber, s -> signalFilter.test(signal));
+    }
+
     private static <T> Consumer<T> computeIndex(final Map<T, Map<ActorRef, Set<String>>> index,
             final ActorRef subscriber, final String group) {
         return topic -> index.compute(topic, (v, map) -> {
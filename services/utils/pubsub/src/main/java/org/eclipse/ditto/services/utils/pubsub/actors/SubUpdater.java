@@ -167,7 +167,7 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers {
     private void subscribe(final Subscribe subscribe) {
         final boolean changed =
                 subscriptions.subscribe(subscribe.getSubscriber(), subscribe.getTopics(), subscribe.getFilter(),
-                        subscribe.getGroup().orElse(null));
+                        subscribe.getSignalFilter(), subscribe.getGroup().orElse(null));
         enqueueRequest(subscribe, changed, getSender(), awaitUpdate, awaitUpdateMetric);
         if (changed) {
             getContext().watch(subscribe.getSubscriber());
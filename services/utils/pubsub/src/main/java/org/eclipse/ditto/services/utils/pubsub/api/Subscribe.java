@@ -18,6 +18,8 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.signals.base.Signal;
+
 import akka.actor.ActorRef;
 import akka.cluster.ddata.Replicator;
 
@@ -27,6 +29,7 @@ import akka.cluster.ddata.Replicator;
 public final class Subscribe extends AbstractRequest {
 
     @Nullable private final Predicate<Collection<String>> filter;
+    @Nullable private final Predicate<Signal<?>> signalFilter;
     @Nullable private final String group;
 
     private Subscribe(final Collection<String> topics,
@@ -34,9 +37,11 @@ public final class Subscribe extends AbstractRequest {
             final Replicator.WriteConsistency writeConsistency,
             final boolean acknowledge,
             @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
             @Nullable final String group) {
         super(topics, subscriber, writeConsistency, acknowledge);
         this.filter = filter;
+        this.signalFilter = signalFilter;
         this.group = group;
     }
 
@@ -55,7 +60,7 @@ public final class Subscribe extends AbstractRequest {
             final Replicator.WriteConsistency writeConsistency,
             final boolean acknowledge,
             @Nullable final String group) {
-        return new Subscribe(topics, subscriber, writeConsistency, acknowledge, null, group);
+        return new Subscribe(topics, subscriber, writeConsistency, acknowledge, null, null, group);
     }
 
     /**
@@ -75,7 +80,30 @@ public final class Subscribe extends AbstractRequest {
             final boolean acknowledge,
             @Nullable final Predicate<Collection<String>> filter,
             @Nullable final String group) {
-        return new Subscribe(topics, subscriber, writeConsistency, acknowledge, filter, group);
+        return new Subscribe(topics, subscriber, writeConsistency, acknowledge, filter, null, group);
+    }
+
+    /**
+     * Create a "subscribe" request.
+     *
+     * @param topics the topics to subscribe to.
+     * @param subscriber who is subscribing.
+     * @param writeConsistency with which write consistency should this subscription be updated.
+     * @param acknowledge whether acknowledgement is desired.
+     * @param filter local filter for incoming messages.
+     * @param signalFilter local filter for incoming signals which is evaluated on the node of the subscriber.
+     * @param group any group the subscriber belongs to, or null.
+     * @return the request.
+     * @since 2.0.0
+     */
+    public static Subscribe of(final Collection<String> topics,
+            final ActorRef subscriber,
+            final Replicator.WriteConsistency writeConsistency,
+            final boolean acknowledge,
+            @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
+            @Nullable final String group) {
+        return new Subscribe(topics, subscriber, writeConsistency, acknowledge, filter, signalFilter, group);
     }
 
     /**
@@ -86,6 +114,15 @@ public final class Subscribe extends AbstractRequest {
         return filter;
     }
 
+    /**
+     * @return Filter for incoming signals.
+     * @since 2.0.0
+     */
+    @Nullable
+    public Predicate<Signal<?>> getSignalFilter() {
+        return signalFilter;
+    }
+
     /**
      * @return the group the subscriber belongs to, or an empty optional.
      */
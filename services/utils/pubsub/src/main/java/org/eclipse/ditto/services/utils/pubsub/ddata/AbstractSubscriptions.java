@@ -26,6 +26,8 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.signals.base.Signal;
+
 import akka.actor.ActorRef;
 import akka.japi.Pair;
 
@@ -77,15 +79,17 @@ public abstract class AbstractSubscriptions<R, T extends DDataUpdate<R>> impleme
     public boolean subscribe(final ActorRef subscriber,
             final Set<String> topics,
             @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
             @Nullable final String group) {
         if (!topics.isEmpty()) {
             // box the 'changed' flag in an array so that it can be assigned inside a closure.
             final boolean[] changed = new boolean[1];
 
             // add topics and filter.
-            final SubscriberData subscriberData = SubscriberData.of(topics, filter, group);
+            final SubscriberData subscriberData = SubscriberData.of(topics, filter, signalFilter, group);
             subscriberDataMap.merge(subscriber, subscriberData, (oldData, newData) -> {
-                changed[0] = !oldData.getFilter().equals(newData.getFilter());
+                changed[0] = !oldData.getFilter().equals(newData.getFilter()) ||
+                        !oldData.getSignalFilter().equals(newData.getSignalFilter());
                 return newData.withTopics(unionSet(oldData.getTopics(), newData.getTopics()));
             });
 
@@ -105,7 +109,8 @@ public abstract class AbstractSubscriptions<R, T extends DDataUpdate<R>> impleme
             return changed[0];
         } else {
             // update filter if there are any existing topic subscribed
-            return null != subscriberDataMap.computeIfPresent(subscriber, (k, data) -> data.withFilter(filter));
+            return null != subscriberDataMap.computeIfPresent(subscriber,
+                    (k, data) -> data.withFilter(filter).withSignalFilter(signalFilter));
         }
     }
 
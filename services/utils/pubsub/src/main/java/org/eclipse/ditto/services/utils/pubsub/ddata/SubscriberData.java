@@ -21,6 +21,8 @@ import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.signals.base.Signal;
+
 /**
  * Properties of a subscriber.
  */
@@ -29,13 +31,16 @@ public final class SubscriberData {
 
     private final Set<String> topics;
     @Nullable private final Predicate<Collection<String>> filter;
+    @Nullable private final Predicate<Signal<?>> signalFilter;
     @Nullable private final String group;
 
     private SubscriberData(final Set<String> topics,
             @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
             @Nullable final String group) {
         this.topics = topics;
         this.filter = filter;
+        this.signalFilter = signalFilter;
         this.group = group;
     }
 
@@ -50,7 +55,24 @@ public final class SubscriberData {
     public static SubscriberData of(final Set<String> topics,
             @Nullable final Predicate<Collection<String>> filter,
             @Nullable final String group) {
-        return new SubscriberData(topics, filter, group);
+        return new SubscriberData(topics, filter, null, group);
+    }
+
+    /**
+     * Create subscriber data.
+     *
+     * @param topics topics the subscriber subscribes to.
+     * @param filter topic filter of the subscriber.
+     * @param signalFilter local filter of signals for the subscriber.
+     * @param group the group the subscriber belongs to, if any.
+     * @return the subscriber data.
+     * @since 2.0.0
+     */
+    public static SubscriberData of(final Set<String> topics,
+            @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final Predicate<Signal<?>> signalFilter,
+            @Nullable final String group) {
+        return new SubscriberData(topics, filter, signalFilter, group);
     }
 
     /**
@@ -59,7 +81,7 @@ public final class SubscriberData {
      * @return the immutable copy.
      */
     public SubscriberData export() {
-        return new SubscriberData(Set.copyOf(topics), filter, group);
+        return new SubscriberData(Set.copyOf(topics), filter, signalFilter, group);
     }
 
     /**
@@ -69,7 +91,7 @@ public final class SubscriberData {
      * @return the new subscriber data.
      */
     public SubscriberData withTopics(final Set<String> topics) {
-        return new SubscriberData(topics, filter, group);
+        return new SubscriberData(topics, filter, signalFilter, group);
     }
 
     /**
@@ -79,7 +101,18 @@ public final class SubscriberData {
      * @return the new subscriber data.
      */
     public SubscriberData withFilter(@Nullable final Predicate<Collection<String>> filter) {
-        return new SubscriberData(topics, filter, group);
+        return new SubscriberData(topics, filter, signalFilter, group);
+    }
+
+    /**
+     * Create a copy of this object with the signal filter replaced.
+     *
+     * @param signalFilter the new signal filter.
+     * @return the new subscriber data.
+     * @since 2.0.0
+     */
+    public SubscriberData withSignalFilter(@Nullable final Predicate<Signal<?>> signalFilter) {
+        return new SubscriberData(topics, filter, signalFilter, group);
     }
 
     /**
@@ -96,6 +129,14 @@ public final class SubscriberData {
         return Optional.ofNullable(filter);
     }
 
+    /**
+     * @return the local filter of signals for the subscriber.
+     * @since 2.0.0
+     */
+    public Optional<Predicate<Signal<?>>> getSignalFilter() {
+        return Optional.ofNullable(signalFilter);
+    }
+
     /**
      * @return the group the subscriber belongs to, or an empty optional.
      */
@@ -109,6 +150,7 @@ public final class SubscriberData {
             final SubscriberData that = (SubscriberData) other;
             return Objects.equals(topics, that.topics) &&
                     Objects.equals(filter, that.filter) &&
+                    Objects.equals(signalFilter, that.signalFilter) &&
                     Objects.equals(group, that.group);
         } else {
             return false;
@@ -117,6 +159,6 @@ public final class SubscriberData {
 
     @Override
     public int hashCode() {
-        return Objects.hash(topics, filter, group);
+        return Objects.hash(topics, filter, signalFilter, group);
     }
 }
@@ -18,6 +18,8 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.signals.base.Signal;
+
 import akka.actor.ActorRef;
 
 /**
@@ -63,8 +65,26 @@ public interface Subscriptions<T> {
      * @param group any group the subscriber belongs to, or null.
      * @return whether subscriptions changed.
      */
+    default boolean subscribe(final ActorRef subscriber, final Set<String> topics,
+            @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final String group) {
+        return subscribe(subscriber, topics, filter, null, group);
+    }
+
+    /**
+     * Subscribe for messages published at any of the given topics which pass the topic and signal filters.
+     *
+     * @param subscriber the subscriber.
+     * @param topics topics the subscriber subscribes to.
+     * @param filter filter for topics of incoming messages associated with the subscriber.
+     * @param signalFilter local filter for incoming signals associated with the subscriber.
+     * @param group any group the subscriber belongs to, or null.
+     * @return whether subscriptions changed.
+     * @since 2.0.0
+     */
     boolean subscribe(ActorRef subscriber, Set<String> topics,
             @Nullable Predicate<Collection<String>> filter,
+            @Nullable Predicate<Signal<?>> signalFilter,
             @Nullable String group);
 
     /**
@@ -19,7 +19,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 
+import org.eclipse.ditto.signals.base.Signal;
 import org.junit.Test;
 
 import akka.actor.ActorPath;
@@ -193,6 +195,18 @@ public abstract class AbstractSubscriptionsTest<H, T extends DDataUpdate<H>, S e
         assertThat(underTest.removeSubscriber(ACTOR3)).isTrue();
     }
 
+    @Test
+    public void signalFilterChangeIsDetected() {
+        final AbstractSubscriptions<H, T> underTest = getVennDiagram();
+        final Predicate<Signal<?>> signalFilter = signal -> true;
+
+        assertThat(underTest.subscribe(ACTOR1, asSet("1"), null, signalFilter, null)).isTrue();
+        assertThat(underTest.subscribe(ACTOR1, asSet("1"), null, signalFilter, null)).isFalse();
+        assertThat(underTest.subscriberDataMap.get(ACTOR1).getSignalFilter()).contains(signalFilter);
+        assertThat(underTest.subscribe(ACTOR1, asSet("1"), null, null, null)).isTrue();
+        assertThat(underTest.subscriberDataMap.get(ACTOR1).getSignalFilter()).isEmpty();
+    }
+
     private static Set<String> asSet(final String... elements) {
         return new HashSet<>(Arrays.asList(elements));
     }
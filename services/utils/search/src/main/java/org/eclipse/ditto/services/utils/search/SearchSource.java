@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -46,12 +47,9 @@ import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.japi.Pair;
-import akka.japi.pf.PFBuilder;
 import akka.pattern.Patterns;
-import akka.stream.Graph;
 import akka.stream.RemoteStreamRefActorTerminatedException;
 import akka.stream.SourceRef;
-import akka.stream.SourceShape;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Source;
 
@@ -66,6 +64,7 @@ public final class SearchSource {
     private final ActorSelection conciergeForwarder;
     private final Duration thingsAskTimeout;
     private final Duration searchAskTimeout;
+    private final int retrieveThingParallelism;
     @Nullable private final JsonFieldSelector fields;
     private final JsonFieldSelector sortFields;
     private final StreamThings streamThings;
@@ -76,6 +75,7 @@ public final class SearchSource {
             final ActorSelection conciergeForwarder,
             final Duration thingsAskTimeout,
             final Duration searchAskTimeout,
+            final int retrieveThingParallelism,
             @Nullable final JsonFieldSelector fields,
             final JsonFieldSelector sortFields,
             final StreamThings streamThings,
@@ -84,6 +84,7 @@ public final class SearchSource {
         this.conciergeForwarder = conciergeForwarder;
         this.thingsAskTimeout = thingsAskTimeout;
         this.searchAskTimeout = searchAskTimeout;
+        this.retrieveThingParallelism = retrieveThingParallelism;
         this.fields = fields;
         this.sortFields = sortFields;
         this.streamThings = streamThings;
@@ -156,8 +157,15 @@ public final class SearchSource {
         return streamThingsFrom(lastThingId)
                 .mapAsync(1, streamThings -> Patterns.ask(conciergeForwarder, streamThings, searchAskTimeout))
                 .via(expectMsgClass(SourceRef.class))
-                .flatMapConcat(SourceRef::source)
-                .flatMapConcat(thingId -> retrieveThingForElement((String) thingId));
+                .flatMapConcat(SearchSource::thingIdsOf)
+                // things are retrieved concurrently but emitted in the order of the search results for resumption
+                .mapAsync(retrieveThingParallelism, this::retrieveThingForElement)
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    private static Source<String, NotUsed> thingIdsOf(final SourceRef<?> sourceRef) {
+        return sourceRef.getSource().map(String.class::cast);
     }
 
     private String nextSeed(final List<Pair<String, JsonObject>> finalElements) {
@@ -183,45 +191,51 @@ public final class SearchSource {
                 );
     }
 
-    private Source<Pair<String, JsonObject>, NotUsed> retrieveThingForElement(final String thingId) {
+    private CompletionStage<Optional<Pair<String, JsonObject>>> retrieveThingForElement(final String thingId) {
         if (thingIdOnly) {
             final JsonObject idOnlyThingJson = JsonObject.newBuilder().set(Thing.JsonFields.ID, thingId).build();
-            return Source.single(Pair.create(thingId, idOnlyThingJson));
+            return CompletableFuture.completedFuture(Optional.of(Pair.create(thingId, idOnlyThingJson)));
         } else {
-            return retrieveThing(thingId, fields)
-                    .map(thingJson -> Pair.create(thingId, thingJson))
-                    .recoverWithRetries(1,
-                            new PFBuilder<Throwable, Graph<SourceShape<Pair<String, JsonObject>>, NotUsed>>()
-                                    .match(ThingNotAccessibleException.class, thingNotAccessible -> {
-                                        // out-of-sync thing detected
-                                        final ThingsOutOfSync thingsOutOfSync =
-                                                ThingsOutOfSync.of(Collections.singletonList(ThingId.of(thingId)),
-                                                        getDittoHeaders());
-
-                                        pubSubMediator.tell(
-                                                DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE, thingsOutOfSync),
-                                                ActorRef.noSender());
-                                        return Source.empty();
-                                    })
-                                    .build()
-                    );
+            return Patterns.ask(conciergeForwarder, retrieveThingCommand(thingId, fields), thingsAskTimeout)
+                    .thenCompose(response -> {
+                        if (response instanceof RetrieveThingResponse) {
+                            final JsonObject thingJson = ((RetrieveThingResponse) response).getEntity().asObject();
+                            return CompletableFuture.completedFuture(Optional.of(Pair.create(thingId, thingJson)));
+                        } else if (response instanceof ThingNotAccessibleException) {
+                            // out-of-sync thing detected
+                            final ThingsOutOfSync thingsOutOfSync =
+                                    ThingsOutOfSync.of(Collections.singletonList(ThingId.of(thingId)),
+                                            getDittoHeaders());
+
+                            pubSubMediator.tell(
+                                    DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE, thingsOutOfSync),
+                                    ActorRef.noSender());
+                            return CompletableFuture.completedFuture(Optional.empty());
+                        } else {
+                            return CompletableFuture.failedStage(unexpectedElement(RetrieveThingResponse.class,
+                                    response));
+                        }
+                    });
         }
     }
 
     private Source<JsonObject, NotUsed> retrieveThing(final String thingId,
             @Nullable final JsonFieldSelector selector) {
-        final RetrieveThing retrieveThing = RetrieveThing.getBuilder(ThingId.of(thingId), getDittoHeaders())
-                .withSelectedFields(selector)
-                .build();
 
         final CompletionStage<Object> responseFuture =
-                Patterns.ask(conciergeForwarder, retrieveThing, thingsAskTimeout);
+                Patterns.ask(conciergeForwarder, retrieveThingCommand(thingId, selector), thingsAskTimeout);
 
         return Source.completionStage(responseFuture)
                 .via(expectMsgClass(RetrieveThingResponse.class))
                 .map(response -> response.getEntity().asObject());
     }
 
+    private RetrieveThing retrieveThingCommand(final String thingId, @Nullable final JsonFieldSelector selector) {
+        return RetrieveThing.getBuilder(ThingId.of(thingId), getDittoHeaders())
+                .withSelectedFields(selector)
+                .build();
+    }
+
     private DittoHeaders getDittoHeaders() {
         return streamThings.getDittoHeaders();
     }
@@ -231,14 +245,20 @@ public final class SearchSource {
                 .flatMapConcat(element -> {
                     if (clazz.isInstance(element)) {
                         return Source.single(clazz.cast(element));
-                    } else if (element instanceof Throwable) {
-                        return Source.failed((Throwable) element);
                     } else {
-                        final String message =
-                                String.format("Expect <%s>, got <%s>", clazz.getCanonicalName(), element);
-                        return Source.failed(new ClassCastException(message));
+                        return Source.failed(unexpectedElement(clazz, element));
                     }
                 });
     }
 
+    private static Throwable unexpectedElement(final Class<?> expectedClass, final Object element) {
+        if (element instanceof Throwable) {
+            return (Throwable) element;
+        } else {
+            final String message =
+                    String.format("Expect <%s>, got <%s>", expectedClass.getCanonicalName(), element);
+            return new ClassCastException(message);
+        }
+    }
+
 }
@@ -65,6 +65,7 @@ public final class SearchSourceBuilder {
     private DittoHeaders dittoHeaders;
     private Duration thingsAskTimeout = Duration.ofSeconds(10L);
     private Duration searchAskTimeout = Duration.ofSeconds(60L);
+    private int retrieveThingParallelism = 8;
     private String lastThingId = "";
 
     /**
@@ -84,6 +85,7 @@ public final class SearchSourceBuilder {
                 checkNotNull(conciergeForwarder, "conciergeForwarder"),
                 thingsAskTimeout,
                 searchAskTimeout,
+                retrieveThingParallelism,
                 fields,
                 sortFields,
                 streamThings,
@@ -255,6 +257,23 @@ public final class SearchSourceBuilder {
         return this;
     }
 
+    /**
+     * Set how many things of the search results are retrieved concurrently. The results keep their order.
+     *
+     * @param retrieveThingParallelism the maximum number of concurrent retrievals.
+     * @return this builder.
+     * @throws IllegalArgumentException if {@code retrieveThingParallelism} is not positive.
+     * @since 2.0.0
+     */
+    public SearchSourceBuilder retrieveThingParallelism(final int retrieveThingParallelism) {
+        if (retrieveThingParallelism < 1) {
+            throw new IllegalArgumentException("retrieveThingParallelism must be positive, got: " +
+                    retrieveThingParallelism);
+        }
+        this.retrieveThingParallelism = retrieveThingParallelism;
+        return this;
+    }
+
     /**
      * Set the last thing ID to resume from.
      *
@@ -35,6 +35,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
 import akka.japi.Pair;
@@ -131,6 +132,29 @@ public final class SearchSourceTest {
                 ThingsOutOfSync.of(Collections.singletonList(ThingId.of("t:2")), dittoHeaders)));
     }
 
+    @Test
+    public void retrieveThingsConcurrentlyInOrder() {
+        startTestSearchSource(null, null);
+        sinkProbe.request(200L);
+        conciergeForwarderProbe.expectMsg(streamThings(null));
+        conciergeForwarderProbe.reply(materializeSourceProbe());
+        sourceProbe.expectRequest();
+        sourceProbe.sendNext("t:3").sendNext("t:2").sendComplete();
+
+        // both things are requested before any response arrives
+        conciergeForwarderProbe.expectMsg(retrieveThing("t:3", null));
+        final ActorRef sender3 = conciergeForwarderProbe.lastSender();
+        conciergeForwarderProbe.expectMsg(retrieveThing("t:2", null));
+        final ActorRef sender2 = conciergeForwarderProbe.lastSender();
+        sender2.tell(retrieveThingResponse(2), ActorRef.noSender());
+        sender3.tell(retrieveThingResponse(3), ActorRef.noSender());
+
+        // things are emitted in the order of the search results
+        sinkProbe.expectNext(getThing(3).toJson())
+                .expectNext(getThing(2).toJson())
+                .expectComplete();
+    }
+
     @Test
     public void resumeAtStart() {
         final JsonArray sortValues = JsonArray.of(997, "t:3");
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.base.exceptions;
+
+import java.net.URI;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableException;
+
+/**
+ * This exception indicates that a message received via websocket exceeded the maximum message size. The message is
+ * dropped; the websocket session stays open.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@JsonParsableException(errorCode = GatewayWebsocketMessageTooLargeException.ERROR_CODE)
+public final class GatewayWebsocketMessageTooLargeException extends DittoRuntimeException
+        implements GatewayException {
+
+    /**
+     * Error code of this exception.
+     */
+    public static final String ERROR_CODE = ERROR_CODE_PREFIX + "websocket.message.toolarge";
+
+    private static final String DEFAULT_MESSAGE = "The websocket message is too large.";
+
+    private static final String DESCRIPTION_TEMPLATE =
+            "The size of a websocket message must not exceed <{0}>. Reduce the size of the message.";
+
+    private static final long serialVersionUID = -4528601939581729745L;
+
+    private GatewayWebsocketMessageTooLargeException(final DittoHeaders dittoHeaders,
+            @Nullable final String message,
+            @Nullable final String description,
+            @Nullable final Throwable cause,
+            @Nullable final URI href) {
+        super(ERROR_CODE, HttpStatusCode.REQUEST_ENTITY_TOO_LARGE, dittoHeaders, message, description, cause, href);
+    }
+
+    /**
+     * A mutable builder for a {@code GatewayWebsocketMessageTooLargeException}.
+     *
+     * @param maxMessageSize the maximum size of a websocket message, characters for text messages and bytes for
+     * binary messages.
+     * @return the builder.
+     */
+    public static Builder newBuilder(final long maxMessageSize) {
+        final Builder builder = new Builder();
+        builder.description(MessageFormat.format(DESCRIPTION_TEMPLATE, String.valueOf(maxMessageSize)));
+        return builder;
+    }
+
+    /**
+     * Constructs a new {@code GatewayWebsocketMessageTooLargeException} object with given message.
+     *
+     * @param message detail message. This message can be later retrieved by the {@link #getMessage()} method.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new GatewayWebsocketMessageTooLargeException.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     */
+    public static GatewayWebsocketMessageTooLargeException fromMessage(@Nullable final String message,
+            final DittoHeaders dittoHeaders) {
+        return DittoRuntimeException.fromMessage(message, dittoHeaders, new Builder());
+    }
+
+    /**
+     * Constructs a new {@code GatewayWebsocketMessageTooLargeException} object with the exception message extracted
+     * from the given JSON object.
+     *
+     * @param jsonObject the JSON to read the
+     * {@link org.eclipse.ditto.model.base.exceptions.DittoRuntimeException.JsonFields#MESSAGE} field from.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new GatewayWebsocketMessageTooLargeException.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if this JsonObject did not contain an error message.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static GatewayWebsocketMessageTooLargeException fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return DittoRuntimeException.fromJson(jsonObject, dittoHeaders, new Builder());
+    }
+
+    @Override
+    public DittoRuntimeException setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .message(getMessage())
+                .description(getDescription().orElse(null))
+                .cause(getCause())
+                .href(getHref().orElse(null))
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link GatewayWebsocketMessageTooLargeException}.
+     */
+    @NotThreadSafe
+    public static final class Builder extends DittoRuntimeExceptionBuilder<GatewayWebsocketMessageTooLargeException> {
+
+        private Builder() {
+            message(DEFAULT_MESSAGE);
+        }
+
+        @Override
+        protected GatewayWebsocketMessageTooLargeException doBuild(final DittoHeaders dittoHeaders,
+                @Nullable final String message,
+                @Nullable final String description,
+                @Nullable final Throwable cause,
+                @Nullable final URI href) {
+            return new GatewayWebsocketMessageTooLargeException(dittoHeaders, message, description, cause, href);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.base.exceptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link GatewayWebsocketMessageTooLargeException}.
+ */
+public final class GatewayWebsocketMessageTooLargeExceptionTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(
+                GatewayWebsocketMessageTooLargeException.class,
+                areImmutable());
+    }
+
+    @Test
+    public void descriptionContainsMaxMessageSizeWithoutGrouping() {
+        final GatewayWebsocketMessageTooLargeException underTest =
+                GatewayWebsocketMessageTooLargeException.newBuilder(1048576L).build();
+
+        assertThat(underTest.getDescription()).hasValueSatisfying(description ->
+                assertThat(description).contains("<1048576>"));
+    }
+
+}
\ No newline at end of file